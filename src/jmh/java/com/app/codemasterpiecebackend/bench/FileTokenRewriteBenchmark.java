@@ -0,0 +1,117 @@
+package com.app.codemasterpiecebackend.bench;
+
+import com.app.codemasterpiecebackend.global.util.FileTokenScanner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문 이미지 토큰 리라이트 벤치마크.
+ *
+ * <p>{@code legacyRegex}는 기존 방식(토큰 정규식 2회 스캔 + CDN URL 정규식 스캔 + 토큰마다 {@code replaceFirst})을,
+ * {@code singlePass}는 {@link FileTokenScanner} 한 번의 순회 + 단일 버퍼 치환을 재현합니다.
+ * DB 조회는 제외하고 URL 조회는 미리 채운 맵으로 대체합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=FileTokenRewriteBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileTokenRewriteBenchmark {
+
+    private static final Pattern FILE_TOKEN = Pattern.compile(
+            "!\\[([^]]*)]\\(image-token://(FL-[A-Z0-9]{26})(?:\\?t=([\\w\\-_.]+))?\\)"
+    );
+    private static final Pattern CDN_FL_IN_URL = Pattern.compile(
+            "https?://[^)\\s]*/(?:\\d{4}/\\d{2}/\\d{2}/)?(FL-[A-Z0-9]{26})/"
+    );
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Param({"10", "50", "200"})
+    public int images;
+
+    private String markdown;
+    private Map<String, String> urlById;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        urlById = new HashMap<>();
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 제목\n\n");
+        for (int i = 0; i < images; i++) {
+            String id = fileId(rnd);
+            urlById.put(id, "https://cdn.example.com/cmp/2025/01/02/" + id + "/original");
+
+            sb.append("문단 ").append(i).append(" — 본문 텍스트가 이어집니다. ".repeat(8)).append("\n\n");
+            if (i % 3 == 0) {
+                sb.append("![그림 ").append(i).append("](image-token://").append(id).append("?t=webp)\n\n");
+            } else {
+                sb.append("![그림 ").append(i).append("](image-token://").append(id).append(")\n\n");
+            }
+            if (i % 5 == 0) {
+                sb.append("참고: https://cdn.example.com/cmp/").append(fileId(rnd)).append("/w640.webp\n\n");
+            }
+        }
+        markdown = sb.toString();
+    }
+
+    @Benchmark
+    public void legacyRegex(Blackhole bh) {
+        // 파일 ID 추출 (토큰 + CDN URL)
+        List<String> ids = new ArrayList<>();
+        Matcher m1 = FILE_TOKEN.matcher(markdown);
+        while (m1.find()) ids.add(m1.group(2));
+        Matcher m2 = CDN_FL_IN_URL.matcher(markdown);
+        while (m2.find()) ids.add(m2.group(1));
+        bh.consume(new ArrayList<>(new LinkedHashSet<>(ids)));
+
+        // 토큰 수집 후 재스캔하며 치환
+        List<String> idsInOrder = new ArrayList<>();
+        Matcher m = FILE_TOKEN.matcher(markdown);
+        while (m.find()) idsInOrder.add(m.group(2));
+        bh.consume(idsInOrder);
+
+        StringBuilder out = new StringBuilder();
+        m.reset();
+        while (m.find()) {
+            String id = m.group(2);
+            String finalUrl = urlById.get(id);
+            String needle = (m.group(3) != null)
+                    ? "image-token://" + id + "\\?t=" + Pattern.quote(m.group(3))
+                    : "image-token://" + id;
+            String replaced = m.group().replaceFirst(needle, Matcher.quoteReplacement(finalUrl));
+            m.appendReplacement(out, Matcher.quoteReplacement(replaced));
+        }
+        m.appendTail(out);
+        bh.consume(out.toString());
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        FileTokenScanner.Scan scan = FileTokenScanner.scan(markdown);
+        bh.consume(scan.referencedIds());
+        bh.consume(scan.tokenFileIds());
+
+        StringBuilder out = new StringBuilder(markdown.length() + scan.tokens().size() * 512);
+        int cursor = 0;
+        for (FileTokenScanner.Token t : scan.tokens()) {
+            out.append(markdown, cursor, t.start());
+            cursor = t.end();
+            out.append("![").append(t.alt()).append("](").append(urlById.get(t.fileId())).append(')');
+        }
+        out.append(markdown, cursor, markdown.length());
+        bh.consume(out.toString());
+    }
+
+    private static String fileId(Random rnd) {
+        char[] c = new char[26];
+        for (int i = 0; i < c.length; i++) c[i] = ALPHABET.charAt(rnd.nextInt(ALPHABET.length()));
+        return "FL-" + new String(c);
+    }
+}
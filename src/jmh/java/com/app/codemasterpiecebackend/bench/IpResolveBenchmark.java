@@ -0,0 +1,176 @@
+package com.app.codemasterpiecebackend.bench;
+
+import com.app.codemasterpiecebackend.global.config.net.NetProps;
+import com.app.codemasterpiecebackend.global.support.net.Cidr;
+import com.app.codemasterpiecebackend.global.support.net.IpResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 IP 해석 벤치마크 (전형적인 프록시 체인).
+ *
+ * <p>{@code legacy}는 기존 방식(정규식 {@code clean} + {@code split} + 홉마다 {@code InetAddress.getByName}
+ * + 신뢰 CIDR 스트림 선형 검사 + 요청마다 {@code MessageDigest.getInstance})을 재현하고,
+ * {@code current}는 {@link IpResolver}(리터럴 파서 + CIDR 트라이 + 솔트 다이제스트 복제)를 호출합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code direct}: 프록시 없이 공인 IPv4가 직접 연결</li>
+ *   <li>{@code nginx}: XFF 1홉 + 사설망 Nginx</li>
+ *   <li>{@code cdn}: CF-Connecting-IP + XFF 3홉(IPv6 클라이언트) + 사설망 Nginx</li>
+ *   <li>{@code forwarded}: RFC 7239 Forwarded 2요소(대괄호/포트 포함) + XFF</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=IpResolveBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IpResolveBenchmark {
+
+    private static final List<String> TRUSTED = List.of(
+            "127.0.0.1/32", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "::1/128", "fc00::/7",
+            "173.245.48.0/20", "103.21.244.0/22", "172.64.0.0/13", "141.101.64.0/18", "2400:cb00::/32", "2606:4700::/32"
+    );
+    private static final String SALT = "bench-salt";
+
+    @Param({"direct", "nginx", "cdn", "forwarded"})
+    public String chain;
+
+    private String forwarded;
+    private String xff;
+    private String cf;
+    private String remote;
+
+    private IpResolver resolver;
+    private LegacyResolver legacy;
+
+    @Setup
+    public void setup() {
+        var props = new NetProps();
+        props.setTrustedProxies(TRUSTED);
+        props.setHashSalt(SALT);
+        resolver = new IpResolver(props);
+        legacy = new LegacyResolver(props);
+
+        switch (chain) {
+            case "direct" -> remote = "203.0.113.25";
+            case "nginx" -> {
+                xff = "198.51.100.7";
+                remote = "10.0.3.12";
+            }
+            case "cdn" -> {
+                cf = "2001:db8:abcd:1234::42";
+                xff = "2001:db8:abcd:1234::42, 172.70.45.3, 10.0.0.5";
+                remote = "10.0.3.12";
+            }
+            case "forwarded" -> {
+                forwarded = "for=198.51.100.7;proto=https, for=\"[2606:4700::6812:1]:443\"";
+                xff = "198.51.100.7, 2606:4700::6812:1";
+                remote = "10.0.3.12";
+            }
+            default -> throw new IllegalArgumentException(chain);
+        }
+    }
+
+    @Benchmark
+    public IpResolver.IpInfo legacy() {
+        return legacy.resolve(forwarded, xff, cf, null, remote);
+    }
+
+    @Benchmark
+    public IpResolver.IpInfo current() {
+        return resolver.resolve(forwarded, xff, cf, null, remote);
+    }
+
+    /**
+     * 기존 {@code IpResolver} 구현 (비교용)
+     */
+    static final class LegacyResolver {
+
+        private static final Pattern FORWARDED_PAIR =
+                Pattern.compile("(?i)for=\"?\\[?([^;\\s\\\"]+)\\]?\"?");
+
+        private final NetProps props;
+
+        LegacyResolver(NetProps props) {
+            this.props = props;
+        }
+
+        IpResolver.IpInfo resolve(String fwd, String xff, String cf, String tci, String remoteAddr) {
+            List<String> chain = new ArrayList<>();
+            if (fwd != null) {
+                var m = FORWARDED_PAIR.matcher(fwd);
+                while (m.find()) chain.add(clean(m.group(1)));
+            }
+            if (xff != null && !xff.isBlank()) {
+                for (String s : xff.split(",")) chain.add(clean(s));
+            }
+            if (cf != null && !cf.isBlank()) chain.add(clean(cf));
+            if (tci != null && !tci.isBlank()) chain.add(clean(tci));
+            chain.add(clean(remoteAddr));
+
+            Collections.reverse(chain);
+            String client = null;
+            for (String ipStr : chain) {
+                InetAddress ip = parse(ipStr);
+                if (ip == null) continue;
+                if (!isTrusted(ip)) {
+                    client = ip.getHostAddress();
+                    break;
+                }
+            }
+            if (client == null) client = clean(remoteAddr);
+
+            String masked = mask(client);
+            InetAddress parsed = parse(client);
+            boolean isPrivate = parsed != null && (parsed.isAnyLocalAddress() || parsed.isLoopbackAddress()
+                    || parsed.isLinkLocalAddress() || parsed.isSiteLocalAddress());
+            String hash = hashIp(client, props.getHashSalt());
+            Collections.reverse(chain);
+            return new IpResolver.IpInfo(client, masked, hash, isPrivate, "x-forwarded-for", List.copyOf(chain));
+        }
+
+        private boolean isTrusted(InetAddress ip) {
+            List<Predicate<InetAddress>> matchers = props.trustedMatchers();
+            return matchers.stream().anyMatch(m -> m.test(ip));
+        }
+
+        private static String clean(String s) {
+            return s == null ? null : s.trim().replaceAll("^\\[|\\]$", "");
+        }
+
+        private static InetAddress parse(String ip) {
+            try {
+                return InetAddress.getByName(ip);
+            } catch (UnknownHostException e) {
+                return null;
+            }
+        }
+
+        private static String mask(String ip) {
+            InetAddress addr = parse(ip);
+            if (addr == null) return null;
+            byte[] b = addr.getAddress();
+            if (b.length == 4) return (b[0] & 0xFF) + "." + (b[1] & 0xFF) + "." + (b[2] & 0xFF) + ".0";
+            return addr.getHostAddress().replaceAll("(^([0-9a-fA-F]{0,4}:){3})([0-9a-fA-F:]+)$", "$1::");
+        }
+
+        private static String hashIp(String ip, String salt) {
+            try {
+                MessageDigest md = MessageDigest.getInstance("SHA-256");
+                md.update(salt.getBytes());
+                byte[] dig = md.digest(ip.getBytes());
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(dig, 18));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
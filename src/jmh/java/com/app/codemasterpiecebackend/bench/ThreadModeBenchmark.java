@@ -0,0 +1,147 @@
+package com.app.codemasterpiecebackend.bench;
+
+import com.app.codemasterpiecebackend.global.util.ULIDs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 처리 스레드 모델 부하 벤치마크 (플랫폼 스레드 풀 vs 가상 스레드).
+ *
+ * <p>요청 하나는 실제 요청 경로를 흉내 낸다.</p>
+ * <ol>
+ *   <li>단조 ULID 발급</li>
+ *   <li>{@code dbEvery}건 중 1건: 커넥션 풀 대기 → 커넥션 락을 쥔 채 DB 왕복({@code dbMillis})</li>
+ *   <li>락 없이 Redis/S3 대기({@code ioMillis})</li>
+ * </ol>
+ *
+ * <ul>
+ *   <li>{@code PLATFORM}: Tomcat 기본값과 같은 200개 고정 풀</li>
+ *   <li>{@code VIRTUAL}: 요청당 가상 스레드</li>
+ *   <li>{@code guard=SYNCHRONIZED}는 구형 드라이버처럼 커넥션 락을 모니터로 잡는다. 가상 스레드가 락 안에서 대기하면
+ *       캐리어가 고정(pinning)되어 동시 DB 왕복이 캐리어 수로 묶인다. {@code LOCK}은 {@link ReentrantLock}.</li>
+ * </ul>
+ *
+ * <p>벤치마크:</p>
+ * <ul>
+ *   <li>{@link #burst()}: {@code requests}건을 한꺼번에 제출하고 모두 끝날 때까지 기다린다. 점수(ms/op)는 묶음 완료 시간이며,
+ *       처리량 = requests / 점수다.</li>
+ *   <li>{@link #request()}: {@link Mode#SampleTime}으로 요청 한 건의 제출~완료 지연을 표본 추출한다. 벤치마크 스레드 수
+ *       ({@code @Threads}, 실행 시 {@code -t})가 동시 요청 수이며, p50/p99는 JMH가 측정 반복만으로 계산한다.</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=ThreadModeBenchmark</pre>
+ * <p>고정 발생 위치 확인: {@code -Djdk.tracePinnedThreads=short}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ThreadModeBenchmark {
+
+    /** Tomcat server.tomcat.threads.max 기본값 */
+    private static final int PLATFORM_THREADS = 200;
+    /** Hikari maximum-pool-size 기본값 */
+    private static final int CONNECTIONS = 10;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"LOCK", "SYNCHRONIZED"})
+    public String guard;
+
+    @Param({"2000"})
+    public int requests;
+
+    @Param({"2"})
+    public int dbMillis;
+
+    @Param({"20"})
+    public int ioMillis;
+
+    @Param({"4"})
+    public int dbEvery;
+
+    private ExecutorService executor;
+    private Semaphore pool;
+    private Object[] monitors;
+    private ReentrantLock[] locks;
+
+    /** {@link #request()}의 요청 번호 (DB 왕복 요청 선택용) */
+    private final AtomicLong seq = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "VIRTUAL".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        pool = new Semaphore(CONNECTIONS, true);
+        monitors = new Object[CONNECTIONS];
+        locks = new ReentrantLock[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            monitors[i] = new Object();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst() throws Exception {
+        Future<?>[] futures = new Future<?>[requests];
+        for (int i = 0; i < requests; i++) {
+            long idx = i;
+            futures[i] = executor.submit(() -> {
+                handle(idx);
+                return null;
+            });
+        }
+        for (Future<?> f : futures) f.get();
+    }
+
+    /**
+     * 동시 요청 수를 플랫폼 풀(200)보다 크게 잡아 풀 대기열에서의 지연까지 분포에 드러나게 한다.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @Threads(400)
+    public Object request() throws Exception {
+        long idx = seq.getAndIncrement();
+        return executor.submit(() -> {
+            handle(idx);
+            return null;
+        }).get();
+    }
+
+    private void handle(long idx) throws InterruptedException {
+        ULIDs.newMonotonicUlid("PV");
+        if (idx % dbEvery == 0) query((int) (idx / dbEvery % CONNECTIONS));
+        Thread.sleep(ioMillis);
+    }
+
+    private void query(int conn) throws InterruptedException {
+        pool.acquire();
+        try {
+            if ("SYNCHRONIZED".equals(guard)) {
+                synchronized (monitors[conn]) {
+                    Thread.sleep(dbMillis);
+                }
+            } else {
+                locks[conn].lock();
+                try {
+                    Thread.sleep(dbMillis);
+                } finally {
+                    locks[conn].unlock();
+                }
+            }
+        } finally {
+            pool.release();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.app.codemasterpiecebackend.bench;
+
+import com.app.codemasterpiecebackend.global.util.ULIDs;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단조 증가 ULID 발급 벤치마크 (단일 스레드 / 16 스레드).
+ *
+ * <p>{@code legacy*}는 기존 방식(클래스 단위 {@code synchronized} + 새 ms마다 {@link SecureRandom} 상위 16비트
+ * + 비트 단위 이중 루프 인코더)을 그대로 재현하고,
+ * {@code cas*}는 {@link ULIDs#newMonotonicUlid(String)}(CAS 상태 교체 + 5비트 표 인코더)를 호출합니다.
+ * {@code encode*}는 인코더만 비교합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=UlidBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UlidBenchmark {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final SecureRandom LEGACY_SECURE = new SecureRandom();
+
+    private static long legacyLastTime = -1L;
+    private static int legacyLastHi;
+    private static long legacyLastLo;
+
+    @Benchmark
+    @Threads(1)
+    public String legacy_1t() {
+        return legacyMonotonic("PV");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String legacy_16t() {
+        return legacyMonotonic("PV");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String cas_1t() {
+        return ULIDs.newMonotonicUlid("PV");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String cas_16t() {
+        return ULIDs.newMonotonicUlid("PV");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String encodeLegacy() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return legacyEncode(System.currentTimeMillis(), r.nextInt() & 0xFFFF, r.nextLong());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String encodeTable() {
+        return ULIDs.newUlid();
+    }
+
+    /* ───────── 기존 구현 (비교용) ───────── */
+
+    private static synchronized String legacyMonotonic(String prefix) {
+        long now = System.currentTimeMillis();
+        int hi;
+        long lo;
+        if (now > legacyLastTime) {
+            legacyLastTime = now;
+            hi = legacySecureHi16();
+            lo = ThreadLocalRandom.current().nextLong();
+        } else {
+            now = legacyLastTime;
+            lo = legacyLastLo + 1;
+            hi = legacyLastHi;
+            if (lo == 0) {
+                hi = (hi + 1) & 0xFFFF;
+                if (hi == 0) {
+                    long last = legacyLastTime;
+                    do {
+                        now = System.currentTimeMillis();
+                    } while (now <= last);
+                    legacyLastTime = now;
+                    hi = legacySecureHi16();
+                    lo = ThreadLocalRandom.current().nextLong();
+                }
+            }
+        }
+        legacyLastHi = hi;
+        legacyLastLo = lo;
+        return prefix + "-" + legacyEncode(now, hi, lo);
+    }
+
+    private static int legacySecureHi16() {
+        return LEGACY_SECURE.nextInt() & 0xFFFF;
+    }
+
+    private static String legacyEncode(long timeMs, int randHi16, long randLo64) {
+        byte[] b = new byte[16];
+        for (int i = 0; i < 6; i++) b[i] = (byte) (timeMs >>> (40 - 8 * i));
+        b[6] = (byte) (randHi16 >>> 8);
+        b[7] = (byte) randHi16;
+        for (int i = 0; i < 8; i++) b[8 + i] = (byte) (randLo64 >>> (56 - 8 * i));
+
+        char[] out = new char[26];
+        int bitPos = -2;
+        for (int i = 0; i < 26; i++) {
+            int v = 0;
+            for (int k = 0; k < 5; k++) {
+                int idx = bitPos + k;
+                int bit = idx < 0 ? 0 : (b[idx / 8] >>> (7 - (idx % 8))) & 0x01;
+                v = (v << 1) | bit;
+            }
+            out[i] = ALPHABET[v & 0x1F];
+            bitPos += 5;
+        }
+        return new String(out);
+    }
+}
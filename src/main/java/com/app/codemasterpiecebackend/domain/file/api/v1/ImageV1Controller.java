@@ -1,18 +1,24 @@
 package com.app.codemasterpiecebackend.domain.file.api.v1;
 
 import com.app.codemasterpiecebackend.domain.file.core.application.StoreCmd;
+import com.app.codemasterpiecebackend.domain.file.core.dto.CleanupReport;
 import com.app.codemasterpiecebackend.domain.file.core.dto.FileInfo;
 import com.app.codemasterpiecebackend.domain.file.media.application.ImageService;
+import com.app.codemasterpiecebackend.domain.file.media.dto.ImageMetaResponse;
 import com.app.codemasterpiecebackend.domain.file.media.dto.ImageUploadResponse;
+import com.app.codemasterpiecebackend.domain.file.variant.application.LazyVariantService;
 import com.app.codemasterpiecebackend.global.support.exception.AppException;
 import com.app.codemasterpiecebackend.global.support.response.SuccessPayload;
+import com.app.codemasterpiecebackend.global.support.web.SkipWrap;
 import com.app.codemasterpiecebackend.global.util.CdnProperties;
 import com.app.codemasterpiecebackend.global.util.FileUrlResolver;
 import com.app.codemasterpiecebackend.domain.file.core.job.FileCleaner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,6 +26,8 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 /**
@@ -32,6 +40,7 @@ import java.util.function.Supplier;
 public class ImageV1Controller {
 
     private final ImageService imageService;
+    private final LazyVariantService lazyVariantService;
     private final FileCleaner fileCleaner;
     private final CdnProperties cdnProperties;
 
@@ -74,16 +83,56 @@ public class ImageV1Controller {
         return SuccessPayload.of(ImageUploadResponse.from(uploaded, url), "success.file.created");
     }
 
+    /**
+     * 이미지의 원본/파생 자산 크기와 srcset 후보를 조회합니다.
+     *
+     * @param fileId 대상 파일 ID
+     * @return 크기 정보 및 MIME 타입별 srcset
+     */
+    @GetMapping("/{fileId}")
+    public SuccessPayload<ImageMetaResponse> describe(@PathVariable String fileId) {
+        return SuccessPayload.of(imageService.describe(fileId));
+    }
+
+    /**
+     * 반응형 사다리 단을 조회하고, 아직 없으면 생성을 예약한 뒤 원본으로 리다이렉트합니다.
+     * 본문 srcset의 미생성 단이 이 엔드포인트를 가리키며, 생성 완료 후에는 CDN의 변환본으로 리다이렉트됩니다.
+     *
+     * @param fileId 원본 파일 ID
+     * @param format webp | avif
+     * @param width  사다리 폭
+     * @return 302 리다이렉트 (변환본은 장기 캐시, 원본 대체 응답은 캐시 금지)
+     */
+    @SkipWrap
+    @GetMapping("/{fileId}/variants/{format}/{width}")
+    public ResponseEntity<Void> variant(
+            @PathVariable String fileId,
+            @PathVariable String format,
+            @PathVariable int width
+    ) {
+        var resolved = lazyVariantService.resolve(fileId, format, width);
+        CacheControl cache = resolved.ready()
+                ? CacheControl.maxAge(Duration.ofDays(7)).cachePublic()
+                : CacheControl.noStore();
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(resolved.url()))
+                .cacheControl(cache)
+                .build();
+    }
+
     /**
      * 파일 시스템의 가비지 컬렉터(Mark & Sweep)를 수동으로 즉시 실행합니다.
      */
     @PostMapping("/admin/gc")
     @PreAuthorize("hasRole('AUTHOR')")
-    public SuccessPayload<String> triggerGarbageCollection() {
+    public SuccessPayload<CleanupReport> triggerGarbageCollection() {
         log.warn("Manual File GC triggered by AUTHOR.");
 
-        fileCleaner.nightlyCleanup();
-
-        return SuccessPayload.of("OK", "success.file.gc.executed");
+        var report = fileCleaner.nightlyCleanup();
+        if (report == null) {
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR, "error.internal");
+        }
+        return SuccessPayload.of(report, "success.file.gc.executed");
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.app.codemasterpiecebackend.domain.file.api.v1;
+
+import com.app.codemasterpiecebackend.global.config.storage.LocalStorageProperties;
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.LocalIoManager;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.support.web.SkipWrap;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 로컬 파일시스템 저장소({@code file.storage.type=LOCAL})의 객체를 HTTP로 제공하는 API 컨트롤러입니다.
+ *
+ * <p>S3/CDN의 역할을 에뮬레이션합니다. 서명 없는 읽기는 CDN 공개 읽기에 해당하며({@code file.local.public-read}),
+ * {@code exp}/{@code sig} 파라미터가 있으면 {@link LocalIoManager}가 발급한 presigned URL로 간주하여 서명을 검증합니다.
+ * Range 요청은 {@link Resource} 응답에 대한 스프링 기본 처리로 지원됩니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping(LocalStorageV1Controller.BASE_PATH)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "LOCAL")
+public class LocalStorageV1Controller {
+
+    static final String BASE_PATH = "/api/v1/storage/local";
+
+    private final LocalIoManager localIoManager;
+    private final LocalStorageProperties props;
+
+    /**
+     * 저장된 객체를 응답합니다. (공개 읽기 또는 presigned 읽기)
+     */
+    @SkipWrap
+    @GetMapping("/**")
+    public ResponseEntity<Resource> read(HttpServletRequest request,
+                                         @RequestParam(value = "exp", required = false) Long exp,
+                                         @RequestParam(value = "sig", required = false) String sig) {
+        String key = extractKey(request);
+
+        boolean signed = exp != null || sig != null;
+        if (signed ? !localIoManager.verifyRead(key, exp != null ? exp : 0, sig) : !props.isPublicRead()) {
+            throw new AppException(HttpStatus.FORBIDDEN, "error.forbidden");
+        }
+
+        var path = localIoManager.pathOf(key)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "error.file.not_found"));
+
+        MediaType type;
+        try {
+            type = localIoManager.head(key)
+                    .map(m -> MediaType.parseMediaType(m.contentType()))
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(type)
+                .cacheControl(signed ? CacheControl.noStore() : CacheControl.maxAge(Duration.ofDays(365)).cachePublic())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(new FileSystemResource(path));
+    }
+
+    /**
+     * presigned 쓰기 URL로 객체를 업로드합니다. 요청 본문은 메모리에 적재하지 않고 그대로 저장소로 스트리밍됩니다.
+     */
+    @SkipWrap
+    @PutMapping("/**")
+    public ResponseEntity<Void> write(HttpServletRequest request,
+                                      @RequestParam("exp") long exp,
+                                      @RequestParam("max") long max,
+                                      @RequestParam("sig") String sig) {
+        String key = extractKey(request);
+        String contentType = request.getContentType();
+
+        if (!localIoManager.verifyWrite(key, exp, contentType, max, sig)) {
+            throw new AppException(HttpStatus.FORBIDDEN, "error.forbidden");
+        }
+
+        long length = request.getContentLengthLong();
+        if (length <= 0 || (max > 0 && length > max)) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.badrequest");
+        }
+
+        try {
+            localIoManager.put(key, request.getInputStream(), length, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private static String extractKey(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        if (!uri.startsWith(BASE_PATH + "/") || uri.length() == BASE_PATH.length() + 1) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.badrequest");
+        }
+        // '+'를 공백으로 바꾸지 않는 경로 디코딩
+        return UriUtils.decode(uri.substring(BASE_PATH.length() + 1), StandardCharsets.UTF_8);
+    }
+}
@@ -7,15 +7,20 @@ import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepo
 import com.app.codemasterpiecebackend.global.infra.filesystem.io.IoManager;
 import com.app.codemasterpiecebackend.domain.file.core.dto.FileInfo;
 import com.app.codemasterpiecebackend.domain.file.core.support.FilePathStrategy;
+import com.app.codemasterpiecebackend.global.util.ImageProbe;
 import com.app.codemasterpiecebackend.global.util.ULIDs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -30,6 +35,9 @@ public class DefaultFileServiceImpl implements FileService {
     private final StoredFileRepository storedFileRepository;
     private final FilePathStrategy filePathStrategy;
 
+    @Value("${file.storage.type:S3}")
+    private StorageType storageType;
+
     @Override
     @Transactional
     public FileInfo store(StoreCmd cmd) {
@@ -37,8 +45,16 @@ public class DefaultFileServiceImpl implements FileService {
         var base = filePathStrategy.allocateFor(id, Instant.now());
         String key = base.originalKey();
 
+        ImageProbe.ImageSize dims = null;
         try (InputStream in = cmd.content().get()) {
-            ioManager.put(key, in, cmd.contentLength(), safeType(cmd.contentType()));
+            InputStream body = in;
+            if (isImage(cmd.contentType())) {
+                // 선두 헤더 구간만 미리 읽어 크기를 판별하고, 읽은 바이트는 그대로 이어 붙여 업로드 (단일 패스)
+                byte[] head = in.readNBytes(ImageProbe.HEADER_WINDOW);
+                dims = ImageProbe.probe(head).orElse(null);
+                body = new SequenceInputStream(new ByteArrayInputStream(head), in);
+            }
+            ioManager.put(key, body, cmd.contentLength(), safeType(cmd.contentType()));
         } catch (IOException e) {
             // I/O 실패 시 트랜잭션 롤백 (StoredFile 저장 안 됨)
             throw new RuntimeException("Upload pipeline failed for key: " + key, e);
@@ -50,10 +66,12 @@ public class DefaultFileServiceImpl implements FileService {
                 .status(FileStatus.ACTIVE)
                 .storagePath(base.path())
                 .storageKey(key)
-                .storageType(StorageType.S3)
+                .storageType(storageType)
                 .originalFilename(cmd.originalFilename())
                 .byteSize(cmd.contentLength())
                 .contentType(safeType(cmd.contentType()))
+                .width(dims != null ? dims.width() : null)
+                .height(dims != null ? dims.height() : null)
                 .refCount(0)
                 .build();
         storedFileRepository.save(sf);
@@ -73,6 +91,10 @@ public class DefaultFileServiceImpl implements FileService {
         return storedFileRepository.findById(fileId).map(FileInfo::from);
     }
 
+    private static boolean isImage(String ct) {
+        return ct != null && ct.toLowerCase(Locale.ROOT).startsWith("image/");
+    }
+
     private static String safeType(String ct) {
         return (ct == null || ct.isBlank()) ? "application/octet-stream" : ct;
     }
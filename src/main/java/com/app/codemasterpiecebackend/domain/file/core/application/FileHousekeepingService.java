@@ -1,18 +1,35 @@
 package com.app.codemasterpiecebackend.domain.file.core.application;
 
+import com.app.codemasterpiecebackend.domain.file.core.dto.FilePurgeRow;
+import com.app.codemasterpiecebackend.domain.file.core.dto.PurgeReport;
+import com.app.codemasterpiecebackend.domain.file.core.dto.SweepReport;
+import com.app.codemasterpiecebackend.domain.file.core.entity.FilePurgeCheckpoint;
 import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.repository.FilePurgeCheckpointRepository;
 import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
 import com.app.codemasterpiecebackend.global.infra.filesystem.io.IoManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 참조가 끊어진 고아 파일(Orphan Files)의 상태를 변경하고 물리적 스토리지를 정리하는 가비지 컬렉터 서비스입니다.
@@ -26,71 +43,261 @@ import java.util.List;
 public class FileHousekeepingService {
 
     private final StoredFileRepository storedFiles;
+    private final FilePurgeCheckpointRepository checkpoints;
     private final IoManager io;
+    private final MeterRegistry meterRegistry;
 
-    private static final int PURGE_BATCH = 300;
+    private static final String PURGE_JOB = "PURGE_DELETABLE";
+
+    /** 일괄 삭제 요청당 키 수 (S3 DeleteObjects 최대치) */
+    private static final int DELETE_PACK = 1000;
+
+    /** Sweep 청크(트랜잭션)당 최대 갱신 행 수 */
+    @Value("${file.gc.sweep.chunk-size:500}")
+    private int sweepChunk;
+
+    /** Sweep 초당 최대 갱신 행 수 (0 이하이면 제한 없음) */
+    @Value("${file.gc.sweep.max-rows-per-second:0}")
+    private int sweepMaxRowsPerSecond;
+
+    /** 한 페이지에서 처리할 파일 수 */
+    @Value("${file.gc.purge.batch-size:300}")
+    private int purgeBatch;
+
+    /** 키 나열/일괄 삭제 요청의 최대 동시 실행 수 */
+    @Value("${file.gc.purge.parallelism:4}")
+    private int purgeParallelism;
+
+    private final AtomicBoolean purging = new AtomicBoolean(false);
 
     /**
-     * 참조 카운트(ref_count)가 0인 ACTIVE 상태의 파일들을 찾아 DELETABLE 상태로 일괄 전이시킵니다.
-     * 이 작업은 단순 DB 업데이트이므로 트랜잭션 내에서 안전하게 수행됩니다.
+     * 참조 카운트(ref_count)가 0인 ACTIVE 상태의 파일들을 찾아 DELETABLE 상태로 전이시킵니다.
      *
-     * @return 상태가 변경된 파일의 총 개수
+     * <p>전체 테이블을 단일 UPDATE로 갱신하면 파일 수에 비례해 락과 WAL을 오래 붙잡으므로,
+     * file_id 오름차순 청크 단위의 짧은 트랜잭션으로 나누어 처리합니다.
+     * 참조 증감 중인 행은 {@code SKIP LOCKED}로 건너뛰며, 해당 행은 다음 실행에서 다시 평가됩니다.</p>
+     *
+     * @return 청크별 지표가 누적된 실행 리포트
      */
-    @Transactional
-    public int sweepMarkDeletable() {
+    public SweepReport sweepMarkDeletable() {
+        long startedNs = System.nanoTime();
         var now = Instant.now();
-        int updated = storedFiles.markDeletableBatch(
-                FileStatus.ACTIVE, FileStatus.DELETABLE, now
-        );
-        if (updated > 0) {
-            log.info("Sweep: marked {} files as DELETABLE", updated);
+
+        String after = "";
+        int marked = 0;
+        int chunks = 0;
+        long maxChunkMs = 0;
+        long throttledMs = 0;
+
+        while (true) {
+            long chunkStartNs = System.nanoTime();
+            List<String> ids = storedFiles.markDeletableChunk(after, sweepChunk, now);
+            long chunkMs = (System.nanoTime() - chunkStartNs) / 1_000_000;
+
+            if (!ids.isEmpty()) {
+                chunks++;
+                marked += ids.size();
+                maxChunkMs = Math.max(maxChunkMs, chunkMs);
+                after = ids.get(ids.size() - 1);
+                meterRegistry.timer("file.gc.sweep.chunk").record(chunkMs, TimeUnit.MILLISECONDS);
+                meterRegistry.counter("file.gc.sweep.marked").increment(ids.size());
+                log.debug("Sweep: chunk #{} marked={}, tookMs={}, cursor={}", chunks, ids.size(), chunkMs, after);
+            }
+
+            // LIMIT는 SKIP LOCKED 이후에 채워지므로, 한도 미만이면 커서 이후 잠기지 않은 대상이 더 없음
+            if (ids.size() < sweepChunk) break;
+
+            throttledMs += throttle(marked, startedNs);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedNs) / 1_000_000);
+        double rowsPerSecond = marked * 1000.0 / elapsedMs;
+        if (marked > 0) {
+            log.info("Sweep: marked {} files as DELETABLE. chunks={}, maxChunkMs={}, throttledMs={}, elapsedMs={}, rows/s={}",
+                    marked, chunks, maxChunkMs, throttledMs, elapsedMs, String.format("%.1f", rowsPerSecond));
+        }
+        return new SweepReport(marked, chunks, maxChunkMs, throttledMs, elapsedMs, rowsPerSecond);
+    }
+
+    /**
+     * 누적 처리량이 설정된 초당 행 수를 넘지 않도록 대기합니다. (0 이하이면 제한 없음)
+     *
+     * @return 대기한 시간(ms)
+     */
+    private long throttle(int processed, long startedNs) {
+        if (sweepMaxRowsPerSecond <= 0) return 0;
+
+        long expectedMs = processed * 1000L / sweepMaxRowsPerSecond;
+        long actualMs = (System.nanoTime() - startedNs) / 1_000_000;
+        long waitMs = expectedMs - actualMs;
+        if (waitMs <= 0) return 0;
+
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
         }
-        return updated;
+        return waitMs;
     }
 
     /**
      * 유예 기간이 지난 DELETABLE 파일들을 찾아 스토리지에서 물리적으로 삭제하고 DELETED 상태로 전이시킵니다.
      *
+     * <p>파일 단위로 접두어 삭제를 반복하면 파일마다 목록 조회 + 삭제 요청이 직렬로 발생하므로,
+     * 한 페이지의 모든 파일 키를 병렬로 나열한 뒤 파일 경계와 무관하게 최대 1000개 단위로 묶어
+     * 제한된 병렬도로 일괄 삭제합니다. 페이지마다 체크포인트를 기록하여 중단된 실행은 다음 실행에서 이어집니다.</p>
+     *
      * @param grace 유예 기간 (이 기간이 지난 파일만 삭제 대상이 됨)
-     * @return 물리적 삭제 및 상태 변경이 완료된 파일의 총 개수
+     * @return 처리 결과 및 처리량 리포트
      */
-    public int purgeExpiredDeletables(Duration grace) {
-        var cutoff = Instant.now().minus(grace);
-        int total = 0;
+    public PurgeReport purgeExpiredDeletables(Duration grace) {
+        if (!purging.compareAndSet(false, true)) {
+            log.warn("Purge skipped: another purge run is in progress");
+            return PurgeReport.skippedRun();
+        }
+        try {
+            return doPurge(grace);
+        } finally {
+            purging.set(false);
+        }
+    }
 
-        while (true) {
-            // 1) 단순 읽기 (DB 락 없음)
-            var rows = storedFiles.findByStatusAndDeletableAtBefore(
-                    FileStatus.DELETABLE, cutoff, PageRequest.of(0, PURGE_BATCH)
-            );
-            if (rows.isEmpty()) break;
-
-            List<String> ids = new ArrayList<>(rows.size());
-
-            // 2) 외부 I/O (DB 커넥션을 물고 있지 않으므로 병목 발생 안 함)
-            for (var r : rows) {
-                var prefix = ensureTrailingSlash(r.storagePath());
-                try {
-                    int deleted = io.deletePrefix(prefix);
-                    log.debug("Purge: prefix={} deletedObjects={}", prefix, deleted);
-                    ids.add(r.id());
-                } catch (Exception e) {
-                    log.warn("Purge failed for prefix={}", prefix, e);
+    private PurgeReport doPurge(Duration grace) {
+        long startedNs = System.nanoTime();
+        var now = Instant.now();
+
+        // 0) 체크포인트 로드: 미완료 실행이 있으면 같은 cutoff/커서로 재개
+        var cp = checkpoints.findById(PURGE_JOB).orElse(null);
+        boolean resumed = cp != null && cp.isInProgress();
+        if (cp == null) {
+            cp = FilePurgeCheckpoint.start(PURGE_JOB, now.minus(grace), now);
+        } else if (!resumed) {
+            cp.restart(now.minus(grace), now);
+        }
+        cp = checkpoints.save(cp);
+        if (resumed) {
+            log.info("Purge: resuming from checkpoint. cutoff={}, after={}", cp.getCutoff(), cp.getLastFileId());
+        }
+
+        int purged = 0;
+        int failed = 0;
+        long objects = 0;
+        int requests = 0;
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(purgeParallelism)) {
+            while (true) {
+                // 1) 단순 읽기 (DB 락 없음) — 키셋 커서 이후만 조회
+                String after = cp.getLastFileId() != null ? cp.getLastFileId() : "";
+                var rows = storedFiles.findPurgeCandidatesAfter(
+                        FileStatus.DELETABLE, cp.getCutoff(), after, PageRequest.of(0, purgeBatch)
+                );
+                if (rows.isEmpty()) break;
+
+                // 2) 외부 I/O (DB 커넥션을 물고 있지 않으므로 병목 발생 안 함)
+                var page = purgePage(rows, pool);
+
+                // 3) 상태 전이 (Repository 내부의 짧은 트랜잭션만 사용)
+                int changed = 0;
+                if (!page.succeeded().isEmpty()) {
+                    changed = storedFiles.bulkMarkDeleted(
+                            FileStatus.DELETABLE, FileStatus.DELETED, Instant.now(), page.succeeded()
+                    );
                 }
+                int pageFailed = rows.size() - page.succeeded().size();
+                purged += changed;
+                failed += pageFailed;
+                objects += page.deletedObjects();
+                requests += page.requests();
+
+                // 4) 체크포인트 전진
+                cp.advance(rows.get(rows.size() - 1).id(), changed, pageFailed, page.deletedObjects());
+                cp = checkpoints.save(cp);
+
+                log.info("Purge: page done. files={}, deleted={}, failed={}, objects={}, requests={}",
+                        rows.size(), changed, pageFailed, page.deletedObjects(), page.requests());
+
+                if (rows.size() < purgeBatch) break;
             }
+        }
 
-            // 3) 상태 전이 (Repository 내부의 짧은 트랜잭션만 사용)
-            if (!ids.isEmpty()) {
-                int changed = storedFiles.bulkMarkDeleted(
-                        FileStatus.DELETABLE, FileStatus.DELETED, Instant.now(), ids
-                );
-                total += changed;
-                log.info("Purge: marked {} files as DELETED", changed);
+        cp.finish(Instant.now());
+        checkpoints.save(cp);
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedNs) / 1_000_000);
+        double objectsPerSecond = objects * 1000.0 / elapsedMs;
+        log.info("Purge finished. files={}, failed={}, objects={}, requests={}, elapsedMs={}, objects/s={}",
+                purged, failed, objects, requests, elapsedMs, String.format("%.1f", objectsPerSecond));
+
+        return new PurgeReport(purged, failed, objects, requests, elapsedMs, objectsPerSecond, resumed, false);
+    }
+
+    /**
+     * 한 페이지의 파일들을 처리합니다.
+     * 1) 파일별 키 나열을 병렬 수행 → 2) 전체 키를 1000개 단위로 묶어 병렬 일괄 삭제 → 3) 실패 키가 없는 파일만 성공 처리.
+     */
+    private PageResult purgePage(List<FilePurgeRow> rows, ExecutorService pool) {
+        // 1) 병렬 키 나열
+        Map<String, Future<List<String>>> listings = new LinkedHashMap<>();
+        for (var r : rows) {
+            var prefix = ensureTrailingSlash(r.storagePath());
+            listings.put(r.id(), pool.submit(() -> io.listKeys(prefix)));
+        }
+
+        Set<String> failedFiles = new HashSet<>();
+        Map<String, String> ownerByKey = new HashMap<>();
+        List<String> allKeys = new ArrayList<>();
+        listings.forEach((fileId, f) -> {
+            try {
+                for (String key : f.get()) {
+                    ownerByKey.put(key, fileId);
+                    allKeys.add(key);
+                }
+            } catch (Exception e) {
+                failedFiles.add(fileId);
+                log.warn("Purge listing failed for fileId={}", fileId, unwrap(e));
+            }
+        });
+
+        // 2) 파일 경계와 무관하게 꽉 찬 1000개 단위로 묶어 병렬 삭제
+        List<Future<IoManager.BulkDeleteResult>> deletions = new ArrayList<>();
+        List<List<String>> packs = new ArrayList<>();
+        for (int i = 0; i < allKeys.size(); i += DELETE_PACK) {
+            List<String> pack = allKeys.subList(i, Math.min(i + DELETE_PACK, allKeys.size()));
+            packs.add(pack);
+            deletions.add(pool.submit(() -> io.deleteKeys(pack)));
+        }
+
+        long deletedObjects = 0;
+        int requests = 0;
+        for (int i = 0; i < deletions.size(); i++) {
+            try {
+                var res = deletions.get(i).get();
+                deletedObjects += res.deleted();
+                requests += res.requests();
+                for (String key : res.failedKeys()) {
+                    failedFiles.add(ownerByKey.get(key));
+                }
+            } catch (Exception e) {
+                // 요청 단위 실패: 해당 팩에 키가 포함된 파일 전부 실패 처리 (다음 실행에서 재시도)
+                for (String key : packs.get(i)) failedFiles.add(ownerByKey.get(key));
+                log.warn("Purge delete request failed. keys={}", packs.get(i).size(), unwrap(e));
             }
+        }
 
-            if (rows.size() < PURGE_BATCH) break;
+        // 3) 실패 키가 없는 파일만 성공
+        List<String> succeeded = new ArrayList<>(rows.size());
+        for (var r : rows) {
+            if (!failedFiles.contains(r.id())) succeeded.add(r.id());
         }
-        return total;
+        return new PageResult(succeeded, deletedObjects, requests);
+    }
+
+    private record PageResult(List<String> succeeded, long deletedObjects, int requests) {
+    }
+
+    private static Throwable unwrap(Exception e) {
+        return (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
     }
 
     private static String ensureTrailingSlash(String p) {
@@ -0,0 +1,13 @@
+package com.app.codemasterpiecebackend.domain.file.core.dto;
+
+/**
+ * 파일 가비지 컬렉션(Mark & Sweep) 1회 실행 결과.
+ *
+ * @param sweep DELETABLE 마킹 리포트
+ * @param purge 물리 삭제 리포트
+ */
+public record CleanupReport(
+        SweepReport sweep,
+        PurgeReport purge
+) {
+}
@@ -12,6 +12,8 @@ public record FileInfo(
         String originalFilename,
         long byteSize,
         String contentType,
+        Integer width,
+        Integer height,
         FileStatus status
 ) {
     public static FileInfo from(StoredFile f) {
@@ -23,6 +25,8 @@ public record FileInfo(
                 f.getOriginalFilename(),
                 f.getByteSize(),
                 f.getContentType(),
+                f.getWidth(),
+                f.getHeight(),
                 f.getStatus()
         );
     }
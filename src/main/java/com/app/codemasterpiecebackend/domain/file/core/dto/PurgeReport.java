@@ -0,0 +1,28 @@
+package com.app.codemasterpiecebackend.domain.file.core.dto;
+
+/**
+ * 물리 삭제(Purge) 실행 결과 및 처리량 리포트.
+ *
+ * @param purgedFiles      DELETED로 전이된 파일 수
+ * @param failedFiles      삭제 실패로 건너뛴 파일 수 (다음 실행에서 재시도)
+ * @param deletedObjects   스토리지에서 삭제된 객체 수
+ * @param deleteRequests   스토리지로 보낸 일괄 삭제 요청 수
+ * @param elapsedMs        소요 시간(ms)
+ * @param objectsPerSecond 초당 삭제 객체 수
+ * @param resumed          중단된 이전 실행을 이어서 처리했는지 여부
+ * @param skipped          다른 실행이 진행 중이라 건너뛰었는지 여부
+ */
+public record PurgeReport(
+        int purgedFiles,
+        int failedFiles,
+        long deletedObjects,
+        int deleteRequests,
+        long elapsedMs,
+        double objectsPerSecond,
+        boolean resumed,
+        boolean skipped
+) {
+    public static PurgeReport skippedRun() {
+        return new PurgeReport(0, 0, 0, 0, 0, 0, false, true);
+    }
+}
@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.file.core.dto;
+
+/**
+ * DELETABLE 마킹(Sweep) 실행 결과 리포트.
+ *
+ * @param markedFiles   DELETABLE로 전이된 파일 수
+ * @param chunks        실행한 청크(짧은 트랜잭션) 수
+ * @param maxChunkMs    가장 오래 걸린 청크의 소요 시간(ms) — 락 보유 시간의 상한 지표
+ * @param throttledMs   속도 제한으로 대기한 누적 시간(ms)
+ * @param elapsedMs     전체 소요 시간(ms)
+ * @param rowsPerSecond 초당 마킹 행 수
+ */
+public record SweepReport(
+        int markedFiles,
+        int chunks,
+        long maxChunkMs,
+        long throttledMs,
+        long elapsedMs,
+        double rowsPerSecond
+) {
+}
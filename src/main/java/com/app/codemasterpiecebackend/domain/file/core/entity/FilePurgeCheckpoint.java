@@ -0,0 +1,92 @@
+package com.app.codemasterpiecebackend.domain.file.core.entity;
+
+import com.app.codemasterpiecebackend.domain.shared.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 물리 삭제(Purge) 배치의 진행 체크포인트.
+ * <p>
+ * - 실행이 중간에 중단되면(finishedAt == null) 다음 실행은 같은 cutoff와 커서(lastFileId) 이후부터 이어서 처리한다.
+ * - 커서는 file_id 오름차순 키셋 페이지네이션 기준이므로, 실패한 파일이 매 페이지 재조회되는 무한 루프를 막는다.
+ */
+@Entity
+@Table(name = "tbl_file_purge_checkpoint")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FilePurgeCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64, nullable = false, updatable = false)
+    private String jobName;
+
+    /**
+     * 이번 실행의 삭제 기준 시각 (deletable_at < cutoff)
+     */
+    @Column(name = "cutoff", nullable = false)
+    private Instant cutoff;
+
+    /**
+     * 마지막으로 처리 완료한 file_id (키셋 커서)
+     */
+    @Column(name = "last_file_id", length = 29)
+    private String lastFileId;
+
+    @Column(name = "purged_files", nullable = false)
+    private long purgedFiles;
+
+    @Column(name = "failed_files", nullable = false)
+    private long failedFiles;
+
+    @Column(name = "deleted_objects", nullable = false)
+    private long deletedObjects;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    public static FilePurgeCheckpoint start(String jobName, Instant cutoff, Instant now) {
+        return FilePurgeCheckpoint.builder()
+                .jobName(jobName)
+                .cutoff(cutoff)
+                .startedAt(now)
+                .build();
+    }
+
+    public boolean isInProgress() {
+        return finishedAt == null;
+    }
+
+    /**
+     * 완료된 체크포인트를 새 실행으로 초기화한다.
+     */
+    public void restart(Instant cutoff, Instant now) {
+        this.cutoff = cutoff;
+        this.lastFileId = null;
+        this.purgedFiles = 0;
+        this.failedFiles = 0;
+        this.deletedObjects = 0;
+        this.startedAt = now;
+        this.finishedAt = null;
+    }
+
+    /**
+     * 한 페이지 처리 결과를 누적하고 커서를 전진시킨다.
+     */
+    public void advance(String lastFileId, int purged, int failed, long objects) {
+        this.lastFileId = lastFileId;
+        this.purgedFiles += purged;
+        this.failedFiles += failed;
+        this.deletedObjects += objects;
+    }
+
+    public void finish(Instant now) {
+        this.finishedAt = now;
+    }
+}
@@ -40,6 +40,15 @@ public class StoredFile extends BaseTimeEntity {
     @Column(name = "content_type", length = 255)
     private String contentType;
 
+    /**
+     * 이미지 가로/세로 픽셀 (헤더 판별 불가 또는 비이미지 파일은 null)
+     */
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
     @Column(name = "ref_count", nullable = false)
     private int refCount;
 
@@ -0,0 +1,7 @@
+package com.app.codemasterpiecebackend.domain.file.core.repository;
+
+import com.app.codemasterpiecebackend.domain.file.core.entity.FilePurgeCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FilePurgeCheckpointRepository extends JpaRepository<FilePurgeCheckpoint, String> {
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Collection;
@@ -21,6 +22,26 @@ public interface StoredFileRepository extends JpaRepository<StoredFile, String>
     @Query("update StoredFile f set f.refCount = f.refCount + 1 where f.id = :id")
     void incRef(@Param("id") String fileId);
 
+    // 여러 파일의 참조 카운트를 한 구문으로 1씩 증가
+    // - file_id 오름차순으로 먼저 잠가, 겹치는 파일을 동시에 증가시키는 트랜잭션끼리 교착되지 않도록 함
+    // - FOR NO KEY UPDATE: 앞서 참조 행 INSERT(FK 검사)가 잡은 FOR KEY SHARE와 충돌하지 않음
+    //   (FOR UPDATE는 충돌하므로 KEY SHARE를 정렬 없이 잡은 트랜잭션끼리 교착될 수 있음)
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Query(value = """
+            WITH locked AS (
+                SELECT file_id
+                FROM tbl_file
+                WHERE file_id IN (:ids)
+                ORDER BY file_id
+                FOR NO KEY UPDATE
+            )
+            UPDATE tbl_file f
+            SET ref_count = f.ref_count + 1
+            FROM locked
+            WHERE f.file_id = locked.file_id
+            """, nativeQuery = true)
+    int incRefAll(@Param("ids") Collection<String> fileIds);
+
     @Modifying(clearAutomatically = false, flushAutomatically = false)
     @Query("update StoredFile f set f.refCount = case when f.refCount > 0 then f.refCount - 1 else 0 end where f.id = :id")
     void decRef(@Param("id") String fileId);
@@ -29,22 +50,49 @@ public interface StoredFileRepository extends JpaRepository<StoredFile, String>
     @Query("update StoredFile f set f.refCount = case when f.refCount >= :amount then f.refCount - :amount else 0 end where f.id = :id")
     void decRefBulk(@Param("id") String fileId, @Param("amount") int amount);
 
-    // ACTIVE && ref_count=0 → DELETABLE (행 수만 리턴)
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    // ACTIVE && ref_count=0 → DELETABLE, file_id 오름차순 청크 단위
+    // - 커서(after) 이후 최대 limit 건만 잠그고 갱신하여 락/WAL 보유 구간을 청크 크기로 제한
+    // - 참조 증감 중인 행(FOR NO KEY UPDATE 보유)은 SKIP LOCKED로 건너뜀 → 다음 실행에서 재평가
+    // - 갱신된 file_id를 DB 정렬 순서로 돌려주어 호출자가 마지막 값으로 커서를 전진시킴
+    @Transactional
+    @Query(value = """
+            WITH picked AS (
+                SELECT file_id
+                FROM tbl_file
+                WHERE status = 'ACTIVE'
+                  AND ref_count = 0
+                  AND deletable_at IS NULL
+                  AND file_id > :after
+                ORDER BY file_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), marked AS (
+                UPDATE tbl_file f
+                SET status       = 'DELETABLE',
+                    deletable_at = :now
+                FROM picked
+                WHERE f.file_id = picked.file_id
+                RETURNING f.file_id
+            )
+            SELECT file_id FROM marked ORDER BY file_id
+            """, nativeQuery = true)
+    List<String> markDeletableChunk(@Param("after") String after,
+                                    @Param("limit") int limit,
+                                    @Param("now") Instant now);
+
+    // 키셋 페이지네이션: file_id 오름차순으로 커서(after) 이후만 조회 (실패 건 재조회 방지)
     @Query("""
-            UPDATE StoredFile f
-            SET f.status = :to,
-                f.deletableAt = :now
-            WHERE f.status = :from
-              AND f.refCount = 0
-              AND (f.deletableAt IS NULL)
+            select new com.app.codemasterpiecebackend.domain.file.core.dto.FilePurgeRow(f.id, f.storagePath)
+            from StoredFile f
+            where f.status = :status
+              and f.deletableAt < :cutoff
+              and f.id > :after
+            order by f.id asc
             """)
-    int markDeletableBatch(@Param("from") FileStatus from,
-                           @Param("to") FileStatus to,
-                           @Param("now") Instant now);
-
-    List<FilePurgeRow> findByStatusAndDeletableAtBefore(
-            FileStatus status, Instant cutoff, Pageable pageable);
+    List<FilePurgeRow> findPurgeCandidatesAfter(@Param("status") FileStatus status,
+                                                @Param("cutoff") Instant cutoff,
+                                                @Param("after") String after,
+                                                Pageable pageable);
 
     // 3) 상태 일괄 전이: DELETED
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -1,6 +1,7 @@
 package com.app.codemasterpiecebackend.domain.file.core.job;
 
 import com.app.codemasterpiecebackend.domain.file.core.application.FileHousekeepingService;
+import com.app.codemasterpiecebackend.domain.file.core.dto.CleanupReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,18 +23,25 @@ public class FileCleaner {
      * 매일 새벽 3시(KST)에 가비지 컬렉션을 실행합니다.
      * 1. 참조 카운트가 0인 파일을 DELETABLE로 마킹
      * 2. 마킹 후 24시간이 경과한 파일을 물리적 삭제
+     *
+     * @return 실행 결과 리포트 (치명적 오류로 중단된 경우 null)
      */
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
-    public void nightlyCleanup() {
+    public CleanupReport nightlyCleanup() {
         log.info("Starting scheduled file system cleanup...");
 
         try {
-            int marked = housekeeping.sweepMarkDeletable();
-            int purged = housekeeping.purgeExpiredDeletables(Duration.ofHours(24));
+            var sweep = housekeeping.sweepMarkDeletable();
+            var purge = housekeeping.purgeExpiredDeletables(Duration.ofHours(24));
 
-            log.info("Nightly cleanup finished. [Marked Deletable: {}], [Physically Purged: {}]", marked, purged);
+            log.info("Nightly cleanup finished. [Marked Deletable: {} in {} chunks], [Physically Purged: {}], [Failed: {}], "
+                            + "[Objects: {}], [Requests: {}], [Objects/s: {}]",
+                    sweep.markedFiles(), sweep.chunks(), purge.purgedFiles(), purge.failedFiles(), purge.deletedObjects(),
+                    purge.deleteRequests(), String.format("%.1f", purge.objectsPerSecond()));
+            return new CleanupReport(sweep, purge);
         } catch (Exception e) {
             log.error("Critical error during nightly file cleanup", e);
+            return null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.file.job;
+
+import com.app.codemasterpiecebackend.domain.file.variant.application.VariantDemandBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 모인 지연 생성 단 수요를 주기적으로 DB에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VariantDemandFlushScheduler {
+
+    private final VariantDemandBuffer demand;
+
+    @Scheduled(fixedDelayString = "${image.ladder.demand-flush-interval-ms:30000}")
+    public void flush() {
+        demand.flush();
+    }
+}
@@ -1,4 +1,15 @@
 package com.app.codemasterpiecebackend.domain.file.media.application;
 
+import com.app.codemasterpiecebackend.domain.file.media.dto.ImageMetaResponse;
+
 public interface ImageService extends MediaUploadUseCase {
+
+    /**
+     * 원본 및 생성 완료된 파생 자산의 크기/URL 정보를 조회합니다.
+     * 클라이언트는 이미지를 내려받기 전에 레이아웃과 srcset을 구성할 수 있습니다.
+     *
+     * @param fileId 대상 파일의 고유 식별자
+     * @return 원본 크기, 파생 자산 목록, MIME 타입별 srcset
+     */
+    ImageMetaResponse describe(String fileId);
 }
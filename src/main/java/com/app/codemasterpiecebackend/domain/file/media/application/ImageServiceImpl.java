@@ -3,12 +3,24 @@ package com.app.codemasterpiecebackend.domain.file.media.application;
 import com.app.codemasterpiecebackend.domain.file.core.application.FileService;
 import com.app.codemasterpiecebackend.domain.file.core.application.StoreCmd;
 import com.app.codemasterpiecebackend.domain.file.core.dto.FileInfo;
+import com.app.codemasterpiecebackend.domain.file.media.dto.ImageMetaResponse;
 import com.app.codemasterpiecebackend.domain.file.variant.application.VariantDispatcher;
 import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantPreset;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import com.app.codemasterpiecebackend.global.util.FileUrlResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
 /**
  * 이미지 전용 미디어 업로드 및 변환 서비스.
  * 기반 규격인 MediaUploadUseCase를 상속받아 이미지 도메인에 맞는 구현을 제공한다.
@@ -20,6 +32,8 @@ public class ImageServiceImpl implements ImageService {
 
     private final FileService fileService;
     private final VariantDispatcher variantDispatcher;
+    private final FileVariantRepository fileVariantRepository;
+    private final CdnProperties cdnProperties;
 
     @Override
     public FileInfo upload(StoreCmd cmd) {
@@ -40,6 +54,50 @@ public class ImageServiceImpl implements ImageService {
         variantDispatcher.dispatch(fileId, VariantPreset.BLOG_DEFAULT);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ImageMetaResponse describe(String fileId) {
+        FileInfo info = fileService.getFile(fileId)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "error.file.not_found"));
+        String originalUrl = FileUrlResolver.toFileUrl(cdnProperties, info);
+
+        var variants = fileVariantRepository.findActiveByFileIdIn(List.of(fileId)).stream()
+                .sorted(Comparator.comparing(v -> v.getWidth() == null ? Integer.MAX_VALUE : v.getWidth()))
+                .map(v -> ImageMetaResponse.Variant.builder()
+                        .kind(v.getKind().name())
+                        .url(FileUrlResolver.toCdnUrl(cdnProperties, v.getStorageKey()))
+                        .contentType(v.getContentType())
+                        .width(v.getWidth())
+                        .height(v.getHeight())
+                        .byteSize(v.getByteSize())
+                        .build())
+                .toList();
+
+        // srcset 후보는 가로 크기가 확인된 자산만 MIME 타입별로 묶는다 (원본도 후보에 포함)
+        Map<String, StringJoiner> joiners = new LinkedHashMap<>();
+        for (var v : variants) {
+            if (v.width() == null) continue;
+            joiners.computeIfAbsent(v.contentType(), k -> new StringJoiner(", "))
+                    .add(v.url() + " " + v.width() + "w");
+        }
+        if (info.width() != null) {
+            joiners.computeIfAbsent(info.contentType(), k -> new StringJoiner(", "))
+                    .add(originalUrl + " " + info.width() + "w");
+        }
+        Map<String, String> srcset = new LinkedHashMap<>();
+        joiners.forEach((ct, j) -> srcset.put(ct, j.toString()));
+
+        return ImageMetaResponse.builder()
+                .fileId(info.fileId())
+                .url(originalUrl)
+                .contentType(info.contentType())
+                .width(info.width())
+                .height(info.height())
+                .variants(variants)
+                .srcset(srcset)
+                .build();
+    }
+
     /**
      * 클라이언트가 전달한 힌트 문자열을 안전하게 Enum으로 변환한다.
      * 매칭되지 않으면 DEFAULT로 강제 폴백(Fallback) 처리한다.
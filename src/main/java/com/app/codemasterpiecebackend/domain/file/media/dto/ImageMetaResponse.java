@@ -0,0 +1,34 @@
+package com.app.codemasterpiecebackend.domain.file.media.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 메타데이터 응답 DTO.
+ * 클라이언트가 이미지를 내려받지 않고도 레이아웃(가로/세로)과 반응형 후보(srcset)를 구성할 수 있도록 한다.
+ *
+ * @param srcset MIME 타입별 srcset 문자열 (예: image/webp → "https://.../a.thumb-256.webp 256w, ...")
+ */
+@Builder
+public record ImageMetaResponse(
+        String fileId,
+        String url,
+        String contentType,
+        Integer width,
+        Integer height,
+        List<Variant> variants,
+        Map<String, String> srcset
+) {
+    @Builder
+    public record Variant(
+            String kind,
+            String url,
+            String contentType,
+            Integer width,
+            Integer height,
+            long byteSize
+    ) {
+    }
+}
@@ -10,14 +10,18 @@ public record ImageUploadResponse(
         String fileId,
         String url,
         String contentType,
-        long byteSize
+        long byteSize,
+        Integer width,
+        Integer height
 ) {
     public static ImageUploadResponse from(FileInfo info, String url) {
         return new ImageUploadResponse(
                 info.fileId(),
                 url,
                 info.contentType(),
-                info.byteSize()
+                info.byteSize(),
+                info.width(),
+                info.height()
         );
     }
 }
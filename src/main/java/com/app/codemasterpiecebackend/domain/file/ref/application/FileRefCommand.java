@@ -26,6 +26,19 @@ public record FileRefCommand() {
             String displayName      // 선택 사항
     ) {}
 
+    /**
+     * 파일 참조 일괄 추가 명령.
+     * <p>정렬 순서는 중복 제거 후 목록 위치 기준(1부터)으로 부여됩니다.</p>
+     */
+    @Builder
+    public record AttachAll(
+            FileOwnerType ownerType,
+            String ownerId,
+            FilePurpose purpose,
+            List<String> orderedFileIds,
+            String displayName      // 선택 사항 (모든 참조에 동일 적용)
+    ) {}
+
     /**
      * 파일 참조 해제 명령.
      */
@@ -19,6 +19,12 @@ public interface FileRefService {
      */
     void attach(FileRefCommand.Attach cmd);
 
+    /**
+     * 정렬된 파일 목록을 한 번에 참조 추가하고 새로 연결된 파일들의 참조 카운트를 1씩 증가시킵니다. (멱등성 보장)
+     * <p>파일 수와 무관하게 존재 확인 1회, 일괄 삽입 1회, 참조 카운트 증가 1회의 구문으로 처리합니다.</p>
+     */
+    void attachAll(FileRefCommand.AttachAll cmd);
+
     /**
      * 파일 참조를 해제하고 대상 파일의 참조 카운트를 1 감소시킵니다.
      */
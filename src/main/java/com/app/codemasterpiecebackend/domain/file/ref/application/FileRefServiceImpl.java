@@ -2,6 +2,7 @@ package com.app.codemasterpiecebackend.domain.file.ref.application;
 
 import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
 import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.ref.dto.FileAttachState;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FileOwnerType;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FilePurpose;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FileRef;
@@ -56,6 +57,51 @@ public class FileRefServiceImpl implements FileRefService {
         fileRepo.incRef(file.getId());
     }
 
+    @Override
+    public void attachAll(FileRefCommand.AttachAll cmd) {
+        List<String> ids = cmd.orderedFileIds() == null ? List.of() : cmd.orderedFileIds().stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return;
+
+        // 1) 파일 존재 + 기존 연결 여부를 한 번에 조회
+        Map<String, Long> refsByFileId = new HashMap<>(ids.size() * 2);
+        for (FileAttachState st : refRepo.findAttachStates(ids, cmd.ownerType(), cmd.ownerId(), cmd.purpose())) {
+            refsByFileId.put(st.fileId(), st.refs());
+        }
+
+        List<FileRef> toSave = new ArrayList<>(ids.size());
+        List<String> newlyAttached = new ArrayList<>(ids.size());
+        int order = 1;
+
+        for (String fid : ids) {
+            Long refs = refsByFileId.get(fid);
+            if (refs == null) throw new IllegalArgumentException("file not found: " + fid);
+
+            int sort = order++;
+            if (refs > 0) continue;
+
+            toSave.add(FileRef.builder()
+                    .storedFile(fileRepo.getReferenceById(fid))
+                    .ownerType(cmd.ownerType())
+                    .ownerId(cmd.ownerId())
+                    .purpose(cmd.purpose())
+                    .sortOrder(sort)
+                    .displayName(cmd.displayName())
+                    .build());
+            newlyAttached.add(fid);
+        }
+        if (toSave.isEmpty()) return;
+
+        // 2) 일괄 삽입 (hibernate.jdbc.batch_size 단위로 묶여 전송)
+        refRepo.saveAll(toSave);
+
+        // 3) 참조 카운트를 파일 ID 순서로 잠근 뒤 한 구문으로 증가
+        fileRepo.incRefAll(newlyAttached);
+    }
+
     @Override
     public void detach(FileRefCommand.Detach cmd) {
         FileRef ref = refRepo.findByOwnerIdAndStoredFileId(cmd.ownerId(), cmd.fileId()).orElse(null);
@@ -114,6 +160,7 @@ public class FileRefServiceImpl implements FileRefService {
         List<String> desiredIds = cmd.orderedFileIds().stream()
                 .filter(id -> id != null && !id.isBlank())
                 .map(String::trim)
+                .distinct()
                 .toList();
 
         List<FileRef> toDelete = new ArrayList<>();
@@ -135,6 +182,7 @@ public class FileRefServiceImpl implements FileRefService {
         }
 
         List<FileRef> toSave = new ArrayList<>();
+        List<String> toIncRef = new ArrayList<>();
         List<FileRefService.FileRefEntry> resultEntries = new ArrayList<>();
         int order = 1;
 
@@ -149,7 +197,7 @@ public class FileRefServiceImpl implements FileRefService {
                         .sortOrder(order)
                         .displayName(cmd.displayNamePrefix() == null ? null : cmd.displayNamePrefix())
                         .build();
-                fileRepo.incRef(fid);
+                toIncRef.add(fid);
             } else {
                 fr.setSortOrder(order);
             }
@@ -161,6 +209,9 @@ public class FileRefServiceImpl implements FileRefService {
         if (!toSave.isEmpty()) {
             refRepo.saveAll(toSave);
         }
+        if (!toIncRef.isEmpty()) {
+            fileRepo.incRefAll(toIncRef);
+        }
 
         return new FileRefService.ReplaceAllResult(resultEntries);
     }
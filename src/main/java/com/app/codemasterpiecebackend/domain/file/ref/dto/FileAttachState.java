@@ -0,0 +1,9 @@
+package com.app.codemasterpiecebackend.domain.file.ref.dto;
+
+/**
+ * 일괄 참조 추가 전 파일별 상태. (파일이 존재할 때만 행이 반환됨)
+ *
+ * @param fileId 파일 ID
+ * @param refs   동일 소유자/목적으로 이미 연결된 참조 수
+ */
+public record FileAttachState(String fileId, Long refs) {}
@@ -1,11 +1,14 @@
 package com.app.codemasterpiecebackend.domain.file.ref.repository;
 
+import com.app.codemasterpiecebackend.domain.file.ref.dto.FileAttachState;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FileOwnerType;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FilePurpose;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FileRef;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,22 @@ public interface FileRefRepository extends JpaRepository<FileRef, String> {
             """)
     Integer findMaxSort(FileOwnerType ownerType, String ownerId, FilePurpose purpose);
 
+    // 일괄 참조 추가용: 파일 존재 여부 + 기존 연결 수를 한 번에 조회 (존재하지 않는 파일은 행 없음)
+    @Query("""
+            select new com.app.codemasterpiecebackend.domain.file.ref.dto.FileAttachState(
+                f.id,
+                (select count(fr) from FileRef fr
+                 where fr.storedFile = f
+                   and fr.ownerType = :ownerType and fr.ownerId = :ownerId and fr.purpose = :purpose)
+            )
+            from StoredFile f
+            where f.id in :fileIds
+            """)
+    List<FileAttachState> findAttachStates(@Param("fileIds") Collection<String> fileIds,
+                                           @Param("ownerType") FileOwnerType ownerType,
+                                           @Param("ownerId") String ownerId,
+                                           @Param("purpose") FilePurpose purpose);
+
     List<FileRef> findByOwnerTypeAndOwnerIdAndPurposeOrderBySortOrderAsc(
             FileOwnerType ownerType, String ownerId, FilePurpose purpose);
 
@@ -0,0 +1,117 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.dto.FileInfo;
+import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantProcessCmd.Target;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.global.config.image.ImageLadderProperties;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import com.app.codemasterpiecebackend.global.util.FileUrlResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반응형 사다리 단(rung)을 최초 요청 시점에 생성하는 지연 생성 서비스입니다.
+ *
+ * <p>요청된 단이 이미 있으면 해당 CDN URL을, 없으면 변환 작업을 큐에 넣고 그동안 원본 URL을 돌려줍니다.
+ * 미생성 단 요청은 수요(demand)로 누적되어, 자주 요청되는 단을 eager로 승격할지 판단하는 근거가 됩니다.
+ * 수요는 {@link VariantDemandBuffer}에 모았다가 주기적으로 반영하므로 요청 경로에서 DB 쓰기는 없습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LazyVariantService {
+
+    /** 처리 중 표시 맵의 상한. 넘으면 만료 항목을 정리한다. */
+    private static final int INFLIGHT_SOFT_LIMIT = 10_000;
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileVariantRepository fileVariantRepository;
+    private final VariantDispatcher variantDispatcher;
+    private final VariantDemandBuffer demandBuffer;
+    private final ResponsiveLadder ladder;
+    private final ImageLadderProperties props;
+    private final CdnProperties cdnProperties;
+
+    /**
+     * fileId:kind:width → enqueue 시각(ms). 같은 단에 대한 중복 enqueue를 막는다.
+     */
+    private final ConcurrentHashMap<String, Long> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 지연 생성 결과.
+     *
+     * @param url   리다이렉트할 URL
+     * @param ready 요청한 단이 이미 존재하면 true (false면 원본으로 대체 응답)
+     */
+    public record Resolution(String url, boolean ready) {
+    }
+
+    /**
+     * 요청한 사다리 단의 URL을 찾거나, 없으면 생성을 예약하고 원본 URL을 반환합니다.
+     *
+     * @param fileId 원본 파일 ID
+     * @param format webp | avif
+     * @param width  사다리 폭
+     * @throws AppException 파일이 없거나 허용되지 않은 포맷/폭인 경우
+     */
+    @Transactional(readOnly = true)
+    public Resolution resolve(String fileId, String format, int width) {
+        FileVariantKind kind = ResponsiveLadder.kindOf(format);
+        if (kind == null || !ladder.isAllowed(kind, width)) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.badrequest");
+        }
+
+        StoredFile file = storedFileRepository.findById(fileId)
+                .filter(f -> f.getStatus() == FileStatus.ACTIVE)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "error.file.not_found"));
+        String originalUrl = FileUrlResolver.toFileUrl(cdnProperties, FileInfo.from(file));
+
+        // 원본보다 크거나 같은 단은 만들지 않는다 — 원본이 곧 최선의 응답
+        if (file.getWidth() != null && width >= file.getWidth()) {
+            return new Resolution(originalUrl, true);
+        }
+
+        var existing = fileVariantRepository.findActiveRung(fileId, kind, width);
+        if (existing.isPresent()) {
+            return new Resolution(FileUrlResolver.toCdnUrl(cdnProperties, existing.get().getStorageKey()), true);
+        }
+
+        demandBuffer.record(fileId, kind, width);
+
+        if (markInflight(fileId + ":" + kind + ":" + width)) {
+            log.debug("Lazy rung enqueued. fileId={}, kind={}, width={}", fileId, kind, width);
+            variantDispatcher.dispatch(fileId, List.of(Target.RESPONSIVE(kind, width)));
+        }
+        return new Resolution(originalUrl, false);
+    }
+
+    private boolean markInflight(String key) {
+        long now = System.currentTimeMillis();
+        long ttl = props.getLazyRequeueInterval().toMillis();
+
+        if (inflight.size() > INFLIGHT_SOFT_LIMIT) {
+            inflight.values().removeIf(t -> now - t > ttl);
+        }
+
+        boolean[] acquired = {false};
+        inflight.compute(key, (k, prev) -> {
+            if (prev == null || now - prev > ttl) {
+                acquired[0] = true;
+                return now;
+            }
+            return prev;
+        });
+        return acquired[0];
+    }
+}
@@ -0,0 +1,134 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantPreset;
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantProcessCmd.Target;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.global.config.image.ImageLadderProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 프리셋별 반응형 폭 사다리(width ladder)를 해석하는 컴포넌트입니다.
+ *
+ * <p>설정({@link ImageLadderProperties})을 변환 타겟과 사다리 단(rung) 목록으로 풀어내며,
+ * 원본보다 크거나 같은 폭은 확대 생성하지 않도록 제외합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponsiveLadder {
+
+    private final ImageLadderProperties props;
+
+    /**
+     * 사다리의 한 단.
+     *
+     * @param kind  RESPONSIVE_WEBP | RESPONSIVE_AVIF
+     * @param width 목표 가로 폭
+     */
+    public record Rung(FileVariantKind kind, int width) {
+        public String mime() {
+            return kind == FileVariantKind.RESPONSIVE_AVIF ? "image/avif" : "image/webp";
+        }
+
+        public String format() {
+            return kind == FileVariantKind.RESPONSIVE_AVIF ? "avif" : "webp";
+        }
+    }
+
+    /**
+     * 업로드 직후 생성할(eager) 타겟 목록을 반환합니다. 이미지가 아니면 빈 목록입니다.
+     */
+    public List<Target> eagerTargets(VariantPreset preset, String contentType) {
+        if (!isRaster(contentType)) return List.of();
+        var ladder = props.getPresets().get(preset.name());
+        if (ladder == null) return List.of();
+
+        List<Target> out = new ArrayList<>();
+        for (FileVariantKind kind : kinds(ladder)) {
+            for (Integer w : ladder.getEager()) {
+                if (w != null && w > 0 && ladder.getWidths().contains(w)) {
+                    out.add(Target.RESPONSIVE(kind, w));
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 프리셋의 전체 사다리 단을 포맷 우선순위(AVIF → WEBP), 폭 오름차순으로 반환합니다.
+     *
+     * @param originalWidth 원본 가로 폭 (모르면 null — 이 경우 제외 없이 모두 반환)
+     */
+    public List<Rung> rungs(VariantPreset preset, Integer originalWidth) {
+        var ladder = props.getPresets().get(preset.name());
+        if (ladder == null) return List.of();
+
+        List<Rung> out = new ArrayList<>();
+        for (FileVariantKind kind : kinds(ladder)) {
+            for (Integer w : new TreeSet<>(ladder.getWidths())) {
+                if (w == null || w <= 0) continue;
+                if (originalWidth != null && w >= originalWidth) continue;
+                out.add(new Rung(kind, w));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 지연 생성 요청으로 허용되는 폭인지 확인합니다. 임의 크기 요청으로 인한 변환 남용을 막기 위해
+     * 설정된 모든 사다리 폭의 합집합만 허용합니다.
+     */
+    public boolean isAllowed(FileVariantKind kind, int width) {
+        for (var ladder : props.getPresets().values()) {
+            if (ladder.getWidths().contains(width) && kinds(ladder).contains(kind)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 요청 경로의 포맷 문자열(webp, avif)을 사다리 kind로 변환합니다.
+     */
+    public static FileVariantKind kindOf(String format) {
+        if (format == null) return null;
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "webp" -> FileVariantKind.RESPONSIVE_WEBP;
+            case "avif" -> FileVariantKind.RESPONSIVE_AVIF;
+            default -> null;
+        };
+    }
+
+    public static boolean isLadderKind(FileVariantKind kind) {
+        return kind == FileVariantKind.RESPONSIVE_WEBP || kind == FileVariantKind.RESPONSIVE_AVIF;
+    }
+
+    public String lazyBaseUrl() {
+        return props.getLazyBaseUrl();
+    }
+
+    public String sizes() {
+        return props.getSizes();
+    }
+
+    private static Set<FileVariantKind> kinds(ImageLadderProperties.Ladder ladder) {
+        // AVIF가 먼저 오도록 고정 순서 유지 (<source> 선언 순서 = 브라우저 선택 우선순위)
+        Set<FileVariantKind> out = new LinkedHashSet<>();
+        for (String f : List.of("AVIF", "WEBP")) {
+            boolean enabled = ladder.getFormats().stream().anyMatch(f::equalsIgnoreCase);
+            if (enabled) out.add(kindOf(f));
+        }
+        return out;
+    }
+
+    private static boolean isRaster(String contentType) {
+        if (contentType == null) return false;
+        String ct = contentType.toLowerCase(Locale.ROOT);
+        return ct.startsWith("image/") && !ct.contains("svg") && !ct.contains("icon");
+    }
+}
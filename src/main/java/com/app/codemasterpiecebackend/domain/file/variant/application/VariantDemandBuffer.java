@@ -0,0 +1,80 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 생성 단(rung) 수요를 메모리에 모았다가 주기적으로 {@code tbl_file_variant_demand}에 반영하는 버퍼입니다.
+ *
+ * <p>인증 없는 엔드포인트에서 요청마다 UPSERT하지 않도록, (파일, kind, 폭) 키만 모아 두고 한 트랜잭션에서 일괄 반영합니다.
+ * 한 주기 안에서 같은 키는 한 번만 셉니다(디바운스). 따라서 {@code hits}는 "수요가 있었던 주기 수"이며,
+ * 같은 단을 반복 요청해도 주기당 1 이상 부풀릴 수 없습니다.</p>
+ *
+ * <p>대기 키는 {@value #MAX_KEYS}개로 제한하며, 넘치는 키는 버립니다.</p>
+ */
+@Slf4j
+@Component
+public class VariantDemandBuffer {
+
+    private static final int MAX_KEYS = 10_000;
+
+    private final FileVariantRepository fileVariantRepository;
+    private final TransactionTemplate tx;
+
+    private final Set<Key> pending = ConcurrentHashMap.newKeySet();
+
+    private record Key(String fileId, String kind, int width) {
+    }
+
+    public VariantDemandBuffer(FileVariantRepository fileVariantRepository, PlatformTransactionManager txManager) {
+        this.fileVariantRepository = fileVariantRepository;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    /**
+     * 수요 한 건을 기록합니다. (요청 스레드, DB 접근 없음)
+     */
+    public void record(String fileId, FileVariantKind kind, int width) {
+        if (pending.size() >= MAX_KEYS) return;
+        pending.add(new Key(fileId, kind.name(), width));
+    }
+
+    /**
+     * 모인 수요를 한 트랜잭션으로 반영합니다.
+     *
+     * @return 반영한 키 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+
+        List<Key> batch = new ArrayList<>(pending.size());
+        for (Iterator<Key> it = pending.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+        }
+        try {
+            tx.executeWithoutResult(s -> batch.forEach(k ->
+                    fileVariantRepository.recordDemand(k.fileId(), k.kind(), k.width())));
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("Variant demand flush failed: keys={}, err={}", batch.size(), e.toString());
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
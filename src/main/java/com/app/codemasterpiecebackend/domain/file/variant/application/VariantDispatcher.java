@@ -1,6 +1,7 @@
 package com.app.codemasterpiecebackend.domain.file.variant.application;
 
 import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantPreset;
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantProcessCmd;
 import com.app.codemasterpiecebackend.global.infra.messaging.variant.VariantJob;
 import com.app.codemasterpiecebackend.global.infra.messaging.variant.VariantProducer;
 import com.app.codemasterpiecebackend.global.support.tx.TxHooks;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 파일 변환(Variant) 작업을 비동기 큐로 전달하는 중앙 디스패처입니다.
  * 트랜잭션 훅(TxHooks)을 내장하여, 호출자의 트랜잭션이 성공적으로 커밋된 이후에만 메시지를 발행합니다.
@@ -37,4 +40,22 @@ public class VariantDispatcher {
             );
         });
     }
+
+    /**
+     * 명시적인 타겟 목록으로 파일 변환 작업을 예약합니다. (지연 생성 단 등 프리셋 외 요청)
+     *
+     * @param fileId  원본 파일의 ID
+     * @param targets 생성할 변환 타겟 목록
+     */
+    public void dispatch(String fileId, List<VariantProcessCmd.Target> targets) {
+        txHooks.afterCommit(() -> {
+            log.debug("Dispatching variant job for fileId: {}, targets: {}", fileId, targets);
+            variantProducer.publish(
+                    VariantJob.builder()
+                            .fileId(fileId)
+                            .targets(targets)
+                            .build()
+            );
+        });
+    }
 }
\ No newline at end of file
@@ -1,13 +1,11 @@
 package com.app.codemasterpiecebackend.domain.file.variant.application;
 
-import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
-import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariant;
 import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
 import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
 import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.global.util.ULIDs;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,9 +25,10 @@ public class VariantPersister {
     /**
      * 개별 변환 결과를 독립된 새로운 트랜잭션(REQUIRES_NEW)으로 데이터베이스에 기록합니다.
      *
-     * <p>호출자(Caller)의 트랜잭션 상태와 무관하게 즉시 커밋을 시도하며,
-     * 다중 워커 환경에서 발생할 수 있는 동시 삽입(Race Condition)에 의한
-     * 중복 키 예외(DataIntegrityViolationException)를 내부적으로 삼켜 멱등성(Idempotency)을 보장합니다.</p>
+     * <p>호출자(Caller)의 트랜잭션 상태와 무관하게 즉시 커밋을 시도합니다. 다중 워커/다중 노드가 같은 단을
+     * 동시에 만들어도 {@code (file_id, kind, width)} 유니크 인덱스에 대한 {@code ON CONFLICT DO NOTHING}으로
+     * 한 행만 남으므로 멱등성(Idempotency)이 보장됩니다. 충돌을 예외로 받지 않으므로 트랜잭션이
+     * rollback-only로 표시되지도 않습니다.</p>
      *
      * @param original 변환의 기준이 된 원본 파일 엔티티
      * @param kind 생성된 파생 자산의 종류 (예: WEBP, THUMB_512 등)
@@ -38,9 +37,10 @@ public class VariantPersister {
      * @param width 이미지의 가로 픽셀 크기 (해당하지 않는 경우 null)
      * @param height 이미지의 세로 픽셀 크기 (해당하지 않는 경우 null)
      * @param byteSize 생성된 파일의 실제 바이트 크기
+     * @return 새로 기록했으면 true, 이미 있었으면 false
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveInNewTx(
+    public boolean saveInNewTx(
             StoredFile original,
             FileVariantKind kind,
             String mime,
@@ -49,26 +49,37 @@ public class VariantPersister {
             @Nullable Integer height,
             int byteSize
     ) {
-        // 1차 방어선: 애플리케이션 레벨의 중복 검사
-        if (variantRepo.existsByOriginal_idAndKind(original.getId(), kind)) return;
+        // 1차 방어선: 애플리케이션 레벨의 중복 검사 (대부분의 중복은 여기서 끝난다)
+        if (exists(original.getId(), kind, width)) return false;
 
-        var v = FileVariant.builder()
-                .original(original)
-                .kind(kind)
-                .storageType(original.getStorageType())
-                .status(FileStatus.ACTIVE)
-                .storageKey(storageKey)
-                .contentType(mime)
-                .width(width)
-                .height(height)
-                .byteSize(byteSize)
-                .build();
+        // 2차 방어선: 유니크 인덱스 + ON CONFLICT DO NOTHING (동시에 1차를 통과한 워커끼리의 경합)
+        return variantRepo.insertIfAbsent(
+                ULIDs.newMonotonicUlid("FV"),
+                original.getId(),
+                kind.name(),
+                original.getStorageType().name(),
+                storageKey,
+                mime,
+                width,
+                height,
+                byteSize
+        ) > 0;
+    }
 
-        try {
-            // 2차 방어선: 데이터베이스 유니크 제약 조건을 활용한 멱등성 보장
-            variantRepo.saveAndFlush(v);
-        } catch (DataIntegrityViolationException ignore) {
-            // 다른 워커나 스레드가 찰나의 순간에 먼저 데이터를 넣었을 경우, 예외를 무시하고 정상 처리로 간주합니다.
+    /**
+     * 동일한 파생 자산이 이미 기록되어 있는지 확인합니다.
+     * 반응형 사다리 단(RESPONSIVE_*)은 kind가 같아도 폭(width)이 다르면 별개의 자산으로 취급합니다.
+     *
+     * @param fileId 원본 파일 ID
+     * @param kind 파생 자산 종류
+     * @param width 사다리 단의 폭 (사다리 단이 아니면 무시)
+     * @return 이미 존재하면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean exists(String fileId, FileVariantKind kind, @Nullable Integer width) {
+        if (ResponsiveLadder.isLadderKind(kind)) {
+            return width != null && variantRepo.existsByOriginal_idAndKindAndWidth(fileId, kind, width);
         }
+        return variantRepo.existsByOriginal_idAndKind(fileId, kind);
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,6 +30,7 @@ import java.util.List;
 public class VariantWorker {
 
     private final StoredFileRepository files;
+    private final ResponsiveLadder ladder;
 
     /** * 시스템에 등록된 모든 도메인별 변환 프로세서(Image, Video 등)
      */
@@ -72,7 +74,7 @@ public class VariantWorker {
 
     /**
      * 작업 명세서의 요청에 따라 최종적으로 생성해야 할 변환 타겟 목록을 산출합니다.
-     * 명시적인 타겟 목록이 우선하며, 없을 경우 프리셋 설정을 따릅니다.
+     * 명시적인 타겟 목록이 우선하며, 없을 경우 프리셋 설정과 반응형 사다리의 eager 단을 따릅니다.
      *
      * @param job 수신된 작업 명세 객체
      * @param contentType 원본 파일의 MIME 타입
@@ -83,7 +85,11 @@ public class VariantWorker {
             return job.targets();
         }
         if (job.preset() != null && !job.preset().isBlank()) {
-            return VariantPreset.valueOf(job.preset()).resolveTargets(contentType);
+            var preset = VariantPreset.valueOf(job.preset());
+            // 프리셋 고정 타겟 + 반응형 사다리 중 즉시 생성(eager) 단
+            List<VariantProcessCmd.Target> targets = new ArrayList<>(preset.resolveTargets(contentType));
+            targets.addAll(ladder.eagerTargets(preset, contentType));
+            return targets;
         }
         return List.of();
     }
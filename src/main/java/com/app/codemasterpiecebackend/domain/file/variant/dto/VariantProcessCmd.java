@@ -19,5 +19,6 @@ public record VariantProcessCmd(
         public static Target AVIF() { return Target.builder().kind(FileVariantKind.AVIF).build(); }
         public static Target THUMB_512() { return Target.builder().kind(FileVariantKind.THUMB_512).width(512).build(); }
         public static Target THUMB_256() { return Target.builder().kind(FileVariantKind.THUMB_256).width(256).build(); }
+        public static Target RESPONSIVE(FileVariantKind kind, int width) { return Target.builder().kind(kind).width(width).build(); }
     }
 }
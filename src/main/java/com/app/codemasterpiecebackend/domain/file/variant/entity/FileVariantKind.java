@@ -5,6 +5,10 @@ public enum FileVariantKind {
     THUMB_512,
     WEBP,
     AVIF,
+    /** 반응형 폭 사다리(width ladder)의 WebP 단. 단의 구분은 width 컬럼으로 한다. */
+    RESPONSIVE_WEBP,
+    /** 반응형 폭 사다리(width ladder)의 AVIF 단. 단의 구분은 width 컬럼으로 한다. */
+    RESPONSIVE_AVIF,
     PDF_PREVIEW,
     VIDEO_POSTER
 }
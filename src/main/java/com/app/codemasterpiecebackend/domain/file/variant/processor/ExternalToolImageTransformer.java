@@ -1,8 +1,13 @@
 package com.app.codemasterpiecebackend.domain.file.variant.processor;
 
+import com.app.codemasterpiecebackend.global.util.ImageProbe;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -51,7 +56,58 @@ public class ExternalToolImageTransformer implements ImageTransformer {
                 original, ".webp",
                 List.of(cwebp, "-q", "82", "-mt", "-resize", String.valueOf(maxWidth), "0", "@IN@", "-o", "@OUT@")
         );
-        return new ResizeResult(out, maxWidth, 0);
+        // 세로는 원본 비율에 따라 결정되므로 결과 파일 헤더에서 실제 크기를 판별
+        return ImageProbe.probe(out.toPath())
+                .map(d -> new ResizeResult(out, d.width(), d.height()))
+                .orElseGet(() -> new ResizeResult(out, maxWidth, null));
+    }
+
+    /**
+     * avifenc는 리사이즈 옵션이 없으므로, 축소한 무손실 PNG 중간 파일을 만든 뒤 인코딩합니다.
+     * 중간 파일 생성에는 JDK ImageIO를 사용하므로 ImageIO가 읽을 수 있는 원본(JPEG/PNG/GIF 등)만 지원합니다.
+     */
+    @Override
+    public ResizeResult resizeAvif(File original, int maxWidth) throws IOException {
+        File scaled = scaleToPng(original, maxWidth);
+        try {
+            File out = runWithTemp(
+                    scaled, ".avif",
+                    List.of(avifenc, "--min", "25", "--max", "35", "--speed", "6", "@IN@", "@OUT@")
+            );
+            return ImageProbe.probe(out.toPath())
+                    .map(d -> new ResizeResult(out, d.width(), d.height()))
+                    .orElseGet(() -> new ResizeResult(out, maxWidth, null));
+        } finally {
+            scaled.delete();
+        }
+    }
+
+    private static File scaleToPng(File in, int maxWidth) throws IOException {
+        BufferedImage src = ImageIO.read(in);
+        if (src == null) {
+            throw new IOException("Unsupported source for AVIF resize: " + in.getName());
+        }
+
+        int w = Math.min(maxWidth, src.getWidth());
+        int h = Math.max(1, (int) Math.round(src.getHeight() * (w / (double) src.getWidth())));
+        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage dst = new BufferedImage(w, h, type);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+
+        File png = createTempFile("img-scaled-", ".png").toFile();
+        if (!ImageIO.write(dst, "png", png)) {
+            png.delete();
+            throw new IOException("PNG writer unavailable");
+        }
+        return png;
     }
 
     /**
@@ -16,6 +16,11 @@ public interface ImageTransformer {
 
     ResizeResult resizeWebp(File original, int maxWidth) throws IOException;
 
+    /**
+     * 원본을 지정 폭으로 축소한 AVIF를 생성합니다. (반응형 사다리 단 생성용)
+     */
+    ResizeResult resizeAvif(File original, int maxWidth) throws IOException;
+
     record ResizeResult(File file, Integer width, Integer height) {
     }
 }
\ No newline at end of file
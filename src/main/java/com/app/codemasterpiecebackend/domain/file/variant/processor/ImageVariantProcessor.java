@@ -2,9 +2,11 @@ package com.app.codemasterpiecebackend.domain.file.variant.processor;
 
 import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
 import com.app.codemasterpiecebackend.global.infra.filesystem.io.IoManager;
+import com.app.codemasterpiecebackend.domain.file.variant.application.ResponsiveLadder;
 import com.app.codemasterpiecebackend.domain.file.variant.application.VariantPersister;
 import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantProcessCmd;
 import com.app.codemasterpiecebackend.global.support.exception.VariantProcessException;
+import com.app.codemasterpiecebackend.global.util.ImageProbe;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -42,7 +44,7 @@ public class ImageVariantProcessor implements VariantProcessor {
 
         File tempOriginal = null;
         try {
-            // 1. S3 원본을 로컬 임시 파일로 1회 스트리밍 (메모리 절약)
+            // 1. 원본을 로컬 임시 파일로 1회 스트리밍 (메모리 절약, 디스크 캐시 적중 시 FileChannel 간 직접 전송)
             tempOriginal = Files.createTempFile("img-orig-", ".bin").toFile();
             try (InputStream in = io.openStream(original.getStorageKey());
                  OutputStream os = new FileOutputStream(tempOriginal)) {
@@ -56,6 +58,16 @@ public class ImageVariantProcessor implements VariantProcessor {
                 var kind = t.kind();
                 File outFile = null;
 
+                // 반응형 사다리 단: 원본보다 크거나 같은 폭은 확대 생성하지 않고, 이미 있으면 재인코딩하지 않음
+                if (ResponsiveLadder.isLadderKind(kind)) {
+                    if (t.width() == null
+                            || (original.getWidth() != null && t.width() >= original.getWidth())
+                            || persister.exists(original.getId(), kind, t.width())) {
+                        log.debug("Ladder rung skipped. fileId={}, kind={}, width={}", original.getId(), kind, t.width());
+                        continue;
+                    }
+                }
+
                 try {
                     String mime;
                     Integer w = null, h = null;
@@ -83,11 +95,39 @@ public class ImageVariantProcessor implements VariantProcessor {
                             w = r.width();
                             h = r.height();
                         }
+                        case RESPONSIVE_WEBP -> {
+                            var r = transformer.resizeWebp(tempOriginal, t.width());
+                            outFile = r.file();
+                            mime = "image/webp";
+                            w = r.width();
+                            h = r.height();
+                        }
+                        case RESPONSIVE_AVIF -> {
+                            var r = transformer.resizeAvif(tempOriginal, t.width());
+                            outFile = r.file();
+                            mime = "image/avif";
+                            w = r.width();
+                            h = r.height();
+                        }
                         default -> throw new VariantProcessException("kind not supported: " + kind);
                     }
 
+                    // 변환기가 크기를 알려주지 않은 경우 결과 파일 헤더에서 실제 크기를 판별
+                    if (w == null || h == null) {
+                        var dims = ImageProbe.probe(outFile.toPath()).orElse(null);
+                        if (dims != null) {
+                            w = dims.width();
+                            h = dims.height();
+                        }
+                    }
+
+                    // 사다리 단은 요청 폭으로 중복 여부를 판별하므로 기록 폭을 요청 폭에 맞춘다
+                    if (ResponsiveLadder.isLadderKind(kind)) {
+                        w = t.width();
+                    }
+
                     String ext = mimeToExt(mime);
-                    String key = buildVariantKey(original, kind.name(), ext);
+                    String key = buildVariantKey(original, kind.name(), w, ext);
                     long fileSize = outFile.length();
 
                     // 3. 변환된 임시 파일을 메모리 버퍼링 없이 S3로 다이렉트 업로드
@@ -135,7 +175,7 @@ public class ImageVariantProcessor implements VariantProcessor {
         };
     }
 
-    private static String buildVariantKey(StoredFile original, String kindUpper, String ext) {
+    private static String buildVariantKey(StoredFile original, String kindUpper, Integer width, String ext) {
         String base = normalizeBasePath(original.getStoragePath());
         String stem = preferredStem(original);
 
@@ -148,6 +188,8 @@ public class ImageVariantProcessor implements VariantProcessor {
             fileName = stem + ".thumb-512." + safe(ext);
         } else if ("THUMB_256".equals(kind)) {
             fileName = stem + ".thumb-256." + safe(ext);
+        } else if (kind.startsWith("RESPONSIVE_") && width != null) {
+            fileName = stem + ".w" + width + "." + safe(ext);
         } else {
             fileName = stem + "." + kind.toLowerCase(Locale.ROOT).replace('_', '-') + "." + safe(ext);
         }
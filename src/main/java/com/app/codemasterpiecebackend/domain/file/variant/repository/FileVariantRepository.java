@@ -4,15 +4,72 @@ import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariant;
 import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FileVariantRepository extends JpaRepository<FileVariant, String> {
     boolean existsByOriginal_idAndKind(String original_id, FileVariantKind kind);
 
+    boolean existsByOriginal_idAndKindAndWidth(String original_id, FileVariantKind kind, Integer width);
+
+    @Query("""
+            select v
+            from FileVariant v
+            where v.original.id = :fileId
+              and v.kind = :kind
+              and v.width = :width
+              and v.status = com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus.ACTIVE
+            """)
+    Optional<FileVariant> findActiveRung(@Param("fileId") String fileId,
+                                         @Param("kind") FileVariantKind kind,
+                                         @Param("width") Integer width);
+
+    /**
+     * 파생 자산을 기록한다. 같은 (file_id, kind, width)가 이미 있으면 아무것도 하지 않는다.
+     * (유니크 인덱스 {@code uq_variant_file_kind_width} 기준. width가 null인 고정 변환본은 충돌 판정 대상이 아니다)
+     *
+     * @return 기록한 행 수 (0이면 다른 워커가 먼저 기록)
+     */
+    @Modifying
+    @Query(value = """
+            insert into tbl_file_variant (variant_id, file_id, kind, storage_type, status, storage_key,
+                                          content_type, width, height, byte_size, created_at, updated_at)
+            values (:id, :fileId, :kind, :storageType, 'ACTIVE', :storageKey,
+                    :contentType, :width, :height, :byteSize, now(), now())
+            on conflict (file_id, kind, width) do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("fileId") String fileId,
+                       @Param("kind") String kind,
+                       @Param("storageType") String storageType,
+                       @Param("storageKey") String storageKey,
+                       @Param("contentType") String contentType,
+                       @Param("width") Integer width,
+                       @Param("height") Integer height,
+                       @Param("byteSize") long byteSize);
+
+    /**
+     * 지연 생성 단(rung)에 대한 요청 수요를 누적한다. (어떤 단을 eager로 승격할지 판단하는 근거)
+     * 버퍼에 모인 사이 원본이 삭제됐으면 아무것도 하지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            insert into tbl_file_variant_demand (file_id, kind, width, hits, first_requested_at, last_requested_at)
+            select :fileId, :kind, :width, 1, now(), now()
+            where exists (select 1 from tbl_file where file_id = :fileId)
+            on conflict (file_id, kind, width)
+            do update set hits = tbl_file_variant_demand.hits + 1,
+                          last_requested_at = now()
+            """, nativeQuery = true)
+    void recordDemand(@Param("fileId") String fileId,
+                      @Param("kind") String kind,
+                      @Param("width") int width);
+
     @Query("""
             select v
             from FileVariant v
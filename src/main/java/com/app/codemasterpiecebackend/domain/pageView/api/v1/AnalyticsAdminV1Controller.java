@@ -0,0 +1,50 @@
+package com.app.codemasterpiecebackend.domain.pageView.api.v1;
+
+import com.app.codemasterpiecebackend.domain.pageView.application.RollupRebuildService;
+import com.app.codemasterpiecebackend.domain.pageView.dto.RollupRebuildStatusDto;
+import com.app.codemasterpiecebackend.global.support.response.SuccessPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 관리 API (v1).
+ * 과거 구간 롤업 재구성: 시작 → 진행 조회 → 재개
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/analytics/rollups/rebuild")
+@PreAuthorize("hasRole('AUTHOR')")
+public class AnalyticsAdminV1Controller {
+
+    private final RollupRebuildService rebuild;
+
+    /**
+     * [from, to] (UTC, 포함) 구간 재구성을 백그라운드로 시작한다.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessPayload<RollupRebuildStatusDto> start(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to
+    ) {
+        return SuccessPayload.of(rebuild.start(from, to));
+    }
+
+    @GetMapping
+    public SuccessPayload<RollupRebuildStatusDto> status() {
+        return SuccessPayload.of(rebuild.status());
+    }
+
+    /**
+     * 중단된 재구성을 체크포인트부터 이어서 처리한다.
+     */
+    @PostMapping("/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessPayload<RollupRebuildStatusDto> resume() {
+        return SuccessPayload.of(rebuild.resume());
+    }
+}
@@ -0,0 +1,61 @@
+package com.app.codemasterpiecebackend.domain.pageView.api.v1;
+
+import com.app.codemasterpiecebackend.domain.pageView.application.AnalyticsExportService;
+import com.app.codemasterpiecebackend.domain.pageView.application.AnalyticsExportService.Format;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvExportDataset;
+import com.app.codemasterpiecebackend.global.support.web.SkipWrap;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 분석 데이터 내보내기 API (v1).
+ * 원본 페이지뷰/롤업을 NDJSON 또는 CSV로 스트리밍하며, 표준 응답 래핑을 거치지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/analytics/export")
+@PreAuthorize("hasRole('AUTHOR')")
+@SkipWrap
+public class AnalyticsExportV1Controller {
+
+    private final AnalyticsExportService exportService;
+
+    /**
+     * [from, to] (UTC, 포함) 구간을 내려받는다. gzip이면 .gz 파일로 압축해 보낸다.
+     */
+    @GetMapping
+    public void export(
+            @RequestParam PvExportDataset dataset,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "NDJSON") Format format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse res
+    ) throws IOException {
+        // 헤더를 쓰기 전에 검증해야 오류를 표준 오류 응답으로 돌려줄 수 있다
+        exportService.check(dataset, from, to);
+
+        String ext = format == Format.CSV ? "csv" : "ndjson";
+        String filename = "%s_%s_%s.%s%s".formatted(
+                dataset.name().toLowerCase(Locale.ROOT), from, to, ext, gzip ? ".gz" : "");
+
+        res.setContentType(gzip ? "application/gzip"
+                : format == Format.CSV ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        res.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        res.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        exportService.export(dataset, from, to, format, gzip, res.getOutputStream());
+    }
+}
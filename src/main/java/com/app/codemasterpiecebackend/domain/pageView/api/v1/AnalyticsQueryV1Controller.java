@@ -2,8 +2,11 @@ package com.app.codemasterpiecebackend.domain.pageView.api.v1;
 
 import com.app.codemasterpiecebackend.global.support.response.SuccessPayload;
 import com.app.codemasterpiecebackend.domain.pageView.application.AnalyticsReadService;
+import com.app.codemasterpiecebackend.domain.pageView.application.LiveVisitorService;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvDimension;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +19,7 @@ import java.time.LocalDate;
 public class AnalyticsQueryV1Controller {
 
     private final AnalyticsReadService service;
+    private final LiveVisitorService live;
 
     @GetMapping("/visitors/day")
     public SuccessPayload<?> byDay(
@@ -43,4 +47,33 @@ public class AnalyticsQueryV1Controller {
         var result = service.getMonthly(from, to);
         return SuccessPayload.of(result);
     }
+
+    @GetMapping("/live")
+    public SuccessPayload<?> live(
+            @RequestParam(required = false) String path
+    ) {
+        var result = live.current(path);
+        return SuccessPayload.of(result);
+    }
+
+    @GetMapping("/top")
+    public SuccessPayload<?> top(
+            @RequestParam PvDimension dim,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        var result = service.getTop(dim, from, to, limit);
+        return SuccessPayload.of(result);
+    }
+
+    @GetMapping("/posts/{postId}/day")
+    public SuccessPayload<?> postByDay(
+            @PathVariable String postId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to
+    ) {
+        var result = service.getPostDaily(postId, from, to);
+        return SuccessPayload.of(result);
+    }
 }
@@ -2,16 +2,31 @@ package com.app.codemasterpiecebackend.domain.pageView.api.v1;
 
 import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
 import com.app.codemasterpiecebackend.domain.pageView.application.AnalyticsService;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/collect")
 public class AnalyticsV1Controller {
+  /** 한 번에 받는 최대 이벤트 수. 초과분은 버린다. */
+  private static final int MAX_BATCH = 50;
+  /** 묶음 본문 최대 크기 */
+  private static final int MAX_BODY_BYTES = 64 * 1024;
+
   private final AnalyticsService service;
+  private final ObjectMapper objectMapper;
 
   @PostMapping
   @ResponseStatus(HttpStatus.ACCEPTED)
@@ -19,4 +34,66 @@ public class AnalyticsV1Controller {
     if (event == null || !"page_view".equalsIgnoreCase(event.type())) return;
     service.ingest(event, req);
   }
+
+  /**
+   * 이벤트 묶음 수집. {@code navigator.sendBeacon}은 preflight 없이 보내기 위해 {@code text/plain}을 쓰므로
+   * 본문을 직접 파싱하며, 배열과 단일 객체를 모두 받는다.
+   *
+   * <p>인증 없는 엔드포인트이므로 본문은 {@value #MAX_BODY_BYTES}바이트(브라우저 sendBeacon 상한)까지만 읽고,
+   * 트리로 만들지 않고 스트리밍 파싱해 {@value #MAX_BATCH}개 요소 이후는 보지 않는다.</p>
+   */
+  @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public void collectBatch(HttpServletRequest req) throws IOException {
+    List<PageViewEvent> events = parse(readBody(req));
+    if (!events.isEmpty()) service.ingestAll(events, req);
+  }
+
+  private static byte[] readBody(HttpServletRequest req) throws IOException {
+    if (req.getContentLengthLong() > MAX_BODY_BYTES) {
+      throw new AppException(HttpStatus.PAYLOAD_TOO_LARGE, "error.analytics.batch_too_large");
+    }
+    // Content-Length가 없거나(chunked) 거짓이어도 상한 + 1바이트까지만 읽는다
+    byte[] body = req.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+    if (body.length > MAX_BODY_BYTES) {
+      throw new AppException(HttpStatus.PAYLOAD_TOO_LARGE, "error.analytics.batch_too_large");
+    }
+    return body;
+  }
+
+  private List<PageViewEvent> parse(byte[] body) {
+    try (JsonParser p = objectMapper.createParser(body)) {
+      JsonToken first = p.nextToken();
+      if (first == null || first == JsonToken.VALUE_NULL) return List.of();
+
+      if (first == JsonToken.START_OBJECT) {
+        PageViewEvent e = objectMapper.readValue(p, PageViewEvent.class);
+        return accept(e) ? List.of(e) : List.of();
+      }
+      if (first != JsonToken.START_ARRAY) {
+        throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.malformed_batch");
+      }
+
+      List<PageViewEvent> out = new ArrayList<>();
+      int seen = 0;
+      JsonToken t;
+      while (seen < MAX_BATCH && (t = p.nextToken()) != JsonToken.END_ARRAY) {
+        if (t == null) throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.malformed_batch");
+        seen++;
+        if (t == JsonToken.START_OBJECT) {
+          PageViewEvent e = objectMapper.readValue(p, PageViewEvent.class);
+          if (accept(e)) out.add(e);
+        } else {
+          p.skipChildren();
+        }
+      }
+      return out;
+    } catch (IOException ex) {
+      throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.malformed_batch");
+    }
+  }
+
+  private static boolean accept(PageViewEvent e) {
+    return e != null && "page_view".equalsIgnoreCase(e.type());
+  }
 }
@@ -0,0 +1,196 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvExportDataset;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.util.CsvWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 원본 페이지뷰/롤업 테이블을 오프라인 분석용으로 내보내는 서비스.
+ *
+ * <p>서버 측 커서로 {@code fetchSize}만큼씩 읽은 행을 곧바로 응답 스트림에 NDJSON 또는 CSV로 쓴다.
+ * 엔티티로 매핑하지 않고 결과 전체를 모으지도 않으므로 메모리 사용량은 행 수와 무관하다.</p>
+ *
+ * <ul>
+ *   <li>배압: 쓰기는 동기식이라 클라이언트가 느리면 소켓 쓰기가 막히고, 그동안 다음 행도 읽지 않는다.</li>
+ *   <li>일정 행마다 플러시하여 응답이 점진적으로 내려간다. 클라이언트가 끊기면 쓰기 예외로 커서를 닫고 중단한다.</li>
+ *   <li>조회 동안 DB 커넥션을 점유하므로 데이터셋별 최대 기간({@link PvExportDataset#maxDays()})으로 묶는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsExportService {
+
+    /** 이 행 수마다 응답을 플러시한다 */
+    private static final int FLUSH_EVERY = 1_000;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final PageViewRepository pvRepo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보낼 구간이 유효한지 검사한다. 응답 헤더를 쓰기 전에 호출한다.
+     */
+    public void check(PvExportDataset dataset, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.invalid_range");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= dataset.maxDays()) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.range_too_long");
+        }
+    }
+
+    /**
+     * [from, to] 구간을 out에 스트리밍한다. out은 닫지 않는다.
+     *
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(PvExportDataset dataset, LocalDate from, LocalDate to,
+                       Format format, boolean gzip, OutputStream out) throws IOException {
+        check(dataset, from, to);
+        long startedNs = System.nanoTime();
+
+        GZIPOutputStream gz = gzip ? new GZIPOutputStream(out, 8192, true) : null;
+        Writer w = new BufferedWriter(new OutputStreamWriter(gz != null ? gz : out, StandardCharsets.UTF_8), 16 * 1024);
+        RowSink sink = format == Format.CSV ? new CsvSink(w, dataset.columns()) : new NdjsonSink(w, dataset.columns());
+
+        long[] rows = {0};
+        try {
+            sink.begin();
+            pvRepo.streamExport(dataset, from, to, row -> {
+                try {
+                    sink.row(row);
+                    if (++rows[0] % FLUSH_EVERY == 0) sink.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            sink.flush();
+            if (gz != null) gz.finish();
+        } catch (RuntimeException e) {
+            // 행 처리 중 쓰기 예외는 매퍼 예외로 감싸여 올라온다 → 클라이언트 연결 종료로 보고 원인을 되던진다
+            IOException io = ioCause(e);
+            if (io == null) throw e;
+            log.info("[PV EXPORT] aborted dataset={} rows={} cause={}", dataset, rows[0], io.toString());
+            throw io;
+        }
+
+        log.info("[PV EXPORT] dataset={} range={}..{} format={} gzip={} rows={} elapsedMs={}",
+                dataset, from, to, format, gzip, rows[0], (System.nanoTime() - startedNs) / 1_000_000);
+        return rows[0];
+    }
+
+    private static IOException ioCause(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof IOException io) return io;
+        }
+        return null;
+    }
+
+    /**
+     * JDBC 값을 내보내기 표현으로 정규화한다. (시각은 ISO-8601 UTC, 날짜는 yyyy-MM-dd)
+     */
+    private static Object normalize(Object v) {
+        if (v instanceof Timestamp t) return t.toInstant().toString();
+        if (v instanceof OffsetDateTime o) return o.toInstant().toString();
+        if (v instanceof java.sql.Date d) return d.toLocalDate().toString();
+        return v;
+    }
+
+    private interface RowSink {
+        void begin() throws IOException;
+
+        void row(Map<String, Object> row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvSink implements RowSink {
+        private final Writer w;
+        private final CsvWriter csv;
+        private final List<String> columns;
+        private final List<Object> values;
+
+        CsvSink(Writer w, List<String> columns) {
+            this.w = w;
+            this.csv = new CsvWriter(w);
+            this.columns = columns;
+            this.values = new ArrayList<>(columns.size());
+        }
+
+        @Override
+        public void begin() throws IOException {
+            csv.writeRow(columns);
+        }
+
+        @Override
+        public void row(Map<String, Object> row) throws IOException {
+            values.clear();
+            for (String c : columns) values.add(normalize(row.get(c)));
+            csv.writeRow(values);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            w.flush();
+        }
+    }
+
+    private final class NdjsonSink implements RowSink {
+        private final JsonGenerator gen;
+        private final List<String> columns;
+
+        NdjsonSink(Writer w, List<String> columns) throws IOException {
+            this.gen = objectMapper.getFactory().createGenerator(w);
+            this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.gen.setRootValueSeparator(null); // 줄 구분은 직접 쓴다
+            this.columns = columns;
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void row(Map<String, Object> row) throws IOException {
+            gen.writeStartObject();
+            for (String c : columns) {
+                gen.writeFieldName(c);
+                Object v = normalize(row.get(c));
+                if (v == null) gen.writeNull();
+                else gen.writeObject(v);
+            }
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        /** 생성기 버퍼를 비우고 감싼 Writer까지 플러시한다 */
+        @Override
+        public void flush() throws IOException {
+            gen.flush();
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.app.codemasterpiecebackend.domain.pageView.application;
 
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvDimTopDto;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvPostTrafficDto;
 import com.app.codemasterpiecebackend.domain.pageView.entity.BaseRollup;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvDimension;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostDaily;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvDimDailyRepository;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvMonthlyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostRefDailyRepository;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvWeeklyRepository;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.util.HyperLogLog;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +37,8 @@ import java.util.stream.Collectors;
  *   <li>{@link #getDaily(LocalDate, LocalDate)}: 일별 시리즈 반환</li>
  *   <li>{@link #getWeekly(LocalDate, LocalDate)}: 주별 시리즈 반환</li>
  *   <li>{@link #getMonthly(LocalDate, LocalDate)}: 월별 시리즈 반환</li>
+ *   <li>{@link #getTop(PvDimension, LocalDate, LocalDate, int)}: 차원별 Top-N 반환 (일간 차원 롤업만 조회)</li>
+ *   <li>{@link #getPostDaily(String, LocalDate, LocalDate)}: 게시글 일별 시리즈 + 기간 uv + 외부 리퍼러 상위 (게시글 롤업만 조회)</li>
  * </ul>
  */
 @Service
@@ -42,9 +57,18 @@ public class AnalyticsReadService {
     public record SeriesPoint(String ts, long views, long uv, long sessions) {
     }
 
+    /** Top-N 조회 최대 기간(일) — 롤업 행 수 기준으로 응답 시간을 묶어 둔다 */
+    private static final int TOP_MAX_DAYS = 366;
+    private static final int TOP_MAX_LIMIT = 100;
+    /** 게시글 트래픽 응답에 담는 외부 리퍼러 호스트 수 */
+    private static final int POST_TOP_REFS = 10;
+
     private final PvDailyRepository dailyRepo;
+    private final PvDimDailyRepository dimRepo;
     private final PvWeeklyRepository weeklyRepo;
     private final PvMonthlyRepository monthlyRepo;
+    private final PvPostDailyRepository postRepo;
+    private final PvPostRefDailyRepository postRefRepo;
 
     /**
      * 지정된 기간(from~to)의 일별 통계를 반환한다.
@@ -97,6 +121,47 @@ public class AnalyticsReadService {
         return out;
     }
 
+    /**
+     * 지정된 기간(from~to)의 차원별 Top-N을 조회수 내림차순으로 반환한다.
+     * 원본 로그가 아닌 일간 차원 롤업만 읽으므로 원본 규모와 무관하게 응답 시간이 일정하다.
+     */
+    public List<PvDimTopDto> getTop(PvDimension dim, LocalDate from, LocalDate to, int limit) {
+        check(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= TOP_MAX_DAYS)
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.range_too_long");
+        int size = Math.max(1, Math.min(limit, TOP_MAX_LIMIT));
+        return dimRepo.findTop(dim, from, to, PageRequest.of(0, size));
+    }
+
+    /**
+     * 지정된 기간(from~to)의 게시글 일별 통계를 반환한다. 데이터가 없는 일자는 0으로 채운다.
+     * 기간 uv는 일자별 스케치를 병합해 구하므로 여러 날 재방문한 방문자를 한 번만 센다.
+     */
+    public PvPostTrafficDto getPostDaily(String postId, LocalDate from, LocalDate to) {
+        check(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= TOP_MAX_DAYS)
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.range_too_long");
+
+        var keys = days(from, to);
+        var rows = postRepo.findSeries(postId, from, to);
+        var map = new HashMap<LocalDate, PvPostDaily>(rows.size() * 2);
+        var cid = new HyperLogLog(PvPostDaily.PRECISION);
+        for (var r : rows) {
+            map.put(r.getId().getKeyDate(), r);
+            cid.merge(HyperLogLog.fromBytes(r.getCidHll()));
+        }
+
+        var series = new ArrayList<PvPostTrafficDto.Point>(keys.size());
+        for (var d : keys) {
+            var r = map.get(d);
+            series.add(r == null
+                    ? new PvPostTrafficDto.Point(d.toString(), 0, 0)
+                    : new PvPostTrafficDto.Point(d.toString(), r.getViews(), r.getUv()));
+        }
+        var refs = postRefRepo.findTop(postId, from, to, PageRequest.of(0, POST_TOP_REFS));
+        return new PvPostTrafficDto(postId, series, cid.estimate(), refs);
+    }
+
     /**
      * 입력된 기간이 유효한지 검사한다.
      *
@@ -1,81 +1,73 @@
 package com.app.codemasterpiecebackend.domain.pageView.application;
 
 import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewHit;
 import com.app.codemasterpiecebackend.domain.pageView.entity.PageView;
-import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import com.app.codemasterpiecebackend.global.support.net.BotClassifier;
 import com.app.codemasterpiecebackend.global.support.net.IpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import nl.basjes.parse.useragent.UserAgent;
-import nl.basjes.parse.useragent.UserAgentAnalyzer;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * 페이지 뷰 이벤트를 수집/정규화/저장하는 서비스.
+ * 페이지 뷰 이벤트를 수집하는 서비스.
  * <p>
- * 프론트엔드에서 들어온 {@link PageViewEvent}를 분석해
- * {@link PageView} 엔티티로 저장한다.
+ * 프론트엔드에서 들어온 {@link PageViewEvent}를 요청 스레드에서는 최소한으로만 처리하고
+ * {@link PageViewIngestPipeline}에 넘긴다. 보강과 {@link PageView} 적재는 파이프라인 워커가 일괄 수행한다.
  * <ul>
- *   <li>Bot 필터링 (User-Agent 기반)</li>
- *   <li>IP 해석 및 마스킹/해시 (via {@link IpResolver})</li>
- *   <li>User-Agent 파싱 (브라우저/OS/디바이스)</li>
- *   <li>UTC 기준 타임라인 보정</li>
- *   <li>UTM 파라미터 정규화</li>
+ *   <li>요청 스레드: IP 해석 및 마스킹 (via {@link IpResolver}), 수신 시각 기록, 실시간 방문자 윈도우 반영 (via {@link LiveVisitorService})</li>
+ *   <li>요청 스레드: 빠른 봇 판별(토큰/CIDR, via {@link BotClassifier}) — 봇은 실시간 집계에서 빼고, 버리기 설정이면 버퍼에도 넣지 않음</li>
+ *   <li>묶음 수집({@link #ingestAll})은 IP 해석/수신 시각을 묶음당 한 번만 수행하고 버퍼에 연속 적재</li>
+ *   <li>워커: 애매한 UA만 User-Agent 파싱 후 Bot 판별, UTC 타임라인 보정, UTM 정규화, 배치 INSERT</li>
  * </ul>
  */
 @Service
 @RequiredArgsConstructor
 public class AnalyticsService {
-    private final PageViewRepository repo;
+    private final PageViewIngestPipeline pipeline;
     private final IpResolver ipResolver;
-    private final UserAgentAnalyzer uaa;
+    private final LiveVisitorService live;
+    private final BotClassifier bots;
 
-    public void ingest(PageViewEvent e, HttpServletRequest req) {
-        // 1) IP
+    /**
+     * 이벤트를 수집 버퍼에 적재한다. 버퍼가 가득 차면 대기하지 않고 버린다.
+     *
+     * @return 버퍼에 적재되었으면 true
+     */
+    public boolean ingest(PageViewEvent e, HttpServletRequest req) {
+        // IP는 요청 헤더가 필요하므로 요청 스레드에서 확정
         var ip = ipResolver.resolve(req);
+        var now = Instant.now();
 
-        // 2) UA 파싱
-        UserAgent ua = uaa.parse(e.ua());
-        String device = ua.getValue("DeviceClass");
-        boolean isBot = "Robot".equalsIgnoreCase(device);
+        boolean obviousBot = bots.fastCheck(e.ua(), ip.maskedIp()) != null;
+        if (obviousBot && bots.isDropEnabled()) return false;
+        if (!obviousBot) live.record(e, now.toEpochMilli());
 
-        // 3) 타임라인: 모두 UTC Instant로
-        Instant occurred = (e.ts() != null)
-                ? Instant.ofEpochMilli(e.ts())
-                : Instant.now();
-        Instant received = Instant.now();
-
-        PageView pv = PageView.builder()
-                .occurredAt(occurred)
-                .receivedAt(received)
-                .cid(e.cid())
-                .sid(e.sid())
-                .url(e.url())
-                .ref(e.ref())
-                .title(e.title())
-                .lang(e.lang())
-                .device(device)
-                .browser(ua.getValue("AgentName"))
-                .os(ua.getValue("OperatingSystemName"))
-                .viewportW(e.vp() != null ? e.vp().w() : null)
-                .viewportH(e.vp() != null ? e.vp().h() : null)
-                .ipMasked(ip.maskedIp())
-                .utmSource(val(e.utm(), "utm_source"))
-                .utmMedium(val(e.utm(), "utm_medium"))
-                .utmCampaign(val(e.utm(), "utm_campaign"))
-                .utmTerm(val(e.utm(), "utm_term"))
-                .utmContent(val(e.utm(), "utm_content"))
-                .build();
-
-        if (isBot) pv.markBot();
-
-        repo.save(pv);
+        return pipeline.offer(new PageViewHit(e, ip.maskedIp(), now));
     }
 
-    private static String val(java.util.Map<String, String> m, String k) {
-        return m != null ? m.get(k) : null;
+    /**
+     * 한 요청에 묶여 온 이벤트들을 적재한다. IP 해석과 수신 시각은 묶음당 한 번만 확정한다.
+     *
+     * @return 버퍼(또는 스풀)에 적재된 건수
+     */
+    public int ingestAll(List<PageViewEvent> events, HttpServletRequest req) {
+        var ip = ipResolver.resolve(req);
+        var now = Instant.now();
+        long nowMillis = now.toEpochMilli();
+        boolean dropBots = bots.isDropEnabled();
+
+        List<PageViewHit> hits = new ArrayList<>(events.size());
+        for (PageViewEvent e : events) {
+            boolean obviousBot = bots.fastCheck(e.ua(), ip.maskedIp()) != null;
+            if (obviousBot && dropBots) continue;
+            if (!obviousBot) live.record(e, nowMillis);
+            hits.add(new PageViewHit(e, ip.maskedIp(), now));
+        }
+        return hits.isEmpty() ? 0 : pipeline.offerAll(hits);
     }
 }
-
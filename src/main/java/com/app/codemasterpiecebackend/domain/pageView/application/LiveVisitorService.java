@@ -0,0 +1,176 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.LiveVisitorsDto;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
+import com.app.codemasterpiecebackend.global.infra.redis.RedisOps;
+import com.app.codemasterpiecebackend.global.util.HyperLogLog;
+import com.app.codemasterpiecebackend.global.util.SlidingDistinctWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.Pipeline;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 활성 방문자("지금 보고 있는 사람") 집계.
+ *
+ * <p>수집 경로에서 세션 ID를 노드 로컬 슬라이딩 윈도우({@link SlidingDistinctWindow}, 기본 5분 = 10초 x 30)에 넣는다.
+ * 전체 윈도우와 경로별 윈도우를 두며, DB는 건드리지 않는다.</p>
+ *
+ * <ul>
+ *   <li>발행: 주기적으로 윈도우 스케치를 노드별 키({@code analytics:live:node:{노드 ID}:all|path:...})에 TTL과 함께 기록하고,
+ *   노드 목록 ZSET({@code analytics:live:nodes}, score = 발행 시각)을 갱신 — {@link #publish()}</li>
+ *   <li>조회: 최근 발행한 노드 ID만 ZSET에서 골라 그 노드들의 키를 MGET으로 읽고 로컬 스케치와 병합해 추정
+ *   — Redis 장애 시 로컬 값만 반환</li>
+ * </ul>
+ *
+ * <p>종료/재시작한 노드의 키는 TTL로, 노드 목록의 항목은 발행 때마다 오래된 것부터 지워지므로 배포가 반복돼도 쌓이지 않는다.</p>
+ *
+ * <p>Redis 값: {@code [발행 시각(ms):8바이트][HyperLogLog 직렬화]}</p>
+ */
+@Slf4j
+@Service
+public class LiveVisitorService {
+
+    private static final String KEY_NODES = "analytics:live:nodes";
+    private static final String KEY_NODE_PREFIX = "analytics:live:node:";
+    private static final int PRECISION = 10; // 1,024 레지스터, 표준 오차 약 3.2%
+
+    private final RedisOps redis;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int maxPaths;
+    private final long staleMillis;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SlidingDistinctWindow all;
+    private final ConcurrentHashMap<String, SlidingDistinctWindow> byPath = new ConcurrentHashMap<>();
+
+    public LiveVisitorService(
+            RedisOps redis,
+            @Value("${app.analytics.live.bucket:10s}") Duration bucket,
+            @Value("${app.analytics.live.window:5m}") Duration window,
+            @Value("${app.analytics.live.max-paths:1024}") int maxPaths,
+            @Value("${app.analytics.live.publish-interval-ms:5000}") long publishIntervalMs
+    ) {
+        this.redis = redis;
+        this.bucketMillis = bucket.toMillis();
+        this.bucketCount = (int) Math.max(1, window.toMillis() / bucketMillis);
+        this.maxPaths = maxPaths;
+        // 발행 두 번을 놓친 노드의 스케치는 버린다
+        this.staleMillis = publishIntervalMs * 3;
+        this.all = newWindow();
+    }
+
+    /**
+     * 수집 이벤트를 윈도우에 반영한다. (요청 스레드, 잠금 없음)
+     */
+    public void record(PageViewEvent e, long nowMillis) {
+        String visitor = e.sid() != null ? e.sid() : e.cid();
+        if (visitor == null) return;
+        all.add(visitor, nowMillis);
+
+        String path = pathOf(e.url());
+        if (path == null) return;
+        SlidingDistinctWindow w = byPath.get(path);
+        if (w == null) {
+            if (byPath.size() >= maxPaths) return;
+            w = byPath.computeIfAbsent(path, k -> newWindow());
+        }
+        w.add(visitor, nowMillis);
+    }
+
+    /**
+     * 활성 방문자 수. path가 null이면 전체.
+     */
+    public LiveVisitorsDto current(String path) {
+        long now = System.currentTimeMillis();
+        long windowSeconds = all.windowMillis() / 1000;
+
+        SlidingDistinctWindow local = path == null ? all : byPath.get(path);
+        HyperLogLog merged = local != null ? local.snapshot(now) : new HyperLogLog(PRECISION);
+        int nodes = 1;
+
+        try {
+            List<byte[]> values = redis.execute("live.read", jedis -> {
+                List<byte[]> keys = new ArrayList<>();
+                for (String node : jedis.zrangeByScore(KEY_NODES, now - staleMillis, Double.POSITIVE_INFINITY)) {
+                    if (node.equals(nodeId)) continue; // 로컬은 최신 스냅샷 사용
+                    keys.add(keyOf(node, path));
+                }
+                return keys.isEmpty() ? List.of() : jedis.mget(keys.toArray(byte[][]::new));
+            });
+            for (byte[] value : values) {
+                if (value == null) continue; // 해당 경로를 발행하지 않은 노드
+                ByteBuffer buf = ByteBuffer.wrap(value);
+                if (buf.remaining() <= Long.BYTES || now - buf.getLong() > staleMillis) continue;
+                byte[] sketch = new byte[buf.remaining()];
+                buf.get(sketch);
+                merged.merge(HyperLogLog.fromBytes(sketch));
+                nodes++;
+            }
+        } catch (Exception ex) {
+            log.debug("Live visitors: Redis read failed, local only: {}", ex.toString());
+        }
+        return new LiveVisitorsDto(path, merged.estimate(), windowSeconds, nodes);
+    }
+
+    /**
+     * 로컬 윈도우 스케치를 Redis에 발행하고, 한가해진 경로 윈도우를 정리한다.
+     */
+    public void publish() {
+        long now = System.currentTimeMillis();
+        byPath.entrySet().removeIf(en -> en.getValue().isIdle(now));
+
+        int ttlSeconds = (int) Math.max(1, staleMillis / 1000);
+        try {
+            redis.run("live.publish", jedis -> {
+                var p = jedis.pipelined();
+                write(p, keyOf(nodeId, null), all.snapshot(now), now, ttlSeconds);
+                byPath.forEach((path, w) -> write(p, keyOf(nodeId, path), w.snapshot(now), now, ttlSeconds));
+                p.zadd(KEY_NODES, now, nodeId);
+                p.zremrangeByScore(KEY_NODES, Double.NEGATIVE_INFINITY, now - staleMillis);
+                p.expire(KEY_NODES, ttlSeconds);
+                p.sync();
+            });
+        } catch (Exception ex) {
+            log.warn("Live visitors: Redis publish failed: {}", ex.toString());
+        }
+    }
+
+    private static void write(Pipeline p, byte[] key, HyperLogLog sketch, long now, int ttlSeconds) {
+        byte[] bytes = sketch.toBytes();
+        byte[] value = ByteBuffer.allocate(Long.BYTES + bytes.length).putLong(now).put(bytes).array();
+        p.setex(key, ttlSeconds, value);
+    }
+
+    /**
+     * 노드별 스케치 키. path가 null이면 전체.
+     */
+    private static byte[] keyOf(String node, String path) {
+        String key = KEY_NODE_PREFIX + node + (path == null ? ":all" : ":path:" + path);
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private SlidingDistinctWindow newWindow() {
+        return new SlidingDistinctWindow(PRECISION, bucketMillis, bucketCount);
+    }
+
+    private static String pathOf(String url) {
+        if (url == null) return null;
+        try {
+            String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? null : path;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
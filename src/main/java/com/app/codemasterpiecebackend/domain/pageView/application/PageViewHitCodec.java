@@ -0,0 +1,127 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewHit;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 스풀 기록용 {@link PageViewHit} 이진 직렬화.
+ * <p>버전 바이트로 시작하며, 문자열은 길이(-1=null) + UTF-8 바이트로 기록한다.</p>
+ */
+final class PageViewHitCodec {
+
+    private static final byte VERSION = 1;
+
+    private PageViewHitCodec() {
+    }
+
+    static byte[] encode(PageViewHit hit) {
+        try {
+            var bytes = new ByteArrayOutputStream(256);
+            var out = new DataOutputStream(bytes);
+            PageViewEvent e = hit.event();
+
+            out.writeByte(VERSION);
+            out.writeLong(hit.receivedAt().toEpochMilli());
+            writeString(out, hit.ipMasked());
+
+            writeString(out, e.type());
+            out.writeBoolean(e.ts() != null);
+            if (e.ts() != null) out.writeLong(e.ts());
+            writeString(out, e.cid());
+            writeString(out, e.sid());
+            writeString(out, e.url());
+            writeString(out, e.ref());
+            writeString(out, e.title());
+            writeString(out, e.lang());
+
+            Map<String, String> utm = e.utm();
+            out.writeInt(utm == null ? -1 : utm.size());
+            if (utm != null) {
+                for (var en : utm.entrySet()) {
+                    writeString(out, en.getKey());
+                    writeString(out, en.getValue());
+                }
+            }
+
+            out.writeBoolean(e.vp() != null);
+            if (e.vp() != null) {
+                writeInt(out, e.vp().w());
+                writeInt(out, e.vp().h());
+            }
+            writeString(out, e.ua());
+
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static PageViewHit decode(byte[] data) {
+        try {
+            var in = new DataInputStream(new ByteArrayInputStream(data));
+            byte v = in.readByte();
+            if (v != VERSION) throw new IllegalArgumentException("unsupported spool record version: " + v);
+
+            Instant receivedAt = Instant.ofEpochMilli(in.readLong());
+            String ipMasked = readString(in);
+
+            String type = readString(in);
+            Long ts = in.readBoolean() ? in.readLong() : null;
+            String cid = readString(in);
+            String sid = readString(in);
+            String url = readString(in);
+            String ref = readString(in);
+            String title = readString(in);
+            String lang = readString(in);
+
+            int utmSize = in.readInt();
+            Map<String, String> utm = null;
+            if (utmSize >= 0) {
+                utm = new LinkedHashMap<>(utmSize * 2);
+                for (int i = 0; i < utmSize; i++) utm.put(readString(in), readString(in));
+            }
+
+            PageViewEvent.Viewport vp = in.readBoolean()
+                    ? new PageViewEvent.Viewport(readInt(in), readInt(in))
+                    : null;
+            String ua = readString(in);
+
+            var event = new PageViewEvent(type, ts, cid, sid, url, ref, title, lang, utm, vp, ua);
+            return new PageViewHit(event, ipMasked, receivedAt);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0) return null;
+        return new String(in.readNBytes(len), StandardCharsets.UTF_8);
+    }
+
+    private static void writeInt(DataOutputStream out, Integer v) throws IOException {
+        out.writeBoolean(v != null);
+        if (v != null) out.writeInt(v);
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
@@ -0,0 +1,476 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewHit;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PageView;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import com.app.codemasterpiecebackend.global.infra.spool.MappedSpool;
+import com.app.codemasterpiecebackend.global.support.net.BotClassifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import nl.basjes.parse.useragent.UserAgent;
+import nl.basjes.parse.useragent.UserAgentAnalyzer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 뷰 비동기 일괄 적재 파이프라인.
+ *
+ * <p>요청 스레드는 {@link #offer(PageViewHit)}로 고정 크기 링 버퍼({@link ArrayBlockingQueue})에
+ * 원시 이벤트를 넣고 즉시 반환한다. 버퍼가 가득 차면 대기하지 않고 버린 뒤 {@code analytics.ingest.dropped}로 센다.</p>
+ *
+ * <p>워커 스레드는 건수({@code batch-size}) 또는 시간({@code flush-interval}) 중 먼저 도달한 조건으로 배치를 끊어,
+ * UA 파싱 등 보강 후 한 트랜잭션에서 {@code saveAll}로 적재한다. (JDBC 배치 + 다중 VALUES INSERT)</p>
+ *
+ * <p>스풀({@link MappedSpool})이 구성되어 있으면, 버퍼가 가득 찼거나 배치 INSERT가 실패한(DB 지연/재시작) 이벤트를
+ * 버리지 않고 스풀에 기록한다. 스풀은 {@link #replaySpool()}이 DB 회복 후 배치 단위로 {@code tbl_page_view}에 재적재한다.
+ * 배치 INSERT가 행 오류로 실패하면 배치를 나눠 다시 시도하고, 단건으로도 실패하는 행은 버린다. ({@code analytics.ingest.failed})</p>
+ *
+ * <p>보강 시 봇 판별은 {@link BotClassifier}의 빠른 경로(토큰/CIDR)를 먼저 거치고, 애매한 UA만 yauaa로 분석한다.
+ * {@code app.analytics.bot.drop}이면 봇으로 판별된 이벤트는 적재하지 않는다.</p>
+ *
+ * <p>종료 시 신규 수신을 막고 버퍼에 남은 이벤트를 모두 적재한 뒤 워커를 정지한다.</p>
+ */
+@Slf4j
+@Component
+public class PageViewIngestPipeline implements SmartLifecycle {
+
+    private final PageViewRepository repo;
+    private final UserAgentAnalyzer uaa;
+    private final BotClassifier bots;
+    private final TransactionTemplate tx;
+    /** 없으면 null (app.analytics.spool.enabled=false) */
+    private final MappedSpool spool;
+
+    private final ArrayBlockingQueue<PageViewHit> queue;
+    private final int workers;
+    private final int batchSize;
+    private final long flushNanos;
+
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter persisted;
+    private final Counter failed;
+    private final Counter spooled;
+    private final Counter replayed;
+    private final Counter botFast;
+    private final Counter botUaa;
+    private final Counter botDropped;
+    private final Timer flushTimer;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public PageViewIngestPipeline(PageViewRepository repo,
+                                  UserAgentAnalyzer uaa,
+                                  BotClassifier bots,
+                                  PlatformTransactionManager txManager,
+                                  ObjectProvider<MappedSpool> spool,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.analytics.ingest.capacity:8192}") int capacity,
+                                  @Value("${app.analytics.ingest.workers:2}") int workers,
+                                  @Value("${app.analytics.ingest.batch-size:200}") int batchSize,
+                                  @Value("${app.analytics.ingest.flush-interval:1s}") Duration flushInterval) {
+        this.repo = repo;
+        this.uaa = uaa;
+        this.bots = bots;
+        this.tx = new TransactionTemplate(txManager);
+        this.spool = spool.getIfAvailable();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushNanos = Math.max(1, flushInterval.toNanos());
+
+        this.accepted = meterRegistry.counter("analytics.ingest.accepted");
+        this.dropped = meterRegistry.counter("analytics.ingest.dropped");
+        this.persisted = meterRegistry.counter("analytics.ingest.persisted");
+        this.failed = meterRegistry.counter("analytics.ingest.failed");
+        this.spooled = meterRegistry.counter("analytics.ingest.spooled");
+        this.replayed = meterRegistry.counter("analytics.ingest.replayed");
+        this.botFast = meterRegistry.counter("analytics.ingest.bot", "tier", "fast");
+        this.botUaa = meterRegistry.counter("analytics.ingest.bot", "tier", "uaa");
+        this.botDropped = meterRegistry.counter("analytics.ingest.bot.dropped");
+        this.flushTimer = meterRegistry.timer("analytics.ingest.flush");
+        meterRegistry.gauge("analytics.ingest.queue.size", queue, ArrayBlockingQueue::size);
+        if (this.spool != null) {
+            meterRegistry.gauge("analytics.ingest.spool.pending.bytes", this.spool, MappedSpool::pendingBytes);
+        }
+    }
+
+    /**
+     * 원시 이벤트를 버퍼에 넣는다. 버퍼가 가득 찼으면 스풀에 기록하고, 그마저 불가하면 버리고 false.
+     */
+    public boolean offer(PageViewHit hit) {
+        if (running && queue.offer(hit)) {
+            accepted.increment();
+            return true;
+        }
+        if (toSpool(hit)) {
+            accepted.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 여러 이벤트를 버퍼에 연속으로 넣는다. 버퍼가 차면 나머지는 스풀로 넘기고, 그마저 불가하면 버린다.
+     * <p>{@link ArrayBlockingQueue}에는 비차단 일괄 삽입이 없으므로 건별 offer지만, 카운터 갱신은 묶음당 한 번이다.</p>
+     *
+     * @return 버퍼 또는 스풀에 적재된 건수
+     */
+    public int offerAll(List<PageViewHit> hits) {
+        int ok = 0;
+        int i = 0;
+        int n = hits.size();
+        if (running) {
+            while (i < n && queue.offer(hits.get(i))) i++;
+            ok = i;
+        }
+        for (; i < n; i++) {
+            if (toSpool(hits.get(i))) ok++;
+        }
+        if (ok > 0) accepted.increment(ok);
+        if (ok < n) dropped.increment(n - ok);
+        return ok;
+    }
+
+    /**
+     * 스풀에 쌓인 이벤트를 DB로 재적재한다. DB가 아직 회복되지 않았으면 커서를 그대로 두고 다음 주기로 미룬다.
+     * 실시간 버퍼가 절반 이상 차 있으면 실시간 적재를 우선한다.
+     *
+     * <p>끝내 적재되지 않는 불량 레코드는 {@link #persist(List)}가 골라내 버리므로, 커서는 그 뒤로 넘어간다.
+     * 배치 일부만 적재된 채 DB가 끊기면 남은 레코드를 스풀 끝에 다시 기록하고 커서를 넘긴다. (중복 적재 방지)</p>
+     *
+     * @return 이번 호출에서 재적재한 건수
+     */
+    public int replaySpool() {
+        if (spool == null) return 0;
+
+        int total = 0;
+        while (running && queue.size() < queue.remainingCapacity()) {
+            MappedSpool.Batch batch = spool.poll(batchSize);
+            if (batch.isEmpty()) break;
+
+            List<PageView> rows = new ArrayList<>(batch.records().size());
+            List<byte[]> records = new ArrayList<>(batch.records().size());
+            for (byte[] rec : batch.records()) {
+                try {
+                    PageView row = enrich(PageViewHitCodec.decode(rec));
+                    if (row == null) continue;
+                    rows.add(row);
+                    records.add(rec);
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.debug("PageView spool record skipped: {}", e.toString());
+                }
+            }
+
+            int done = persist(rows);
+            if (done == 0 && !rows.isEmpty()) {
+                log.info("PageView spool replay paused: pendingBytes={}", spool.pendingBytes());
+                break;
+            }
+            int lost = 0;
+            for (int i = done; i < records.size(); i++) {
+                if (!respool(records.get(i))) lost++;
+            }
+            if (lost > 0) failed.increment(lost);
+            spool.commit(batch);
+            replayed.increment(done);
+            total += done;
+            if (done < rows.size()) {
+                log.info("PageView spool replay paused: pendingBytes={}", spool.pendingBytes());
+                break;
+            }
+        }
+        return total;
+    }
+
+    /* ───────── lifecycle ───────── */
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofPlatform()
+                    .name("pv-ingest-" + i)
+                    .daemon(true)
+                    .start(this::runWorker));
+        }
+        log.info("PageView ingest started: workers={}, capacity={}, batchSize={}, flushMs={}",
+                workers, queue.remainingCapacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushNanos));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread t : threads) {
+            try {
+                t.join(TimeUnit.NANOSECONDS.toMillis(flushNanos) + 10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+        if (!queue.isEmpty()) log.warn("PageView ingest stopped with {} events left in buffer", queue.size());
+        if (spool != null) spool.sync();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 정지한다. (종료 중 들어온 요청까지 버퍼에서 소화)
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /* ───────── worker ───────── */
+
+    private void runWorker() {
+        List<PageViewHit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PageViewHit first = queue.poll(flushNanos, TimeUnit.NANOSECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치가 가득 차거나 첫 이벤트 이후 flush-interval이 지날 때까지 버퍼에서 더 모은다.
+     */
+    private void fill(List<PageViewHit> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) continue;
+            long remain = deadline - System.nanoTime();
+            if (remain <= 0 || !running) return;
+            PageViewHit next = queue.poll(remain, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PageViewHit> batch) {
+        if (batch.isEmpty()) return;
+
+        List<PageView> rows = new ArrayList<>(batch.size());
+        List<PageViewHit> hits = new ArrayList<>(batch.size());
+        for (PageViewHit hit : batch) {
+            try {
+                PageView row = enrich(hit);
+                if (row == null) continue;
+                rows.add(row);
+                hits.add(hit);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.debug("PageView enrich failed: {}", e.toString());
+            }
+        }
+        int done = persist(rows);
+        if (done == rows.size()) return;
+
+        // DB 지연/장애: 남은 이벤트는 스풀로 넘겨 회복 후 재적재
+        int lost = 0;
+        for (int i = done; i < hits.size(); i++) if (!toSpool(hits.get(i))) lost++;
+        if (lost > 0) failed.increment(lost);
+    }
+
+    /**
+     * 한 트랜잭션으로 일괄 적재한다. 실패하면 배치를 반씩 나눠 다시 시도해, 단건으로도 실패하는 불량 행만 버린다.
+     * (불량 행 하나 때문에 배치 전체가 스풀로 넘어가 재적재를 영구히 막는 일을 방지)
+     *
+     * <p>연결 실패/타임아웃 등 DB 가용성 오류면 그 자리에서 멈춘다. 앞 구간은 적재 또는 폐기가 끝난 상태다.</p>
+     *
+     * @return 처리를 마친 행 수. {@code rows.size()}보다 작으면 그 위치부터는 DB 장애로 적재하지 못한 행이다
+     */
+    private int persist(List<PageView> rows) {
+        if (rows.isEmpty()) return 0;
+        long startedNs = System.nanoTime();
+        try {
+            RuntimeException err = insert(rows);
+            if (err == null) return rows.size();
+            log.warn("PageView batch insert failed: size={}, err={}", rows.size(), err.toString());
+            if (isUnavailable(err)) return 0;
+            if (rows.size() == 1) {
+                drop(rows.get(0), err);
+                return 1;
+            }
+            return bisect(rows, 0, rows.size());
+        } finally {
+            flushTimer.record(System.nanoTime() - startedNs, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 실패한 구간 {@code rows[from, to)}를 반씩 나눠 다시 적재한다.
+     * 실패한 INSERT에서 이미 ID가 채번된 엔티티이므로 사본으로 저장한다.
+     *
+     * @return 처리를 마친 위치 (DB 장애로 멈추면 그 구간의 시작, 아니면 to)
+     */
+    private int bisect(List<PageView> rows, int from, int to) {
+        int mid = (from + to) >>> 1;
+        for (int[] half : new int[][]{{from, mid}, {mid, to}}) {
+            List<PageView> part = new ArrayList<>(half[1] - half[0]);
+            for (int i = half[0]; i < half[1]; i++) part.add(rows.get(i).retryCopy());
+            RuntimeException err = insert(part);
+            if (err == null) continue;
+            if (isUnavailable(err)) return half[0];
+            if (part.size() == 1) {
+                drop(part.get(0), err);
+                continue;
+            }
+            int done = bisect(rows, half[0], half[1]);
+            if (done < half[1]) return done;
+        }
+        return to;
+    }
+
+    /**
+     * @return 실패하면 그 예외, 성공하면 null
+     */
+    private RuntimeException insert(List<PageView> rows) {
+        try {
+            tx.executeWithoutResult(s -> repo.saveAll(rows));
+            persisted.increment(rows.size());
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void drop(PageView row, RuntimeException err) {
+        failed.increment();
+        log.warn("PageView row dropped: url={}, err={}", row.getUrl(), err.toString());
+    }
+
+    /**
+     * 재시도해도 같은 결과일 행 오류(제약 위반 등)가 아니라 DB 가용성 문제인지.
+     */
+    private static boolean isUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof NonTransientDataAccessResourceException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private boolean toSpool(PageViewHit hit) {
+        if (spool == null) return false;
+        try {
+            return respool(PageViewHitCodec.encode(hit));
+        } catch (RuntimeException e) {
+            log.debug("PageView spool encode failed: {}", e.toString());
+            return false;
+        }
+    }
+
+    private boolean respool(byte[] record) {
+        try {
+            if (!spool.append(record)) return false;
+        } catch (RuntimeException e) {
+            log.debug("PageView spool append failed: {}", e.toString());
+            return false;
+        }
+        spooled.increment();
+        return true;
+    }
+
+    /**
+     * 봇 판별/UA 파싱/타임라인 보정/UTM 정규화를 거쳐 엔티티로 변환한다.
+     *
+     * @return 봇이라 버려야 하면 null
+     */
+    private PageView enrich(PageViewHit hit) {
+        PageViewEvent e = hit.event();
+
+        String device;
+        String browser = null;
+        String os = null;
+        boolean isBot;
+        if (bots.fastCheck(e.ua(), hit.ipMasked()) != null) {
+            // 확실한 봇: 전체 UA 분석 생략
+            device = "Robot";
+            isBot = true;
+            botFast.increment();
+        } else {
+            UserAgent ua = uaa.parse(e.ua());
+            device = ua.getValue("DeviceClass");
+            browser = ua.getValue("AgentName");
+            os = ua.getValue("OperatingSystemName");
+            isBot = BotClassifier.isRobotDeviceClass(device);
+            if (isBot) botUaa.increment();
+        }
+        if (isBot && bots.isDropEnabled()) {
+            botDropped.increment();
+            return null;
+        }
+
+        // 타임라인: 모두 UTC Instant로
+        Instant occurred = (e.ts() != null)
+                ? Instant.ofEpochMilli(e.ts())
+                : hit.receivedAt();
+
+        PageView pv = PageView.builder()
+                .occurredAt(occurred)
+                .receivedAt(hit.receivedAt())
+                .cid(e.cid())
+                .sid(e.sid())
+                .url(e.url())
+                .ref(e.ref())
+                .title(e.title())
+                .lang(e.lang())
+                .device(device)
+                .browser(browser)
+                .os(os)
+                .viewportW(e.vp() != null ? e.vp().w() : null)
+                .viewportH(e.vp() != null ? e.vp().h() : null)
+                .ipMasked(hit.ipMasked())
+                .utmSource(val(e.utm(), "utm_source"))
+                .utmMedium(val(e.utm(), "utm_medium"))
+                .utmCampaign(val(e.utm(), "utm_campaign"))
+                .utmTerm(val(e.utm(), "utm_term"))
+                .utmContent(val(e.utm(), "utm_content"))
+                .build();
+
+        if (isBot) pv.markBot();
+        return pv;
+    }
+
+    private static String val(Map<String, String> m, String k) {
+        return m != null ? m.get(k) : null;
+    }
+}
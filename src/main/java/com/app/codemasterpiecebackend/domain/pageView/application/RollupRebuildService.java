@@ -0,0 +1,230 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.RollupRebuildStatusDto;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvRebuildCheckpoint;
+import com.app.codemasterpiecebackend.domain.pageView.job.PageViewRetentionScheduler;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvRebuildCheckpointRepository;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 과거 구간의 일/주/월 롤업을 원본에서 다시 만드는 관리자용 배치.
+ *
+ * <p>봇 규칙 변경이나 적재 버그 수정 후 지난 집계를 바로잡는 용도다. 구간을 일자 작업으로 쪼개
+ * 제한된 병렬도({@code app.analytics.rebuild.parallelism})의 풀에서 실행하며, 각 일자는
+ * {@link RollupService#rebuildDay(LocalDate)} 호출 단위의 개별 트랜잭션이다. 일자가 모두 끝나면
+ * 구간에 걸친 주/월 롤업을 일간 스케치 병합으로 다시 산출한다.</p>
+ *
+ * <ul>
+ *   <li>원본 보존 기간({@link PageViewRetentionScheduler#RAW_RETENTION_DAYS}) 밖의 일자는 원본이 없으므로 거부한다.</li>
+ *   <li>오름차순 청크 단위로 체크포인트를 기록하여, 중단된 실행은 {@link #resume()}으로 이어서 처리한다.</li>
+ *   <li>노드당 한 번에 하나의 실행만 허용한다. 실시간 적재와 커넥션 풀을 나눠 쓰므로 병렬도는 작게 유지한다.</li>
+ *   <li>일자마다 {@link RollupService}의 일자 잠금을 잡으므로, 정기 롤업이 같은 일자를 처리 중이면 끝날 때까지 기다린다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RollupRebuildService {
+
+    private static final String REBUILD_JOB = "PV_ROLLUP_REBUILD";
+
+    private final RollupService rollup;
+    private final PvRebuildCheckpointRepository checkpoints;
+
+    /** 일자 작업의 최대 동시 실행 수 */
+    @Value("${app.analytics.rebuild.parallelism:2}")
+    private int parallelism;
+
+    /** 체크포인트를 기록하는 청크당 일자 수 */
+    @Value("${app.analytics.rebuild.chunk-days:7}")
+    private int chunkDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * [from, to] 구간 재구성을 백그라운드로 시작한다. 이전 실행의 체크포인트는 새 구간으로 초기화된다.
+     *
+     * @return 시작 시점의 진행 상황
+     */
+    public RollupRebuildStatusDto start(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate oldest = today.minusDays(PageViewRetentionScheduler.RAW_RETENTION_DAYS - 1);
+        if (from.isAfter(to) || to.isAfter(today)) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.invalid_range");
+        }
+        if (from.isBefore(oldest)) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "error.analytics.rebuild_out_of_retention");
+        }
+        acquire();
+
+        try {
+            var now = Instant.now();
+            var cp = checkpoints.findById(REBUILD_JOB).orElse(null);
+            if (cp == null) {
+                cp = PvRebuildCheckpoint.start(REBUILD_JOB, from, to, now);
+            } else {
+                cp.restart(from, to, now);
+            }
+            cp = checkpoints.save(cp);
+            launch(cp, false);
+            return toStatus(cp);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 중단된 실행을 체크포인트의 커서부터 이어서 처리한다.
+     */
+    public RollupRebuildStatusDto resume() {
+        var cp = checkpoints.findById(REBUILD_JOB)
+                .filter(PvRebuildCheckpoint::isInProgress)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "error.analytics.rebuild_not_found"));
+        acquire();
+        launch(cp, true);
+        return toStatus(cp);
+    }
+
+    /**
+     * 현재(또는 마지막) 실행의 진행 상황
+     */
+    public RollupRebuildStatusDto status() {
+        return checkpoints.findById(REBUILD_JOB)
+                .map(this::toStatus)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "error.analytics.rebuild_not_found"));
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new AppException(HttpStatus.CONFLICT, "error.analytics.rebuild_running");
+        }
+    }
+
+    private void launch(PvRebuildCheckpoint cp, boolean resumed) {
+        Thread.ofPlatform().name("pv-rebuild").daemon(true).start(() -> {
+            try {
+                run(cp, resumed);
+            } catch (RuntimeException e) {
+                log.error("[PV REBUILD] aborted at {}. resume with the checkpoint", cp.getNextDate(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void run(PvRebuildCheckpoint cp, boolean resumed) {
+        long startedNs = System.nanoTime();
+        log.info("[PV REBUILD] {} range={}..{} next={} parallelism={}",
+                resumed ? "resume" : "start", cp.getFromDate(), cp.getToDate(), cp.getNextDate(), parallelism);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism))) {
+            // 1) 일자: 청크 단위 병렬 재구성 → 청크가 끝날 때마다 커서 전진
+            while (!cp.getNextDate().isAfter(cp.getToDate())) {
+                LocalDate chunkEnd = min(cp.getNextDate().plusDays(Math.max(1, chunkDays) - 1), cp.getToDate());
+
+                Map<LocalDate, Future<?>> tasks = new LinkedHashMap<>();
+                for (LocalDate d = cp.getNextDate(); !d.isAfter(chunkEnd); d = d.plusDays(1)) {
+                    LocalDate day = d;
+                    tasks.put(day, pool.submit(() -> rollup.rebuildDay(day)));
+                }
+
+                int done = 0;
+                List<LocalDate> failed = new ArrayList<>();
+                for (var en : tasks.entrySet()) {
+                    try {
+                        en.getValue().get();
+                        done++;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("rebuild interrupted", e);
+                    } catch (ExecutionException e) {
+                        failed.add(en.getKey());
+                        log.warn("[PV REBUILD] day {} failed", en.getKey(), e.getCause());
+                    }
+                }
+
+                cp.advance(chunkEnd.plusDays(1), done, failed);
+                checkpoints.save(cp);
+                log.info("[PV REBUILD] progress {}/{} (failed {})", cp.getDoneDays() + cp.getFailedDays(), cp.getTotalDays(), cp.getFailedDays());
+            }
+
+            // 2) 주/월: 구간에 걸친 주/월을 일간 스케치 병합으로 재산출
+            List<Future<?>> derived = new ArrayList<>();
+            for (LocalDate week : weeksOf(cp.getFromDate(), cp.getToDate())) {
+                derived.add(pool.submit(() -> rollup.rollupWeek(week)));
+            }
+            for (YearMonth month : monthsOf(cp.getFromDate(), cp.getToDate())) {
+                derived.add(pool.submit(() -> rollup.rollupMonth(month)));
+            }
+            for (Future<?> f : derived) {
+                try {
+                    f.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("rebuild interrupted", e);
+                } catch (ExecutionException e) {
+                    log.warn("[PV REBUILD] week/month rollup failed", e.getCause());
+                }
+            }
+        }
+
+        cp.finish(Instant.now());
+        checkpoints.save(cp);
+        log.info("[PV REBUILD] finished range={}..{} done={} failed={} elapsedMs={}",
+                cp.getFromDate(), cp.getToDate(), cp.getDoneDays(), cp.getFailedDays(),
+                (System.nanoTime() - startedNs) / 1_000_000);
+    }
+
+    private RollupRebuildStatusDto toStatus(PvRebuildCheckpoint cp) {
+        List<String> failedDates = cp.getFailedDates() == null ? List.of() : Arrays.asList(cp.getFailedDates().split(","));
+        return new RollupRebuildStatusDto(
+                cp.getFromDate(), cp.getToDate(), cp.getNextDate(),
+                cp.getTotalDays(), cp.getDoneDays(), cp.getFailedDays(), failedDates,
+                running.get(), cp.getStartedAt(), cp.getFinishedAt()
+        );
+    }
+
+    private static TreeSet<LocalDate> weeksOf(LocalDate from, LocalDate to) {
+        var weeks = new TreeSet<LocalDate>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            weeks.add(d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        }
+        return weeks;
+    }
+
+    private static TreeSet<YearMonth> monthsOf(LocalDate from, LocalDate to) {
+        var months = new TreeSet<YearMonth>();
+        for (YearMonth m = YearMonth.from(from); !m.isAfter(YearMonth.from(to)); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        return months;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
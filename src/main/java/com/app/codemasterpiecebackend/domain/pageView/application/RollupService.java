@@ -1,53 +1,243 @@
 package com.app.codemasterpiecebackend.domain.pageView.application;
 
 import com.app.codemasterpiecebackend.domain.pageView.dto.PvAggDto;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvHourKey;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvIdRow;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvPostRow;
 import com.app.codemasterpiecebackend.domain.pageView.entity.PvDaily;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvHourly;
 import com.app.codemasterpiecebackend.domain.pageView.entity.PvMonthly;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostDaily;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostRefDaily;
 import com.app.codemasterpiecebackend.domain.pageView.entity.PvWeekly;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvDimDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvHourlyRepository;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvMonthlyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostRefDailyRepository;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PvWeeklyRepository;
+import com.app.codemasterpiecebackend.global.util.HyperLogLog;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
+/**
+ * 페이지뷰 롤업.
+ *
+ * <ul>
+ *   <li>시간(hour): 원본에서 해당 UTC 시간 버킷만 읽어 views + cid/sid HyperLogLog 스케치를 만든다.</li>
+ *   <li>일(day): 시간별 롤업을 병합한다. 원본을 다시 읽지 않는다.</li>
+ *   <li>주/월(week/month): 일간 스케치를 병합한다. 스케치가 없는 날(도입 이전)이 섞여 있으면 원본 스캔으로 대체한다.</li>
+ *   <li>일간 차원(경로/리퍼러/UTM/디바이스 등): 일자가 갱신될 때 해당 일자 파티션을 한 번 훑어 통째로 교체한다.</li>
+ *   <li>게시글별 일간(views/uv 스케치/외부 리퍼러 상위): 게시글 상세 경로만 골라 같은 방식으로 일자 단위 교체한다.</li>
+ * </ul>
+ *
+ * <p>uv/sessions는 스케치 추정값이다. (p=12, 표준 오차 약 1.6%)</p>
+ *
+ * <p>일자를 고치는 작업은 먼저 해당 일자의 advisory 잠금을 잡는다. 정기 롤업과 관리자 재구성
+ * ({@link RollupRebuildService})이 같은 일자를 동시에 다시 만들면 시간별 행 중복 삽입이나 늦게 끝난 쪽의
+ * 오래된 값 덮어쓰기가 생기기 때문이다. 여러 일자를 다루는 경로는 항상 오름차순으로 잠가 교착을 피한다.</p>
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class RollupService {
 
+    /** 시간별 롤업 보존 일수 = 지연 도착 이벤트를 증분 반영하는 기간 */
+    public static final int HOURLY_RETENTION_DAYS = 7;
+
+    /** 일자 롤업 advisory 잠금의 네임스페이스 (2-key 잠금의 첫 번째 키) */
+    private static final int DAY_LOCK_NAMESPACE = 0x50560001;
+
+    private static final List<Short> ALL_HOURS;
+
+    static {
+        var hours = new ArrayList<Short>(24);
+        for (short h = 0; h < 24; h++) hours.add(h);
+        ALL_HOURS = List.copyOf(hours);
+    }
+
     private final PageViewRepository pvRepo;
+    private final PvHourlyRepository hourlyRepo;
     private final PvDailyRepository dailyRepo;
+    private final PvDimDailyRepository dimRepo;
     private final PvWeeklyRepository weeklyRepo;
     private final PvMonthlyRepository monthlyRepo;
+    private final PvPostDailyRepository postRepo;
+    private final PvPostRefDailyRepository postRefRepo;
+
+    /** 게시글 상세 페이지 경로 접두사 (경로 = 접두사 + slug) */
+    @Value("${app.analytics.post.path-prefix:/posts/}")
+    private String postPathPrefix;
+
+    // ===== 증분: 최근 적재분이 닿은 시간 버킷만 재계산 =====
+
+    /**
+     * since 이후 적재된 이벤트가 속한 시간 버킷을 재계산하고 해당 일자를 다시 병합한다.
+     * 시간별 롤업이 아직 없는 날(도입 직후)은 하루 전체를 다시 만든다.
+     *
+     * @param since     적재 시각 하한 (UTC)
+     * @param oldestDay 반영할 가장 오래된 UTC 일자 (그 이전 일자로 지연 도착한 이벤트는 무시)
+     */
+    public void refreshRecent(Instant since, LocalDate oldestDay) {
+        Map<LocalDate, Set<Short>> touched = new TreeMap<>();
+        Instant oldest = oldestDay.atStartOfDay().toInstant(ZoneOffset.UTC);
+        for (PvHourKey k : pvRepo.findTouchedHours(since, oldest)) {
+            LocalDate day = LocalDate.parse(k.day());
+            if (day.isBefore(oldestDay)) continue;
+            touched.computeIfAbsent(day, d -> new TreeSet<>()).add(k.hour());
+        }
+
+        touched.forEach((day, hours) -> {
+            lockDay(day);
+            if (!hourlyRepo.existsByDay(day)) {
+                rebuildDay(day);
+                return;
+            }
+            rollupHours(day, hours);
+            mergeDay(day);
+            rollupDimensions(day);
+            rollupPosts(day);
+        });
+    }
 
     // ===== 일(day) 집계: key = UTC 날짜 =====
+
+    /**
+     * 시간별 롤업을 병합해 일간 롤업을 갱신한다. 시간별 롤업이 없으면 원본에서 다시 만든다.
+     */
     public void rollupDay(LocalDate dayUtc) {
+        lockDay(dayUtc);
+        if (hourlyRepo.existsByDay(dayUtc)) {
+            mergeDay(dayUtc);
+            rollupDimensions(dayUtc);
+            rollupPosts(dayUtc);
+        } else {
+            rebuildDay(dayUtc);
+        }
+    }
+
+    /**
+     * 원본에서 하루치 시간별 롤업을 모두 다시 만든 뒤 일간 롤업을 갱신한다.
+     */
+    public void rebuildDay(LocalDate dayUtc) {
+        lockDay(dayUtc);
+        rollupHours(dayUtc, ALL_HOURS);
+        mergeDay(dayUtc);
+        rollupDimensions(dayUtc);
+        rollupPosts(dayUtc);
+    }
+
+    /**
+     * 해당 일자의 차원 롤업을 원본에서 다시 만든다. (일자 단위 교체)
+     *
+     * @return 적재한 (차원, 값) 행 수
+     */
+    public int rollupDimensions(LocalDate dayUtc) {
+        lockDay(dayUtc);
         Instant from = dayUtc.atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant to   = dayUtc.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = dayUtc.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        dimRepo.deleteDay(dayUtc);
+        return dimRepo.insertDay(dayUtc, from, to);
+    }
 
-        PvAggDto agg = pvRepo.aggregateRange(from, to);
-        long views = agg.views();
-        long uv = agg.uv();
-        long sessions = agg.sessions();
+    /**
+     * 해당 일자의 게시글별 롤업을 원본에서 다시 만든다. (일자 단위 교체)
+     * 외부 리퍼러는 게시글마다 조회수 상위 {@link PvPostRefDaily#TOP_PER_DAY}개만 남긴다.
+     *
+     * @return 적재한 게시글 수
+     */
+    public int rollupPosts(LocalDate dayUtc) {
+        lockDay(dayUtc);
+        Instant from = dayUtc.atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = dayUtc.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
 
-        dailyRepo.findById(dayUtc)
-                .map(e -> {
-                    e.setRollup(views, uv, sessions);
-                    return e;
-                })
-                .orElseGet(() -> dailyRepo.save(PvDaily.of(dayUtc, views, uv, sessions)));
+        Map<String, PostAcc> byPost = new HashMap<>();
+        for (PvPostRow r : postRepo.findPostRows(postPathPrefix, from, to)) {
+            PostAcc acc = byPost.computeIfAbsent(r.postId(), k -> new PostAcc());
+            acc.views += r.views();
+            acc.cid.add(r.cid());
+            if (r.refHost() != null) acc.refs.merge(r.refHost(), r.views(), Long::sum);
+        }
+
+        postRepo.deleteDay(dayUtc);
+        postRefRepo.deleteDay(dayUtc);
+        postRepo.markRolledUp(dayUtc);
+        if (byPost.isEmpty()) return 0;
+
+        List<PvPostDaily> posts = new ArrayList<>(byPost.size());
+        List<PvPostRefDaily> refs = new ArrayList<>();
+        byPost.forEach((postId, acc) -> {
+            posts.add(PvPostDaily.of(dayUtc, postId, acc.views, acc.cid.estimate(), acc.cid.toBytes()));
+            acc.refs.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(PvPostRefDaily.TOP_PER_DAY)
+                    .forEach(e -> refs.add(PvPostRefDaily.of(dayUtc, postId, e.getKey(), e.getValue())));
+        });
+        postRepo.saveAll(posts);
+        if (!refs.isEmpty()) postRefRepo.saveAll(refs);
+        return posts.size();
+    }
+
+    /**
+     * 방문이 있었으나 게시글 롤업을 마친 표시가 없는 일자를 원본에서 채운다. (게시글 롤업 도입 이전 일자 백필)
+     * 게시글 조회가 없던 날도 롤업 시 표시되므로 한 번만 훑는다.
+     *
+     * @param since 백필할 가장 오래된 UTC 일자 (원본 보존 기간 이내여야 한다)
+     * @return 백필한 일자 수
+     */
+    public int backfillPosts(LocalDate since) {
+        List<LocalDate> days = postRepo.findDaysWithoutPosts(since);
+        days.forEach(this::rollupPosts);
+        if (!days.isEmpty()) log.info("[PV ROLLUP] post backfill days={}", days.size());
+        return days.size();
+    }
+
+    /**
+     * 방문이 있었으나 스케치가 없는 일자를 원본에서 다시 만든다. (스케치 도입 이전 행 백필)
+     *
+     * @param since 백필할 가장 오래된 UTC 일자 (원본 보존 기간 이내여야 한다)
+     * @return 백필한 일자 수
+     */
+    public int backfillSketches(LocalDate since) {
+        List<LocalDate> days = dailyRepo.findSketchlessSince(since);
+        days.forEach(this::rebuildDay);
+        if (!days.isEmpty()) log.info("[PV ROLLUP] sketch backfill days={}", days.size());
+        return days.size();
+    }
+
+    /**
+     * 방문이 있었으나 차원 롤업이 없는 일자를 원본에서 채운다. (차원 롤업 도입 이전 일자 백필)
+     *
+     * @param since 백필할 가장 오래된 UTC 일자 (원본 보존 기간 이내여야 한다)
+     * @return 백필한 일자 수
+     */
+    public int backfillDimensions(LocalDate since) {
+        List<LocalDate> days = dimRepo.findDaysWithoutDimensions(since);
+        days.forEach(this::rollupDimensions);
+        if (!days.isEmpty()) log.info("[PV ROLLUP] dimension backfill days={}", days.size());
+        return days.size();
+    }
+
+    /**
+     * 보존 기간이 지난 시간별 롤업 삭제
+     */
+    public int pruneHourly(LocalDate cutoff) {
+        return hourlyRepo.deleteOlderThan(cutoff);
     }
 
     // ===== 주(week) 집계: key = UTC 기준 ISO 주 시작(월요일) =====
     public void rollupWeek(LocalDate weekStartUtc) {
-        Instant from = weekStartUtc.atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant to   = weekStartUtc.plusWeeks(1).atStartOfDay().toInstant(ZoneOffset.UTC);
-
-        PvAggDto agg = pvRepo.aggregateRange(from, to);
+        PvAggDto agg = mergeDays(weekStartUtc, weekStartUtc.plusWeeks(1));
         long views = agg.views();
         long uv = agg.uv();
         long sessions = agg.sessions();
@@ -63,10 +253,8 @@ public class RollupService {
     // ===== 월(month) 집계: key = UTC 기준 해당 월 1일 =====
     public void rollupMonth(YearMonth ymUtc) {
         LocalDate monthStart = ymUtc.atDay(1);
-        Instant from = monthStart.atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant to   = ymUtc.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
 
-        PvAggDto agg = pvRepo.aggregateRange(from, to);
+        PvAggDto agg = mergeDays(monthStart, ymUtc.plusMonths(1).atDay(1));
         long views = agg.views();
         long uv = agg.uv();
         long sessions = agg.sessions();
@@ -95,4 +283,112 @@ public class RollupService {
     public void rollupMonthOf(LocalDate anyDayUtc) {
         rollupMonth(YearMonth.from(anyDayUtc));
     }
+
+    // ===== 내부 =====
+
+    /**
+     * 일자 잠금. 트랜잭션이 끝날 때까지 유지되며 이미 잡은 일자는 다시 잡아도 바로 통과한다.
+     */
+    private void lockDay(LocalDate dayUtc) {
+        dailyRepo.lockDay(DAY_LOCK_NAMESPACE, (int) dayUtc.toEpochDay());
+    }
+
+    /** 게시글 하루치 누적 */
+    private static final class PostAcc {
+        long views;
+        final HyperLogLog cid = new HyperLogLog(PvPostDaily.PRECISION);
+        final Map<String, Long> refs = new HashMap<>();
+    }
+
+    /**
+     * 지정 시간 버킷들을 원본에서 한 번에 읽어 시간별 롤업을 업서트한다.
+     * 원본이 비어 있는 버킷은 새로 만들지 않는다.
+     */
+    private void rollupHours(LocalDate dayUtc, Collection<Short> hours) {
+        long[] views = new long[24];
+        HyperLogLog[] cids = new HyperLogLog[24];
+        HyperLogLog[] sids = new HyperLogLog[24];
+
+        Instant from = dayUtc.atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = dayUtc.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        for (PvIdRow r : pvRepo.findIdRows(dayUtc.toString(), hours, from, to)) {
+            int h = r.hour();
+            if (cids[h] == null) {
+                cids[h] = new HyperLogLog();
+                sids[h] = new HyperLogLog();
+            }
+            views[h]++;
+            cids[h].add(r.cid());
+            sids[h].add(r.sid());
+        }
+
+        List<PvHourly> inserts = new ArrayList<>();
+        for (short h : hours) {
+            HyperLogLog cid = cids[h] != null ? cids[h] : new HyperLogLog();
+            HyperLogLog sid = sids[h] != null ? sids[h] : new HyperLogLog();
+            long v = views[h];
+
+            hourlyRepo.findById(new PvHourly.Id(dayUtc, h))
+                    .ifPresentOrElse(
+                            e -> e.setRollup(v, cid.toBytes(), sid.toBytes()),
+                            () -> {
+                                if (v > 0) inserts.add(PvHourly.of(dayUtc, h, v, cid.toBytes(), sid.toBytes()));
+                            });
+        }
+        if (!inserts.isEmpty()) hourlyRepo.saveAll(inserts);
+    }
+
+    /**
+     * 시간별 롤업을 병합해 일간 롤업(스케치 포함)을 업서트한다.
+     */
+    private void mergeDay(LocalDate dayUtc) {
+        long views = 0;
+        HyperLogLog cid = new HyperLogLog();
+        HyperLogLog sid = new HyperLogLog();
+        for (PvHourly h : hourlyRepo.findByDay(dayUtc)) {
+            views += h.getViews();
+            cid.merge(HyperLogLog.fromBytes(h.getCidHll()));
+            sid.merge(HyperLogLog.fromBytes(h.getSidHll()));
+        }
+
+        long v = views;
+        long uv = cid.estimate();
+        long sessions = sid.estimate();
+        byte[] cidBytes = v > 0 ? cid.toBytes() : null;
+        byte[] sidBytes = v > 0 ? sid.toBytes() : null;
+
+        dailyRepo.findById(dayUtc)
+                .map(e -> {
+                    e.setRollup(v, uv, sessions, cidBytes, sidBytes);
+                    return e;
+                })
+                .orElseGet(() -> dailyRepo.save(PvDaily.of(dayUtc, v, uv, sessions, cidBytes, sidBytes)));
+    }
+
+    /**
+     * [from, to) 일간 스케치 병합. 오늘까지의 일자 중 롤업이 없거나 스케치가 없는 날이 있으면 원본 스캔으로 대체한다.
+     */
+    private PvAggDto mergeDays(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate last = to.minusDays(1).isAfter(today) ? today : to.minusDays(1);
+        long expected = Math.max(0, ChronoUnit.DAYS.between(from, last) + 1);
+
+        List<PvDaily> days = dailyRepo.findByKeyDateBetween(from, last);
+        boolean complete = days.size() >= expected && days.stream().allMatch(PvDaily::hasSketch);
+        if (!complete) {
+            Instant fromI = from.atStartOfDay().toInstant(ZoneOffset.UTC);
+            Instant toI = to.atStartOfDay().toInstant(ZoneOffset.UTC);
+            return pvRepo.aggregateRange(fromI, toI);
+        }
+
+        long views = 0;
+        HyperLogLog cid = new HyperLogLog();
+        HyperLogLog sid = new HyperLogLog();
+        for (PvDaily d : days) {
+            views += d.getViews();
+            if (d.getCidHll() != null) cid.merge(HyperLogLog.fromBytes(d.getCidHll()));
+            if (d.getSidHll() != null) sid.merge(HyperLogLog.fromBytes(d.getSidHll()));
+        }
+        return new PvAggDto(views, cid.estimate(), sid.estimate());
+    }
 }
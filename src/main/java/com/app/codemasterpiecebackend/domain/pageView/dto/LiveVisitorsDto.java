@@ -0,0 +1,12 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+/**
+ * 실시간 활성 방문자
+ *
+ * @param path          대상 경로 (null이면 전체)
+ * @param active        윈도우 내 고유 세션 수 (HyperLogLog 추정값)
+ * @param windowSeconds 윈도우 길이(초)
+ * @param nodes         합산에 참여한 노드 수 (Redis 장애 시 1 = 로컬만)
+ */
+public record LiveVisitorsDto(String path, long active, long windowSeconds, int nodes) {
+}
@@ -0,0 +1,19 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+import java.time.Instant;
+
+/**
+ * 수집 큐에 적재되는 원시 페이지 뷰.
+ * <p>요청 스레드에서만 얻을 수 있는 값(마스킹 IP, 수신 시각)만 확정하고,
+ * UA 파싱 등 보강은 백그라운드 워커가 수행한다.</p>
+ *
+ * @param event      클라이언트가 보낸 원본 이벤트
+ * @param ipMasked   /24, /48 마스킹 IP
+ * @param receivedAt 서버 수신 시각(UTC)
+ */
+public record PageViewHit(
+        PageViewEvent event,
+        String ipMasked,
+        Instant receivedAt
+) {
+}
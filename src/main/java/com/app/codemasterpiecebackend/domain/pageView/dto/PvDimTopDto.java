@@ -0,0 +1,11 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+/**
+ * 차원 Top-N 항목
+ *
+ * @param value    차원 값 (경로, 호스트 등)
+ * @param views    기간 내 조회수 합
+ * @param sessions 기간 내 일자별 세션 수 합
+ */
+public record PvDimTopDto(String value, long views, long sessions) {
+}
@@ -0,0 +1,43 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+import java.util.List;
+
+/**
+ * 내보내기 대상 데이터셋과 컬럼 순서.
+ * <p>CSV 헤더와 NDJSON 키는 이 컬럼 목록을 따른다. (스케치 등 이진 컬럼은 제외)</p>
+ */
+public enum PvExportDataset {
+
+    /** 원본 페이지뷰 (요청당 최대 31일) */
+    PAGE_VIEW(31, List.of(
+            "page_view_id", "occurred_at", "received_at", "day", "hour_bucket", "cid", "sid",
+            "url_host", "url_path", "url_query", "ref_host", "ref_path", "is_external_ref",
+            "title", "lang", "device", "browser", "os", "vp_w", "vp_h",
+            "ip_masked", "country", "city", "is_bot",
+            "utm_source", "utm_medium", "utm_campaign", "utm_term", "utm_content"
+    )),
+    DAILY(366, List.of("key_date", "views", "uv", "sessions")),
+    /** key_date는 주 시작일(월요일). from이 속한 주부터 내보낸다 */
+    WEEKLY(366, List.of("key_date", "views", "uv", "sessions")),
+    /** key_date는 월 1일. from이 속한 달부터 내보낸다 */
+    MONTHLY(366, List.of("key_date", "views", "uv", "sessions")),
+    DIM_DAILY(366, List.of("key_date", "dim", "dim_value", "views", "sessions")),
+    POST_DAILY(366, List.of("key_date", "post_id", "views", "uv"));
+
+    private final int maxDays;
+    private final List<String> columns;
+
+    PvExportDataset(int maxDays, List<String> columns) {
+        this.maxDays = maxDays;
+        this.columns = columns;
+    }
+
+    /** 한 요청에서 내보낼 수 있는 최대 일수 */
+    public int maxDays() {
+        return maxDays;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+/**
+ * 시간별 롤업 키 (day = yyyy-MM-dd, UTC)
+ */
+public record PvHourKey(String day, short hour) {
+}
@@ -0,0 +1,7 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+/**
+ * 스케치 계산용 원본 행 투영 (시간 버킷 + 식별자)
+ */
+public record PvIdRow(short hour, String cid, String sid) {
+}
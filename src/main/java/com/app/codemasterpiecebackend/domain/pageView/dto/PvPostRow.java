@@ -0,0 +1,10 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+/**
+ * 게시글 롤업 계산용 원본 집계 행 (게시글 + 방문자 + 외부 리퍼러 호스트별 조회수)
+ *
+ * @param refHost 외부 유입일 때만 값이 있다
+ * @param views   같은 (게시글, 방문자, 리퍼러 호스트) 조합의 원본 행 수
+ */
+public record PvPostRow(String postId, String cid, String refHost, long views) {
+}
@@ -0,0 +1,29 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 트래픽 시계열 (게시글 롤업만 조회)
+ *
+ * @param postId  게시글 ID
+ * @param series  일별 시리즈 (데이터 없는 일자는 0)
+ * @param uv      기간 고유 방문자 추정값 (일간 스케치 병합)
+ * @param topRefs 기간 외부 리퍼러 호스트 상위 (조회수 내림차순)
+ */
+public record PvPostTrafficDto(String postId, List<Point> series, long uv, List<Ref> topRefs) {
+
+    /**
+     * @param ts    날짜(yyyy-MM-dd)
+     * @param views 조회수
+     * @param uv    일자 고유 방문자 추정값
+     */
+    public record Point(String ts, long views, long uv) {
+    }
+
+    /**
+     * @param host  외부 리퍼러 호스트
+     * @param views 기간 내 조회수 합
+     */
+    public record Ref(String host, long views) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.codemasterpiecebackend.domain.pageView.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 롤업 재구성 배치 진행 상황
+ *
+ * @param from        재구성 구간 시작 (UTC, 포함)
+ * @param to          재구성 구간 끝 (UTC, 포함)
+ * @param nextDate    아직 처리하지 않은 첫 일자 (완료 시 to 다음 날)
+ * @param totalDays   구간 일수
+ * @param doneDays    재구성 완료 일수
+ * @param failedDays  실패 일수
+ * @param failedDates 실패한 일자 (같은 구간을 다시 실행하면 재시도)
+ * @param running     이 노드에서 실행 중인지 여부
+ * @param startedAt   시작 시각
+ * @param finishedAt  완료 시각 (중단/진행 중이면 null)
+ */
+public record RollupRebuildStatusDto(
+        LocalDate from,
+        LocalDate to,
+        LocalDate nextDate,
+        int totalDays,
+        int doneDays,
+        int failedDays,
+        List<String> failedDates,
+        boolean running,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
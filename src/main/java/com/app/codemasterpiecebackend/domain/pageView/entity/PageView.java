@@ -18,13 +18,14 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor(access = PROTECTED)
-@Builder
+@Builder(toBuilder = true)
 @Entity
 @Table(
         name = "tbl_page_view",
         indexes = {
                 @Index(name = "idx_pv_day", columnList = "day"),
                 @Index(name = "idx_pv_received", columnList = "received_at"),
+                @Index(name = "idx_pv_created", columnList = "created_at"),
                 @Index(name = "idx_pv_cid_day", columnList = "cid,day"),
                 @Index(name = "idx_pv_sid_day", columnList = "sid,day"),
                 @Index(name = "idx_pv_host_day", columnList = "url_host,day"),
@@ -208,9 +209,28 @@ public class PageView extends BaseTimeEntity {
     }
 
     private void sanitize() {
-        // 길이 초과 방어(예: 제목/경로), 공백 정리
-        if (title != null && title.length() > 255) title = title.substring(0, 255);
-        if (lang != null && lang.length() > 16) lang = lang.substring(0, 16);
+        // 길이 초과 방어: 클라이언트가 보낸 값은 모두 컬럼 길이로 자른다 (한 행 초과로 배치 전체가 실패하지 않도록)
+        cid = trimMax(cid, 40);
+        sid = trimMax(sid, 40);
+        url = trimMax(url, 1024);
+        ref = trimMax(ref, 1024);
+        title = trimMax(title, 255);
+        lang = trimMax(lang, 16);
+        device = trimMax(device, 32);
+        browser = trimMax(browser, 64);
+        os = trimMax(os, 64);
+        utmSource = trimMax(utmSource, 80);
+        utmMedium = trimMax(utmMedium, 80);
+        utmCampaign = trimMax(utmCampaign, 120);
+        utmTerm = trimMax(utmTerm, 120);
+        utmContent = trimMax(utmContent, 120);
+    }
+
+    /**
+     * 적재 재시도용 사본. 실패한 INSERT에서 이미 채번된 ID를 비워 새 엔티티로 다시 저장되게 한다.
+     */
+    public PageView retryCopy() {
+        return toBuilder().id(null).build();
     }
 
     /* 편의 세터 */
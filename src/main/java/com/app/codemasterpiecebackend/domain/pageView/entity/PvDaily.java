@@ -1,8 +1,10 @@
 package com.app.codemasterpiecebackend.domain.pageView.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
@@ -10,21 +12,36 @@ import java.time.LocalDate;
 /**
  * 일간 롤업 (UTC 기준)
  * keyDate = 해당 "UTC 날짜(YYYY-MM-DD)"
+ * cid/sid HyperLogLog 스케치를 함께 보관하여 주/월 롤업은 스케치 병합으로 산출한다.
+ * (스케치가 null이면 스케치 도입 이전에 원본 스캔으로 만든 행)
  */
 @Entity
 @Table(name = "tbl_pv_daily")
+@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PvDaily extends BaseRollup {
 
-    private PvDaily(LocalDate dayUtc, long views, long uv, long sessions) {
+    @Column(name = "cid_hll")
+    private byte[] cidHll;
+
+    @Column(name = "sid_hll")
+    private byte[] sidHll;
+
+    private PvDaily(LocalDate dayUtc, long views, long uv, long sessions, byte[] cidHll, byte[] sidHll) {
         this.keyDate = dayUtc;
         this.views = views;
         this.uv = uv;
         this.sessions = sessions;
+        this.cidHll = cidHll;
+        this.sidHll = sidHll;
     }
 
     public static PvDaily of(LocalDate dayUtc, long views, long uv, long sessions) {
-        return new PvDaily(dayUtc, views, uv, sessions);
+        return new PvDaily(dayUtc, views, uv, sessions, null, null);
+    }
+
+    public static PvDaily of(LocalDate dayUtc, long views, long uv, long sessions, byte[] cidHll, byte[] sidHll) {
+        return new PvDaily(dayUtc, views, uv, sessions, cidHll, sidHll);
     }
 
     /** 전체 값 갱신 (업서트 용) */
@@ -33,4 +50,16 @@ public class PvDaily extends BaseRollup {
         this.uv = uv;
         this.sessions = sessions;
     }
+
+    /** 전체 값 + 스케치 갱신 (업서트 용) */
+    public void setRollup(long views, long uv, long sessions, byte[] cidHll, byte[] sidHll) {
+        setRollup(views, uv, sessions);
+        this.cidHll = cidHll;
+        this.sidHll = sidHll;
+    }
+
+    /** 주/월 병합에 그대로 쓸 수 있는 행인지 (방문이 없던 날은 스케치 없이도 완전) */
+    public boolean hasSketch() {
+        return views == 0 || (cidHll != null && sidHll != null);
+    }
 }
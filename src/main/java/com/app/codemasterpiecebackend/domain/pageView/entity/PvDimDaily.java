@@ -0,0 +1,45 @@
+package com.app.codemasterpiecebackend.domain.pageView.entity;
+
+import com.app.codemasterpiecebackend.domain.shared.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일간 차원 롤업 (UTC 기준)
+ * - (일자, 차원, 값)별 views / sessions
+ * - 하루치를 원본에서 한 번에 다시 만들어 통째로 교체한다. (RollupService)
+ * - sessions는 일자별 고유 세션 수이며, 기간 합산 시 날짜를 넘긴 세션은 중복 집계된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_pv_dim_daily")
+public class PvDimDaily extends BaseTimeEntity {
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+        @Column(name = "key_date", nullable = false)
+        private LocalDate keyDate;
+        @Enumerated(EnumType.STRING)
+        @Column(name = "dim", length = 16, nullable = false)
+        private PvDimension dim;
+        @Column(name = "dim_value", length = 1024, nullable = false)
+        private String value;
+    }
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long sessions;
+}
@@ -0,0 +1,16 @@
+package com.app.codemasterpiecebackend.domain.pageView.entity;
+
+/**
+ * 일간 차원 롤업의 차원 종류
+ */
+public enum PvDimension {
+    /** 경로 (url_path) */
+    PATH,
+    /** 외부 유입 리퍼러 호스트 (is_external_ref인 ref_host) */
+    REF_HOST,
+    UTM_SOURCE,
+    UTM_CAMPAIGN,
+    DEVICE,
+    BROWSER,
+    OS
+}
@@ -0,0 +1,62 @@
+package com.app.codemasterpiecebackend.domain.pageView.entity;
+
+import com.app.codemasterpiecebackend.domain.shared.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 시간별 롤업 (UTC 기준)
+ * - 일간 롤업의 증분 단위. 해당 시간 버킷만 원본에서 재계산하고, 일간 값은 버킷 병합으로 만든다.
+ * - cid/sid 고유값은 HyperLogLog 스케치로 보관한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_pv_hourly")
+public class PvHourly extends BaseTimeEntity {
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+        @Column(name = "key_date", nullable = false)
+        private LocalDate keyDate;
+        @Column(name = "hour_bucket", nullable = false)
+        private short hour;
+    }
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(name = "cid_hll", nullable = false)
+    private byte[] cidHll;
+
+    @Column(name = "sid_hll", nullable = false)
+    private byte[] sidHll;
+
+    private PvHourly(LocalDate dayUtc, short hour, long views, byte[] cidHll, byte[] sidHll) {
+        this.id = new Id(dayUtc, hour);
+        this.views = views;
+        this.cidHll = cidHll;
+        this.sidHll = sidHll;
+    }
+
+    public static PvHourly of(LocalDate dayUtc, short hour, long views, byte[] cidHll, byte[] sidHll) {
+        return new PvHourly(dayUtc, hour, views, cidHll, sidHll);
+    }
+
+    /** 전체 값 갱신 (업서트 용) */
+    public void setRollup(long views, byte[] cidHll, byte[] sidHll) {
+        this.views = views;
+        this.cidHll = cidHll;
+        this.sidHll = sidHll;
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.codemasterpiecebackend.domain.pageView.entity;
+
+import com.app.codemasterpiecebackend.domain.shared.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 게시글별 일간 외부 리퍼러 호스트 (UTC 기준)
+ * - 일자·게시글당 조회수 상위 {@link #TOP_PER_DAY}개 호스트만 보관한다.
+ * - 기간 합산은 매일 상위권에 든 호스트만 반영하는 근사치다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_pv_post_ref_daily")
+public class PvPostRefDaily extends BaseTimeEntity {
+
+    public static final int TOP_PER_DAY = 10;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+        @Column(name = "key_date", nullable = false)
+        private LocalDate keyDate;
+        @Column(name = "post_id", length = 29, nullable = false)
+        private String postId;
+        @Column(name = "ref_host", length = 255, nullable = false)
+        private String refHost;
+    }
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(nullable = false)
+    private long views;
+
+    private PvPostRefDaily(LocalDate dayUtc, String postId, String refHost, long views) {
+        this.id = new Id(dayUtc, postId, refHost);
+        this.views = views;
+    }
+
+    public static PvPostRefDaily of(LocalDate dayUtc, String postId, String refHost, long views) {
+        return new PvPostRefDaily(dayUtc, postId, refHost, views);
+    }
+}
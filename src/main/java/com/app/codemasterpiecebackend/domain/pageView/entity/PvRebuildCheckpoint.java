@@ -0,0 +1,113 @@
+package com.app.codemasterpiecebackend.domain.pageView.entity;
+
+import com.app.codemasterpiecebackend.domain.shared.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 과거 구간 롤업 재구성 배치의 진행 체크포인트.
+ * <p>
+ * - 일자는 오름차순 청크 단위로 처리되며, 청크가 끝날 때마다 커서(nextDate)를 전진시킨다.
+ * - 실행이 중간에 중단되면(finishedAt == null) 재개 시 같은 구간의 nextDate부터 이어서 처리한다.
+ * - 실패한 일자는 건너뛰고 failedDates에 남긴다. (같은 구간을 다시 실행하면 재시도된다)
+ */
+@Entity
+@Table(name = "tbl_pv_rebuild_checkpoint")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PvRebuildCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64, nullable = false, updatable = false)
+    private String jobName;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    /**
+     * 아직 처리하지 않은 첫 일자 (이전 일자는 모두 처리 완료)
+     */
+    @Column(name = "next_date", nullable = false)
+    private LocalDate nextDate;
+
+    @Column(name = "total_days", nullable = false)
+    private int totalDays;
+
+    @Column(name = "done_days", nullable = false)
+    private int doneDays;
+
+    @Column(name = "failed_days", nullable = false)
+    private int failedDays;
+
+    /**
+     * 실패한 일자 목록 (쉼표 구분)
+     */
+    @Column(name = "failed_dates", columnDefinition = "TEXT")
+    private String failedDates;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    public static PvRebuildCheckpoint start(String jobName, LocalDate from, LocalDate to, Instant now) {
+        return PvRebuildCheckpoint.builder()
+                .jobName(jobName)
+                .fromDate(from)
+                .toDate(to)
+                .nextDate(from)
+                .totalDays(days(from, to))
+                .startedAt(now)
+                .build();
+    }
+
+    public boolean isInProgress() {
+        return finishedAt == null;
+    }
+
+    /**
+     * 체크포인트를 새 구간의 실행으로 초기화한다.
+     */
+    public void restart(LocalDate from, LocalDate to, Instant now) {
+        this.fromDate = from;
+        this.toDate = to;
+        this.nextDate = from;
+        this.totalDays = days(from, to);
+        this.doneDays = 0;
+        this.failedDays = 0;
+        this.failedDates = null;
+        this.startedAt = now;
+        this.finishedAt = null;
+    }
+
+    /**
+     * 한 청크 처리 결과를 누적하고 커서를 전진시킨다.
+     */
+    public void advance(LocalDate next, int done, List<LocalDate> failed) {
+        this.nextDate = next;
+        this.doneDays += done;
+        this.failedDays += failed.size();
+        for (LocalDate d : failed) {
+            this.failedDates = failedDates == null ? d.toString() : failedDates + "," + d;
+        }
+    }
+
+    public void finish(Instant now) {
+        this.finishedAt = now;
+    }
+
+    private static int days(LocalDate from, LocalDate to) {
+        return (int) ChronoUnit.DAYS.between(from, to) + 1;
+    }
+}
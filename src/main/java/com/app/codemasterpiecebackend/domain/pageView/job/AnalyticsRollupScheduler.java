@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 
@@ -12,28 +14,42 @@ import java.time.ZoneOffset;
 @RequiredArgsConstructor
 public class AnalyticsRollupScheduler {
 
+    /** 직전 실행과 겹치게 잡는 적재 구간 (재계산은 멱등) */
+    private static final Duration TOUCHED_LOOKBACK = Duration.ofHours(2);
+
+    /** 스케치/차원 롤업 백필 대상 기간 (원본 보존 60일 이내, 이번/지난 달 포함) */
+    private static final int BACKFILL_DAYS = 35;
+
     private final RollupService rollup;
 
     /**
-     * 매 시 정각 + 1분(UTC): 오늘/어제(UTC) 일별 재계산
-     * 지연 도착 이벤트 커버.
+     * 매 시 정각 + 1분(UTC): 최근 적재분이 닿은 시간 버킷만 재계산 후 해당 일자 병합
+     * 지연 도착/스풀 재생 이벤트는 적재 시각 기준으로 잡힌다.
      */
     @Scheduled(cron = "0 1 * * * *", zone = "Asia/Seoul")
     public void hourlyDailyRollupUtc() {
         LocalDate todayUtc = LocalDate.now(ZoneOffset.UTC);
-        rollup.rollupDay(todayUtc);
-        rollup.rollupDay(todayUtc.minusDays(1));
+        rollup.refreshRecent(
+                Instant.now().minus(TOUCHED_LOOKBACK),
+                todayUtc.minusDays(RollupService.HOURLY_RETENTION_DAYS)
+        );
     }
 
     /**
      * 매일 00:05(UTC): 주/월 롤업 갱신 (이번/이전)
      * - 주: ISO 월요일 시작(UTC)
      * - 월: 1일(UTC)
+     * - 일간 스케치 병합으로 산출 (스케치/차원/게시글 롤업이 없는 날은 먼저 백필)
      */
     @Scheduled(cron = "0 5 0 * * *", zone = "UTC")
     public void dailyWeekMonthRollupUtc() {
         LocalDate todayUtc = LocalDate.now(ZoneOffset.UTC);
 
+        rollup.backfillSketches(todayUtc.minusDays(BACKFILL_DAYS));
+        rollup.backfillDimensions(todayUtc.minusDays(BACKFILL_DAYS));
+        rollup.backfillPosts(todayUtc.minusDays(BACKFILL_DAYS));
+        rollup.rollupDay(todayUtc);
+
         // 주간: 이번 주, 지난 주
         rollup.rollupWeekOf(todayUtc);
         rollup.rollupWeekOf(todayUtc.minusWeeks(1));
@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.pageView.job;
+
+import com.app.codemasterpiecebackend.domain.pageView.application.LiveVisitorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 실시간 방문자 윈도우를 Redis로 주기 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveVisitorPublishScheduler {
+
+    private final LiveVisitorService live;
+
+    @Scheduled(fixedDelayString = "${app.analytics.live.publish-interval-ms:5000}")
+    public void publish() {
+        live.publish();
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.codemasterpiecebackend.domain.pageView.job;
+
+import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * tbl_page_view 일자 파티션 선생성.
+ * 적재 경로가 기본 파티션으로 새지 않도록 오늘부터 {@value #AHEAD_DAYS}일 뒤까지 미리 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageViewPartitionScheduler {
+
+    private static final int AHEAD_DAYS = 7;
+
+    private final PageViewRepository pvRepo;
+
+    /**
+     * 기동 직후 1회 (장기 중단 후 재기동 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureAhead();
+    }
+
+    /**
+     * 매일 00:15 UTC
+     */
+    @Scheduled(cron = "0 15 0 * * *", zone = "UTC")
+    public void ensureAhead() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int created = 0;
+        for (int i = 0; i <= AHEAD_DAYS; i++) {
+            if (pvRepo.ensurePartition(today.plusDays(i))) created++;
+        }
+        if (created > 0) log.info("[PV PARTITION] created={}", created);
+    }
+}
@@ -1,7 +1,9 @@
 package com.app.codemasterpiecebackend.domain.pageView.job;
 
+import com.app.codemasterpiecebackend.domain.pageView.application.RollupService;
 import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,24 +12,42 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @Transactional
 public class PageViewRetentionScheduler {
 
+    /** 원본 이벤트 보존 일수 (이보다 오래된 일자는 원본에서 재집계할 수 없다) */
+    public static final int RAW_RETENTION_DAYS = 60;
+
     private final PageViewRepository pvRepo;
+    private final RollupService rollup;
 
     /**
      * 매일 03:30 UTC: 60일 이전 로그 삭제
      * - 집계 대상에서 제외
-     * - 디스크/인덱스 최소화
+     * - 일자 파티션을 통째로 분리/삭제 (대량 DELETE 없이 일정 비용, 테이블/인덱스 팽창 없음)
+     * - 기본 파티션에 남은 범위 밖 행만 DELETE
      */
     @Scheduled(cron = "0 30 3 * * *", zone = "UTC")
     public void purgeOldPageViews() {
-        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(60);
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(RAW_RETENTION_DAYS);
         Instant cutoffInstant = cutoff.atStartOfDay().toInstant(ZoneOffset.UTC);
 
+        int dropped = pvRepo.dropPartitionsBefore(cutoff);
         int deleted = pvRepo.deleteOlderThan(cutoffInstant);
-        System.out.println("[PV RETENTION] deleted=" + deleted);
+        log.info("[PV RETENTION] droppedPartitions={}, deleted={}", dropped, deleted);
+    }
+
+    /**
+     * 매일 03:40 UTC: 지연 반영 기간이 지난 시간별 롤업 삭제
+     * - 일간 롤업에 스케치로 병합되어 있으므로 더 이상 필요 없음
+     */
+    @Scheduled(cron = "0 40 3 * * *", zone = "UTC")
+    public void purgeOldHourlyRollups() {
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(RollupService.HOURLY_RETENTION_DAYS);
+        int deleted = rollup.pruneHourly(cutoff);
+        log.info("[PV RETENTION] hourly deleted={}", deleted);
     }
 }
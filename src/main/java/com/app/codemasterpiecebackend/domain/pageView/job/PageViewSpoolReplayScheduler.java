@@ -0,0 +1,37 @@
+package com.app.codemasterpiecebackend.domain.pageView.job;
+
+import com.app.codemasterpiecebackend.domain.pageView.application.PageViewIngestPipeline;
+import com.app.codemasterpiecebackend.global.infra.spool.MappedSpool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.analytics.spool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PageViewSpoolReplayScheduler {
+
+    private final PageViewIngestPipeline pipeline;
+    private final MappedSpool spool;
+
+    /**
+     * 주기적으로 스풀을 비운다. DB가 아직 느리거나 내려가 있으면 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.spool.replay-interval-ms:5000}",
+            initialDelayString = "${app.analytics.spool.replay-interval-ms:5000}")
+    public void replay() {
+        int n = pipeline.replaySpool();
+        if (n > 0) log.info("[PV SPOOL] replayed={}", n);
+    }
+
+    /**
+     * 스풀 변경분을 디스크에 반영한다. 이 주기가 전원/호스트 장애 시 잃을 수 있는 이벤트 구간의 상한이다.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.spool.sync-interval-ms:1000}")
+    public void sync() {
+        spool.sync();
+    }
+}
@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Mapper
+interface PageViewExportMapper {
+    void streamPageViews(@Param("from") Instant from,
+                         @Param("to") Instant to,
+                         ResultHandler<Map<String, Object>> handler);
+
+    void streamRollup(@Param("dataset") String dataset,
+                      @Param("from") LocalDate from,
+                      @Param("to") LocalDate to,
+                      ResultHandler<Map<String, Object>> handler);
+}
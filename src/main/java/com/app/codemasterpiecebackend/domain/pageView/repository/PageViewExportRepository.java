@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvExportDataset;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 원본/롤업 테이블 스트리밍 조회 (내보내기 용).
+ * 서버 측 커서(fetch size)로 읽어 행마다 consumer에 넘기므로 결과 전체를 힙에 올리지 않는다.
+ * PostgreSQL은 트랜잭션 안에서만 커서로 읽으므로 호출자는 트랜잭션을 열어야 한다.
+ */
+interface PageViewExportRepository {
+
+    /**
+     * [from, to] (UTC 일자, 포함) 구간의 행을 키 순서대로 흘려보낸다.
+     * 행은 컬럼명 → 값이며, null 컬럼은 빠져 있을 수 있다. ({@link PvExportDataset#columns()} 기준으로 읽을 것)
+     */
+    void streamExport(PvExportDataset dataset, LocalDate from, LocalDate to, Consumer<Map<String, Object>> consumer);
+}
@@ -0,0 +1,28 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvExportDataset;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+class PageViewExportRepositoryImpl implements PageViewExportRepository {
+
+    private final PageViewExportMapper exportMapper;
+
+    @Override
+    public void streamExport(PvExportDataset dataset, LocalDate from, LocalDate to, Consumer<Map<String, Object>> consumer) {
+        if (dataset == PvExportDataset.PAGE_VIEW) {
+            exportMapper.streamPageViews(
+                    from.atStartOfDay().toInstant(ZoneOffset.UTC),
+                    to.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC),
+                    ctx -> consumer.accept(ctx.getResultObject())
+            );
+        } else {
+            exportMapper.streamRollup(dataset.name(), from, to, ctx -> consumer.accept(ctx.getResultObject()));
+        }
+    }
+}
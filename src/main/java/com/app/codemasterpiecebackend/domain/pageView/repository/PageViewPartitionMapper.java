@@ -0,0 +1,13 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+@Mapper
+interface PageViewPartitionMapper {
+    boolean ensurePartition(@Param("day") LocalDate day);
+
+    int dropPartitionsBefore(@Param("cutoff") LocalDate cutoff);
+}
@@ -0,0 +1,22 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import java.time.LocalDate;
+
+/**
+ * tbl_page_view 일자(UTC) 파티션 관리.
+ * 실제 DDL은 DB 함수(pv_ensure_partition, pv_drop_partitions_before)가 수행한다.
+ */
+interface PageViewPartitionRepository {
+
+    /**
+     * 해당 일자 파티션을 만든다. (이미 있으면 false)
+     */
+    boolean ensurePartition(LocalDate dayUtc);
+
+    /**
+     * cutoff 이전 일자 파티션을 분리(DETACH) 후 삭제한다.
+     *
+     * @return 삭제한 파티션 수
+     */
+    int dropPartitionsBefore(LocalDate cutoff);
+}
@@ -0,0 +1,21 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+class PageViewPartitionRepositoryImpl implements PageViewPartitionRepository {
+
+    private final PageViewPartitionMapper partitionMapper;
+
+    @Override
+    public boolean ensurePartition(LocalDate dayUtc) {
+        return partitionMapper.ensurePartition(dayUtc);
+    }
+
+    @Override
+    public int dropPartitionsBefore(LocalDate cutoff) {
+        return partitionMapper.dropPartitionsBefore(cutoff);
+    }
+}
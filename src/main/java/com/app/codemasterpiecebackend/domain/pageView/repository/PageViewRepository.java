@@ -1,6 +1,8 @@
 package com.app.codemasterpiecebackend.domain.pageView.repository;
 
 import com.app.codemasterpiecebackend.domain.pageView.dto.PvAggDto;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvHourKey;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvIdRow;
 import com.app.codemasterpiecebackend.domain.pageView.entity.PageView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,13 +11,16 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface PageViewRepository extends JpaRepository<PageView, String> {
+public interface PageViewRepository extends JpaRepository<PageView, String>, PageViewPartitionRepository, PageViewExportRepository {
 
     /**
      * [from, to) 범위의 집계. 모든 파라미터는 UTC Instant.
      * occurred_at 컬럼은 TIMESTAMP WITH TIME ZONE 으로 가정.
+     * occurred_at이 파티션 키이므로 범위에 걸친 일자 파티션만 스캔한다.
      */
     @Query("""
                 select new com.app.codemasterpiecebackend.domain.pageView.dto.PvAggDto(
@@ -28,6 +33,35 @@ public interface PageViewRepository extends JpaRepository<PageView, String> {
             """)
     PvAggDto aggregateRange(@Param("from") Instant from, @Param("to") Instant to);
 
+    /**
+     * 특정 UTC 일자의 지정 시간 버킷에 속한 (hour, cid, sid). 시간별 스케치 계산용.
+     * [from, to)는 같은 일자의 occurred_at 범위로, 파티션 가지치기에 쓰인다.
+     */
+    @Query("""
+                select new com.app.codemasterpiecebackend.domain.pageView.dto.PvIdRow(p.hour, p.cid, p.sid)
+                from PageView p
+                where p.occurredAt >= :from and p.occurredAt < :to
+                  and p.day = :day and p.hour in :hours
+            """)
+    List<PvIdRow> findIdRows(@Param("day") String day,
+                             @Param("hours") Collection<Short> hours,
+                             @Param("from") Instant from,
+                             @Param("to") Instant to);
+
+    /**
+     * since 이후 적재된 행이 속한 (day, hour) 버킷. 지연 도착/스풀 재생분도 적재 시각 기준으로 잡힌다.
+     * oldest 이전에 발생한 행은 보지 않는다. (파티션 가지치기)
+     */
+    @Query("""
+                select distinct new com.app.codemasterpiecebackend.domain.pageView.dto.PvHourKey(p.day, p.hour)
+                from PageView p
+                where p.createdAt >= :since and p.occurredAt >= :oldest
+            """)
+    List<PvHourKey> findTouchedHours(@Param("since") Instant since, @Param("oldest") Instant oldest);
+
+    /**
+     * cutoff 이전 행 삭제. 일자 파티션은 통째로 삭제되므로 실제로는 기본 파티션에 남은 행만 대상이 된다.
+     */
     @Modifying
     @Query("""
                 delete from PageView p
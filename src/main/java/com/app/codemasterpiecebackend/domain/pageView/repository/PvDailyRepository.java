@@ -2,10 +2,38 @@ package com.app.codemasterpiecebackend.domain.pageView.repository;
 
 import com.app.codemasterpiecebackend.domain.pageView.entity.PvDaily;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Repository
 public interface PvDailyRepository extends JpaRepository<PvDaily, LocalDate> {
+
+    /**
+     * [from, to] 범위의 일간 롤업 (스케치 포함)
+     */
+    List<PvDaily> findByKeyDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * 방문이 있었으나 스케치가 없는(스케치 도입 이전) 일자 — 원본 보존 기간 내 백필 대상
+     */
+    @Query("""
+                select d.keyDate from PvDaily d
+                where d.keyDate >= :since and d.views > 0
+                  and (d.cidHll is null or d.sidHll is null)
+                order by d.keyDate
+            """)
+    List<LocalDate> findSketchlessSince(@Param("since") LocalDate since);
+
+    /**
+     * 일자 단위 롤업 잠금 (트랜잭션 종료 시 해제, 같은 트랜잭션에서 재진입 가능).
+     * 정기 롤업과 관리자 재구성이 같은 일자의 시간별/일간 롤업을 동시에 고쳐 쓰지 않도록 직렬화한다.
+     *
+     * @param epochDay {@link LocalDate#toEpochDay()}
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:ns, :epochDay)", nativeQuery = true)
+    Integer lockDay(@Param("ns") int namespace, @Param("epochDay") int epochDay);
 }
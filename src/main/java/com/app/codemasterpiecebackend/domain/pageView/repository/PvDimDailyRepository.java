@@ -0,0 +1,86 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvDimTopDto;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvDimDaily;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvDimension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PvDimDailyRepository extends JpaRepository<PvDimDaily, PvDimDaily.Id> {
+
+    /**
+     * [from, to] 기간의 차원 Top-N (조회수 내림차순). 롤업만 읽는다.
+     */
+    @Query("""
+                select new com.app.codemasterpiecebackend.domain.pageView.dto.PvDimTopDto(
+                    d.id.value, sum(d.views), sum(d.sessions)
+                )
+                from PvDimDaily d
+                where d.id.dim = :dim and d.id.keyDate between :from and :to
+                group by d.id.value
+                order by sum(d.views) desc, d.id.value
+            """)
+    List<PvDimTopDto> findTop(@Param("dim") PvDimension dim,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM tbl_pv_dim_daily WHERE key_date = :day", nativeQuery = true)
+    int deleteDay(@Param("day") LocalDate day);
+
+    /**
+     * 하루치 원본([from, to), 단일 파티션)을 GROUPING SETS로 한 번 훑어 모든 차원을 적재한다.
+     * 값이 null인 그룹은 버린다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO tbl_pv_dim_daily (key_date, dim, dim_value, views, sessions, created_at, updated_at)
+            SELECT :day, g.dim, g.dim_value, g.views, g.sessions, now(), now()
+            FROM (
+                SELECT CASE
+                           WHEN grouping(s.path) = 0 THEN 'PATH'
+                           WHEN grouping(s.ref_host) = 0 THEN 'REF_HOST'
+                           WHEN grouping(s.utm_source) = 0 THEN 'UTM_SOURCE'
+                           WHEN grouping(s.utm_campaign) = 0 THEN 'UTM_CAMPAIGN'
+                           WHEN grouping(s.device) = 0 THEN 'DEVICE'
+                           WHEN grouping(s.browser) = 0 THEN 'BROWSER'
+                           ELSE 'OS'
+                       END AS dim,
+                       COALESCE(s.path, s.ref_host, s.utm_source, s.utm_campaign, s.device, s.browser, s.os) AS dim_value,
+                       count(*) AS views,
+                       count(DISTINCT s.sid) AS sessions
+                FROM (
+                    SELECT p.url_path AS path,
+                           CASE WHEN p.is_external_ref THEN p.ref_host END AS ref_host,
+                           p.utm_source, p.utm_campaign, p.device, p.browser, p.os, p.sid
+                    FROM tbl_page_view p
+                    WHERE p.occurred_at >= :from AND p.occurred_at < :to
+                ) s
+                GROUP BY GROUPING SETS ((s.path), (s.ref_host), (s.utm_source), (s.utm_campaign),
+                                        (s.device), (s.browser), (s.os))
+            ) g
+            WHERE g.dim_value IS NOT NULL
+            """, nativeQuery = true)
+    int insertDay(@Param("day") LocalDate day, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * 방문이 있었으나 차원 롤업이 없는 일자 — 원본 보존 기간 내 백필 대상
+     */
+    @Query("""
+                select d.keyDate from PvDaily d
+                where d.keyDate >= :since and d.views > 0
+                  and not exists (select 1 from PvDimDaily x where x.id.keyDate = d.keyDate)
+                order by d.keyDate
+            """)
+    List<LocalDate> findDaysWithoutDimensions(@Param("since") LocalDate since);
+}
@@ -0,0 +1,25 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PvHourlyRepository extends JpaRepository<PvHourly, PvHourly.Id> {
+
+    @Query("select h from PvHourly h where h.id.keyDate = :day")
+    List<PvHourly> findByDay(@Param("day") LocalDate day);
+
+    @Query("select count(h) > 0 from PvHourly h where h.id.keyDate = :day")
+    boolean existsByDay(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("delete from PvHourly h where h.id.keyDate < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDate cutoff);
+}
@@ -0,0 +1,72 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvPostRow;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PvPostDailyRepository extends JpaRepository<PvPostDaily, PvPostDaily.Id> {
+
+    @Query("""
+                select d from PvPostDaily d
+                where d.id.postId = :postId and d.id.keyDate between :from and :to
+                order by d.id.keyDate
+            """)
+    List<PvPostDaily> findSeries(@Param("postId") String postId,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = "DELETE FROM tbl_pv_post_daily WHERE key_date = :day", nativeQuery = true)
+    int deleteDay(@Param("day") LocalDate day);
+
+    /**
+     * 하루치 원본([from, to), 단일 파티션) 중 게시글 상세 경로({@code prefix + slug})에 해당하는 행을
+     * (게시글, 방문자, 외부 리퍼러 호스트)별로 묶은 조회수.
+     * 슬러그가 바뀌어도 같은 게시글로 묶이도록 post_id로 변환한다.
+     * 조회 한 건마다 행을 올리지 않도록 DB에서 묶어 방문자 수 수준의 행만 받는다.
+     */
+    @Query("""
+                select new com.app.codemasterpiecebackend.domain.pageView.dto.PvPostRow(
+                    po.id, p.cid, case when p.externalRef = true then p.refHost else null end, count(p)
+                )
+                from PageView p
+                join Post po on p.urlPath = concat(:prefix, po.slug)
+                where p.occurredAt >= :from and p.occurredAt < :to
+                group by po.id, p.cid, case when p.externalRef = true then p.refHost else null end
+            """)
+    List<PvPostRow> findPostRows(@Param("prefix") String prefix,
+                                 @Param("from") Instant from,
+                                 @Param("to") Instant to);
+
+    /**
+     * 해당 일자의 게시글 롤업을 마쳤다고 표시한다. (게시글 조회가 없던 날도 표시)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO tbl_pv_post_rollup_day (key_date, rolled_at)
+            VALUES (:day, now())
+            ON CONFLICT (key_date) DO UPDATE SET rolled_at = EXCLUDED.rolled_at
+            """, nativeQuery = true)
+    int markRolledUp(@Param("day") LocalDate day);
+
+    /**
+     * 방문이 있었으나 게시글 롤업을 마친 표시가 없는 일자 — 원본 보존 기간 내 백필 대상.
+     * 게시글 조회가 없던 날도 한 번 롤업하면 표시가 남아 다시 잡히지 않는다.
+     */
+    @Query(value = """
+            SELECT d.key_date FROM tbl_pv_daily d
+            WHERE d.key_date >= :since AND d.views > 0
+              AND NOT EXISTS (SELECT 1 FROM tbl_pv_post_rollup_day m WHERE m.key_date = d.key_date)
+            ORDER BY d.key_date
+            """, nativeQuery = true)
+    List<LocalDate> findDaysWithoutPosts(@Param("since") LocalDate since);
+}
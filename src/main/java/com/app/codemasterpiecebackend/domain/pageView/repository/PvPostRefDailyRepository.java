@@ -0,0 +1,38 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvPostTrafficDto;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostRefDaily;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PvPostRefDailyRepository extends JpaRepository<PvPostRefDaily, PvPostRefDaily.Id> {
+
+    /**
+     * [from, to] 기간의 게시글 외부 리퍼러 호스트 상위 (조회수 내림차순)
+     */
+    @Query("""
+                select new com.app.codemasterpiecebackend.domain.pageView.dto.PvPostTrafficDto$Ref(
+                    r.id.refHost, sum(r.views)
+                )
+                from PvPostRefDaily r
+                where r.id.postId = :postId and r.id.keyDate between :from and :to
+                group by r.id.refHost
+                order by sum(r.views) desc, r.id.refHost
+            """)
+    List<PvPostTrafficDto.Ref> findTop(@Param("postId") String postId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM tbl_pv_post_ref_daily WHERE key_date = :day", nativeQuery = true)
+    int deleteDay(@Param("day") LocalDate day);
+}
@@ -0,0 +1,7 @@
+package com.app.codemasterpiecebackend.domain.pageView.repository;
+
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvRebuildCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PvRebuildCheckpointRepository extends JpaRepository<PvRebuildCheckpoint, String> {
+}
@@ -0,0 +1,275 @@
+package com.app.codemasterpiecebackend.domain.post.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.variant.application.ResponsiveLadder;
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantPreset;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.domain.post.dto.PostResult;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import com.app.codemasterpiecebackend.global.util.FileTokenScanner;
+import com.app.codemasterpiecebackend.global.util.FileUrlResolver;
+import com.app.codemasterpiecebackend.global.util.MarkdownUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 본문(토큰 마크다운) → HTML 렌더러 + 노드 로컬 결과 캐시.
+ *
+ * <p>본문은 작성자가 쓴 파일 토큰 그대로 저장되고, 조회 시점에 토큰을 CDN URL(또는 반응형 {@code <picture>})로
+ * 치환한 뒤 HTML/목차로 렌더링한다. 치환에는 파일/변환본 일괄 조회가 필요하므로 결과를 게시글 단위로 캐시한다.</p>
+ *
+ * <ul>
+ *   <li>캐시 항목은 렌더링에 쓴 원문을 함께 들고 있어, 원문이 달라지면(수정, 다른 노드에서의 수정 포함) 바로 다시 렌더링한다.</li>
+ *   <li>수정/삭제 시 {@link #evict(String)}로 항목을 비운다.</li>
+ *   <li>사다리 설정은 기동 시에만 읽히고 캐시는 노드 메모리이므로 설정 변경(재기동)과 함께 비워진다.</li>
+ *   <li>업로드 후 비동기로 생성되는 변환본/지연 생성 단은 {@code app.post.render-cache.ttl}이 지나면 반영된다.
+ *   그동안의 미생성 단은 지연 생성 엔드포인트를 가리키므로 응답이 깨지지는 않는다.</li>
+ * </ul>
+ */
+@Component
+public class PostBodyRenderer {
+
+    /**
+     * 변환 우선순위: AVIF > WEBP > 512 > 256
+     */
+    private static final List<String> DEFAULT_ORDER = List.of("AVIF", "WEBP", "THUMB_512", "THUMB_256");
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileVariantRepository fileVariantRepository;
+    private final CdnProperties cdnProperties;
+    private final ResponsiveLadder responsiveLadder;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 렌더링 결과.
+     *
+     * @param html 본문 HTML
+     * @param toc  목차
+     */
+    public record Rendered(String html, List<PostResult.Toc> toc) {
+    }
+
+    private record Entry(String source, Rendered rendered, long expiresAt) {
+    }
+
+    public PostBodyRenderer(
+            StoredFileRepository storedFileRepository,
+            FileVariantRepository fileVariantRepository,
+            CdnProperties cdnProperties,
+            ResponsiveLadder responsiveLadder,
+            @Value("${app.post.render-cache.ttl:10m}") Duration ttl,
+            @Value("${app.post.render-cache.max-entries:512}") int maxEntries
+    ) {
+        this.storedFileRepository = storedFileRepository;
+        this.fileVariantRepository = fileVariantRepository;
+        this.cdnProperties = cdnProperties;
+        this.responsiveLadder = responsiveLadder;
+        this.ttlMs = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 게시글 본문을 렌더링한다. 같은 원문에 대한 유효한 캐시 항목이 있으면 그대로 반환한다.
+     *
+     * @param postId   캐시 키
+     * @param markdown 저장된 본문 (토큰 포함)
+     */
+    public Rendered render(String postId, String markdown) {
+        long now = System.currentTimeMillis();
+        Entry e = cache.get(postId);
+        if (e != null && e.expiresAt() > now && e.source().equals(markdown)) return e.rendered();
+
+        String md = renderFileTokens(markdown);
+        Rendered r = new Rendered(MarkdownUtil.parsePostToHtml(md), List.copyOf(MarkdownUtil.extractToc(md)));
+
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(x -> x.expiresAt() <= now);
+            if (cache.size() >= maxEntries) cache.clear();
+        }
+        cache.put(postId, new Entry(markdown, r, now + ttlMs));
+        return r;
+    }
+
+    /**
+     * 게시글의 캐시 항목을 비운다. (수정/삭제 시)
+     */
+    public void evict(String postId) {
+        if (postId != null) cache.remove(postId);
+    }
+
+    /**
+     * 본문의 파일 토큰을 CDN URL(또는 반응형 {@code <picture>})로 치환한다.
+     * <p>
+     * 토큰 탐색은 {@link FileTokenScanner}의 단일 순회로 끝내고, 파일/변환본은 한 번에 일괄 로드한 뒤
+     * 토큰 위치 정보를 따라 하나의 버퍼에 이어 쓴다.
+     * </p>
+     */
+    String renderFileTokens(String markdown) {
+        if (markdown == null || markdown.isBlank()) return "";
+
+        FileTokenScanner.Scan scan = FileTokenScanner.scan(markdown);
+        List<String> tokenIds = scan.tokenFileIds();
+        if (tokenIds.isEmpty()) return markdown;
+
+        // 메타/variants 일괄 로드
+        List<StoredFile> files = storedFileRepository.findAllById(tokenIds);
+        Map<String, StoredFile> fileById = new HashMap<>(files.size());
+        for (StoredFile f : files) fileById.put(f.getId(), f);
+
+        var variants = fileVariantRepository.findActiveByFileIdIn(tokenIds);
+        Map<String, Map<String, String>> vmap = new HashMap<>();
+        Map<String, Map<String, String>> rungMap = new HashMap<>();
+        variants.forEach(v -> {
+            String fid = v.getOriginal().getId();
+            if (ResponsiveLadder.isLadderKind(v.getKind())) {
+                rungMap.computeIfAbsent(fid, k -> new HashMap<>())
+                        .put(rungKey(v.getKind(), v.getWidth()), v.getStorageKey());
+            } else {
+                vmap.computeIfAbsent(fid, k -> new HashMap<>())
+                        .put(v.getKind().name(), v.getStorageKey());
+            }
+        });
+
+        // 치환: 토큰 사이 원문 구간 + 치환 결과를 하나의 버퍼에 순서대로 기록
+        StringBuilder out = new StringBuilder(markdown.length() + scan.tokens().size() * 512);
+        int cursor = 0;
+
+        for (FileTokenScanner.Token t : scan.tokens()) {
+            out.append(markdown, cursor, t.start());
+            cursor = t.end();
+
+            String id = t.fileId();
+            String req = normalizeKind(t.kind());
+            StoredFile f = fileById.get(id);
+
+            if (f == null) {
+                out.append(markdown, t.start(), t.end());
+                continue;
+            }
+
+            String ct = safeLower(f.getContentType());
+            String base = ensureTrailingSlash(FileUrlResolver.toBaseDirUrl(cdnProperties, f.getStoragePath()));
+
+            String finalUrl;
+            if ("image/svg+xml".equals(ct)) {
+                finalUrl = base + "original";
+            } else {
+                Map<String, String> kinds = vmap.getOrDefault(id, Map.of());
+                String pickedKey = null;
+
+                if (req != null) pickedKey = kinds.get(req);
+                if (pickedKey == null) {
+                    for (String k : DEFAULT_ORDER) {
+                        if (kinds.containsKey(k)) {
+                            pickedKey = kinds.get(k);
+                            break;
+                        }
+                    }
+                }
+                finalUrl = (pickedKey != null)
+                        ? FileUrlResolver.toCdnUrl(cdnProperties, pickedKey)
+                        : base + "original";
+            }
+
+            // 명시적 kind 요청이 없으면 반응형 사다리로 <picture> srcset 출력
+            if (req == null && !"image/svg+xml".equals(ct)) {
+                String picture = buildPicture(t.alt(), f, finalUrl,
+                        vmap.getOrDefault(id, Map.of()), rungMap.getOrDefault(id, Map.of()));
+                if (picture != null) {
+                    out.append(picture);
+                    continue;
+                }
+            }
+
+            out.append("![").append(t.alt()).append("](").append(finalUrl).append(')');
+        }
+        out.append(markdown, cursor, markdown.length());
+        return out.toString();
+    }
+
+    /**
+     * 반응형 사다리 단으로 {@code <picture>} 마크업을 만든다.
+     * 생성된 단은 CDN URL, 미생성 단은 지연 생성 엔드포인트를 가리킨다. (lazy-base-url 미설정 시 미생성 단 제외)
+     *
+     * @return srcset 후보가 하나도 없으면 null (기존 마크다운 이미지로 폴백)
+     */
+    private String buildPicture(String alt, StoredFile f, String fallbackUrl,
+                                Map<String, String> kinds, Map<String, String> rungs) {
+        String lazyBase = responsiveLadder.lazyBaseUrl();
+        boolean lazy = lazyBase != null && !lazyBase.isBlank();
+
+        Map<String, StringJoiner> srcsetByMime = new LinkedHashMap<>();
+        for (var rung : responsiveLadder.rungs(VariantPreset.BLOG_DEFAULT, f.getWidth())) {
+            String key = rungs.get(rungKey(rung.kind(), rung.width()));
+            String url;
+            if (key != null) {
+                url = FileUrlResolver.toCdnUrl(cdnProperties, key);
+            } else if (lazy) {
+                url = trimTrailingSlash(lazyBase) + "/api/v1/images/" + f.getId()
+                        + "/variants/" + rung.format() + "/" + rung.width();
+            } else {
+                continue;
+            }
+            srcsetByMime.computeIfAbsent(rung.mime(), k -> new StringJoiner(", "))
+                    .add(url + " " + rung.width() + "w");
+        }
+        if (srcsetByMime.isEmpty()) return null;
+
+        String sizes = HtmlUtils.htmlEscape(responsiveLadder.sizes());
+        StringBuilder sb = new StringBuilder(256).append("<picture>");
+        srcsetByMime.forEach((mime, srcset) -> {
+            // 같은 포맷의 원본 크기 변환본(WEBP/AVIF)을 최상단 후보로 추가해 큰 화면에서도 해상도를 잃지 않도록 한다
+            String fullKey = kinds.get("image/avif".equals(mime) ? "AVIF" : "WEBP");
+            if (fullKey != null && f.getWidth() != null) {
+                srcset.add(FileUrlResolver.toCdnUrl(cdnProperties, fullKey) + " " + f.getWidth() + "w");
+            }
+            sb.append("<source type=\"").append(mime)
+                    .append("\" srcset=\"").append(srcset)
+                    .append("\" sizes=\"").append(sizes).append("\">");
+        });
+        sb.append("<img src=\"").append(fallbackUrl)
+                .append("\" alt=\"").append(HtmlUtils.htmlEscape(alt == null ? "" : alt)).append('"');
+        if (f.getWidth() != null && f.getHeight() != null) {
+            sb.append(" width=\"").append(f.getWidth())
+                    .append("\" height=\"").append(f.getHeight()).append('"');
+        }
+        sb.append(" loading=\"lazy\" decoding=\"async\"></picture>");
+        return sb.toString();
+    }
+
+    private static String rungKey(FileVariantKind kind, Integer width) {
+        return kind.name() + ":" + width;
+    }
+
+    private static String trimTrailingSlash(String s) {
+        return s.endsWith("/") ? s.substring(0, s.length() - 1) : s;
+    }
+
+    private static String normalizeKind(String t) {
+        if (t == null || t.isBlank()) return null;
+        String x = t.trim().toUpperCase().replace('-', '_');
+        return switch (x) {
+            case "THUMB_512", "THUMB_256", "WEBP", "AVIF" -> x;
+            default -> null;
+        };
+    }
+
+    private static String ensureTrailingSlash(String s) {
+        if (s == null || s.isBlank()) return s;
+        return s.endsWith("/") ? s : (s + "/");
+    }
+
+    private static String safeLower(String s) {
+        return (s == null) ? "" : s.toLowerCase();
+    }
+}
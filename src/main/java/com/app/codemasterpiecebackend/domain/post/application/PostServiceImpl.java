@@ -10,7 +10,6 @@ import com.app.codemasterpiecebackend.domain.file.ref.application.FileRefCommand
 import com.app.codemasterpiecebackend.domain.file.ref.application.FileRefService;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FileOwnerType;
 import com.app.codemasterpiecebackend.domain.file.ref.entity.FilePurpose;
-import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
 import com.app.codemasterpiecebackend.domain.post.dto.PostDetailDTO;
 import com.app.codemasterpiecebackend.domain.post.dto.PostEditDTO;
 import com.app.codemasterpiecebackend.domain.post.dto.PostListDTO;
@@ -23,6 +22,7 @@ import com.app.codemasterpiecebackend.domain.post.repository.TagRepository;
 import com.app.codemasterpiecebackend.global.support.exception.AppException;
 import com.app.codemasterpiecebackend.global.support.exception.FieldValidationException;
 import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import com.app.codemasterpiecebackend.global.util.FileTokenScanner;
 import com.app.codemasterpiecebackend.global.util.FileUrlResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -32,8 +32,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.app.codemasterpiecebackend.global.util.Stringx.slugify;
@@ -58,29 +56,9 @@ public class PostServiceImpl implements PostService {
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
     private final StoredFileRepository storedFileRepository;
-    private final FileVariantRepository fileVariantRepository;
 
     private final CdnProperties cdnProperties;
-
-    // ------------------------------- Constants ----------------------------------
-    /**
-     * 본문 내 파일 토큰: ![...](image-token://FL-XXXXXXXX... [ ?t=kind ])
-     */
-    private static final Pattern FILE_TOKEN = Pattern.compile(
-            "!\\[[^]]*]\\(image-token://(FL-[A-Z0-9]{26})(?:\\?t=([\\w\\-_.]+))?\\)"
-    );
-
-    /**
-     * CDN URL 내부에서 FL-... 추출
-     */
-    private static final Pattern CDN_FL_IN_URL = Pattern.compile(
-            "https?://[^)\\s]*/(?:\\d{4}/\\d{2}/\\d{2}/)?(FL-[A-Z0-9]{26})/"
-    );
-
-    /**
-     * 변환 우선순위: AVIF > WEBP > 512 > 256
-     */
-    private static final List<String> DEFAULT_ORDER = List.of("AVIF", "WEBP", "THUMB_512", "THUMB_256");
+    private final PostBodyRenderer bodyRenderer;
 
     // --------------------------------- Create -----------------------------------
 
@@ -130,11 +108,9 @@ public class PostServiceImpl implements PostService {
         List<Tag> orderedTags = new ArrayList<>(inputTags.size());
         for (String name : inputTags) orderedTags.add(tagMap.get(name));
 
-        // 4) 본문 토큰 리라이트 + 파일 ID 추출
+        // 4) 본문 참조 파일 ID 추출 (단일 스캔). 토큰은 그대로 저장하고 조회 시 치환한다
         String mainContentRaw = (cmd.mainContent() == null) ? "" : cmd.mainContent();
-        TokenRewriteResult rewrite = rewriteFileTokens(mainContentRaw);
-        String rewritten = rewrite.rewrittenMarkdown();
-        List<String> contentIds = extractFileIdsFromMarkdown(rewritten);
+        List<String> contentIds = FileTokenScanner.scan(mainContentRaw).referencedIds();
 
         // 5) 헤드이미지 존재 확인 후 로드
         StoredFile headRef = storedFileRepository.findById(cmd.headImageId())
@@ -147,7 +123,7 @@ public class PostServiceImpl implements PostService {
                 .category(category)
                 .headImage(headRef)
                 .headContent(cmd.headContent())
-                .mainContent(rewritten)
+                .mainContent(mainContentRaw)
                 .link(category.getLink())
                 .published(cmd.published())
                 .build();
@@ -167,21 +143,16 @@ public class PostServiceImpl implements PostService {
                         .build()
         );
 
-        // 8) 파일 ref 연결(본문)
-        int order = 1;
-        for (String fid : contentIds) {
-            if (fid == null || fid.isBlank()) continue;
-            fileRefService.attach(
-                    FileRefCommand.Attach.builder()
-                            .fileId(fid)
-                            .ownerType(FileOwnerType.POST)
-                            .ownerId(saved.getId())
-                            .purpose(FilePurpose.CONTENT)
-                            .sortOrder(order++)
-                            .displayName(saved.getId() + " content")
-                            .build()
-            );
-        }
+        // 8) 파일 ref 연결(본문, 일괄)
+        fileRefService.attachAll(
+                FileRefCommand.AttachAll.builder()
+                        .ownerType(FileOwnerType.POST)
+                        .ownerId(saved.getId())
+                        .purpose(FilePurpose.CONTENT)
+                        .orderedFileIds(contentIds)
+                        .displayName(saved.getId() + " content")
+                        .build()
+        );
 
         return saved.getSlug();
     }
@@ -208,8 +179,13 @@ public class PostServiceImpl implements PostService {
                 }
             }
         }
-        // excludeContent=true 일 시 해당 DTO 내부 로직으로 null검증을 함.
-        dto.parseMainContentToHtml();
+        // 저장 본문의 파일 토큰을 현재 변환본/사다리 기준으로 치환한 뒤 렌더링 (게시글 단위 캐시)
+        // excludeContent=true 이면 본문이 null로 온다
+        if (dto.getMainContent() != null) {
+            PostBodyRenderer.Rendered body = bodyRenderer.render(dto.getPostId(), dto.getMainContent());
+            dto.setMainContent(body.html());
+            dto.setToc(body.toc());
+        }
 
         return dto;
     }
@@ -309,17 +285,21 @@ public class PostServiceImpl implements PostService {
         List<Tag> existing = inputTags.isEmpty() ? List.of() : tagRepository.findByNameIn(inputTags);
         Map<String, Tag> map = existing.stream().collect(Collectors.toMap(Tag::getName, t -> t));
 
-        List<Tag> ordered = new ArrayList<>(inputTags.size());
-        for (String name : inputTags) {
-            ordered.add(map.computeIfAbsent(name, n -> tagRepository.save(new Tag(n))));
+        // 없는 태그 일괄 생성
+        List<Tag> missing = new ArrayList<>();
+        for (String name : inputTags) if (!map.containsKey(name)) missing.add(new Tag(name));
+        if (!missing.isEmpty()) {
+            for (Tag t : tagRepository.saveAll(missing)) map.put(t.getName(), t);
         }
+
+        List<Tag> ordered = new ArrayList<>(inputTags.size());
+        for (String name : inputTags) ordered.add(map.get(name));
         post.setTagsInOrder(ordered);
 
-        // 본문 리라이트
+        // 본문 (토큰 그대로 저장)
         String mainRaw = (cmd.mainContent() == null) ? "" : cmd.mainContent();
-        List<String> contentIds = extractFileIdsFromMarkdown(mainRaw);
-        TokenRewriteResult rewrite = rewriteFileTokens(mainRaw);
-        post.rewriteBody(rewrite.rewrittenMarkdown());
+        List<String> contentIds = FileTokenScanner.scan(mainRaw).referencedIds();
+        post.rewriteBody(mainRaw);
 
         // 헤더/카테고리/링크/공개
         StoredFile head = (cmd.headImageId() == null || cmd.headImageId().isBlank())
@@ -341,6 +321,7 @@ public class PostServiceImpl implements PostService {
         ));
 
         postRepository.save(post);
+        bodyRenderer.evict(post.getId());
         return PostResult.Update.builder()
                 .postId(post.getId())
                 .slug(post.getSlug())
@@ -365,6 +346,7 @@ public class PostServiceImpl implements PostService {
 
         // 5) 본체 삭제
         postRepository.delete(post);
+        bodyRenderer.evict(postId);
     }
 
     // ------------------------------ Internal utils ------------------------------
@@ -382,123 +364,4 @@ public class PostServiceImpl implements PostService {
         String dir = o.getDirection().isAscending() ? "ASC" : "DESC";
         return new String[]{key, dir};
     }
-
-    /**
-     * 본문에서 file 토큰 + CDN URL 모두에서 FL-...를 뽑아 중복 제거(선착순 유지)
-     */
-    private static List<String> extractFileIdsFromMarkdown(String markdown) {
-        if (markdown == null || markdown.isBlank()) return List.of();
-
-        List<String> ids = new ArrayList<>();
-
-        Matcher m1 = FILE_TOKEN.matcher(markdown);
-        while (m1.find()) ids.add(m1.group(1));
-
-        Matcher m2 = CDN_FL_IN_URL.matcher(markdown);
-        while (m2.find()) ids.add(m2.group(1));
-
-        LinkedHashSet<String> orderedUnique = new LinkedHashSet<>(ids);
-        return new ArrayList<>(orderedUnique);
-    }
-
-    private TokenRewriteResult rewriteFileTokens(String markdown) {
-        if (markdown == null || markdown.isBlank()) {
-            return new TokenRewriteResult("", List.of());
-        }
-
-        // 수집
-        List<String> idsInOrder = new ArrayList<>();
-        Matcher m = FILE_TOKEN.matcher(markdown);
-        while (m.find()) {
-            String id = m.group(1);
-            if (id != null) idsInOrder.add(id);
-        }
-        if (idsInOrder.isEmpty()) return new TokenRewriteResult(markdown, List.of());
-
-        // 메타/variants 로드
-        List<StoredFile> files = storedFileRepository.findAllById(idsInOrder);
-        Map<String, StoredFile> fileById = new HashMap<>(files.size());
-        for (StoredFile f : files) fileById.put(f.getId(), f);
-
-        var variants = fileVariantRepository.findActiveByFileIdIn(idsInOrder);
-        Map<String, Map<String, String>> vmap = new HashMap<>();
-        variants.forEach(v -> {
-            String fid = v.getOriginal().getId();
-            vmap.computeIfAbsent(fid, k -> new HashMap<>())
-                    .put(v.getKind().name(), v.getStorageKey());
-        });
-
-        // 치환
-        StringBuilder out = new StringBuilder();
-        m.reset();
-        List<String> usedInOrder = new ArrayList<>();
-
-        while (m.find()) {
-            String id = m.group(1);
-            String req = normalizeKind(m.group(2));
-            StoredFile f = fileById.get(id);
-
-            if (f == null) {
-                m.appendReplacement(out, Matcher.quoteReplacement(m.group()));
-                continue;
-            }
-
-            String ct = safeLower(f.getContentType());
-            String base = ensureTrailingSlash(FileUrlResolver.toBaseDirUrl(cdnProperties, f.getStoragePath()));
-
-            String finalUrl;
-            if ("image/svg+xml".equals(ct)) {
-                finalUrl = base + "original";
-            } else {
-                Map<String, String> kinds = vmap.getOrDefault(id, Map.of());
-                String pickedKey = null;
-
-                if (req != null) pickedKey = kinds.get(req);
-                if (pickedKey == null) {
-                    for (String k : DEFAULT_ORDER) {
-                        if (kinds.containsKey(k)) {
-                            pickedKey = kinds.get(k);
-                            break;
-                        }
-                    }
-                }
-                finalUrl = (pickedKey != null)
-                        ? FileUrlResolver.toCdnUrl(cdnProperties, pickedKey)
-                        : base + "original";
-            }
-
-            usedInOrder.add(id);
-
-            String needle = (m.group(2) != null)
-                    ? "image-token://" + id + "\\?t=" + Pattern.quote(m.group(2))
-                    : "image-token://" + id;
-
-            String replaced = m.group().replaceFirst(needle, Matcher.quoteReplacement(finalUrl));
-            m.appendReplacement(out, Matcher.quoteReplacement(replaced));
-        }
-        m.appendTail(out);
-
-        return new TokenRewriteResult(out.toString(), usedInOrder);
-    }
-
-    private static String normalizeKind(String t) {
-        if (t == null || t.isBlank()) return null;
-        String x = t.trim().toUpperCase().replace('-', '_');
-        return switch (x) {
-            case "THUMB_512", "THUMB_256", "WEBP", "AVIF" -> x;
-            default -> null;
-        };
-    }
-
-    private static String ensureTrailingSlash(String s) {
-        if (s == null || s.isBlank()) return s;
-        return s.endsWith("/") ? s : (s + "/");
-    }
-
-    private static String safeLower(String s) {
-        return (s == null) ? "" : s.toLowerCase();
-    }
-
-    private record TokenRewriteResult(String rewrittenMarkdown, List<String> usedFileIdsInOrder) {
-    }
-}
\ No newline at end of file
+}
@@ -1,18 +1,18 @@
 package com.app.codemasterpiecebackend.domain.post.application;
 
 import com.app.codemasterpiecebackend.domain.post.repository.PostRepository;
+import com.app.codemasterpiecebackend.global.infra.redis.RedisOps;
 import com.app.codemasterpiecebackend.global.support.time.TtlCalculator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.SetParams;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostViewRedisService implements PostViewService {
-    private final JedisPool jedisPool;
+    private final RedisOps redis;
     private final PostRepository postRepository;
     private final TtlCalculator ttl;
 
@@ -23,19 +23,17 @@ public class PostViewRedisService implements PostViewService {
         String key = keyOf(postId, ip, ttl.todayStr());
         long expireSec = Math.max(60, ttl.secondsUntilNext3AM()); // 안전 하한선 60초
 
-        try (Jedis jedis = jedisPool.getResource()) {
-            var params = new redis.clients.jedis.params.SetParams()
-                    .nx()
-                    .ex(expireSec);
+        var params = new SetParams()
+                .nx()
+                .ex(expireSec);
 
-            // 처음 보면 "OK", 이미 있으면 null
-            String resp = jedis.set(key, "1", params);
-            if ("OK".equals(resp)) {
-                postRepository.bumpViewCount(postId, 1);
-                return true;
-            }
-            return false;
+        // 처음 보면 "OK", 이미 있으면 null
+        String resp = redis.execute("view.mark", jedis -> jedis.set(key, "1", params));
+        if ("OK".equals(resp)) {
+            postRepository.bumpViewCount(postId, 1);
+            return true;
         }
+        return false;
     }
 
     private static String keyOf(String postId, String ip, String ymd) {
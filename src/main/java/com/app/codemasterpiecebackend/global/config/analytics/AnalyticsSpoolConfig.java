@@ -0,0 +1,49 @@
+package com.app.codemasterpiecebackend.global.config.analytics;
+
+import com.app.codemasterpiecebackend.global.infra.spool.MappedSpool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * # 페이지 뷰 스풀 구성
+ * <p>
+ * - DB가 느리거나 재시작 중일 때 수집 이벤트를 잃지 않도록 파일 기반 {@link MappedSpool}을 제공한다.
+ * - 세그먼트 크기 × 최대 세그먼트 수가 디스크 사용 상한이며, 초과분은 버려진다.
+ * - 기동 시 디렉터리에 남은 세그먼트를 복구하여 재적재 대상으로 삼는다.
+ * - 재시작/재배포를 넘어 남아야 하므로 prod/staging에서는 영속 볼륨 경로({@code app.analytics.spool.dir})를 반드시 지정해야 한다.
+ *   그 밖의 프로필에서만 미지정 시 임시 디렉터리로 대체한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.analytics.spool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsSpoolConfig {
+
+    @Bean(destroyMethod = "close")
+    public MappedSpool pageViewSpool(
+            Environment env,
+            @Value("${app.analytics.spool.dir:}") String dir,
+            @Value("${app.analytics.spool.segment-size:16MB}") DataSize segmentSize,
+            @Value("${app.analytics.spool.max-segments:64}") int maxSegments) throws IOException {
+        return new MappedSpool(resolveDir(env, dir), (int) segmentSize.toBytes(), maxSegments);
+    }
+
+    private static Path resolveDir(Environment env, String dir) {
+        if (dir != null && !dir.isBlank()) return Path.of(dir.trim());
+        if (env.acceptsProfiles(Profiles.of("prod", "staging"))) {
+            throw new IllegalStateException("app.analytics.spool.dir (APP_ANALYTICS_SPOOL_DIR) must point to a persistent volume "
+                    + "or set app.analytics.spool.enabled=false");
+        }
+        Path tmp = Path.of(System.getProperty("java.io.tmpdir"), "codemasterpiece-spool", "page-view");
+        log.warn("Spool dir not set; using {} (lost on container restart)", tmp);
+        return tmp;
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.codemasterpiecebackend.global.config.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수집 단계 봇 판별 설정.
+ *
+ * <p>application.yml 예시:
+ * <pre>
+ * app:
+ *   analytics:
+ *     bot:
+ *       drop: true
+ *       extra-tokens:
+ *         - my-uptime-probe
+ *       blocked-cidrs:
+ *         - 66.249.64.0/19     # 예: 특정 ASN이 광고하는 크롤러 대역
+ * </pre>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.analytics.bot")
+public class BotProps {
+
+    /**
+     * 봇으로 판별된 이벤트를 적재하지 않고 버릴지 여부 (false면 is_bot으로 표시만)
+     */
+    private boolean drop = false;
+
+    /**
+     * 기본 목록에 더할 User-Agent 토큰 (대소문자 무시, ASCII)
+     */
+    private List<String> extraTokens = new ArrayList<>();
+
+    /**
+     * 봇으로 간주할 네트워크 CIDR 목록 (알려진 크롤러/데이터센터 ASN 대역 등).
+     * 마스킹된 IP(/24, /48)로 판정하므로 그보다 넓은 프리픽스만 의미가 있다.
+     */
+    private List<String> blockedCidrs = new ArrayList<>();
+}
@@ -0,0 +1,74 @@
+package com.app.codemasterpiecebackend.global.config.image;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반응형 이미지 폭 사다리(width ladder) 설정.
+ *
+ * <p>application.yml 예시:
+ * <pre>
+ * image:
+ *   ladder:
+ *     lazy-base-url: https://api.codemasterpiece.com
+ *     sizes: "(max-width: 768px) 100vw, 768px"
+ *     demand-flush-interval-ms: 30000
+ *     presets:
+ *       BLOG_DEFAULT:
+ *         widths: [320, 640, 960, 1280]
+ *         eager: [640, 1280]
+ *         formats: [WEBP, AVIF]
+ * </pre>
+ *
+ * <p>{@code eager}에 포함된 단은 업로드 직후 생성하고, 나머지 단은 최초 요청 시 지연 생성한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "image.ladder")
+public class ImageLadderProperties {
+
+    /**
+     * 프리셋 이름(VariantPreset) → 사다리 정의
+     */
+    private Map<String, Ladder> presets = new LinkedHashMap<>();
+
+    /**
+     * 지연 생성 엔드포인트의 공개 베이스 URL. 비어 있으면 본문 srcset에 미생성 단을 노출하지 않는다.
+     */
+    private String lazyBaseUrl = "";
+
+    /**
+     * 본문 {@code <source sizes>} 값
+     */
+    private String sizes = "(max-width: 768px) 100vw, 768px";
+
+    /**
+     * 같은 단에 대한 지연 생성 재요청을 무시할 간격 (처리 중 중복 enqueue 방지)
+     */
+    private Duration lazyRequeueInterval = Duration.ofMinutes(1);
+
+    /**
+     * 지연 생성 단 수요를 DB에 일괄 반영하는 주기(ms). {@code @Scheduled}가 같은 키를 직접 읽는다.
+     */
+    private long demandFlushIntervalMs = 30_000;
+
+    @Getter
+    @Setter
+    public static class Ladder {
+        /** 생성 가능한 전체 폭 목록 (px) */
+        private List<Integer> widths = new ArrayList<>();
+        /** 업로드 직후 즉시 생성할 폭 목록 (widths의 부분집합) */
+        private List<Integer> eager = new ArrayList<>();
+        /** 생성 포맷 (WEBP, AVIF) */
+        private List<String> formats = new ArrayList<>(List.of("WEBP", "AVIF"));
+    }
+}
@@ -0,0 +1,191 @@
+package com.app.codemasterpiecebackend.global.config.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 매퍼 구문별 실행 시간/행 수 계측 인터셉터.
+ *
+ * <p>{@code Executor}의 query/update를 가로채 구문 ID(예: {@code PostMapper.findPostPage})별로 기록한다.
+ * mybatis-spring-boot 자동 구성이 {@link Interceptor} 빈을 SqlSessionFactory에 등록하므로 별도 설정은 없다.</p>
+ *
+ * <ul>
+ *   <li>{@code db.mapper.statement}: 실행 시간 타이머 (tags: statement, outcome), p50/p99 포함</li>
+ *   <li>{@code db.mapper.rows}: 조회 결과 행 수 / 갱신 행 수 (tags: statement).
+ *   {@code ResultHandler}로 스트리밍하는 구문은 행 수를 알 수 없어 기록하지 않는다.</li>
+ *   <li>{@code app.db.slow-statement-ms} 이상 걸린 구문은 WARN으로 남긴다. 바인딩 값은 기록하지 않고 파라미터 타입만,
+ *   SQL 안의 문자열 리터럴({@code ${}} 치환분 포함)은 {@code '?'}로 가린다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+
+    private final ConcurrentHashMap<String, Timer> okTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> errorTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(
+            MeterRegistry registry,
+            @Value("${app.db.slow-statement-ms:200}") long slowStatementMs
+    ) {
+        this.registry = registry;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMs);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement) args[0];
+        String id = shortId(ms.getId());
+
+        long t0 = System.nanoTime();
+        Object result = null;
+        boolean ok = false;
+        try {
+            result = invocation.proceed();
+            ok = true;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - t0;
+            boolean success = ok;
+            (success ? okTimers : errorTimers).computeIfAbsent(id, k -> timer(k, success)).record(nanos, TimeUnit.NANOSECONDS);
+
+            long rows = streaming(args) ? -1 : rows(result);
+            if (rows >= 0) rowSummaries.computeIfAbsent(id, this::rowSummary).record(rows);
+            if (nanos >= slowNanos) logSlow(ms, args, id, nanos, rows, success);
+        }
+    }
+
+    private Timer timer(String id, boolean ok) {
+        return Timer.builder("db.mapper.statement")
+                .description("MyBatis statement execution time")
+                .tags("statement", id, "outcome", ok ? "success" : "error")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private DistributionSummary rowSummary(String id) {
+        return DistributionSummary.builder("db.mapper.rows")
+                .description("Rows returned or affected per MyBatis statement")
+                .baseUnit("rows")
+                .tags("statement", id)
+                .register(registry);
+    }
+
+    /**
+     * {@code ResultHandler}로 행을 흘려보내는 조회인지. 이때 반환값은 빈 목록이라 행 수로 쓸 수 없다.
+     */
+    static boolean streaming(Object[] args) {
+        return args.length >= 4 && args[3] != Executor.NO_RESULT_HANDLER;
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Integer n) return n;
+        return -1;
+    }
+
+    private static void logSlow(MappedStatement ms, Object[] args, String id, long nanos, long rows, boolean ok) {
+        try {
+            BoundSql bound = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+            StringJoiner types = new StringJoiner(", ", "[", "]");
+            for (ParameterMapping pm : bound.getParameterMappings()) {
+                types.add(pm.getJavaType() != null ? pm.getJavaType().getSimpleName() : "?");
+            }
+            log.warn("SLOW SQL {} took={}ms rows={} ok={} params={} sql={}",
+                    id, TimeUnit.NANOSECONDS.toMillis(nanos), rows, ok, types, redact(bound.getSql()));
+        } catch (RuntimeException e) {
+            log.warn("SLOW SQL {} took={}ms rows={} ok={}", id, TimeUnit.NANOSECONDS.toMillis(nanos), rows, ok);
+        }
+    }
+
+    /**
+     * {@code com.app...repository.PostMapper.findPostPage} → {@code PostMapper.findPostPage}
+     */
+    static String shortId(String id) {
+        int dot = id.lastIndexOf('.');
+        if (dot <= 0) return id;
+        int prev = id.lastIndexOf('.', dot - 1);
+        return prev < 0 ? id : id.substring(prev + 1);
+    }
+
+    /**
+     * 공백을 한 칸으로 줄이고 작은따옴표 문자열 리터럴을 {@code '?'}로 바꾼다.
+     * {@code ''} 이스케이프와, PostgreSQL {@code E'...'} 리터럴의 백슬래시 이스케이프를 리터럴 안으로 본다.
+     */
+    static String redact(String sql) {
+        StringBuilder sb = new StringBuilder(Math.min(sql.length(), 2048));
+        boolean space = false;
+        for (int i = 0, n = sql.length(); i < n; i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                boolean backslash = isEscapePrefix(sql, i);
+                int j = i + 1;
+                while (j < n) {
+                    if (backslash && sql.charAt(j) == '\\') {
+                        j += 2;
+                    } else if (sql.charAt(j) == '\'') {
+                        if (j + 1 < n && sql.charAt(j + 1) == '\'') j += 2; // '' 이스케이프
+                        else break;
+                    } else {
+                        j++;
+                    }
+                }
+                sb.append("'?'");
+                i = j;
+                space = false;
+            } else if (Character.isWhitespace(c)) {
+                if (!space && !sb.isEmpty()) sb.append(' ');
+                space = true;
+            } else {
+                sb.append(c);
+                space = false;
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * {@code sql[quote]}의 여는 따옴표가 {@code E'}/{@code e'} 리터럴의 시작인지. (식별자 끝의 e는 제외)
+     */
+    private static boolean isEscapePrefix(String sql, int quote) {
+        if (quote == 0) return false;
+        char e = sql.charAt(quote - 1);
+        if (e != 'E' && e != 'e') return false;
+        if (quote == 1) return true;
+        char before = sql.charAt(quote - 2);
+        return !(Character.isLetterOrDigit(before) || before == '_' || before == '$');
+    }
+}
@@ -11,6 +11,10 @@ public class UserAgentConfig {
         return UserAgentAnalyzer
                 .newBuilder()
                 .hideMatcherLoadStats()
+                // 사용하는 필드만 계산하도록 제한 (분석 비용 절감)
+                .withField("DeviceClass")
+                .withField("AgentName")
+                .withField("OperatingSystemName")
                 .withCache(10_000)
                 .build();
     }
@@ -1,6 +1,8 @@
 package com.app.codemasterpiecebackend.global.config.s3;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,9 +48,11 @@ import java.util.Optional;
  * <ul>
  *   <li>멀티파트(5GB 초과 업로드)는 별도 전송 매니저 사용을 고려하라.</li>
  *   <li>Presigner는 AutoCloseable이므로 컨텍스트 종료 시 Spring이 자동 close한다.</li>
+ *   <li>{@code file.storage.type=LOCAL}이면 구성 전체가 비활성화된다.</li>
  * </ul>
  */
 @Configuration
+@ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "S3", matchIfMissing = true)
 @EnableConfigurationProperties(S3StorageProperties.class)
 @RequiredArgsConstructor
 public class AwsS3Config {
@@ -63,12 +67,13 @@ public class AwsS3Config {
      *   <li>HTTP 클라이언트: JDK URLConnection (가볍고 의존 적음)</li>
      *   <li>Retry: StandardRetryStrategy + half-jitter backoff</li>
      *   <li>Path-style 및 커스텀 endpoint 지원(LocalStack/MinIO)</li>
+     *   <li>오퍼레이션별 호출 시간 계측({@link S3MetricsInterceptor})</li>
      * </ul>
      *
      * @return 구성된 {@link S3Client}
      */
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(MeterRegistry meterRegistry) {
         // 경량 기본 HTTP 클라이언트
         var http = UrlConnectionHttpClient.builder().build();
 
@@ -95,6 +100,7 @@ public class AwsS3Config {
                 .apiCallTimeout(Duration.ofMillis(Math.max(props.getReadTimeoutMs(), 10_000)))
                 // retryMode는 별도 지정이 없어도 retryStrategy가 우선 적용됨
                 .retryStrategy(retryStrategy)
+                .addExecutionInterceptor(new S3MetricsInterceptor(meterRegistry))
                 .build();
 
         // S3 서비스 별도 구성 (path-style: LocalStack/MinIO에서 필요)
@@ -0,0 +1,74 @@
+package com.app.codemasterpiecebackend.global.config.s3;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 API 호출 시간 계측 인터셉터.
+ *
+ * <p>{@link software.amazon.awssdk.services.s3.S3Client}에 등록되어 {@code S3IoManager}를 포함한 모든 호출을
+ * SDK 오퍼레이션(PutObject, GetObject, HeadObject, DeleteObjects …) 단위로 기록한다.
+ * 시간은 재시도/백오프를 포함한 호출 전체이며, GetObject는 응답 헤더 수신까지(본문 스트리밍 제외)다.</p>
+ *
+ * <ul>
+ *   <li>{@code s3.request}: (tags: operation, status) — status는 2xx/3xx/4xx/5xx, 응답을 받지 못한 실패는 {@code IO}</li>
+ * </ul>
+ * <p>HeadObject 404처럼 호출부가 정상 흐름으로 처리하는 응답도 4xx로 집계된다.</p>
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START = new ExecutionAttribute<>("cm.s3.start");
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public S3MetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attrs) {
+        attrs.putAttribute(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attrs) {
+        record(attrs, statusClass(context.httpResponse().statusCode()));
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attrs) {
+        String status = context.exception() instanceof SdkServiceException e ? statusClass(e.statusCode()) : "IO";
+        record(attrs, status);
+    }
+
+    private void record(ExecutionAttributes attrs, String status) {
+        Long t0 = attrs.getAttribute(START);
+        if (t0 == null) return;
+        String name = attrs.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        String op = name != null ? name : "unknown";
+        timers.computeIfAbsent(op + '|' + status, k -> timer(op, status))
+                .record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String op, String status) {
+        return Timer.builder("s3.request")
+                .description("S3 API call time including retries")
+                .tags("operation", op, "status", status)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private static String statusClass(int status) {
+        return status <= 0 ? "IO" : (status / 100) + "xx";
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.codemasterpiecebackend.global.config.storage;
+
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.LocalIoManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * # 로컬 파일시스템 저장소 구성
+ * <p>
+ * - {@code file.storage.type=LOCAL}일 때 {@link LocalIoManager}를 {@code IoManager}로 등록한다.
+ * - 이 모드에서는 S3 구성({@code AwsS3Config}, {@code S3IoManager})이 비활성화되어 버킷 없이 기동된다.
+ * - 저장된 객체는 {@code LocalStorageV1Controller}가 공개 읽기 또는 HMAC 서명 URL로 제공한다.
+ * - {@link LocalStorageProperties}도 이 모드에서만 바인딩/검증한다. (S3 모드는 서명 키 없이 기동)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "LOCAL")
+@EnableConfigurationProperties(LocalStorageProperties.class)
+public class LocalStorageConfig {
+
+    @Bean
+    public LocalIoManager localIoManager(LocalStorageProperties props, Clock clock) throws IOException {
+        return new LocalIoManager(
+                Path.of(props.getRoot()),
+                props.getPublicBaseUrl(),
+                props.getSigningSecret(),
+                clock
+        );
+    }
+}
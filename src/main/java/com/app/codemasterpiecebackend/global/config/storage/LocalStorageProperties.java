@@ -0,0 +1,62 @@
+package com.app.codemasterpiecebackend.global.config.storage;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 로컬 파일시스템 저장소 설정 ({@code file.storage.type=LOCAL}일 때 사용).
+ *
+ * <p>application.yml 예시:
+ * <pre>
+ * file:
+ *   storage:
+ *     type: LOCAL
+ *   local:
+ *     root: /var/lib/codemasterpiece/storage
+ *     public-base-url: http://localhost:8080/api/v1/storage/local
+ *     signing-secret: ${FILE_LOCAL_SIGNING_SECRET}
+ *     public-read: true
+ * </pre>
+ *
+ * <p>CDN URL도 같은 엔드포인트를 가리키도록 {@code file.s3.cdnHost}를 {@code public-base-url}과 동일하게,
+ * {@code file.s3.keyPrefix}는 비워 두면 된다.
+ *
+ * <p>LOCAL 모드에서만 등록되며({@link LocalStorageConfig}), 서명 키가 비어 있거나 예시 값({@code change-me...})이면
+ * 누구나 서명 URL을 위조할 수 있으므로 기동을 실패시킨다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "file.local")
+public class LocalStorageProperties {
+
+    /**
+     * 객체를 저장할 루트 디렉터리
+     */
+    private String root = System.getProperty("java.io.tmpdir") + "/codemasterpiece-storage";
+
+    /**
+     * 로컬 객체 제공 엔드포인트의 공개 베이스 URL (presigned URL 생성에 사용)
+     */
+    private String publicBaseUrl = "http://localhost:8080/api/v1/storage/local";
+
+    /**
+     * presigned URL 서명용 HMAC 비밀 키 (필수, 기본값 없음)
+     */
+    @NotBlank
+    private String signingSecret;
+
+    /**
+     * 서명 없는 읽기 허용 여부 (CDN 공개 읽기 에뮬레이션)
+     */
+    private boolean publicRead = true;
+
+    @AssertTrue(message = "file.local.signing-secret must not be a placeholder value")
+    public boolean isSigningSecretConfigured() {
+        return signingSecret == null || !signingSecret.trim().toLowerCase().startsWith("change-me");
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.codemasterpiecebackend.global.config.storage;
+
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.CachingIoManager;
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.S3IoManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * # 저장소 디스크 캐시 구성
+ * <p>
+ * - {@code file.cache.enabled=true}일 때 {@link S3IoManager}를 {@link CachingIoManager}로 감싸 {@code @Primary}로 노출한다.
+ * - 애플리케이션 계층은 기존과 같이 {@code IoManager}만 주입받으며, 캐시 여부를 알지 못한다.
+ * - 로컬 저장소 모드에서는 원본이 이미 로컬 디스크이므로 적용하지 않는다.
+ * - 캐시 통계는 {@code file.io.cache.*} 게이지로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "file.cache", name = "enabled", havingValue = "true")
+public class StorageCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "S3", matchIfMissing = true)
+    public CachingIoManager cachingIoManager(S3IoManager s3IoManager,
+                                             StorageCacheProperties props,
+                                             MeterRegistry meterRegistry) throws IOException {
+        var cache = new CachingIoManager(
+                s3IoManager,
+                Path.of(props.getDir()),
+                props.getMaxSize().toBytes(),
+                props.getMaxEntrySize().toBytes()
+        );
+
+        Gauge.builder("file.io.cache.used.bytes", cache, c -> c.stats().usedBytes()).register(meterRegistry);
+        Gauge.builder("file.io.cache.entries", cache, c -> c.stats().entries()).register(meterRegistry);
+        Gauge.builder("file.io.cache.hits", cache, c -> c.stats().hits()).register(meterRegistry);
+        Gauge.builder("file.io.cache.misses", cache, c -> c.stats().misses()).register(meterRegistry);
+        Gauge.builder("file.io.cache.evictions", cache, c -> c.stats().evictions()).register(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.codemasterpiecebackend.global.config.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 원격 저장소 앞단 로컬 디스크 캐시 설정.
+ *
+ * <p>application.yml 예시:
+ * <pre>
+ * file:
+ *   cache:
+ *     enabled: true
+ *     dir: /var/cache/codemasterpiece/io
+ *     max-size: 2GB
+ *     max-entry-size: 64MB
+ * </pre>
+ *
+ * <p>{@code max-entry-size}를 넘는 객체는 캐시하지 않고 원본 저장소로 바로 위임한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "file.cache")
+public class StorageCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐시 디렉터리 (시작 시 비워진다)
+     */
+    private String dir = System.getProperty("java.io.tmpdir") + "/codemasterpiece-io-cache";
+
+    /**
+     * 캐시 전체 용량 상한 (LRU 축출 기준)
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(2);
+
+    /**
+     * 캐시할 단일 객체의 최대 크기
+     */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(64);
+}
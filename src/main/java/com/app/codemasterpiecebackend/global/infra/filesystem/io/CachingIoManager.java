@@ -0,0 +1,527 @@
+package com.app.codemasterpiecebackend.global.infra.filesystem.io;
+
+import com.app.codemasterpiecebackend.domain.file.core.dto.FileObjectMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 원격 저장소(IoManager) 앞단에 로컬 디스크 캐시를 두는 계층형 데코레이터입니다.
+ *
+ * <p>캐시는 용량 상한이 있는 LRU로 관리되며, 다음 규칙을 따릅니다.</p>
+ * <ul>
+ *   <li><b>Read-through</b>: {@code openStream}/{@code openRange} 미스 시 원본을 캐시 파일로 내려받은 뒤 캐시에서 응답</li>
+ *   <li><b>Write-through</b>: {@code put}은 캐시 파일에 먼저 기록하고, 그 파일을 원본 저장소로 업로드한 뒤 캐시에 등록</li>
+ *   <li><b>Invalidation</b>: {@code delete}/{@code move}/{@code deletePrefix}/{@code deleteKeys}는 해당 키를 캐시에서 제거</li>
+ *   <li><b>Zero-copy</b>: 캐시 적중 스트림은 {@link FileChannel} 기반이며, 대상이 파일이면 {@code transferTo}로 커널 내 복사</li>
+ * </ul>
+ *
+ * <p>인덱스는 메모리에만 있으므로 프로세스 시작 시 캐시 디렉터리를 비웁니다.
+ * 같은 키에 대한 동시 미스는 각자 내려받을 수 있으며, 채우기마다 고유한 파일에 기록하므로 다른 채우기나 무효화가
+ * 살아 있는 항목의 파일을 지우는 일은 없습니다.</p>
+ *
+ * <p>키별 세대(generation)는 {@code put}/무효화마다 증가하며, 채우기는 시작 시점의 세대가 그대로일 때만 등록됩니다.
+ * 무효화와 경합한 채우기가 이전 내용을 캐시에 되살리지 못하게 하기 위함입니다.</p>
+ */
+@Slf4j
+public class CachingIoManager implements IoManager {
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final IoManager delegate;
+    private final Path root;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    /** 논리 키 → 캐시 항목 (접근 순서 = LRU 순서) */
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long usedBytes;
+
+    /** 논리 키 → 세대. 진행 중인 채우기가 있는 키만 유지 */
+    private final HashMap<String, Generation> generations = new HashMap<>();
+    private final AtomicLong fileSeq = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Entry(Path path, long size) {
+    }
+
+    private static final class Generation {
+        long value;
+        int pending;
+    }
+
+    /** 채우기 시작 시점의 세대 */
+    private record Ticket(String key, Generation gen, long value) {
+    }
+
+    /**
+     * 캐시 통계.
+     *
+     * @param entries   캐시된 객체 수
+     * @param usedBytes 사용 중인 디스크 용량
+     * @param maxBytes  디스크 용량 상한
+     * @param hits      적중 횟수
+     * @param misses    미스 횟수
+     * @param evictions LRU 축출 횟수
+     */
+    public record Stats(int entries, long usedBytes, long maxBytes, long hits, long misses, long evictions) {
+    }
+
+    /**
+     * @param delegate      실제 저장소
+     * @param root          캐시 디렉터리
+     * @param maxBytes      캐시 전체 용량 상한
+     * @param maxEntryBytes 캐시할 단일 객체의 최대 크기 (초과 시 우회)
+     */
+    public CachingIoManager(IoManager delegate, Path root, long maxBytes, long maxEntryBytes) throws IOException {
+        this.delegate = delegate;
+        this.root = root.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+
+        Files.createDirectories(this.root);
+        purgeDirectory();
+        log.info("CachingIoManager ready. root={}, maxBytes={}, maxEntryBytes={}", this.root, maxBytes, this.maxEntryBytes);
+    }
+
+    // ===== 쓰기 (write-through) =====
+
+    @Override
+    public FileObjectMetadata put(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        if (contentLength <= 0 || contentLength > maxEntryBytes) {
+            // 업로드 도중 시작된 채우기가 이전 내용을 등록하지 못하도록 업로드 후에 무효화
+            try {
+                return delegate.put(key, in, contentLength, contentType);
+            } finally {
+                invalidate(key);
+            }
+        }
+
+        Ticket ticket = begin(normalize(key), true);
+        Path temp;
+        FileObjectMetadata meta;
+        try {
+            temp = tempFile();
+        } catch (IOException | RuntimeException e) {
+            abandon(ticket);
+            throw e;
+        }
+        try {
+            // 1) 로컬 디스크에 먼저 기록 (원본 스트림은 1회만 소비)
+            try (in; FileChannel ch = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long written = ch.transferFrom(Channels.newChannel(in), 0, contentLength);
+                if (written != contentLength) {
+                    throw new IOException("Short write while caching: expected=" + contentLength + ", actual=" + written);
+                }
+            }
+
+            // 2) 캐시 파일을 원본 저장소로 업로드
+            try (InputStream fileIn = Files.newInputStream(temp)) {
+                meta = delegate.put(key, fileIn, contentLength, contentType);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            abandon(ticket);
+            invalidate(key);
+            throw e;
+        }
+
+        // 3) 업로드 성공 후에만 캐시에 등록 (업로드 중 시작된 채우기는 이전 내용일 수 있으므로 무효화)
+        try {
+            commit(ticket, temp, contentLength, true);
+        } catch (IOException | RuntimeException e) {
+            invalidate(key);
+            throw e;
+        }
+        return meta;
+    }
+
+    @Override
+    public FileObjectMetadata move(String srcKey, String dstKey) throws IOException {
+        try {
+            return delegate.move(srcKey, dstKey);
+        } finally {
+            invalidate(srcKey);
+            invalidate(dstKey);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            return delegate.delete(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public int deletePrefix(String prefix) throws IOException {
+        try {
+            return delegate.deletePrefix(prefix);
+        } finally {
+            invalidatePrefix(prefix);
+        }
+    }
+
+    @Override
+    public BulkDeleteResult deleteKeys(Collection<String> keys) throws IOException {
+        try {
+            return delegate.deleteKeys(keys);
+        } finally {
+            for (String key : keys) invalidate(key);
+        }
+    }
+
+    // ===== 읽기 (read-through) =====
+
+    @Override
+    public InputStream openStream(String key) throws IOException {
+        Entry e = lookup(key);
+        if (e != null) {
+            InputStream cached = openCached(e, 0, e.size());
+            if (cached != null) return cached;
+        }
+
+        misses.incrementAndGet();
+        Entry filled = fill(key, null);
+        if (filled == null) return delegate.openStream(key);
+
+        InputStream cached = openCached(filled, 0, filled.size());
+        return cached != null ? cached : delegate.openStream(key);
+    }
+
+    @Override
+    public InputStream openRange(String key, long startInclusive, long endExclusive) throws IOException {
+        Entry e = lookup(key);
+        if (e == null) {
+            misses.incrementAndGet();
+            // 범위 요청만으로 대용량 객체 전체를 받지 않도록, 크기를 확인한 뒤 상한 이내일 때만 채운다
+            long size = delegate.head(key).map(FileObjectMetadata::size).orElse(-1L);
+            if (size <= 0 || size > maxEntryBytes) {
+                return delegate.openRange(key, startInclusive, endExclusive);
+            }
+            e = fill(key, size);
+            if (e == null) return delegate.openRange(key, startInclusive, endExclusive);
+        }
+
+        long start = Math.max(0, startInclusive);
+        long end = endExclusive > 0 ? Math.min(endExclusive, e.size()) : e.size();
+        InputStream cached = openCached(e, start, Math.max(start, end));
+        return cached != null ? cached : delegate.openRange(key, startInclusive, endExclusive);
+    }
+
+    // ===== 위임 =====
+
+    @Override
+    public Optional<FileObjectMetadata> head(String key) throws IOException {
+        return delegate.head(key);
+    }
+
+    @Override
+    public String presignRead(String key, Duration ttl) throws IOException {
+        return delegate.presignRead(key, ttl);
+    }
+
+    @Override
+    public PresignWriteResult presignWrite(String key, Duration ttl, String contentType, long maxSize) throws IOException {
+        return delegate.presignWrite(key, ttl, contentType, maxSize);
+    }
+
+    @Override
+    public List<String> listKeys(String prefix) throws IOException {
+        return delegate.listKeys(prefix);
+    }
+
+    // ===== 캐시 관리 =====
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(index.size(), usedBytes, maxBytes, hits.get(), misses.get(), evictions.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 키의 캐시 항목을 제거합니다. 원본 저장소에는 영향을 주지 않습니다.
+     */
+    public void invalidate(String key) {
+        String k = normalize(key);
+        Entry removed;
+        lock.lock();
+        try {
+            bump(k);
+            removed = index.remove(k);
+            if (removed != null) usedBytes -= removed.size();
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null) deleteQuietly(removed.path());
+    }
+
+    private void invalidatePrefix(String prefix) {
+        String p = normalize(prefix);
+        if (!p.endsWith("/")) p = p + "/";
+
+        List<Entry> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            for (var g : generations.entrySet()) {
+                if (g.getKey().startsWith(p)) g.getValue().value++;
+            }
+            Iterator<Map.Entry<String, Entry>> it = index.entrySet().iterator();
+            while (it.hasNext()) {
+                var en = it.next();
+                if (en.getKey().startsWith(p)) {
+                    usedBytes -= en.getValue().size();
+                    removed.add(en.getValue());
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(e -> deleteQuietly(e.path()));
+    }
+
+    private Entry lookup(String key) {
+        lock.lock();
+        try {
+            Entry e = index.get(normalize(key)); // access-order: 조회가 곧 LRU 갱신
+            if (e != null) hits.incrementAndGet();
+            return e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 원본을 캐시 파일로 내려받아 등록합니다. 크기를 모르거나 상한을 넘으면, 또는 내려받는 사이 키가 무효화되면
+     * 등록하지 않고 null을 반환합니다.
+     */
+    private Entry fill(String key, Long knownSize) throws IOException {
+        if (knownSize != null && knownSize > maxEntryBytes) return null;
+
+        Ticket ticket = begin(normalize(key), false);
+        Path temp = null;
+        long size;
+        try {
+            temp = tempFile();
+            try (InputStream in = delegate.openStream(key);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = copyBounded(in, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (temp != null) Files.deleteIfExists(temp);
+            abandon(ticket);
+            throw e;
+        }
+
+        if (size < 0) {
+            Files.deleteIfExists(temp);
+            abandon(ticket);
+            return null;
+        }
+        return commit(ticket, temp, size, false);
+    }
+
+    /**
+     * 상한(maxEntryBytes)까지만 복사합니다. 상한을 넘으면 -1을 반환합니다.
+     */
+    private long copyBounded(InputStream in, FileChannel out) throws IOException {
+        var src = Channels.newChannel(in);
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        long total = 0;
+        while (src.read(buf) >= 0) {
+            buf.flip();
+            total += buf.remaining();
+            if (total > maxEntryBytes) return -1;
+            while (buf.hasRemaining()) out.write(buf);
+            buf.clear();
+        }
+        return total;
+    }
+
+    /**
+     * 임시 파일을 고유한 캐시 파일로 옮겨 등록합니다. 채우기 시작 이후 세대가 바뀌었으면 버리고 null을 반환합니다.
+     * 성공/실패와 무관하게 ticket을 반납합니다.
+     *
+     * @param authoritative put처럼 원본을 방금 갱신한 경우. 등록과 함께 세대를 올려 진행 중인 다른 채우기를 무효로 만든다
+     */
+    private Entry commit(Ticket ticket, Path temp, long size, boolean authoritative) throws IOException {
+        String k = ticket.key();
+        Path target = pathOf(k);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            abandon(ticket);
+            throw e;
+        }
+
+        Entry entry = new Entry(target, size);
+        Entry replaced = null;
+        List<Entry> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            boolean current = ticket.gen().value == ticket.value();
+            if (current && authoritative) ticket.gen().value++;
+            release(ticket);
+            if (!current) {
+                entry = null;
+                return null;
+            }
+
+            replaced = index.put(k, entry);
+            if (replaced != null) usedBytes -= replaced.size();
+            usedBytes += size;
+
+            Iterator<Map.Entry<String, Entry>> it = index.entrySet().iterator();
+            while (usedBytes > maxBytes && it.hasNext()) {
+                var eldest = it.next();
+                if (eldest.getKey().equals(k)) continue;
+                usedBytes -= eldest.getValue().size();
+                evicted.add(eldest.getValue());
+                it.remove();
+            }
+        } finally {
+            lock.unlock();
+            if (entry == null) deleteQuietly(target);
+        }
+
+        // 열린 채널은 unlink 이후에도 읽을 수 있으므로 진행 중인 읽기에 영향이 없다
+        if (replaced != null) deleteQuietly(replaced.path());
+        for (Entry e : evicted) {
+            deleteQuietly(e.path());
+            evictions.incrementAndGet();
+        }
+        return entry;
+    }
+
+    private Ticket begin(String k, boolean bump) {
+        lock.lock();
+        try {
+            Generation g = generations.computeIfAbsent(k, x -> new Generation());
+            if (bump) g.value++;
+            g.pending++;
+            return new Ticket(k, g, g.value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abandon(Ticket ticket) {
+        lock.lock();
+        try {
+            release(ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** lock 보유 상태에서 호출 */
+    private void release(Ticket ticket) {
+        if (--ticket.gen().pending == 0) generations.remove(ticket.key());
+    }
+
+    /** lock 보유 상태에서 호출. 진행 중인 채우기가 없으면 기억할 필요가 없다 */
+    private void bump(String k) {
+        Generation g = generations.get(k);
+        if (g != null) g.value++;
+    }
+
+    /**
+     * 캐시 파일을 [start, end) 범위로 엽니다. 그 사이 축출되어 파일이 없으면 null을 반환합니다.
+     */
+    private InputStream openCached(Entry e, long start, long end) throws IOException {
+        try {
+            FileChannel ch = FileChannel.open(e.path(), StandardOpenOption.READ);
+            return new FileChannelInputStream(ch, start, end);
+        } catch (NoSuchFileException | FileNotFoundException ex) {
+            lock.lock();
+            try {
+                if (index.values().remove(e)) usedBytes -= e.size();
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 채우기마다 새 파일 이름을 쓴다. (같은 키의 다른 채우기/무효화가 살아 있는 항목의 파일을 지우지 않도록)
+     */
+    private Path pathOf(String normalizedKey) {
+        String h = sha256Hex(normalizedKey);
+        return root.resolve(h.substring(0, 2)).resolve(h + "." + fileSeq.incrementAndGet());
+    }
+
+    private Path tempFile() throws IOException {
+        return Files.createFile(root.resolve(UUID.randomUUID() + TEMP_SUFFIX));
+    }
+
+    private void purgeDirectory() throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.sorted((a, b) -> b.getNameCount() - a.getNameCount())
+                    .filter(p -> !p.equals(root))
+                    .forEach(CachingIoManager::deleteQuietly);
+        }
+    }
+
+    private static String normalize(String key) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        String k = key.replace('\\', '/');
+        while (k.startsWith("/")) k = k.substring(1);
+        return k.replaceAll("/{2,}", "/");
+    }
+
+    private static String sha256Hex(String s) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(d);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path p) {
+        try {
+            Files.deleteIfExists(p);
+        } catch (IOException ignored) {
+        }
+    }
+}
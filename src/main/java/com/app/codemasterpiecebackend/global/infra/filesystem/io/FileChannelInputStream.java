@@ -0,0 +1,77 @@
+package com.app.codemasterpiecebackend.global.infra.filesystem.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link FileChannel}의 [start, end) 구간을 읽는 입력 스트림.
+ * 로컬 파일 기반 구현체(캐시, 로컬 저장소)가 공통으로 사용합니다.
+ * {@link #transferTo(OutputStream)} 대상이 파일이면 {@link FileChannel#transferTo}로 사용자 공간 복사 없이 전송합니다.
+ */
+final class FileChannelInputStream extends InputStream {
+    private final FileChannel ch;
+    private final long end;
+    private long pos;
+
+    FileChannelInputStream(FileChannel ch, long start, long end) {
+        this.ch = ch;
+        this.pos = start;
+        this.end = end;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : (one[0] & 0xFF);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        long left = end - pos;
+        if (left <= 0) return -1;
+        int n = ch.read(ByteBuffer.wrap(b, off, (int) Math.min(len, left)), pos);
+        if (n < 0) return -1;
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long s = Math.max(0, Math.min(n, end - pos));
+        pos += s;
+        return s;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, end - pos));
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        WritableByteChannel target = (out instanceof FileOutputStream fos)
+                ? fos.getChannel()
+                : Channels.newChannel(out);
+        long total = 0;
+        while (pos < end) {
+            long n = ch.transferTo(pos, end - pos, target);
+            if (n <= 0) break;
+            pos += n;
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+}
@@ -5,6 +5,9 @@ import com.app.codemasterpiecebackend.domain.file.core.dto.FileObjectMetadata;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -111,9 +114,51 @@ public interface IoManager {
      */
     int deletePrefix(String prefix) throws IOException;
 
+    /**
+     * 특정 접두어(Prefix) 하위의 모든 객체 키를 나열합니다.
+     * 여러 접두어의 키를 모아 한 번에 일괄 삭제({@link #deleteKeys})하기 위한 용도입니다.
+     *
+     * @param prefix 나열할 대상의 접두어 경로
+     * @return 접두어 하위 객체의 논리 키 목록
+     * @throws IOException 스토리지 연동 중 예외 발생 시
+     */
+    List<String> listKeys(String prefix) throws IOException;
+
+    /**
+     * 여러 객체를 키 목록으로 일괄 삭제합니다.
+     * 구현체는 저장소가 허용하는 최대 단위(S3: 1000개)로 묶어 요청 수를 최소화해야 합니다.
+     * 기본 구현은 단건 삭제를 반복합니다.
+     *
+     * @param keys 삭제할 객체의 논리 키 목록
+     * @return 삭제 결과 (성공 개수와 실패한 키 목록)
+     * @throws IOException 스토리지 연동 중 예외 발생 시
+     */
+    default BulkDeleteResult deleteKeys(Collection<String> keys) throws IOException {
+        int deleted = 0;
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                if (delete(key)) deleted++;
+            } catch (IOException e) {
+                failed.add(key);
+            }
+        }
+        return new BulkDeleteResult(deleted, failed, keys.size());
+    }
+
     /**
      * 클라이언트 직접 업로드(Presigned Write)를 위한 통신 객체입니다.
      */
     record PresignWriteResult(String url, Map<String, String> headersOrFormFields) {
     }
+
+    /**
+     * 일괄 삭제 결과입니다.
+     *
+     * @param deleted    삭제된 객체 수
+     * @param failedKeys 삭제에 실패한 논리 키 목록
+     * @param requests   저장소로 보낸 요청 수
+     */
+    record BulkDeleteResult(int deleted, List<String> failedKeys, int requests) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,396 @@
+package com.app.codemasterpiecebackend.global.infra.filesystem.io;
+
+import com.app.codemasterpiecebackend.domain.file.core.dto.FileObjectMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉터리 트리를 백엔드 저장소로 사용하는 IoManager 구현체입니다.
+ *
+ * <p>S3 없이 단일 서버 배포나 저장소 벤치마크를 수행하기 위한 용도이며, 모든 연산을 NIO로 처리합니다.</p>
+ * <ul>
+ *   <li><b>put</b>: 같은 디렉터리의 임시 파일에 {@link FileChannel#transferFrom}으로 기록한 뒤 원자적 이동으로 공개</li>
+ *   <li><b>move</b>: 원자적 이동(ATOMIC_MOVE), 미지원 파일시스템에서는 일반 이동으로 대체</li>
+ *   <li><b>openStream/openRange</b>: {@link FileChannel} 기반 스트림 — 대상이 파일이면 {@code transferTo}로 전송</li>
+ *   <li><b>deletePrefix/listKeys</b>: {@link Files#walk} 기반 순회</li>
+ *   <li><b>presign</b>: 만료 시각과 HMAC-SHA256 서명을 포함한 로컬 URL로 에뮬레이션</li>
+ * </ul>
+ *
+ * <p>키 정규화 규칙은 S3 구현과 같으며, 정규화 후에도 루트 밖을 가리키는 키는 거부합니다.</p>
+ */
+@Slf4j
+public class LocalIoManager implements IoManager {
+
+    private static final String STORAGE_TYPE = "LOCAL";
+    private static final String CONTENT_TYPE_ATTR = "user.content-type";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String HMAC_ALG = "HmacSHA256";
+
+    private final Path root;
+    private final String publicBaseUrl;
+    private final byte[] signingKey;
+    private final Clock clock;
+
+    public LocalIoManager(Path root, String publicBaseUrl, String signingSecret, Clock clock) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.publicBaseUrl = trimTrailingSlash(publicBaseUrl);
+        this.signingKey = Objects.requireNonNull(signingSecret, "signingSecret must not be null")
+                .getBytes(StandardCharsets.UTF_8);
+        this.clock = clock;
+
+        Files.createDirectories(this.root);
+        log.info("LocalIoManager ready. root={}, publicBaseUrl={}", this.root, this.publicBaseUrl);
+    }
+
+    // ===== API 구현 =====
+
+    @Override
+    public FileObjectMetadata put(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        Objects.requireNonNull(in, "InputStream must not be null");
+        if (contentLength <= 0) {
+            throw new IllegalArgumentException("Content length must be strictly positive for direct streaming. Size: " + contentLength);
+        }
+
+        final String k = normalizeKey(key);
+        final Path target = resolve(k);
+        Files.createDirectories(target.getParent());
+
+        // 같은 디렉터리에 임시 파일을 만들어야 원자적 이동(rename)이 보장된다
+        Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try (in; FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ReadableByteChannel src = Channels.newChannel(in);
+            long written = 0;
+            while (written < contentLength) {
+                long n = out.transferFrom(src, written, contentLength - written);
+                if (n <= 0) break;
+                written += n;
+            }
+            if (written != contentLength) {
+                throw new IOException("Short write: expected=" + contentLength + ", actual=" + written);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String ct = nonBlank(contentType, DEFAULT_CONTENT_TYPE);
+        writeContentType(temp, ct);
+        moveAtomically(temp, target);
+
+        return metadata(k, target, ct);
+    }
+
+    @Override
+    public FileObjectMetadata move(String srcKey, String dstKey) throws IOException {
+        final String dk = normalizeKey(dstKey);
+        final Path src = resolve(normalizeKey(srcKey));
+        final Path dst = resolve(dk);
+
+        if (!Files.exists(src)) throw new FileNotFoundException("Local object not found: " + srcKey);
+        Files.createDirectories(dst.getParent());
+        moveAtomically(src, dst);
+        pruneEmptyParents(src.getParent());
+
+        return metadata(dk, dst, readContentType(dst));
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        Path p = resolve(normalizeKey(key));
+        Files.deleteIfExists(p); // 존재하지 않아도 멱등
+        pruneEmptyParents(p.getParent());
+        return true;
+    }
+
+    @Override
+    public Optional<FileObjectMetadata> head(String key) throws IOException {
+        final String k = normalizeKey(key);
+        Path p = resolve(k);
+        if (!Files.isRegularFile(p)) return Optional.empty();
+        return Optional.of(metadata(k, p, readContentType(p)));
+    }
+
+    @Override
+    public InputStream openStream(String key) throws IOException {
+        Path p = resolve(normalizeKey(key));
+        FileChannel ch = openChannel(p, key);
+        return new FileChannelInputStream(ch, 0, ch.size());
+    }
+
+    @Override
+    public InputStream openRange(String key, long startInclusive, long endExclusive) throws IOException {
+        Path p = resolve(normalizeKey(key));
+        FileChannel ch = openChannel(p, key);
+        long size = ch.size();
+        long start = Math.min(Math.max(0, startInclusive), size);
+        long end = endExclusive > 0 ? Math.min(endExclusive, size) : size;
+        return new FileChannelInputStream(ch, start, Math.max(start, end));
+    }
+
+    @Override
+    public String presignRead(String key, Duration ttl) {
+        final String k = normalizeKey(key);
+        long exp = clock.instant().plus(ttl).getEpochSecond();
+        String sig = sign("GET", k, exp, null, -1);
+        return publicBaseUrl + "/" + encodePath(k) + "?exp=" + exp + "&sig=" + sig;
+    }
+
+    @Override
+    public PresignWriteResult presignWrite(String key, Duration ttl, String contentType, long maxSize) {
+        final String k = normalizeKey(key);
+        final String ct = nonBlank(contentType, DEFAULT_CONTENT_TYPE);
+        long exp = clock.instant().plus(ttl).getEpochSecond();
+        String sig = sign("PUT", k, exp, ct, maxSize);
+
+        String url = publicBaseUrl + "/" + encodePath(k) + "?exp=" + exp + "&max=" + maxSize + "&sig=" + sig;
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", ct);
+        return new PresignWriteResult(url, headers);
+    }
+
+    @Override
+    public int deletePrefix(String prefix) throws IOException {
+        Path dir = resolve(normalizePrefix(prefix));
+        if (!Files.isDirectory(dir)) return 0;
+
+        int deleted = 0;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            // 깊은 경로부터 지워야 디렉터리가 비어 있는 상태로 제거된다
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                if (Files.isRegularFile(p)) {
+                    Files.deleteIfExists(p);
+                    deleted++;
+                } else {
+                    deleteDirQuietly(p);
+                }
+            }
+        }
+        pruneEmptyParents(dir.getParent());
+        return deleted;
+    }
+
+    @Override
+    public List<String> listKeys(String prefix) throws IOException {
+        Path dir = resolve(normalizePrefix(prefix));
+        if (!Files.isDirectory(dir)) return List.of();
+
+        List<String> keys = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.filter(Files::isRegularFile)
+                    .filter(p -> !isTempFile(p))
+                    .forEach(p -> keys.add(toKey(p)));
+        }
+        return keys;
+    }
+
+    // ===== 로컬 제공 엔드포인트 지원 =====
+
+    /**
+     * 로컬 제공 엔드포인트가 서명 검증 후 파일을 직접 응답할 수 있도록 키에 해당하는 경로를 반환합니다.
+     *
+     * @return 존재하는 일반 파일이면 경로, 아니면 empty
+     */
+    public Optional<Path> pathOf(String key) {
+        Path p = resolve(normalizeKey(key));
+        return Files.isRegularFile(p) ? Optional.of(p) : Optional.empty();
+    }
+
+    /**
+     * presigned 읽기 URL의 서명을 검증합니다.
+     */
+    public boolean verifyRead(String key, long exp, String sig) {
+        return verify("GET", key, exp, null, -1, sig);
+    }
+
+    /**
+     * presigned 쓰기 URL의 서명을 검증합니다.
+     */
+    public boolean verifyWrite(String key, long exp, String contentType, long maxSize, String sig) {
+        return verify("PUT", key, exp, nonBlank(contentType, DEFAULT_CONTENT_TYPE), maxSize, sig);
+    }
+
+    private boolean verify(String method, String key, long exp, String contentType, long maxSize, String sig) {
+        if (sig == null || exp < clock.instant().getEpochSecond()) return false;
+        String expected = sign(method, normalizeKey(key), exp, contentType, maxSize);
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.US_ASCII),
+                sig.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    private String sign(String method, String key, long exp, String contentType, long maxSize) {
+        String canonical = method + "\n" + key + "\n" + exp
+                + (contentType != null ? "\n" + contentType + "\n" + maxSize : "");
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALG);
+            mac.init(new SecretKeySpec(signingKey, HMAC_ALG));
+            byte[] digest = mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC signing failed", e);
+        }
+    }
+
+    // ===== 내부 유틸 =====
+
+    private FileChannel openChannel(Path p, String key) throws IOException {
+        try {
+            return FileChannel.open(p, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("Local object not found: " + key);
+        }
+    }
+
+    private static void moveAtomically(Path src, Path dst) throws IOException {
+        try {
+            Files.move(src, dst, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(src, dst, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private FileObjectMetadata metadata(String key, Path p, String contentType) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class);
+        return FileObjectMetadata.builder()
+                .key(key)
+                .size(attrs.size())
+                .contentType(contentType)
+                .checksumSha256(null)
+                .createdAt(attrs.creationTime().toInstant())
+                .updatedAt(attrs.lastModifiedTime().toInstant())
+                .storageType(STORAGE_TYPE)
+                .build();
+    }
+
+    /**
+     * Content-Type은 확장 속성(xattr)에 보관하고, 지원하지 않는 파일시스템에서는 확장자 기반 추정으로 대체합니다.
+     */
+    private static void writeContentType(Path p, String contentType) {
+        var view = Files.getFileAttributeView(p, UserDefinedFileAttributeView.class);
+        if (view == null) return;
+        try {
+            view.write(CONTENT_TYPE_ATTR, StandardCharsets.UTF_8.encode(contentType));
+        } catch (IOException | UnsupportedOperationException ignored) {
+        }
+    }
+
+    private static String readContentType(Path p) {
+        var view = Files.getFileAttributeView(p, UserDefinedFileAttributeView.class);
+        if (view != null) {
+            try {
+                ByteBuffer buf = ByteBuffer.allocate(view.size(CONTENT_TYPE_ATTR));
+                view.read(CONTENT_TYPE_ATTR, buf);
+                buf.flip();
+                return StandardCharsets.UTF_8.decode(buf).toString();
+            } catch (IOException | UnsupportedOperationException ignored) {
+            }
+        }
+        try {
+            return nonBlank(Files.probeContentType(p), DEFAULT_CONTENT_TYPE);
+        } catch (IOException e) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+    private void pruneEmptyParents(Path dir) {
+        Path d = dir;
+        while (d != null && d.startsWith(root) && !d.equals(root)) {
+            if (!deleteDirQuietly(d)) return;
+            d = d.getParent();
+        }
+    }
+
+    private static boolean deleteDirQuietly(Path dir) {
+        try {
+            return Files.deleteIfExists(dir);
+        } catch (IOException e) {
+            return false; // 비어 있지 않은 디렉터리 포함
+        }
+    }
+
+    private Path resolve(String normalizedKey) {
+        Path p = root.resolve(normalizedKey).normalize();
+        if (!p.startsWith(root)) {
+            throw new IllegalArgumentException("key escapes storage root: " + normalizedKey);
+        }
+        return p;
+    }
+
+    private String toKey(Path p) {
+        return root.relativize(p).toString().replace('\\', '/');
+    }
+
+    private static boolean isTempFile(Path p) {
+        String name = p.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(".tmp");
+    }
+
+    private static String normalizeKey(String key) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        String cleaned = key.replace('\\', '/');
+        while (cleaned.startsWith("/")) cleaned = cleaned.substring(1);
+        cleaned = cleaned.replaceAll("/{2,}", "/");
+        cleaned = cleaned.replace("../", "")
+                .replace("..\\", "")
+                .replaceAll("[\\p{Cntrl}]", "_");
+        if (cleaned.isBlank()) throw new IllegalArgumentException("key must not be blank");
+        return cleaned;
+    }
+
+    private static String normalizePrefix(String prefix) {
+        String p = normalizeKey(prefix);
+        if (!p.endsWith("/")) p = p + "/";
+        return p;
+    }
+
+    private static String encodePath(String key) {
+        StringBuilder sb = new StringBuilder(key.length() + 16);
+        for (String seg : key.split("/", -1)) {
+            if (!sb.isEmpty()) sb.append('/');
+            sb.append(URLEncoder.encode(seg, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return sb.toString();
+    }
+
+    private static String trimTrailingSlash(String s) {
+        if (s == null) return "";
+        return s.endsWith("/") ? s.substring(0, s.length() - 1) : s;
+    }
+
+    private static String nonBlank(String v, String fallback) {
+        return (v == null || v.isBlank()) ? fallback : v;
+    }
+}
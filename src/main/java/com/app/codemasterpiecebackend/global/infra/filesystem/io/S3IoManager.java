@@ -5,6 +5,7 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -29,12 +30,18 @@ import java.util.*;
  * {@code RequestBody.fromInputStream}을 활용한 Zero-Copy 다이렉트 스트리밍 업로드를 수행합니다.
  * 모든 스토리지 키(Key)는 경로 조작 공격(Path Traversal) 방지 및 일관성 유지를 위해
  * 내부적으로 엄격한 정규화(Normalization) 과정을 거칩니다.</p>
+ *
+ * <p>{@code file.storage.type}이 S3(기본값)일 때만 등록되며, LOCAL 모드에서는 버킷 확인을 수행하지 않습니다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "S3", matchIfMissing = true)
 public class S3IoManager implements IoManager {
 
+    /** DeleteObjects 요청당 최대 키 수 (S3 API 제한) */
+    private static final int DELETE_OBJECTS_MAX = 1000;
+
     private final S3Client s3;
     private final Optional<S3Presigner> presigner;
 
@@ -249,7 +256,7 @@ public class S3IoManager implements IoManager {
                 List<ObjectIdentifier> ids = new ArrayList<>();
                 for (S3Object obj : page.contents()) {
                     ids.add(ObjectIdentifier.builder().key(obj.key()).build());
-                    if (ids.size() == 1000) {
+                    if (ids.size() == DELETE_OBJECTS_MAX) {
                         deleted += bulkDelete(ids);
                         ids.clear();
                     }
@@ -262,6 +269,63 @@ public class S3IoManager implements IoManager {
         }
     }
 
+    @Override
+    public List<String> listKeys(String prefix) throws IOException {
+        String s3Prefix = toS3Key(normalizePrefix(prefix));
+        List<String> keys = new ArrayList<>();
+        try {
+            for (ListObjectsV2Response page : s3.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                    .bucket(bucket).prefix(s3Prefix).build())) {
+                for (S3Object obj : page.contents()) {
+                    keys.add(fromS3Key(obj.key()));
+                }
+            }
+            return keys;
+        } catch (S3Exception e) {
+            throw new IOException("S3 listKeys error: " + safeAwsMsg(e), e);
+        }
+    }
+
+    /**
+     * 키 목록을 1000개 단위 DeleteObjects 요청(quiet 모드)으로 묶어 삭제합니다.
+     * quiet 모드에서는 실패한 키만 응답에 포함되므로 응답 크기가 최소화됩니다.
+     */
+    @Override
+    public BulkDeleteResult deleteKeys(Collection<String> keys) throws IOException {
+        if (keys == null || keys.isEmpty()) return new BulkDeleteResult(0, List.of(), 0);
+
+        int deleted = 0;
+        int requests = 0;
+        List<String> failed = new ArrayList<>();
+        List<ObjectIdentifier> chunk = new ArrayList<>(Math.min(keys.size(), DELETE_OBJECTS_MAX));
+
+        try {
+            Iterator<String> it = keys.iterator();
+            while (it.hasNext()) {
+                chunk.add(ObjectIdentifier.builder().key(toS3Key(normalizeKey(it.next()))).build());
+                if (chunk.size() == DELETE_OBJECTS_MAX || !it.hasNext()) {
+                    DeleteObjectsResponse res = s3.deleteObjects(DeleteObjectsRequest.builder()
+                            .bucket(bucket)
+                            .delete(Delete.builder().objects(chunk).quiet(true).build())
+                            .build());
+                    requests++;
+                    int errors = 0;
+                    if (res.hasErrors()) {
+                        for (S3Error err : res.errors()) {
+                            failed.add(fromS3Key(err.key()));
+                            errors++;
+                        }
+                    }
+                    deleted += chunk.size() - errors;
+                    chunk = new ArrayList<>(DELETE_OBJECTS_MAX);
+                }
+            }
+            return new BulkDeleteResult(deleted, failed, requests);
+        } catch (S3Exception e) {
+            throw new IOException("S3 deleteKeys error: " + safeAwsMsg(e), e);
+        }
+    }
+
     private int bulkDelete(List<ObjectIdentifier> ids) {
         DeleteObjectsResponse res = s3.deleteObjects(DeleteObjectsRequest.builder()
                 .bucket(bucket)
@@ -1,16 +1,26 @@
 package com.app.codemasterpiecebackend.global.infra.messaging.variant;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * 변형(variant) 생성 실행기.
+ * <p>{@code spring.threads.virtual.enabled}에 따라 플랫폼 스레드 풀 또는 가상 스레드 실행기를 등록한다.
+ * 어느 쪽이든 {@link VariantTaskMetrics}로 대기/처리 시간을 계측한다.</p>
+ */
 @Configuration
 public class VariantExecutorConfig {
 
     @Bean(name = "variantExecutor")
-    public ThreadPoolTaskExecutor variantExecutor() {
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor variantExecutor(VariantTaskMetrics metrics) {
         int cores = Runtime.getRuntime().availableProcessors();
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
         // 이미지 변환은 CPU 바운드. 코어 절반~동일 수준이 합리적.
@@ -20,7 +30,21 @@ public class VariantExecutorConfig {
         exec.setThreadNamePrefix("variant-");
         // 큐가 꽉 차면 호출 스레드가 직접 실행 -> 자연 백프레셔
         exec.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        exec.setTaskDecorator(metrics);
         exec.initialize();
         return exec;
     }
+
+    @Bean(name = "variantExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor virtualVariantExecutor(VariantTaskMetrics metrics) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        SimpleAsyncTaskExecutor exec = new SimpleAsyncTaskExecutor("variant-");
+        exec.setVirtualThreads(true);
+        // 원본 읽기/업로드 대기 중에는 캐리어를 반납하므로 풀 크기 대신 동시 작업 수만 코어 수로 묶는다.
+        // 한도에 도달하면 호출(가상) 스레드가 대기 -> 자연 백프레셔
+        exec.setConcurrencyLimit(Math.max(2, cores));
+        exec.setTaskDecorator(metrics);
+        return exec;
+    }
 }
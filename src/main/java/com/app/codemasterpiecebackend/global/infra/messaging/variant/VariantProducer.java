@@ -12,13 +12,15 @@ import org.springframework.stereotype.Component;
 public class VariantProducer {
     private final TaskExecutor variantExecutor;
     private final VariantWorker worker;
+    private final VariantTaskMetrics metrics;
 
     public void publish(VariantJob job) {
         variantExecutor.execute(() -> {
             try {
                 worker.handle(job); // 비동기 처리
             } catch (Exception e) {
-                // 실패는 버린다(요구사항). 로그만 남김.
+                // 실패는 버린다(요구사항). 로그와 실패 카운터만 남김.
+                metrics.failed();
                 log.warn("Variant processing failed. fileId={}, preset={}", job.fileId(), job.preset(), e);
             }
         });
@@ -0,0 +1,69 @@
+package com.app.codemasterpiecebackend.global.infra.messaging.variant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 변형 생성 실행기의 대기열/처리 계측.
+ *
+ * <p>{@link TaskDecorator}로 실행기에 등록되어 제출 시각과 시작 시각을 잰다. 플랫폼 풀/가상 스레드 실행기 모두에 같은 방식으로
+ * 붙으므로 {@code spring.threads.virtual.enabled}를 바꿔도 같은 지표로 비교할 수 있다.</p>
+ *
+ * <ul>
+ *   <li>{@code variant.queue.wait}: 제출 → 시작 대기 시간 (풀 큐 대기 또는 동시 실행 한도 대기)</li>
+ *   <li>{@code variant.task}: 작업 처리 시간</li>
+ *   <li>{@code variant.pending} / {@code variant.active}: 시작 전 / 실행 중 작업 수 게이지</li>
+ *   <li>{@code variant.failed}: 실패한 작업 수 ({@link VariantProducer}가 기록)</li>
+ * </ul>
+ */
+@Component
+public class VariantTaskMetrics implements TaskDecorator {
+
+    private final Timer wait;
+    private final Timer run;
+    private final Counter failed;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public VariantTaskMetrics(MeterRegistry registry) {
+        this.wait = Timer.builder("variant.queue.wait")
+                .description("Time from submit to start of a variant job")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.run = Timer.builder("variant.task")
+                .description("Variant job processing time")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.failed = registry.counter("variant.failed");
+        registry.gauge("variant.pending", pending);
+        registry.gauge("variant.active", active);
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        long submitted = System.nanoTime();
+        pending.incrementAndGet();
+        return () -> {
+            long started = System.nanoTime();
+            pending.decrementAndGet();
+            active.incrementAndGet();
+            wait.record(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                run.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    public void failed() {
+        failed.increment();
+    }
+}
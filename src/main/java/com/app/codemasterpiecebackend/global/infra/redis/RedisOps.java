@@ -0,0 +1,88 @@
+package com.app.codemasterpiecebackend.global.infra.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 계측이 붙은 {@link JedisPool} 실행 헬퍼.
+ *
+ * <p>커넥션 대여 → 작업 → 반납을 한 번에 수행하고, 작업 이름별로 시간을 기록한다.
+ * 호출부는 {@code try (Jedis j = pool.getResource())} 대신 이 헬퍼를 쓰며, 작업 이름은 호출부가 정한
+ * 고정 문자열(예: {@code view.mark})이라 태그가 늘어나지 않는다.</p>
+ *
+ * <ul>
+ *   <li>{@code redis.command}: 작업 시간 (tags: op, outcome). 파이프라인은 sync까지 포함한 한 작업으로 본다.</li>
+ *   <li>{@code redis.pool.borrow}: 커넥션 대여 대기 시간</li>
+ *   <li>{@code redis.pool.active|idle|waiters}: 풀 상태 게이지</li>
+ * </ul>
+ */
+@Component
+public class RedisOps {
+
+    private final JedisPool pool;
+    private final MeterRegistry registry;
+    private final Timer borrow;
+    private final ConcurrentHashMap<String, Timer> okTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public RedisOps(JedisPool pool, MeterRegistry registry) {
+        this.pool = pool;
+        this.registry = registry;
+        this.borrow = Timer.builder("redis.pool.borrow")
+                .description("Time spent waiting for a pooled Redis connection")
+                .register(registry);
+        Gauge.builder("redis.pool.active", pool, JedisPool::getNumActive).register(registry);
+        Gauge.builder("redis.pool.idle", pool, JedisPool::getNumIdle).register(registry);
+        Gauge.builder("redis.pool.waiters", pool, JedisPool::getNumWaiters).register(registry);
+    }
+
+    /**
+     * 커넥션을 빌려 작업을 실행하고 결과를 반환한다. Jedis 예외는 그대로 전파된다.
+     *
+     * @param op     작업 이름 (메트릭 태그)
+     * @param action 작업
+     */
+    public <T> T execute(String op, Function<Jedis, T> action) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try (Jedis jedis = pool.getResource()) {
+            long t1 = System.nanoTime();
+            borrow.record(t1 - t0, TimeUnit.NANOSECONDS);
+            T result = action.apply(jedis);
+            ok = true;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - t0;
+            boolean success = ok;
+            (success ? okTimers : errorTimers).computeIfAbsent(op, k -> timer(k, success))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 결과가 없는 작업용 {@link #execute(String, Function)}.
+     */
+    public void run(String op, Consumer<Jedis> action) {
+        execute(op, jedis -> {
+            action.accept(jedis);
+            return null;
+        });
+    }
+
+    private Timer timer(String op, boolean ok) {
+        return Timer.builder("redis.command")
+                .description("Redis operation time including connection borrow")
+                .tags("op", op, "outcome", ok ? "success" : "error")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+}
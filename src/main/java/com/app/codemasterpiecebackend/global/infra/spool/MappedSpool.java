@@ -0,0 +1,343 @@
+package com.app.codemasterpiecebackend.global.infra.spool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 세그먼트 기반의 append-only 스풀(단일 소비자).
+ *
+ * <p>세그먼트 레이아웃:</p>
+ * <pre>
+ * [magic:int][reserved:int][readOffset:long]            ← 헤더 16바이트
+ * [length:int][crc32c:int][payload:length] ...          ← 레코드 프레임
+ * [0:int]                                               ← 끝 (새 파일은 0으로 채워져 있음)
+ * </pre>
+ *
+ * <ul>
+ *   <li>쓰기: 활성 세그먼트의 매핑 버퍼에 payload → CRC → length 순으로 기록. 공간이 부족하면 새 세그먼트로 롤오버.</li>
+ *   <li>읽기: 가장 오래된 세그먼트부터 {@link #poll(int)}로 읽고, 처리 완료 후 {@link #commit(Batch)}로 헤더의 readOffset을 전진.
+ *       다 읽힌 봉인(sealed) 세그먼트는 즉시 삭제.</li>
+ *   <li>복구: 기동 시 기존 세그먼트를 훑어 CRC가 맞는 마지막 프레임까지를 유효 구간으로 보고(찢긴 쓰기 절단),
+ *       헤더의 readOffset 이후부터 재생한다. 복구된 세그먼트는 봉인되며 쓰기는 새 세그먼트에서 이어진다.</li>
+ * </ul>
+ *
+ * <p>기록은 페이지 캐시에 반영되는 즉시 프로세스 장애에는 안전하다. 전원/호스트 장애에 대비한 디스크 반영은
+ * 소유자가 {@link #sync()}를 주기적으로 호출해 맡는다. (페이지 뷰 스풀은 {@code app.analytics.spool.sync-interval-ms})
+ * 봉인되는 세그먼트는 봉인 시점에 반영된다.
+ * 세그먼트 수가 {@code maxSegments}에 도달하면 {@link #append(byte[])}는 false를 반환한다.</p>
+ */
+@Slf4j
+public final class MappedSpool implements Closeable {
+
+    private static final int MAGIC = 0x53504F4C; // "SPOL"
+    private static final int HEADER = 16;
+    private static final int READ_OFFSET_POS = 8;
+    private static final int FRAME = 8;
+    private static final String SUFFIX = ".seg";
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 오래된 순. 마지막 원소가 봉인되지 않았다면 활성(쓰기) 세그먼트 */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private long nextSeq;
+    /** 마지막 {@link #sync()} 이후 기록/커밋이 있었는지 */
+    private boolean dirty;
+
+    public MappedSpool(Path dir, int segmentSize, int maxSegments) throws IOException {
+        if (segmentSize < HEADER + FRAME + 1) throw new IllegalArgumentException("segmentSize too small: " + segmentSize);
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        Files.createDirectories(dir);
+        recover();
+    }
+
+    /**
+     * 읽기 배치. {@link #commit(Batch)}에 그대로 넘겨 소비를 확정한다.
+     *
+     * @param segment   레코드가 속한 세그먼트 번호
+     * @param endOffset 배치 마지막 레코드 다음 위치
+     * @param records   레코드 payload (기록 순)
+     */
+    public record Batch(long segment, int endOffset, List<byte[]> records) {
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+    }
+
+    /**
+     * 레코드를 추가한다.
+     *
+     * @return 기록했으면 true, 스풀이 가득 찼으면 false
+     */
+    public boolean append(byte[] payload) {
+        int need = FRAME + payload.length;
+        if (need > segmentSize - HEADER) throw new IllegalArgumentException("record too large: " + payload.length);
+
+        lock.lock();
+        try {
+            Segment w = segments.peekLast();
+            if (w == null || w.sealed || w.writePos + need > segmentSize) {
+                if (w != null && !w.sealed) seal(w);
+                if (segments.size() >= maxSegments) return false;
+                w = create();
+            }
+            w.write(payload);
+            dirty = true;
+            return true;
+        } catch (IOException e) {
+            log.warn("Spool append failed: {}", e.toString());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 세그먼트에서 아직 확정되지 않은 레코드를 최대 {@code maxRecords}건 읽는다.
+     * 같은 배치를 commit하기 전에 다시 poll하면 같은 레코드가 반환된다.
+     */
+    public Batch poll(int maxRecords) {
+        lock.lock();
+        try {
+            while (true) {
+                Segment head = segments.peekFirst();
+                if (head == null) return new Batch(-1, 0, List.of());
+
+                if (head.readPos >= head.writePos) {
+                    if (head.sealed) {
+                        drop(head);
+                        continue;
+                    }
+                    return new Batch(head.seq, head.readPos, List.of());
+                }
+
+                List<byte[]> out = new ArrayList<>(Math.min(maxRecords, 256));
+                int pos = head.readPos;
+                while (out.size() < maxRecords && pos < head.writePos) {
+                    int len = head.buf.getInt(pos);
+                    byte[] b = new byte[len];
+                    head.buf.get(pos + FRAME, b);
+                    out.add(b);
+                    pos += FRAME + len;
+                }
+                return new Batch(head.seq, pos, out);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 배치 소비를 확정한다. 세그먼트 헤더의 readOffset을 전진시키고, 다 읽힌 봉인 세그먼트는 삭제한다.
+     */
+    public void commit(Batch batch) {
+        if (batch.isEmpty()) return;
+        lock.lock();
+        try {
+            Segment head = segments.peekFirst();
+            if (head == null || head.seq != batch.segment()) return;
+            head.readPos = Math.max(head.readPos, batch.endOffset());
+            head.buf.putLong(READ_OFFSET_POS, head.readPos);
+            dirty = true;
+            if (head.sealed && head.readPos >= head.writePos) drop(head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 확정되지 않은 레코드 바이트 수 (프레임 포함)
+     */
+    public long pendingBytes() {
+        lock.lock();
+        try {
+            long sum = 0;
+            for (Segment s : segments) sum += s.writePos - s.readPos;
+            return sum;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 매핑된 변경 내용을 저장 장치에 강제 기록한다. 마지막 호출 이후 변경이 없으면 아무것도 하지 않는다.
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            if (!dirty) return;
+            for (Segment s : segments) s.buf.force();
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        sync();
+        lock.lock();
+        try {
+            segments.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* ───────── internals ───────── */
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> s = Files.list(dir)) {
+            files = s.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+
+        for (Path p : files) {
+            long seq = parseSeq(p);
+            if (seq < 0) continue;
+            nextSeq = Math.max(nextSeq, seq + 1);
+
+            long size = Files.size(p);
+            if (size < HEADER) {
+                Files.deleteIfExists(p);
+                continue;
+            }
+            MappedByteBuffer buf = map(p, (int) Math.min(size, Integer.MAX_VALUE), false);
+            if (buf.getInt(0) != MAGIC) {
+                log.warn("Spool: skip foreign segment {}", p);
+                continue;
+            }
+
+            int writePos = scan(buf);
+            long rawRead = buf.getLong(READ_OFFSET_POS);
+            int readPos = (int) Math.max(HEADER, Math.min(rawRead, writePos));
+
+            Segment seg = new Segment(seq, p, buf, writePos, readPos, true);
+            if (readPos >= writePos) {
+                Files.deleteIfExists(p);
+            } else {
+                segments.addLast(seg);
+                log.info("Spool: recovered {} (pending {} bytes)", p.getFileName(), writePos - readPos);
+            }
+        }
+    }
+
+    /**
+     * CRC가 맞는 마지막 프레임 다음 위치를 반환한다. (찢긴/손상 프레임 이후는 버림)
+     */
+    private static int scan(MappedByteBuffer buf) {
+        int limit = buf.capacity();
+        int pos = HEADER;
+        CRC32C crc = new CRC32C();
+        while (pos + FRAME <= limit) {
+            int len = buf.getInt(pos);
+            if (len <= 0 || pos + FRAME + len > limit) break;
+            crc.reset();
+            crc.update(buf.slice(pos + FRAME, len));
+            if ((int) crc.getValue() != buf.getInt(pos + 4)) break;
+            pos += FRAME + len;
+        }
+        return pos;
+    }
+
+    private Segment create() throws IOException {
+        long seq = nextSeq++;
+        Path p = dir.resolve(String.format("%020d%s", seq, SUFFIX));
+        MappedByteBuffer buf = map(p, segmentSize, true);
+        buf.putInt(0, MAGIC);
+        buf.putLong(READ_OFFSET_POS, HEADER);
+        Segment seg = new Segment(seq, p, buf, HEADER, HEADER, false);
+        segments.addLast(seg);
+        return seg;
+    }
+
+    private void seal(Segment s) {
+        s.sealed = true;
+        s.buf.force();
+    }
+
+    private void drop(Segment s) {
+        segments.remove(s);
+        try {
+            Files.deleteIfExists(s.path);
+        } catch (IOException e) {
+            log.warn("Spool: failed to delete drained segment {}: {}", s.path, e.toString());
+        }
+    }
+
+    private static MappedByteBuffer map(Path p, int size, boolean createNew) throws IOException {
+        var opts = createNew
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // 매핑은 채널을 닫아도 유지된다
+        try (FileChannel ch = FileChannel.open(p, opts)) {
+            return ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static long parseSeq(Path p) {
+        String n = p.getFileName().toString();
+        try {
+            return Long.parseLong(n.substring(0, n.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Segment {
+        final long seq;
+        final Path path;
+        final MappedByteBuffer buf;
+        int writePos;
+        int readPos;
+        boolean sealed;
+
+        Segment(long seq, Path path, MappedByteBuffer buf, int writePos, int readPos, boolean sealed) {
+            this.seq = seq;
+            this.path = path;
+            this.buf = buf;
+            this.writePos = writePos;
+            this.readPos = readPos;
+            this.sealed = sealed;
+        }
+
+        /**
+         * payload → CRC → length 순으로 기록한다. length가 마지막에 쓰여 커밋 표시 역할을 한다.
+         */
+        void write(byte[] payload) {
+            int pos = writePos;
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            buf.put(pos + FRAME, payload);
+            buf.putInt(pos + 4, (int) crc.getValue());
+            buf.putInt(pos, payload.length);
+            writePos = pos + FRAME + payload.length;
+        }
+    }
+}
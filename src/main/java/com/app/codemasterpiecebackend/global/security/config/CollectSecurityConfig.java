@@ -0,0 +1,40 @@
+package com.app.codemasterpiecebackend.global.security.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+/**
+ * 수집 비콘 전용 경량 보안 체인.
+ *
+ * <p>{@code /api/v1/collect/**}는 익명 이벤트만 받으므로 세션/보안 컨텍스트/요청 캐시/OAuth2/로그아웃 필터가 필요 없다.
+ * 기본 체인({@link SecurityConfig})보다 먼저 매칭되어 CORS만 남긴 최소 필터로 처리한다.</p>
+ */
+@Configuration
+public class CollectSecurityConfig {
+
+    @Bean
+    @Order(0)
+    public SecurityFilterChain collectFilterChain(HttpSecurity http, UrlBasedCorsConfigurationSource corsConfig) throws Exception {
+        http
+                .securityMatcher("/api/v1/collect/**", "/api/v1/collect")
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .headers(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfig))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+}
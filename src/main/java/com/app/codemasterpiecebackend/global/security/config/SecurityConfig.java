@@ -75,6 +75,7 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
+                        .requestMatchers("/actuator/metrics/**").hasRole("AUTHOR")
                         .anyRequest().permitAll()
                 );
 
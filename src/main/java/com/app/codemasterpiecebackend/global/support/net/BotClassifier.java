@@ -0,0 +1,83 @@
+package com.app.codemasterpiecebackend.global.support.net;
+
+import com.app.codemasterpiecebackend.global.config.analytics.BotProps;
+import com.app.codemasterpiecebackend.global.util.AhoCorasick;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단계형 봇 판별기.
+ *
+ * <ol>
+ *   <li>빠른 경로({@link #fastCheck(String, String)}): 빈 UA, 알려진 봇 토큰(Aho-Corasick 단일 패스),
+ *   차단 네트워크 CIDR. 하나라도 걸리면 전체 UA 분석 없이 봇으로 확정한다.
+ *   맨 {@code "bot"}은 기기명(예: {@code CUBOT X19})에도 걸리므로 쓰지 않고, 경계 문자가 붙은 형태만 본다.</li>
+ *   <li>느린 경로: 빠른 경로를 통과한 애매한 UA만 yauaa로 분석하고, 그 결과의 DeviceClass로 판정한다.
+ *   ({@link #isRobotDeviceClass(String)})</li>
+ * </ol>
+ */
+@Component
+public class BotClassifier {
+
+    /** 빠른 경로 판정 사유 */
+    public enum Reason {
+        EMPTY_UA, UA_TOKEN, BLOCKED_NETWORK
+    }
+
+    /**
+     * 빠른 경로에서 맨 {@code "bot"} 대신 쓰는 경계 형태 (Googlebot/2.1, AdsBot-Google, MJ12bot; 등).
+     * 공백/괄호가 붙은 형태는 기기명과 겹치므로 넣지 않고 느린 경로에 맡긴다.
+     */
+    static final List<String> BOT_BOUNDARY_TOKENS = List.of("bot/", "bot;", "bot-", "-bot", "_bot");
+
+    /** yauaa DeviceClass 중 자동화 클라이언트로 보는 값 */
+    private static final Set<String> ROBOT_CLASSES = Set.of("Robot", "Robot Mobile", "Robot Imitator", "Hacker");
+
+    private final AhoCorasick tokens;
+    private final CidrTrie blocked;
+    private final boolean drop;
+
+    public BotClassifier(BotProps props) {
+        var all = new ArrayList<String>();
+        for (String t : BotFilter.DEFAULT_TOKENS) {
+            if (!"bot".equals(t)) all.add(t);
+        }
+        all.addAll(BOT_BOUNDARY_TOKENS);
+        all.addAll(props.getExtraTokens());
+        this.tokens = AhoCorasick.of(all);
+        this.blocked = CidrTrie.of(props.getBlockedCidrs());
+        this.drop = props.isDrop();
+    }
+
+    /**
+     * 봇 이벤트를 적재 전에 버려야 하는지
+     */
+    public boolean isDropEnabled() {
+        return drop;
+    }
+
+    /**
+     * 빠른 경로 판정. 봇이 확실하면 사유를, 애매하면 null을 반환한다.
+     *
+     * @param ua       User-Agent
+     * @param ipMasked 마스킹된 클라이언트 IP (없으면 null)
+     */
+    public Reason fastCheck(String ua, String ipMasked) {
+        if (ua == null || ua.isBlank()) return Reason.EMPTY_UA;
+        if (tokens.containsAny(ua)) return Reason.UA_TOKEN;
+        if (!blocked.isEmpty() && ipMasked != null && inBlockedNetwork(ipMasked)) return Reason.BLOCKED_NETWORK;
+        return null;
+    }
+
+    public static boolean isRobotDeviceClass(String deviceClass) {
+        return deviceClass != null && ROBOT_CLASSES.contains(deviceClass);
+    }
+
+    private boolean inBlockedNetwork(String ip) {
+        // 리터럴 전용 파서라 DNS 조회는 일어나지 않는다
+        return blocked.contains(IpLiterals.parse(ip));
+    }
+}
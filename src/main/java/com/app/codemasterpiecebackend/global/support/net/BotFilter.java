@@ -1,15 +1,31 @@
 package com.app.codemasterpiecebackend.global.support.net;
 
-import java.util.Set;
+import com.app.codemasterpiecebackend.global.util.AhoCorasick;
 
+import java.util.List;
+
+/**
+ * User-Agent 키워드 기반 봇 판별 (단일 패스 다중 패턴 검색).
+ */
 public final class BotFilter {
-  private static final Set<String> KW = Set.of(
-    "bot","crawl","spider","snippet","preview","headless","puppeteer"
+
+  /** 알려진 봇/자동화 클라이언트 토큰 (소문자) */
+  public static final List<String> DEFAULT_TOKENS = List.of(
+    "bot", "crawl", "spider", "slurp", "snippet", "preview", "headless", "puppeteer",
+    "playwright", "selenium", "phantomjs", "lighthouse", "pagespeed", "prerender",
+    "curl/", "wget/", "httpie/", "python-requests", "python-urllib", "aiohttp", "httpx",
+    "go-http-client", "java/", "okhttp", "apache-httpclient", "libwww-perl", "scrapy",
+    "node-fetch", "axios/", "facebookexternalhit", "embedly", "whatsapp", "bingpreview",
+    "mediapartners-google", "feedfetcher", "ahrefs", "semrush", "mj12", "yandex",
+    "baiduspider", "bytespider", "ccbot", "gptbot", "uptime", "pingdom", "check_http"
   );
+
+  private static final AhoCorasick MATCHER = AhoCorasick.of(DEFAULT_TOKENS);
+
+  private BotFilter() {
+  }
+
   public static boolean isBot(String ua) {
-    if (ua == null) return false;
-    String s = ua.toLowerCase();
-    for (String k: KW) if (s.contains(k)) return true;
-    return false;
+    return ua != null && MATCHER.containsAny(ua);
   }
 }
@@ -0,0 +1,107 @@
+package com.app.codemasterpiecebackend.global.support.net;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * CIDR 집합 포함 여부를 판정하는 이진(radix-2) 트라이.
+ *
+ * <p>프리픽스의 비트를 따라 노드를 만들고 프리픽스 끝 노드에 종료 표시를 둔다. 조회는 주소 비트를 따라 내려가다
+ * 종료 노드를 만나면 포함, 자식이 없으면 불포함으로 끝나므로, 범위 개수와 무관하게 최대 32/128단계로 판정한다.
+ * (범위마다 {@link Cidr#test}를 반복하는 선형 검사를 대체)</p>
+ *
+ * <p>노드는 배열 인덱스로 표현하며 0번은 IPv4 루트, 1번은 IPv6 루트이다. 생성 후 불변이라 스레드 안전하다.</p>
+ */
+public final class CidrTrie {
+
+    private static final int ROOT_V4 = 0;
+    private static final int ROOT_V6 = 1;
+
+    /** 자식 인덱스 (0 = 없음; 루트는 자식이 될 수 없으므로 안전) */
+    private int[] zero;
+    private int[] one;
+    private boolean[] terminal;
+    private int size;
+
+    private CidrTrie(int capacity) {
+        zero = new int[capacity];
+        one = new int[capacity];
+        terminal = new boolean[capacity];
+        size = 2;
+    }
+
+    /**
+     * CIDR 문자열 목록(예: {@code "10.0.0.0/8"}, {@code "fc00::/7"})으로 트라이를 만든다.
+     *
+     * @throws IllegalArgumentException 잘못된 CIDR 형식일 때
+     */
+    public static CidrTrie of(Collection<String> cidrs) {
+        CidrTrie t = new CidrTrie(64);
+        for (String c : cidrs) t.insert(c);
+        return t;
+    }
+
+    private void insert(String cidr) {
+        String s = cidr == null ? "" : cidr.trim();
+        int slash = s.indexOf('/');
+        byte[] net = slash < 0 ? null : IpLiterals.parse(s, 0, slash);
+        int prefix;
+        try {
+            prefix = net == null ? -1 : Integer.parseInt(s.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            prefix = -1;
+        }
+        if (net == null || prefix < 0 || prefix > net.length * 8) {
+            throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+        }
+
+        int node = net.length == 4 ? ROOT_V4 : ROOT_V6;
+        for (int i = 0; i < prefix; i++) {
+            if (terminal[node]) return; // 더 넓은 범위가 이미 포함
+            boolean isOne = bit(net, i) == 1;
+            int child = isOne ? one[node] : zero[node];
+            if (child == 0) {
+                child = allocate(); // 배열이 늘어날 수 있으므로 할당 후에 기록한다
+                if (isOne) one[node] = child;
+                else zero[node] = child;
+            }
+            node = child;
+        }
+        terminal[node] = true;
+    }
+
+    private int allocate() {
+        if (size == zero.length) {
+            int cap = size * 2;
+            zero = Arrays.copyOf(zero, cap);
+            one = Arrays.copyOf(one, cap);
+            terminal = Arrays.copyOf(terminal, cap);
+        }
+        return size++;
+    }
+
+    /**
+     * 주소가 어느 범위에든 포함되는지.
+     *
+     * @param addr 4바이트(IPv4) 또는 16바이트(IPv6) 주소 ({@link IpLiterals#parse})
+     */
+    public boolean contains(byte[] addr) {
+        if (addr == null || (addr.length != 4 && addr.length != 16)) return false;
+        int node = addr.length == 4 ? ROOT_V4 : ROOT_V6;
+        int bits = addr.length * 8;
+        for (int i = 0; i < bits; i++) {
+            if (terminal[node]) return true;
+            node = bit(addr, i) == 0 ? zero[node] : one[node];
+            if (node == 0) return false;
+        }
+        return terminal[node];
+    }
+
+    public boolean isEmpty() {
+        return size == 2 && !terminal[ROOT_V4] && !terminal[ROOT_V6];
+    }
+
+    private static int bit(byte[] a, int i) {
+        return (a[i >>> 3] >>> (7 - (i & 7))) & 1;
+    }
+}
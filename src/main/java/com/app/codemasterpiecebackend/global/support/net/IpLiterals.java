@@ -0,0 +1,201 @@
+package com.app.codemasterpiecebackend.global.support.net;
+
+/**
+ * IPv4/IPv6 리터럴 파서/포매터.
+ *
+ * <p>{@link java.net.InetAddress#getByName(String)}와 달리 호스트 이름을 받지 않으므로 DNS 조회 경로가 없다.
+ * 헤더 문자열의 일부 구간을 그대로 파싱할 수 있어 부분 문자열을 만들 필요도 없다.</p>
+ *
+ * <ul>
+ *   <li>IPv4: 10진 점 표기 4옥텟만 허용 ({@code 1.2.3}, {@code 0x7f.1.1.1} 같은 레거시 표기는 거부)</li>
+ *   <li>IPv6: {@code ::} 축약, 끝 32비트의 IPv4 표기({@code ::ffff:1.2.3.4}) 허용. 존 ID({@code %eth0})는 거부</li>
+ *   <li>IPv4-mapped IPv6는 {@code InetAddress}와 같이 4바이트 IPv4로 돌려준다</li>
+ * </ul>
+ */
+public final class IpLiterals {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private IpLiterals() {
+    }
+
+    /**
+     * 문자열 전체를 IP 리터럴로 파싱한다.
+     *
+     * @return IPv4는 4바이트, IPv6는 16바이트. 리터럴이 아니면 null
+     */
+    public static byte[] parse(CharSequence s) {
+        return s == null ? null : parse(s, 0, s.length());
+    }
+
+    /**
+     * {@code s[from, to)} 구간을 IP 리터럴로 파싱한다.
+     */
+    public static byte[] parse(CharSequence s, int from, int to) {
+        if (from >= to || to - from > 45) return null;
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == ':') return parseV6(s, from, to);
+        }
+        byte[] out = new byte[4];
+        return parseV4(s, from, to, out, 0) ? out : null;
+    }
+
+    /**
+     * 10진 점 표기 IPv4를 {@code out[off..off+3]}에 기록한다.
+     */
+    private static boolean parseV4(CharSequence s, int from, int to, byte[] out, int off) {
+        int octet = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = from; i <= to; i++) {
+            char c = i < to ? s.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                if (++digits > 3) return false;
+                value = value * 10 + (c - '0');
+            } else if (c == '.') {
+                if (digits == 0 || value > 255 || octet == 4) return false;
+                out[off + octet++] = (byte) value;
+                value = 0;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        return octet == 4;
+    }
+
+    private static byte[] parseV6(CharSequence s, int from, int to) {
+        byte[] out = new byte[16];
+        int pos = 0;        // 기록한 바이트 수
+        int gap = -1;       // '::' 위치 (바이트 단위)
+        int i = from;
+
+        if (s.charAt(i) == ':') {
+            if (i + 1 >= to || s.charAt(i + 1) != ':') return null;
+            gap = 0;
+            i += 2;
+            if (i == to) return out; // "::"
+        }
+
+        while (i < to) {
+            if (pos == 16) return null;
+
+            int start = i;
+            int value = 0;
+            while (i < to && i - start < 5) {
+                int d = hex(s.charAt(i));
+                if (d < 0) break;
+                value = (value << 4) | d;
+                i++;
+            }
+            int digits = i - start;
+
+            if (i < to && s.charAt(i) == '.') {
+                // 끝 32비트의 IPv4 표기
+                if (pos > 12 || !parseV4(s, start, to, out, pos)) return null;
+                pos += 4;
+                break;
+            }
+            if (digits == 0 || digits > 4) return null;
+            out[pos++] = (byte) (value >>> 8);
+            out[pos++] = (byte) value;
+
+            if (i == to) break;
+            if (s.charAt(i) != ':') return null;
+            i++;
+            if (i < to && s.charAt(i) == ':') {
+                if (gap >= 0) return null;
+                gap = pos;
+                i++;
+            } else if (i == to) {
+                return null; // 끝이 단일 ':'
+            }
+        }
+
+        if (gap >= 0) {
+            if (pos == 16) return null;
+            int tail = pos - gap;
+            System.arraycopy(out, gap, out, 16 - tail, tail);
+            for (int k = gap; k < 16 - tail; k++) out[k] = 0;
+        } else if (pos != 16) {
+            return null;
+        }
+        return isV4Mapped(out) ? new byte[]{out[12], out[13], out[14], out[15]} : out;
+    }
+
+    private static boolean isV4Mapped(byte[] a) {
+        for (int k = 0; k < 10; k++) if (a[k] != 0) return false;
+        return a[10] == (byte) 0xFF && a[11] == (byte) 0xFF;
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    /**
+     * 주소를 문자열로 만든다. {@link java.net.InetAddress#getHostAddress()}와 같은 형식
+     * (IPv6는 축약 없이 8그룹, 소문자, 앞자리 0 생략)이라 기존 해시/키와 호환된다.
+     */
+    public static String format(byte[] a) {
+        if (a.length == 4) {
+            return (a[0] & 0xFF) + "." + (a[1] & 0xFF) + "." + (a[2] & 0xFF) + "." + (a[3] & 0xFF);
+        }
+        return appendV6Groups(new StringBuilder(39), a, 8).toString();
+    }
+
+    /**
+     * /24(IPv4) 또는 /48(IPv6)로 마스킹된 문자열.
+     * <p>예) 203.0.113.25 → 203.0.113.0, 2001:db8:abcd:1234::1 → 2001:db8:abcd::</p>
+     */
+    public static String mask(byte[] a) {
+        if (a.length == 4) return (a[0] & 0xFF) + "." + (a[1] & 0xFF) + "." + (a[2] & 0xFF) + ".0";
+        return appendV6Groups(new StringBuilder(18), a, 3).append("::").toString();
+    }
+
+    private static StringBuilder appendV6Groups(StringBuilder sb, byte[] a, int groups) {
+        for (int g = 0; g < groups; g++) {
+            if (g > 0) sb.append(':');
+            int v = ((a[2 * g] & 0xFF) << 8) | (a[2 * g + 1] & 0xFF);
+            boolean started = false;
+            for (int shift = 12; shift >= 0; shift -= 4) {
+                int d = (v >>> shift) & 0xF;
+                if (d != 0 || started || shift == 0) {
+                    sb.append(HEX[d]);
+                    started = true;
+                }
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * 사설/루프백/링크로컬/미지정 주소 여부.
+     * ({@code InetAddress}의 isAnyLocal/isLoopback/isLinkLocal/isSiteLocal 판정과 같다)
+     */
+    public static boolean isPrivate(byte[] a) {
+        if (a.length == 4) {
+            int b0 = a[0] & 0xFF;
+            int b1 = a[1] & 0xFF;
+            return (b0 == 0 && b1 == 0 && a[2] == 0 && a[3] == 0)
+                    || b0 == 127
+                    || (b0 == 169 && b1 == 254)
+                    || b0 == 10
+                    || (b0 == 172 && (b1 & 0xF0) == 16)
+                    || (b0 == 192 && b1 == 168);
+        }
+        boolean zeroHead = true;
+        for (int k = 0; k < 15; k++) {
+            if (a[k] != 0) {
+                zeroHead = false;
+                break;
+            }
+        }
+        if (zeroHead && (a[15] == 0 || a[15] == 1)) return true; // :: 또는 ::1
+        int b0 = a[0] & 0xFF;
+        int b1 = a[1] & 0xC0;
+        return b0 == 0xFE && (b1 == 0x80 || b1 == 0xC0); // fe80::/10, fec0::/10
+    }
+}
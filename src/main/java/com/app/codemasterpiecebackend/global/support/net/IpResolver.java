@@ -2,14 +2,15 @@ package com.app.codemasterpiecebackend.global.support.net;
 
 import com.app.codemasterpiecebackend.global.config.net.NetProps;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.*;
-import java.util.regex.Pattern;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
 /**
  * 클라이언트 실제 IP를 추정/정규화/비식별화하는 리졸버.
@@ -18,7 +19,7 @@ import java.util.regex.Pattern;
  * 요청 헤더(Forwarded/X-Forwarded-For/CF-Connecting-IP/True-Client-IP)를
  * 역순으로 훑어 첫 번째 <b>비신뢰 홉</b>을 클라이언트 IP로 간주한다.
  * <ul>
- *   <li>IPv4/IPv6 모두 지원</li>
+ *   <li>IPv4/IPv6 모두 지원 (리터럴 전용 파서 — DNS 조회 없음)</li>
  *   <li>IPv4-mapped IPv6(::ffff:1.2.3.4) 정규화</li>
  *   <li>/24(IPv4), /48(IPv6) 마스킹 제공</li>
  *   <li>솔트를 이용한 안정적 해시 제공(로그/집계용)</li>
@@ -43,19 +44,24 @@ import java.util.regex.Pattern;
  * </pre>
  */
 @Component
-@RequiredArgsConstructor
 public class IpResolver {
 
     /**
-     * 네트워크 설정(신뢰 프록시 CIDR, 해시 솔트 등)
+     * 신뢰 프록시 CIDR 트라이 (기동 시 한 번 구성)
      */
-    private final NetProps props;
+    private final CidrTrie trusted;
 
     /**
-     * RFC 7239 Forwarded 헤더의 for= 값 추출 정규식 (대괄호/따옴표 허용)
+     * 솔트를 미리 넣어 둔 SHA-256 원형. 요청마다 복제해 쓴다. (솔트가 없거나 복제 불가면 null)
      */
-    private static final Pattern FORWARDED_PAIR =
-            Pattern.compile("(?i)for=\"?\\[?([^;\\s\\\"]+)\\]?\"?");
+    private final MessageDigest saltedDigest;
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    public IpResolver(NetProps props) {
+        this.trusted = CidrTrie.of(props.getTrustedProxies());
+        this.saltedDigest = saltedDigest(props.getHashSalt());
+    }
 
     /**
      * 요청에서 클라이언트 IP를 추정하고 마스킹/해시/체인 정보를 함께 반환한다.
@@ -63,7 +69,7 @@ public class IpResolver {
      * <p>동작 순서:
      * <ol>
      *   <li>Forwarded → X-Forwarded-For → CF-Connecting-IP → True-Client-IP → RemoteAddr 순으로 체인을 수집</li>
-     *   <li>가장 가까운 홉부터 역순으로 훑되, {@link NetProps#trustedMatchers()}에 포함되지 않는 첫 IP를
+     *   <li>가장 가까운 홉부터 역순으로 훑되, 신뢰 프록시 트라이({@link CidrTrie})에 포함되지 않는 첫 IP를
      *   <b>클라이언트 IP</b>로 채택</li>
      *   <li>IPv4-mapped IPv6 정규화, 마스킹(/24, /48), 해시(SHA-256+salt) 생성</li>
      *   <li>체인은 최신 프록시 → 원거리 순으로 정렬하여 반환</li>
@@ -73,52 +79,60 @@ public class IpResolver {
      * @return 클라이언트 IP 정보 레코드
      */
     public IpInfo resolve(HttpServletRequest req) {
+        return resolve(
+                req.getHeader("Forwarded"),
+                req.getHeader("X-Forwarded-For"),
+                req.getHeader("CF-Connecting-IP"),
+                req.getHeader("True-Client-IP"),
+                req.getRemoteAddr()
+        );
+    }
+
+    /**
+     * 헤더 값으로 직접 해석한다. 각 인자는 해당 헤더가 없으면 null.
+     * <p>홉은 {@link IpLiterals}로 파싱하므로 호스트 이름/쓰레기 값이 섞여도 DNS 조회가 일어나지 않는다.</p>
+     */
+    public IpInfo resolve(String forwarded, String xForwardedFor, String cfConnectingIp,
+                          String trueClientIp, String remoteAddr) {
         // 1) 우선순위 헤더 수집
-        List<String> chain = new ArrayList<>();
+        List<String> chain = new ArrayList<>(8);
 
-        // RFC 7239: Forwarded: for=1.2.3.4;proto=https;by=...
-        String fwd = req.getHeader("Forwarded");
-        if (fwd != null) {
-            var m = FORWARDED_PAIR.matcher(fwd);
-            while (m.find()) chain.add(clean(m.group(1)));
-        }
+        // RFC 7239: Forwarded: for=1.2.3.4;proto=https, for="[2001:db8::1]:4711"
+        if (forwarded != null) collectForwarded(forwarded, chain);
 
         // X-Forwarded-For: "client, proxy1, proxy2" (좌측이 원 클라)
-        String xff = req.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            for (String s : xff.split(",")) chain.add(clean(s));
-        }
+        if (xForwardedFor != null) collectList(xForwardedFor, chain);
 
         // Cloudflare / Akamai 계열 헤더
-        pushIfPresent(chain, req.getHeader("CF-Connecting-IP"));
-        pushIfPresent(chain, req.getHeader("True-Client-IP"));
+        if (cfConnectingIp != null) addHop(cfConnectingIp, 0, cfConnectingIp.length(), chain);
+        if (trueClientIp != null) addHop(trueClientIp, 0, trueClientIp.length(), chain);
 
         // 마지막으로 직접 연결 소켓 주소(프록시 미구성 시 폴백)
-        chain.add(clean(req.getRemoteAddr()));
+        String remote = remoteAddr == null ? null : clean(remoteAddr);
+        if (remote != null) chain.add(remote);
 
-        // 2) trusted proxy 제거 후 첫 untrusted를 클라 IP로 채택
-        Collections.reverse(chain); // 가장 가까운 홉부터 검사
-        String client = null;
-        for (String ipStr : chain) {
-            InetAddress ip = parse(ipStr);
-            if (ip == null) continue;
-            if (!isTrusted(ip)) {
-                client = toNormalized(ip);
+        // 2) 가장 가까운 홉부터 검사해 첫 untrusted를 클라 IP로 채택
+        byte[] addr = null;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            byte[] a = IpLiterals.parse(chain.get(i));
+            if (a != null && !trusted.contains(a)) {
+                addr = a;
                 break;
             }
         }
-        if (client == null) { // 모든 홉이 신뢰 프록시거나 파싱 실패 시 폴백
-            client = clean(req.getRemoteAddr());
+        String client;
+        if (addr != null) {
+            client = IpLiterals.format(addr);
+        } else { // 모든 홉이 신뢰 프록시거나 파싱 실패 시 폴백
+            client = remote;
+            addr = IpLiterals.parse(remote);
         }
 
         // 3) 보강 정보 생성
-        String masked = mask(client);
-        boolean isPrivate = isPrivate(parse(client));
-        String source = sourceHeader(req);
-        String hash = hashIp(client, props.getHashSalt());
-
-        // 체인은 보기 좋게 최신 프록시 → 원거리 순서로 되돌림
-        Collections.reverse(chain);
+        String masked = addr == null ? null : IpLiterals.mask(addr);
+        boolean isPrivate = addr != null && IpLiterals.isPrivate(addr);
+        String source = sourceHeader(forwarded, xForwardedFor, cfConnectingIp, trueClientIp);
+        String hash = hashIp(client);
 
         return new IpInfo(client, masked, hash, isPrivate, source, List.copyOf(chain));
     }
@@ -126,67 +140,80 @@ public class IpResolver {
     /* ───────────────────────── helpers ───────────────────────── */
 
     /**
-     * null/공백 아닌 값만 체인에 추가 (대괄호 제거 포함)
+     * Forwarded 헤더의 각 요소에서 for= 값만 뽑는다. (대소문자 무시, 따옴표/대괄호/포트 제거)
      */
-    private static void pushIfPresent(List<String> list, String v) {
-        if (v != null && !v.isBlank()) list.add(clean(v));
-    }
-
-    /**
-     * IP 문자열 공백 정리 + 대괄호 제거([::1] → ::1)
-     */
-    private static String clean(String s) {
-        return s == null ? null : s.trim().replaceAll("^\\[|\\]$", "");
+    private static void collectForwarded(String h, List<String> out) {
+        int n = h.length();
+        int i = 0;
+        while (i < n) {
+            // 파라미터 이름 시작으로 이동
+            while (i < n && (h.charAt(i) == ' ' || h.charAt(i) == '\t' || h.charAt(i) == ';' || h.charAt(i) == ',')) i++;
+            int nameStart = i;
+            while (i < n && h.charAt(i) != '=' && h.charAt(i) != ';' && h.charAt(i) != ',') i++;
+            if (i >= n || h.charAt(i) != '=') continue;
+            boolean isFor = h.regionMatches(true, nameStart, "for", 0, 3) && trimEnd(h, nameStart, i) == nameStart + 3;
+            int valStart = ++i;
+            if (i < n && h.charAt(i) == '"') {
+                int close = h.indexOf('"', i + 1);
+                int valEnd = close < 0 ? n : close;
+                if (isFor) addHop(h, valStart + 1, valEnd, out);
+                i = close < 0 ? n : close + 1;
+            } else {
+                while (i < n && h.charAt(i) != ';' && h.charAt(i) != ',') i++;
+                if (isFor) addHop(h, valStart, i, out);
+            }
+        }
     }
 
     /**
-     * 문자열을 InetAddress로 파싱 (실패 시 null)
+     * 콤마로 구분된 목록(X-Forwarded-For)의 각 항목을 추가한다.
      */
-    private static InetAddress parse(String ip) {
-        try {
-            return InetAddress.getByName(ip);
-        } catch (UnknownHostException e) {
-            return null;
+    private static void collectList(String h, List<String> out) {
+        int start = 0;
+        for (int i = 0, n = h.length(); i <= n; i++) {
+            if (i == n || h.charAt(i) == ',') {
+                addHop(h, start, i, out);
+                start = i + 1;
+            }
         }
     }
 
     /**
-     * IPv4-mapped IPv6(::ffff:192.0.2.1) → 순수 IPv4("192.0.2.1")로 정규화.
-     * 일반 주소는 getHostAddress() 그대로 반환.
+     * {@code s[from, to)}에서 공백/대괄호/포트를 걷어낸 홉을 추가한다. (빈 값은 무시)
+     * <ul>
+     *   <li>{@code [2001:db8::1]:443} → {@code 2001:db8::1}</li>
+     *   <li>{@code 203.0.113.7:5678} → {@code 203.0.113.7}</li>
+     * </ul>
      */
-    private static String toNormalized(InetAddress ip) {
-        byte[] a = ip.getAddress();
-        if (a.length == 16) {
-            boolean mapped = true;
-            for (int i = 0; i < 10; i++)
-                if (a[i] != 0) {
-                    mapped = false;
-                    break;
-                }
-            if (a[10] != (byte) 0xFF || a[11] != (byte) 0xFF) mapped = false;
-            if (mapped) {
-                return ((a[12] & 0xFF) + "." + (a[13] & 0xFF) + "." + (a[14] & 0xFF) + "." + (a[15] & 0xFF));
-            }
+    private static void addHop(String s, int from, int to, List<String> out) {
+        while (from < to && Character.isWhitespace(s.charAt(from))) from++;
+        to = trimEnd(s, from, to);
+        if (from >= to) return;
+
+        if (s.charAt(from) == '[') {
+            int close = s.indexOf(']', from);
+            from++;
+            if (close >= 0 && close < to) to = close;
+        } else {
+            int colon = s.indexOf(':', from);
+            if (colon >= 0 && colon < to && s.lastIndexOf(':', to - 1) == colon) to = colon; // IPv4:port
         }
-        return ip.getHostAddress();
+        if (from < to) out.add(s.substring(from, to));
     }
 
-    /**
-     * 설정된 신뢰 프록시 CIDR 목록과 일치 여부
-     */
-    private boolean isTrusted(InetAddress ip) {
-        return props.trustedMatchers().stream().anyMatch(m -> m.test(ip));
+    private static int trimEnd(String s, int from, int to) {
+        while (to > from && Character.isWhitespace(s.charAt(to - 1))) to--;
+        return to;
     }
 
     /**
-     * 사설/루프백/링크로컬 여부
+     * IP 문자열 공백 정리 + 대괄호 제거([::1] → ::1)
      */
-    private static boolean isPrivate(InetAddress ip) {
-        if (ip == null) return false;
-        return ip.isAnyLocalAddress()
-                || ip.isLoopbackAddress()
-                || ip.isLinkLocalAddress()
-                || ip.isSiteLocalAddress();
+    private static String clean(String s) {
+        String t = s.trim();
+        int from = t.startsWith("[") ? 1 : 0;
+        int to = t.endsWith("]") ? t.length() - 1 : t.length();
+        return from == 0 && to == t.length() ? t : t.substring(from, Math.max(from, to));
     }
 
     /**
@@ -194,28 +221,35 @@ public class IpResolver {
      * <p>예) 203.0.113.25 → 203.0.113.0, 2001:db8:abcd:1234::1 → 2001:db8:abcd::</p>
      */
     public static String mask(String ip) {
-        InetAddress addr = parse(ip);
-        if (addr == null) return null;
-        byte[] b = addr.getAddress();
-        if (b.length == 4) return (b[0] & 0xFF) + "." + (b[1] & 0xFF) + "." + (b[2] & 0xFF) + ".0";
-        // IPv6: 앞 3 hextet 유지, 나머지 0 → /48 근사
-        String s = addr.getHostAddress();
-        return s.replaceAll("(^([0-9a-fA-F]{0,4}:){3})([0-9a-fA-F:]+)$", "$1::");
+        byte[] addr = IpLiterals.parse(ip);
+        return addr == null ? null : IpLiterals.mask(addr);
     }
 
     /**
      * 솔트를 섞은 SHA-256 해시를 URL-safe Base64로 단축 인코딩.
-     * <p>동일 IP는 동일 해시가 나오므로 유저 카운팅/중복 억제에 사용.</p>
+     * <p>동일 IP는 동일 해시가 나오므로 유저 카운팅/중복 억제에 사용.
+     * 솔트를 넣어 둔 원형을 복제하므로 요청마다 프로바이더 조회와 솔트 재해시가 없다.</p>
      */
-    private static String hashIp(String ip, String salt) {
-        if (ip == null || salt == null) return null;
+    private String hashIp(String ip) {
+        if (ip == null || saltedDigest == null) return null;
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(salt.getBytes());
-            byte[] dig = md.digest(ip.getBytes());
+            MessageDigest md = (MessageDigest) saltedDigest.clone();
+            byte[] dig = md.digest(ip.getBytes(StandardCharsets.UTF_8));
             // 18바이트로 잘라 URL-safe Base64 (길이≈24자)
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(dig, 18));
-        } catch (Exception e) {
+            return B64.encodeToString(Arrays.copyOf(dig, 18));
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest saltedDigest(String salt) {
+        if (salt == null) return null;
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(salt.getBytes(StandardCharsets.UTF_8));
+            md.clone(); // 복제 가능 여부 확인
+            return md;
+        } catch (NoSuchAlgorithmException | CloneNotSupportedException e) {
             return null;
         }
     }
@@ -223,18 +257,14 @@ public class IpResolver {
     /**
      * 어떤 헤더를 신뢰 소스로 사용했는지 식별 문자열 반환
      */
-    private static String sourceHeader(HttpServletRequest req) {
-        if (has(req, "CF-Connecting-IP")) return "cf-connecting-ip";
-        if (has(req, "True-Client-IP")) return "true-client-ip";
-        if (has(req, "Forwarded")) return "forwarded";
-        if (has(req, "X-Forwarded-For")) return "x-forwarded-for";
+    private static String sourceHeader(String forwarded, String xff, String cf, String trueClient) {
+        if (cf != null) return "cf-connecting-ip";
+        if (trueClient != null) return "true-client-ip";
+        if (forwarded != null) return "forwarded";
+        if (xff != null) return "x-forwarded-for";
         return "remote-addr";
     }
 
-    private static boolean has(HttpServletRequest r, String h) {
-        return r.getHeader(h) != null;
-    }
-
     /**
      * IP 정보 DTO.
      * <ul>
@@ -6,14 +6,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
-import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * AccessLogFilter
@@ -26,11 +27,14 @@ import java.io.IOException;
  * </p>
  *
  * <ul>
- *   <li>정적 리소스(css/js/img)와 헬스체크 엔드포인트는 필터링 대상에서 제외한다.</li>
+ *   <li>정적 리소스(css/js/img)와 actuator 엔드포인트는 필터링 대상에서 제외한다.</li>
+ *   <li>모든 요청의 처리 시간/상태는 {@link RouteMetrics}로 라우트별 집계한다. (p50/p99는 로그가 아닌 메트릭으로 본다)</li>
  *   <li>요청 시작 시 MDC(Mapped Diagnostic Context)에 URI, HTTP 메서드를 저장한다.</li>
  *   <li>응답 완료 후 상태코드, 처리시간(ms)을 MDC에 기록한다.</li>
  *   <li>MDC 필드는 반드시 {@code finally} 블록에서 정리(cleanup)한다.</li>
- *   <li>2xx/3xx 응답은 DEBUG, 4xx/5xx 응답은 INFO 레벨로 기록해 잡음(noise)을 줄인다.</li>
+ *   <li>요청마다 로그를 남기지 않는다. 5xx와 느린 요청({@code app.web.access-log.slow-ms} 이상, 상태 무관)은 WARN,
+ *   빠른 4xx는 INFO, 나머지는 {@code sample-rate} 비율만 INFO(그 외 DEBUG)로 기록한다.</li>
+ *   <li>수집 비콘 등 경량 경로({@link TraceIdFilter#LIGHTWEIGHT_PREFIXES})는 메트릭만 기록하고 MDC/로그는 건너뛴다.</li>
  * </ul>
  *
  * <p>출력 예시(JSON 로그, 운영 서버):</p>
@@ -39,7 +43,7 @@ import java.io.IOException;
  *   "@timestamp": "...",
  *   "level": "INFO",
  *   "logger": "c.a.b.support.web.AccessLogFilter",
- *   "message": "REQ GET /posts/123",
+ *   "message": "RES GET /posts/123 status=200 took=15ms",
  *   "uri": "/posts/123",
  *   "httpMethod": "GET",
  *   "status": "200",
@@ -54,47 +58,67 @@ import java.io.IOException;
 public class AccessLogFilter extends OncePerRequestFilter {
 
     /**
-     * 필터 제외 대상 패턴 목록.
+     * 필터 제외 대상 경로 접두사.
      * <p>
-     * favicon, 이미지, 정적 리소스(css/js), 헬스체크 API 등은 접근 로그에 필요하지 않음.
+     * Spring Boot 공용 정적 리소스 위치와 actuator(헬스체크/메트릭 수집)는 접근 로그·메트릭에 필요하지 않음.
      */
-    private static final String[] EXCLUDES = {
-            "/favicon.ico",
-            "/**/*.ico", "/**/*.png", "/**/*.jpg", "/**/*.jpeg", "/**/*.gif", "/**/*.svg", "/**/*.webp",
-            "/**/*.css", "/**/*.js", "/**/*.map",
-            "/actuator/health", "/actuator/info"
+    private static final String[] EXCLUDED_PREFIXES = {
+            "/css/", "/js/", "/images/", "/webjars/", "/actuator/"
     };
 
-    private final AntPathMatcher matcher = new AntPathMatcher();
+    /**
+     * 필터 제외 대상 확장자 (favicon, 이미지, 정적 리소스)
+     */
+    private static final String[] EXCLUDED_EXTENSIONS = {
+            "ico", "png", "jpg", "jpeg", "gif", "svg", "webp", "css", "js", "map"
+    };
+
+    private final RouteMetrics metrics;
+    private final long slowMs;
+    private final double sampleRate;
+
+    public AccessLogFilter(
+            RouteMetrics metrics,
+            @Value("${app.web.access-log.slow-ms:1000}") long slowMs,
+            @Value("${app.web.access-log.sample-rate:0.0}") double sampleRate
+    ) {
+        this.metrics = metrics;
+        this.slowMs = slowMs;
+        this.sampleRate = sampleRate;
+    }
 
     /**
      * 요청 URI가 필터링 대상인지 판별.
      * <ul>
-     *   <li>Spring Boot 기본 static 리소스 경로(classpath:/static, /public 등)</li>
-     *   <li>{@link #EXCLUDES}에 명시된 경로/확장자</li>
+     *   <li>{@link #EXCLUDED_PREFIXES}로 시작하는 경로</li>
+     *   <li>{@link #EXCLUDED_EXTENSIONS}로 끝나는 경로</li>
      *   <li>OPTIONS 메서드</li>
      * </ul>
+     * <p>요청마다 실행되므로 패턴 매처 대신 접두사/확장자 비교만 한다.</p>
      *
      * @param request 현재 요청
      * @return true면 필터를 적용하지 않음
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        // 1) 공용 정적 리소스
-        if (PathRequest.toStaticResources().atCommonLocations().matches(request)) return true;
+        return "OPTIONS".equalsIgnoreCase(request.getMethod()) || isExcluded(request.getRequestURI());
+    }
 
-        // 2) 커스텀 exclude 패턴
-        String path = request.getRequestURI();
-        for (String p : EXCLUDES) {
-            if (matcher.match(p, path)) return true;
+    static boolean isExcluded(String path) {
+        for (String p : EXCLUDED_PREFIXES) {
+            if (path.startsWith(p)) return true;
         }
-
-        // 3) OPTIONS 메서드
-        return "OPTIONS".equalsIgnoreCase(request.getMethod());
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) return false;
+        int extLen = path.length() - dot - 1;
+        for (String ext : EXCLUDED_EXTENSIONS) {
+            if (ext.length() == extLen && path.regionMatches(true, dot + 1, ext, 0, extLen)) return true;
+        }
+        return false;
     }
 
     /**
-     * 요청/응답 접근 로그를 남기는 필터 본체.
+     * 요청/응답 접근 로그와 라우트 메트릭을 남기는 필터 본체.
      *
      * @param req    HttpServletRequest
      * @param res    HttpServletResponse
@@ -108,37 +132,56 @@ public class AccessLogFilter extends OncePerRequestFilter {
     ) throws IOException, ServletException {
 
         long t0 = System.nanoTime();
-        String uri = req.getRequestURI();
-        String qs = req.getQueryString();
-        if (qs != null && !qs.isBlank()) uri = uri + "?" + qs;
+        boolean lightweight = TraceIdFilter.isLightweight(req.getRequestURI());
         String method = req.getMethod();
+        String uri = null;
 
-        // 요청 시작 → MDC에 기록
-        MDC.put("uri", uri);
-        MDC.put("httpMethod", method);
+        if (!lightweight) {
+            uri = req.getRequestURI();
+            String qs = req.getQueryString();
+            if (qs != null && !qs.isBlank()) uri = uri + "?" + qs;
 
-        log.info("REQ {} {}", method, uri);
+            // 요청 시작 → MDC에 기록
+            MDC.put("uri", uri);
+            MDC.put("httpMethod", method);
+            log.debug("REQ {} {}", method, uri);
+        }
+
+        boolean completed = false;
         try {
             chain.doFilter(req, res);
+            completed = true;
         } finally {
-            long ms = (System.nanoTime() - t0) / 1_000_000;
+            long nanos = System.nanoTime() - t0;
             int sc = res.getStatus();
+            if (!completed && sc < 400) sc = 500; // 예외가 전파된 경우 이후 에러 처리에서 5xx가 된다
 
-            MDC.put("status", Integer.toString(sc));
-            MDC.put("tookMs", Long.toString(ms));
-
-            // 레벨 정책: 2xx/3xx → DEBUG, 4xx/5xx → INFO
-            if (sc >= 400) {
-                log.info("RES {} {} status={} took={}ms", method, uri, sc, ms);
-            } else {
-                log.debug("RES {} {} status={} took={}ms", method, uri, sc, ms);
-            }
-
-            // MDC 정리 (메모리/스레드 로컬 오염 방지)
-            MDC.remove("tookMs");
-            MDC.remove("status");
-            MDC.remove("httpMethod");
-            MDC.remove("uri");
+            metrics.record(req, sc, nanos);
+            if (!lightweight) logResponse(method, uri, sc, nanos / 1_000_000);
         }
     }
+
+    /**
+     * 레벨 정책: 5xx → WARN, 느린 요청(상태 무관) → WARN, 4xx → INFO, 나머지는 샘플링분만 INFO (그 외 DEBUG)
+     */
+    Level level(int sc, long ms) {
+        if (sc >= 500 || ms >= slowMs) return Level.WARN;
+        if (sc >= 400) return Level.INFO;
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) return Level.INFO;
+        return Level.DEBUG;
+    }
+
+    private void logResponse(String method, String uri, int sc, long ms) {
+        MDC.put("status", Integer.toString(sc));
+        MDC.put("tookMs", Long.toString(ms));
+
+        String kind = (sc < 500 && ms >= slowMs) ? "SLOW" : "RES";
+        log.atLevel(level(sc, ms)).log("{} {} {} status={} took={}ms", kind, method, uri, sc, ms);
+
+        // MDC 정리 (메모리/스레드 로컬 오염 방지)
+        MDC.remove("tookMs");
+        MDC.remove("status");
+        MDC.remove("httpMethod");
+        MDC.remove("uri");
+    }
 }
@@ -0,0 +1,93 @@
+package com.app.codemasterpiecebackend.global.support.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 응답 시간/상태 집계.
+ *
+ * <p>{@value #METRIC} 타이머 하나를 {@code method}, {@code route}(매핑 템플릿, 예: {@code /api/v1/posts/{postId}}),
+ * {@code status}(2xx/3xx/4xx/5xx) 태그로 나눠 기록한다. 태그 조합별 타이머는 처음 한 번만 등록하고 이후에는
+ * 캐시에서 꺼내 쓰므로 요청당 비용은 맵 조회 + 히스토그램 기록 정도다.</p>
+ *
+ * <ul>
+ *   <li>고정 버킷(SLO 경계)을 함께 내보내 여러 노드의 분포를 합산할 수 있다</li>
+ *   <li>p50/p99는 노드 로컬 시간 창(기본 2분) 기준으로 계산된다</li>
+ *   <li>타이머 count가 곧 라우트·상태 계열별 요청 수다</li>
+ *   <li>매핑되지 않은 요청은 {@code NOT_FOUND}/{@code REDIRECTION}/{@code UNKNOWN}으로 묶어 태그 폭증을 막는다</li>
+ * </ul>
+ *
+ * <p>조회: {@code GET /actuator/metrics/http.route.requests?tag=route:/api/v1/posts/{postId}}</p>
+ */
+@Component
+public class RouteMetrics {
+
+    public static final String METRIC = "http.route.requests";
+
+    /** 고정 히스토그램 경계 */
+    private static final Duration[] BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5)
+    };
+
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    private record Key(String method, String route, String status) {
+    }
+
+    public RouteMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 요청 한 건을 기록한다. 핸들러 매핑이 끝난 뒤(필터 체인 반환 후) 호출해야 라우트 템플릿이 잡힌다.
+     *
+     * @param status 최종 상태 코드
+     * @param nanos  처리 시간
+     */
+    public void record(HttpServletRequest req, int status, long nanos) {
+        String method = req.getMethod();
+        if (!METHODS.contains(method)) method = "OTHER";
+        var key = new Key(method, route(req, status), statusClass(status));
+        timers.computeIfAbsent(key, this::register).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(Key k) {
+        return Timer.builder(METRIC)
+                .description("Request latency per route template")
+                .tags("method", k.method(), "route", k.route(), "status", k.status())
+                .publishPercentiles(0.5, 0.99)
+                .serviceLevelObjectives(BUCKETS)
+                .register(registry);
+    }
+
+    private static String route(HttpServletRequest req, int status) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) return pattern.toString();
+        if (status == 404) return "NOT_FOUND";
+        if (status >= 300 && status < 400) return "REDIRECTION";
+        return "UNKNOWN";
+    }
+
+    private static String statusClass(int status) {
+        return switch (status / 100) {
+            case 1 -> "1xx";
+            case 2 -> "2xx";
+            case 3 -> "3xx";
+            case 4 -> "4xx";
+            default -> "5xx";
+        };
+    }
+}
@@ -29,6 +29,8 @@ import java.security.SecureRandom;
  * <p>traceId 포맷: {@code ULIDs} </p>
  *
  * <p>SecurityFilterChain보다 먼저 동작하도록 {@code @Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)}로 설정됨.</p>
+ *
+ * <p>수집 비콘처럼 응답을 아무도 읽지 않는 경량 경로({@link #LIGHTWEIGHT_PREFIXES})는 건너뛴다.</p>
  */
 @Component
 @Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1) // Security(-100)보다 먼저
@@ -39,11 +41,31 @@ public class TraceIdFilter extends OncePerRequestFilter {
      */
     public static final String TRACE_ID = "traceId";
 
+    /**
+     * 추적/접근 로그를 생략하는 경량 경로 접두사 (수집 비콘)
+     */
+    public static final String[] LIGHTWEIGHT_PREFIXES = {"/api/v1/collect"};
+
     /**
      * 난수 생성기 (traceId 접미사용)
      */
     private static final SecureRandom RNG = new SecureRandom();
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return isLightweight(request.getRequestURI());
+    }
+
+    /**
+     * 경량 경로 여부
+     */
+    public static boolean isLightweight(String uri) {
+        for (String p : LIGHTWEIGHT_PREFIXES) {
+            if (uri.startsWith(p)) return true;
+        }
+        return false;
+    }
+
     /**
      * 요청당 실행.
      * <ol>
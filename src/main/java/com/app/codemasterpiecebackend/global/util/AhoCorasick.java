@@ -0,0 +1,132 @@
+package com.app.codemasterpiecebackend.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ASCII 다중 패턴 부분 문자열 검색기 (Aho-Corasick, 대소문자 무시).
+ *
+ * <p>패턴 전체를 하나의 결정적 오토마톤(DFA)으로 만들어, 입력을 한 번만 훑으며 어떤 패턴이든 포함되는지 판정한다.
+ * 패턴 수와 무관하게 입력 길이에 비례하는 시간이 든다.</p>
+ *
+ * <ul>
+ *   <li>패턴은 ASCII로 제한하며 소문자로 정규화해 보관한다.</li>
+ *   <li>입력의 비ASCII 문자는 어떤 패턴에도 속할 수 없으므로 루트 상태로 되돌린다.</li>
+ *   <li>생성 후 불변이며 스레드 안전하다.</li>
+ * </ul>
+ */
+public final class AhoCorasick {
+
+    private static final int ALPHABET = 128;
+
+    /** delta[state * ALPHABET + c] = 다음 상태 (실패 링크가 미리 반영된 완전 전이표) */
+    private final int[] delta;
+    /** 상태에서 끝나는(실패 링크 경유 포함) 가장 긴 패턴, 없으면 null */
+    private final String[] output;
+
+    private AhoCorasick(int[] delta, String[] output) {
+        this.delta = delta;
+        this.output = output;
+    }
+
+    public static AhoCorasick of(Collection<String> patterns) {
+        // 1) 트라이
+        List<int[]> next = new ArrayList<>();
+        List<String> out = new ArrayList<>();
+        next.add(newRow());
+        out.add(null);
+
+        for (String raw : patterns) {
+            if (raw == null || raw.isEmpty()) continue;
+            String p = lowerAscii(raw);
+            int s = 0;
+            for (int i = 0; i < p.length(); i++) {
+                char c = p.charAt(i);
+                if (c >= ALPHABET) throw new IllegalArgumentException("non-ASCII pattern: " + raw);
+                if (next.get(s)[c] < 0) {
+                    next.get(s)[c] = next.size();
+                    next.add(newRow());
+                    out.add(null);
+                }
+                s = next.get(s)[c];
+            }
+            out.set(s, p);
+        }
+
+        // 2) BFS로 실패 링크를 전이표에 접어 넣는다
+        int n = next.size();
+        int[] delta = new int[n * ALPHABET];
+        int[] fail = new int[n];
+        String[] output = out.toArray(new String[0]);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int c = 0; c < ALPHABET; c++) {
+            int t = next.get(0)[c];
+            if (t < 0) {
+                delta[c] = 0;
+            } else {
+                delta[c] = t;
+                fail[t] = 0;
+                queue.add(t);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            if (output[s] == null) output[s] = output[fail[s]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int t = next.get(s)[c];
+                if (t < 0) {
+                    delta[s * ALPHABET + c] = delta[fail[s] * ALPHABET + c];
+                } else {
+                    delta[s * ALPHABET + c] = t;
+                    fail[t] = delta[fail[s] * ALPHABET + c];
+                    queue.add(t);
+                }
+            }
+        }
+        return new AhoCorasick(delta, output);
+    }
+
+    /**
+     * 입력에 패턴 중 하나라도 포함되면 true
+     */
+    public boolean containsAny(CharSequence text) {
+        return firstMatch(text) != null;
+    }
+
+    /**
+     * 입력을 앞에서부터 훑어 처음 완성되는 패턴(소문자)을 반환한다. 없으면 null.
+     */
+    public String firstMatch(CharSequence text) {
+        if (text == null) return null;
+        int s = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char c = text.charAt(i);
+            if (c >= ALPHABET) {
+                s = 0;
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') c += 32;
+            s = delta[s * ALPHABET + c];
+            if (output[s] != null) return output[s];
+        }
+        return null;
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        java.util.Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static String lowerAscii(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            sb.append(c >= 'A' && c <= 'Z' ? (char) (c + 32) : c);
+        }
+        return sb.toString();
+    }
+}
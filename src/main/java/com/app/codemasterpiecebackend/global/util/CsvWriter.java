@@ -0,0 +1,56 @@
+package com.app.codemasterpiecebackend.global.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV 행 작성기.
+ *
+ * <p>구분자(쉼표), 따옴표, 줄바꿈이 들어간 값만 큰따옴표로 감싸고 내부 따옴표는 두 번 쓴다.
+ * null은 빈 칸으로 쓴다. 행 끝은 CRLF.</p>
+ *
+ * <p>행 단위로 바로 내려쓰므로 버퍼링/플러시는 감싼 {@link Writer}가 담당한다. 스레드 안전하지 않다.</p>
+ */
+public final class CsvWriter {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * 한 행을 쓴다. 값은 {@link String#valueOf(Object)}로 문자열화한다.
+     */
+    public void writeRow(Iterable<?> values) throws IOException {
+        boolean first = true;
+        for (Object v : values) {
+            if (!first) out.write(',');
+            first = false;
+            if (v != null) writeField(String.valueOf(v));
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(String s) throws IOException {
+        if (!needsQuote(s)) {
+            out.write(s);
+            return;
+        }
+        out.write('"');
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuote(String s) {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,238 @@
+package com.app.codemasterpiecebackend.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 게시글 마크다운에서 이미지 파일 토큰과 CDN URL 속 파일 ID를 한 번의 순회로 찾아내는 토크나이저입니다.
+ *
+ * <p>인식 대상:</p>
+ * <ul>
+ *   <li>파일 토큰: {@code ![alt](image-token://FL-XXXXXXXXXXXXXXXXXXXXXXXXXX[?t=kind])}</li>
+ *   <li>CDN URL: {@code http(s)://.../FL-XXXXXXXXXXXXXXXXXXXXXXXXXX/...} — URL 구간(공백 또는 ')' 전까지)의 마지막 파일 ID</li>
+ * </ul>
+ *
+ * <p>정규식 없이 {@code indexOf}와 문자 비교만 사용하므로 본문 길이에 선형이며, 결과 토큰의 위치 정보로
+ * 호출자가 하나의 {@link StringBuilder}에 치환 결과를 이어 쓸 수 있습니다.</p>
+ */
+public final class FileTokenScanner {
+
+    private static final String TOKEN_SCHEME = "image-token://";
+    private static final String KIND_PARAM = "?t=";
+    private static final String ID_PREFIX = "FL-";
+    private static final int ID_BODY_LEN = 26;
+    private static final int ID_LEN = ID_PREFIX.length() + ID_BODY_LEN;
+
+    private FileTokenScanner() {
+    }
+
+    /**
+     * 본문 내 파일 토큰 하나.
+     *
+     * @param start  토큰 시작 인덱스 ('!' 위치, 포함)
+     * @param end    토큰 끝 인덱스 (')' 다음, 미포함)
+     * @param alt    대체 텍스트
+     * @param fileId 파일 ID (FL-...)
+     * @param kind   {@code ?t=} 로 지정한 변환 종류 (없으면 null)
+     */
+    public record Token(int start, int end, String alt, String fileId, String kind) {
+    }
+
+    /**
+     * 스캔 결과.
+     *
+     * @param tokens         등장 순서대로의 파일 토큰
+     * @param tokenFileIds   토큰에 등장한 파일 ID (중복 제거, 선착순)
+     * @param referencedIds  토큰 + CDN URL에 등장한 모든 파일 ID (중복 제거, 선착순)
+     */
+    public record Scan(List<Token> tokens, List<String> tokenFileIds, List<String> referencedIds) {
+    }
+
+    /**
+     * 마크다운을 한 번 순회하여 파일 토큰과 참조 파일 ID를 수집합니다.
+     */
+    public static Scan scan(String markdown) {
+        if (markdown == null || markdown.isEmpty()) return new Scan(List.of(), List.of(), List.of());
+
+        List<Token> tokens = new ArrayList<>();
+        LinkedHashSet<String> tokenIds = new LinkedHashSet<>();
+        LinkedHashSet<String> referenced = new LinkedHashSet<>();
+
+        final int n = markdown.length();
+        int i = 0;
+        int nextBang = markdown.indexOf("![", 0);
+        int nextHttp = markdown.indexOf("http", 0);
+
+        while (i < n) {
+            if (nextBang >= 0 && nextBang < i) nextBang = markdown.indexOf("![", i);
+            if (nextHttp >= 0 && nextHttp < i) nextHttp = markdown.indexOf("http", i);
+            if (nextBang < 0 && nextHttp < 0) break;
+
+            if (nextBang >= 0 && (nextHttp < 0 || nextBang < nextHttp)) {
+                Token t = parseToken(markdown, nextBang);
+                if (t != null) {
+                    tokens.add(t);
+                    tokenIds.add(t.fileId());
+                    referenced.add(t.fileId());
+                    i = t.end();
+                } else {
+                    i = nextBang + 2;
+                }
+            } else {
+                i = scanUrl(markdown, nextHttp, referenced);
+            }
+        }
+
+        return new Scan(tokens, List.copyOf(tokenIds), List.copyOf(referenced));
+    }
+
+    /**
+     * 저장 시점에 CDN URL로 치환되어 굳어진 본문 이미지를 다시 파일 토큰으로 되돌립니다.
+     * (본문을 토큰 그대로 저장하기 이전에 작성된 글의 일회성 이관용)
+     *
+     * <p>대상은 {@code ![alt](http(s)://.../FL-{26}/original)} 또는 {@code .../FL-{26}/variants/...} 형태이면서
+     * {@code isKnown}이 참인 파일 ID입니다. {@code thumb-512}/{@code thumb-256} 변환본 URL은 {@code ?t=} 지정 토큰으로,
+     * 나머지(원본, WEBP/AVIF)는 지정 없는 토큰으로 바꿔 조회 시 반응형 {@code <picture>}가 적용되도록 합니다.
+     * 외부 URL이나 제목이 붙은 이미지({@code ![a](url "title")})는 그대로 둡니다.</p>
+     *
+     * @param isKnown 실제로 존재하는 파일 ID인지 판정
+     * @return 바뀐 곳이 없으면 입력 그대로
+     */
+    public static String retokenize(String markdown, Predicate<String> isKnown) {
+        if (markdown == null || markdown.isEmpty()) return markdown;
+
+        StringBuilder out = null;
+        int cursor = 0;
+        int bang = markdown.indexOf("![");
+        while (bang >= 0) {
+            int next = bang + 2;
+            int altEnd = markdown.indexOf(']', bang + 2);
+            if (altEnd >= 0 && markdown.startsWith("(http", altEnd + 1)) {
+                int urlStart = altEnd + 2;
+                int p = urlStart + 4;
+                if (p < markdown.length() && markdown.charAt(p) == 's') p++;
+                int urlEnd = p;
+                if (markdown.startsWith("://", p)) {
+                    while (urlEnd < markdown.length()) {
+                        char c = markdown.charAt(urlEnd);
+                        if (c == ')' || Character.isWhitespace(c)) break;
+                        urlEnd++;
+                    }
+                }
+                String kind = urlEnd < markdown.length() && markdown.charAt(urlEnd) == ')'
+                        ? bakedKind(markdown, p + 2, urlEnd) : null;
+                int idStart = kind == null ? -1 : lastFileId(markdown, p + 2, urlEnd);
+                String id = idStart < 0 ? null : markdown.substring(idStart, idStart + ID_LEN);
+                if (id != null && isKnown.test(id)) {
+                    if (out == null) out = new StringBuilder(markdown.length());
+                    out.append(markdown, cursor, altEnd + 1)
+                            .append('(').append(TOKEN_SCHEME).append(id);
+                    if (!kind.isEmpty()) out.append(KIND_PARAM).append(kind);
+                    out.append(')');
+                    cursor = urlEnd + 1;
+                    next = cursor;
+                }
+            }
+            bang = markdown.indexOf("![", next);
+        }
+        if (out == null) return markdown;
+        return out.append(markdown, cursor, markdown.length()).toString();
+    }
+
+    /**
+     * 굳어진 URL 구간의 파일 ID 뒤 경로로 원래 요청 kind를 추정합니다.
+     *
+     * @return {@code "thumb-512"}/{@code "thumb-256"}, 지정 없음이면 {@code ""}, 우리가 만든 URL이 아니면 null
+     */
+    private static String bakedKind(String s, int from, int end) {
+        int idStart = lastFileId(s, from, end);
+        if (idStart < 0) return null;
+        String rest = s.substring(idStart + ID_LEN + 1, end);
+        if (rest.equals("original")) return "";
+        if (!rest.startsWith("variants/")) return null;
+        if (rest.contains(".thumb-512.")) return "thumb-512";
+        if (rest.contains(".thumb-256.")) return "thumb-256";
+        return "";
+    }
+
+    /**
+     * {@code pos}('!')에서 시작하는 파일 토큰을 해석합니다. 형식이 맞지 않으면 null.
+     */
+    private static Token parseToken(String s, int pos) {
+        int altStart = pos + 2;
+        int altEnd = s.indexOf(']', altStart);
+        if (altEnd < 0) return null;
+
+        int p = altEnd + 1;
+        if (!s.startsWith("(", p)) return null;
+        p++;
+        if (!s.startsWith(TOKEN_SCHEME, p)) return null;
+        p += TOKEN_SCHEME.length();
+
+        if (!isFileId(s, p)) return null;
+        String id = s.substring(p, p + ID_LEN);
+        p += ID_LEN;
+
+        String kind = null;
+        if (s.startsWith(KIND_PARAM, p)) {
+            int ks = p + KIND_PARAM.length();
+            int ke = ks;
+            while (ke < s.length() && isKindChar(s.charAt(ke))) ke++;
+            if (ke == ks) return null;
+            kind = s.substring(ks, ke);
+            p = ke;
+        }
+
+        if (p >= s.length() || s.charAt(p) != ')') return null;
+        return new Token(pos, p + 1, s.substring(altStart, altEnd), id, kind);
+    }
+
+    /**
+     * {@code pos}("http")에서 시작하는 URL 구간을 훑어 마지막 {@code /FL-.../} 파일 ID를 수집하고, 구간 끝을 반환합니다.
+     */
+    private static int scanUrl(String s, int pos, LinkedHashSet<String> out) {
+        int p = pos + 4;
+        if (p < s.length() && s.charAt(p) == 's') p++;
+        if (!s.startsWith("://", p)) return pos + 4;
+
+        int end = p + 3;
+        while (end < s.length()) {
+            char c = s.charAt(end);
+            if (c == ')' || Character.isWhitespace(c)) break;
+            end++;
+        }
+
+        int idStart = lastFileId(s, p + 2, end);
+        if (idStart >= 0) out.add(s.substring(idStart, idStart + ID_LEN));
+        return end;
+    }
+
+    /**
+     * {@code (from, end)} 구간 안의 마지막 {@code "/FL-{26}/"}의 ID 시작 인덱스. 없으면 -1.
+     * 구간 밖을 훑지 않도록 끝에서부터 직접 비교한다.
+     */
+    private static int lastFileId(String s, int from, int end) {
+        for (int k = end - ID_LEN - 2; k > from; k--) {
+            if (s.charAt(k) != '/') continue;
+            int idStart = k + 1;
+            if (s.charAt(idStart + ID_LEN) == '/' && isFileId(s, idStart)) return idStart;
+        }
+        return -1;
+    }
+
+    private static boolean isFileId(String s, int p) {
+        if (p + ID_LEN > s.length() || !s.startsWith(ID_PREFIX, p)) return false;
+        for (int k = p + ID_PREFIX.length(), e = p + ID_LEN; k < e; k++) {
+            char c = s.charAt(k);
+            if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isKindChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-' || c == '.';
+    }
+}
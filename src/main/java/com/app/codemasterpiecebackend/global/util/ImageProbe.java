@@ -0,0 +1,313 @@
+package com.app.codemasterpiecebackend.global.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 이미지 컨테이너 헤더만 읽어 실제 픽셀 크기를 판별하는 유틸리티입니다.
+ *
+ * <p>픽셀 데이터를 디코딩하지 않고, 포맷별로 크기 정보가 위치한 헤더 구간까지만 스트림을 소비합니다.
+ * 지원 포맷: PNG(IHDR), JPEG(SOFn), GIF(Logical Screen), WebP(VP8/VP8L/VP8X), AVIF(ispe).</p>
+ *
+ * <p>판별할 수 없는 포맷이거나 헤더가 손상된 경우 예외 대신 {@link Optional#empty()}를 반환합니다.
+ * 크기 정보는 부가 메타데이터이므로 업로드/변환 흐름을 중단시키지 않기 위함입니다.</p>
+ */
+public final class ImageProbe {
+
+    /**
+     * 업로드 스트림에서 헤더 판별용으로 미리 읽어 둘 최대 바이트 수.
+     * EXIF 세그먼트(최대 64KB) 뒤에 오는 JPEG SOF 마커까지 포함할 수 있는 크기입니다.
+     */
+    public static final int HEADER_WINDOW = 72 * 1024;
+
+    /** ISOBMFF(AVIF) 박스 탐색 시 허용할 최대 중첩 깊이 */
+    private static final int MAX_BOX_DEPTH = 4;
+
+    private ImageProbe() {
+    }
+
+    /**
+     * 판별된 이미지 크기.
+     *
+     * @param width  가로 픽셀
+     * @param height 세로 픽셀
+     * @param format 판별된 컨테이너 포맷 (png, jpeg, gif, webp, avif)
+     */
+    public record ImageSize(int width, int height, String format) {
+    }
+
+    /**
+     * 로컬 파일의 헤더를 읽어 크기를 판별합니다.
+     */
+    public static Optional<ImageSize> probe(Path path) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 8192)) {
+            return probe(in);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 메모리에 적재된 헤더 바이트로부터 크기를 판별합니다.
+     */
+    public static Optional<ImageSize> probe(byte[] head) {
+        if (head == null || head.length == 0) return Optional.empty();
+        return probe(new ByteArrayInputStream(head));
+    }
+
+    /**
+     * 스트림의 선두부터 헤더를 읽어 크기를 판별합니다. 스트림은 닫지 않습니다.
+     */
+    public static Optional<ImageSize> probe(InputStream in) {
+        try {
+            var r = new Reader(in);
+            int b0 = r.u8();
+            int b1 = r.u8();
+
+            if (b0 == 0x89 && b1 == 'P') return png(r);
+            if (b0 == 0xFF && b1 == 0xD8) return jpeg(r);
+            if (b0 == 'G' && b1 == 'I') return gif(r);
+            if (b0 == 'R' && b1 == 'I') return webp(r);
+
+            // ISOBMFF: [size:4][type:4] — 선두 2바이트는 size의 상위 바이트
+            int b2 = r.u8();
+            int b3 = r.u8();
+            long size = ((long) b0 << 24) | ((long) b1 << 16) | ((long) b2 << 8) | b3;
+            if (r.u32be() == fourcc("ftyp")) return avif(r, size);
+
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ===== PNG =====
+
+    private static Optional<ImageSize> png(Reader r) throws IOException {
+        // 시그니처 나머지 6바이트 + IHDR 길이(4)
+        if (r.u8() != 'N' || r.u8() != 'G') return Optional.empty();
+        r.skip(4 + 4);
+        if (r.u32be() != fourcc("IHDR")) return Optional.empty();
+        return size(r.u32be(), r.u32be(), "png");
+    }
+
+    // ===== JPEG =====
+
+    private static Optional<ImageSize> jpeg(Reader r) throws IOException {
+        while (true) {
+            int b = r.u8();
+            if (b != 0xFF) return Optional.empty();
+
+            int marker = r.u8();
+            while (marker == 0xFF) marker = r.u8(); // fill byte
+
+            // 길이 필드가 없는 독립 마커 (RSTn, TEM)
+            if ((marker >= 0xD0 && marker <= 0xD7) || marker == 0x01) continue;
+            if (marker == 0xD9 || marker == 0xDA) return Optional.empty(); // EOI/SOS 이전에 SOF가 없었음
+
+            int len = r.u16be();
+            if (len < 2) return Optional.empty();
+
+            if (isSof(marker)) {
+                r.skip(1); // sample precision
+                int h = r.u16be();
+                int w = r.u16be();
+                return size(w, h, "jpeg");
+            }
+            r.skip(len - 2);
+        }
+    }
+
+    private static boolean isSof(int marker) {
+        // SOF0~SOF15 중 DHT(C4), JPG(C8), DAC(CC) 제외
+        return marker >= 0xC0 && marker <= 0xCF
+                && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    // ===== GIF =====
+
+    private static Optional<ImageSize> gif(Reader r) throws IOException {
+        if (r.u8() != 'F') return Optional.empty();
+        r.skip(3); // "87a" | "89a"
+        return size(r.u16le(), r.u16le(), "gif");
+    }
+
+    // ===== WebP =====
+
+    private static Optional<ImageSize> webp(Reader r) throws IOException {
+        if (r.u8() != 'F' || r.u8() != 'F') return Optional.empty();
+        r.skip(4); // RIFF size
+        if (r.u32be() != fourcc("WEBP")) return Optional.empty();
+
+        int chunk = r.u32be();
+        r.skip(4); // chunk size
+
+        if (chunk == fourcc("VP8 ")) {
+            r.skip(3); // frame tag
+            if (r.u8() != 0x9D || r.u8() != 0x01 || r.u8() != 0x2A) return Optional.empty();
+            int w = r.u16le() & 0x3FFF;
+            int h = r.u16le() & 0x3FFF;
+            return size(w, h, "webp");
+        }
+        if (chunk == fourcc("VP8L")) {
+            if (r.u8() != 0x2F) return Optional.empty();
+            long bits = r.u32le();
+            int w = (int) (bits & 0x3FFF) + 1;
+            int h = (int) ((bits >> 14) & 0x3FFF) + 1;
+            return size(w, h, "webp");
+        }
+        if (chunk == fourcc("VP8X")) {
+            r.skip(4); // flags + reserved
+            int w = r.u24le() + 1;
+            int h = r.u24le() + 1;
+            return size(w, h, "webp");
+        }
+        return Optional.empty();
+    }
+
+    // ===== AVIF (ISOBMFF) =====
+
+    private static Optional<ImageSize> avif(Reader r, long ftypSize) throws IOException {
+        int brand = r.u32be();
+        if (brand != fourcc("avif") && brand != fourcc("avis")) {
+            // major brand가 다르더라도 compatible brand에 avif가 있으면 허용
+            boolean compatible = false;
+            r.skip(4); // minor version
+            for (long left = ftypSize - 16; left >= 4; left -= 4) {
+                int b = r.u32be();
+                if (b == fourcc("avif") || b == fourcc("avis")) compatible = true;
+            }
+            if (!compatible) return Optional.empty();
+        } else {
+            r.skip(ftypSize - 12);
+        }
+
+        // 최상위 박스 중 meta → iprp → ipco → ispe 순으로 하강
+        int[] best = new int[2];
+        if (!scanBoxes(r, Long.MAX_VALUE, 0, best)) {
+            return Optional.empty();
+        }
+        return size(best[0], best[1], "avif");
+    }
+
+    /**
+     * 주어진 범위 안의 박스를 순회하며 가장 큰 ispe(이미지 공간 크기)를 찾습니다.
+     * 썸네일/알파 아이템의 ispe가 함께 존재할 수 있으므로 면적이 가장 큰 값을 주 이미지로 간주합니다.
+     *
+     * @return meta 박스를 끝까지 확인했으면 true
+     */
+    private static boolean scanBoxes(Reader r, long limit, int depth, int[] best) throws IOException {
+        long consumed = 0;
+        while (consumed + 8 <= limit) {
+            long size = r.u32be() & 0xFFFFFFFFL;
+            int type = r.u32be();
+            long header = 8;
+            if (size == 1) {
+                size = r.u64be();
+                header = 16;
+            } else if (size == 0) {
+                size = limit - consumed; // 남은 전체
+            }
+            if (size < header) return false;
+            long body = size - header;
+
+            if (type == fourcc("meta")) {
+                r.skip(4); // FullBox version/flags
+                scanBoxes(r, body - 4, depth + 1, best);
+                return best[0] > 0;
+            } else if ((type == fourcc("iprp") || type == fourcc("ipco")) && depth < MAX_BOX_DEPTH) {
+                scanBoxes(r, body, depth + 1, best);
+            } else if (type == fourcc("ispe") && body >= 12) {
+                r.skip(4); // FullBox version/flags
+                int w = (int) Math.min(Integer.MAX_VALUE, r.u32be() & 0xFFFFFFFFL);
+                int h = (int) Math.min(Integer.MAX_VALUE, r.u32be() & 0xFFFFFFFFL);
+                if ((long) w * h > (long) best[0] * best[1]) {
+                    best[0] = w;
+                    best[1] = h;
+                }
+                r.skip(body - 12);
+            } else if (type == fourcc("mdat") && depth == 0) {
+                // 픽셀 데이터에 도달 — meta 없이 여기까지 왔다면 더 볼 필요 없음
+                return false;
+            } else {
+                r.skip(body);
+            }
+            consumed += size;
+        }
+        if (limit != Long.MAX_VALUE && limit > consumed) {
+            r.skip(limit - consumed);
+        }
+        return best[0] > 0;
+    }
+
+    // ===== helpers =====
+
+    private static Optional<ImageSize> size(long w, long h, String format) {
+        if (w <= 0 || h <= 0 || w > Integer.MAX_VALUE || h > Integer.MAX_VALUE) return Optional.empty();
+        return Optional.of(new ImageSize((int) w, (int) h, format));
+    }
+
+    private static int fourcc(String s) {
+        return (s.charAt(0) << 24) | (s.charAt(1) << 16) | (s.charAt(2) << 8) | s.charAt(3);
+    }
+
+    /**
+     * 헤더 파싱에 필요한 최소한의 엔디언 읽기 연산만 제공하는 경량 리더.
+     */
+    private static final class Reader {
+        private final InputStream in;
+
+        Reader(InputStream in) {
+            this.in = in;
+        }
+
+        int u8() throws IOException {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            return b;
+        }
+
+        int u16be() throws IOException {
+            return (u8() << 8) | u8();
+        }
+
+        int u16le() throws IOException {
+            return u8() | (u8() << 8);
+        }
+
+        int u24le() throws IOException {
+            return u8() | (u8() << 8) | (u8() << 16);
+        }
+
+        int u32be() throws IOException {
+            return (u8() << 24) | (u8() << 16) | (u8() << 8) | u8();
+        }
+
+        long u32le() throws IOException {
+            return (u8() | ((long) u8() << 8) | ((long) u8() << 16) | ((long) u8() << 24));
+        }
+
+        long u64be() throws IOException {
+            return ((u32be() & 0xFFFFFFFFL) << 32) | (u32be() & 0xFFFFFFFFL);
+        }
+
+        void skip(long n) throws IOException {
+            if (n < 0) throw new EOFException();
+            long left = n;
+            while (left > 0) {
+                long s = in.skip(left);
+                if (s <= 0) {
+                    if (in.read() < 0) throw new EOFException();
+                    s = 1;
+                }
+                left -= s;
+            }
+        }
+    }
+}
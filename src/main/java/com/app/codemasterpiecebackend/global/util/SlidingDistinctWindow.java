@@ -0,0 +1,125 @@
+package com.app.codemasterpiecebackend.global.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 고유값 카운터.
+ *
+ * <p>윈도우를 {@code bucketCount}개의 고정 길이 버킷으로 나눈 링이며, 각 버킷은 HyperLogLog 레지스터를 가진다.
+ * 현재 윈도우의 고유 개수는 살아 있는 버킷들의 레지스터 최대값 병합으로 구한다.</p>
+ *
+ * <ul>
+ *   <li>잠금 없음: 버킷 교체는 {@link AtomicReferenceArray} CAS, 레지스터 갱신은 int 하나에 4개씩 묶은 바이트의 CAS 최대값 갱신</li>
+ *   <li>버킷은 해당 구간에 값이 들어올 때만 만들어진다. (한가한 윈도우는 거의 메모리를 쓰지 않음)</li>
+ *   <li>링을 한 바퀴 돌아 이미 새 구간이 차지한 슬롯에 늦게 도착한 값은 버린다.</li>
+ * </ul>
+ */
+public final class SlidingDistinctWindow {
+
+    private final int p;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    /**
+     * @param precision    HyperLogLog 정밀도 (4~18)
+     * @param bucketMillis 버킷 길이(ms)
+     * @param bucketCount  윈도우를 이루는 버킷 수
+     */
+    public SlidingDistinctWindow(int precision, long bucketMillis, int bucketCount) {
+        if (precision < 4 || precision > 18) throw new IllegalArgumentException("precision out of range: " + precision);
+        if (bucketMillis <= 0 || bucketCount <= 0) throw new IllegalArgumentException("invalid window");
+        this.p = precision;
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.ring = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public long windowMillis() {
+        return bucketMillis * bucketCount;
+    }
+
+    /**
+     * 값을 현재 시각의 버킷에 추가한다. null은 무시한다.
+     */
+    public void add(String value, long nowMillis) {
+        if (value == null) return;
+        long epoch = Math.floorDiv(nowMillis, bucketMillis);
+        int slot = (int) Math.floorMod(epoch, (long) bucketCount);
+
+        Bucket b = ring.get(slot);
+        while (b == null || b.epoch != epoch) {
+            if (b != null && b.epoch > epoch) return;
+            Bucket fresh = new Bucket(epoch, 1 << p);
+            if (ring.compareAndSet(slot, b, fresh)) {
+                b = fresh;
+                break;
+            }
+            b = ring.get(slot);
+        }
+        b.add(HyperLogLog.hash64(value), p);
+    }
+
+    /**
+     * nowMillis 기준 윈도우에 속한 버킷들을 병합한 스케치.
+     */
+    public HyperLogLog snapshot(long nowMillis) {
+        long current = Math.floorDiv(nowMillis, bucketMillis);
+        byte[] regs = new byte[1 << p];
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket b = ring.get(i);
+            if (b == null || b.epoch <= current - bucketCount || b.epoch > current) continue;
+            b.mergeInto(regs);
+        }
+        return new HyperLogLog(p, regs);
+    }
+
+    /**
+     * nowMillis 기준 윈도우에 살아 있는 버킷이 없으면 true
+     */
+    public boolean isIdle(long nowMillis) {
+        long current = Math.floorDiv(nowMillis, bucketMillis);
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket b = ring.get(i);
+            if (b != null && b.epoch > current - bucketCount && b.epoch <= current) return false;
+        }
+        return true;
+    }
+
+    private static final class Bucket {
+        final long epoch;
+        /** 레지스터 4개를 int 하나에 8비트씩 묶어 보관 */
+        final AtomicIntegerArray packed;
+
+        Bucket(long epoch, int registers) {
+            this.epoch = epoch;
+            this.packed = new AtomicIntegerArray(registers >>> 2);
+        }
+
+        void add(long hash, int p) {
+            int idx = HyperLogLog.index(hash, p);
+            int rank = HyperLogLog.rank(hash, p);
+            int word = idx >>> 2;
+            int shift = (idx & 3) << 3;
+            while (true) {
+                int cur = packed.get(word);
+                if (rank <= ((cur >>> shift) & 0xFF)) return;
+                int next = (cur & ~(0xFF << shift)) | (rank << shift);
+                if (packed.compareAndSet(word, cur, next)) return;
+            }
+        }
+
+        void mergeInto(byte[] regs) {
+            for (int w = 0, n = packed.length(); w < n; w++) {
+                int v = packed.get(w);
+                if (v == 0) continue;
+                int base = w << 2;
+                for (int k = 0; k < 4; k++) {
+                    byte r = (byte) ((v >>> (k << 3)) & 0xFF);
+                    if (r > regs[base + k]) regs[base + k] = r;
+                }
+            }
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.app.codemasterpiecebackend.global.util;
 
 import java.security.SecureRandom;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * ULID(Universally Unique Lexicographically Sortable Identifier) 생성기.
@@ -25,7 +25,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * <h3>스레드 안전성</h3>
  * <ul>
  *   <li>{@link #newUlid()} 계열: lock-free, 일반용</li>
- *   <li>{@link #newMonotonicUlid()} 계열: synchronized, 동일 ms 내 단조증가 보장</li>
+ *   <li>{@link #newMonotonicUlid()} 계열: lock-free(CAS), 동일 ms 내 단조증가 보장.
+ *       마지막 발급 상태(시각+랜덤부)를 불변 객체로 두고 {@link AtomicReference#compareAndSet}으로 교체하므로,
+ *       모든 스레드에 걸쳐 발급 순서 = 사전식 순서이며 락/모니터가 없어 가상 스레드도 고정(pinning)되지 않는다.</li>
  * </ul>
  *
  * <h3>사용 예</h3>
@@ -39,6 +41,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * <h3>주의</h3>
  * <ul>
  *   <li>단조 증가 모드에서 동일 ms 내 생성량이 2^80개를 넘으면(사실상 불가능), 다음 ms까지 바쁜 대기 후 재개</li>
+ *   <li>단조 증가 모드에서 시계가 뒤로 가면, 마지막 발급 시각을 유지한 채 랜덤부만 증가시킨다</li>
  *   <li>접두사는 공백/빈 문자열이면 무시됨</li>
  * </ul>
  */
@@ -47,29 +50,30 @@ public final class ULIDs {
     }
 
     /**
-     * Crockford Base32 알파벳 (I, L, O, U 제외).
+     * Crockford Base32 알파벳 (I, L, O, U 제외). 5비트 값 → 문자 표.
      */
     private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
 
     /**
-     * 최근 생성 시각(ms). 단조 증가 모드에서만 사용.
+     * ULID 문자열 길이.
      */
-    private static final AtomicLong LAST_TIME = new AtomicLong(-1L);
+    private static final int LENGTH = 26;
 
     /**
-     * 최근 랜덤 상위 16비트. 단조 증가 모드에서만 사용.
+     * 마지막으로 발급한 단조 증가 상태. 단조 증가 모드에서만 사용.
      */
-    private static volatile int lastRandHi = 0;
+    private static final AtomicReference<State> LAST = new AtomicReference<>(new State(-1L, 0, 0L));
 
     /**
-     * 최근 랜덤 하위 64비트. 단조 증가 모드에서만 사용.
+     * 보안용 난수(상위 16비트 시드 강화).
      */
-    private static volatile long lastRandLo = 0L;
+    private static final SecureRandom SECURE = new SecureRandom();
 
     /**
-     * 보안용 난수(상위 16비트 시드 강화).
+     * 단조 증가 상태: [48-bit time][16-bit randHi][64-bit randLo]. 불변.
      */
-    private static final SecureRandom SECURE = new SecureRandom();
+    private record State(long time, int randHi, long randLo) {
+    }
 
     // ----------------------------------------------------------------------
     // Public API: Non-monotonic
@@ -94,8 +98,7 @@ public final class ULIDs {
         long time = System.currentTimeMillis();                  // 상위 48비트
         int randHi = ThreadLocalRandom.current().nextInt() & 0xFFFF; // 랜덤 상위 16비트
         long randLo = ThreadLocalRandom.current().nextLong();         // 랜덤 하위 64비트
-        String ulid = encode(time, randHi, randLo);
-        return decorate(prefix, ulid);
+        return encode(prefix, time, randHi, randLo);
     }
 
     // ----------------------------------------------------------------------
@@ -117,50 +120,41 @@ public final class ULIDs {
     /**
      * 단조 증가 ULID 생성 + 접두사.
      * <p>
-     * synchronized로 보호되어 동일 ms 내 생성 순서를 보장한다.
+     * 마지막 상태를 읽어 다음 상태를 계산한 뒤 CAS로 교체한다. 다른 스레드가 먼저 교체했으면 다시 계산한다.
+     * 교체에 성공한 상태는 직전 상태보다 항상 크므로 스레드 간에도 순서가 엄격하다.
      *
      * @param prefix 접두사(예: {@code "ORD"}). {@code null} 또는 공백/빈 문자열이면 무시.
      * @return 접두사가 있으면 {@code prefix + "-" + ULID}, 아니면 ULID 원문
      */
-    public static synchronized String newMonotonicUlid(String prefix) {
-        long now = System.currentTimeMillis();
-        long last = LAST_TIME.get();
-
-        int randHi;
-        long randLo;
-
-        if (now > last) {
-            // 시각이 전진 → 새로운 랜덤 시드
-            LAST_TIME.set(now);
-            randHi = secureHi16();
-            randLo = ThreadLocalRandom.current().nextLong();
-        } else {
-            // 동일 ms → 80비트 랜덤부 증가
-            long lo = lastRandLo + 1;
-            int hi = lastRandHi;
-
-            // 하위 64비트에서 캐리 발생
-            if (lo == 0) {
-                hi = (hi + 1) & 0xFFFF;
-                // 80비트 overflow → 다음 ms까지 대기
-                if (hi == 0) {
-                    do {
-                        now = System.currentTimeMillis();
-                    } while (now <= last);
-                    LAST_TIME.set(now);
-                    hi = secureHi16();
-                    lo = ThreadLocalRandom.current().nextLong();
+    public static String newMonotonicUlid(String prefix) {
+        State next;
+        while (true) {
+            State last = LAST.get();
+            long now = System.currentTimeMillis();
+
+            if (now > last.time()) {
+                // 시각이 전진 → 새로운 랜덤 시드
+                next = new State(now, secureHi16(), ThreadLocalRandom.current().nextLong());
+            } else {
+                // 동일 ms(또는 시계 역행) → 마지막 시각 유지, 80비트 랜덤부 증가
+                long lo = last.randLo() + 1;
+                int hi = last.randHi();
+
+                // 하위 64비트에서 캐리 발생
+                if (lo == 0) {
+                    hi = (hi + 1) & 0xFFFF;
+                    // 80비트 overflow → 다음 ms까지 대기 후 재시도
+                    if (hi == 0) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
                 }
+                next = new State(last.time(), hi, lo);
             }
-            randHi = hi;
-            randLo = lo;
-        }
-
-        lastRandHi = randHi;
-        lastRandLo = randLo;
 
-        String ulid = encode(now, randHi, randLo);
-        return decorate(prefix, ulid);
+            if (LAST.compareAndSet(last, next)) break;
+        }
+        return encode(prefix, next.time(), next.randHi(), next.randLo());
     }
 
     // ----------------------------------------------------------------------
@@ -168,78 +162,59 @@ public final class ULIDs {
     // ----------------------------------------------------------------------
 
     /**
-     * 128비트 값을 26자 Crockford Base32로 인코딩.
+     * 128비트 값을 26자 Crockford Base32로 인코딩하고 접두사를 붙인다.
      * <p>
      * 레이아웃: {@code [48-bit time][16-bit randHi][64-bit randLo]} → 130비트 슬롯 중 상위 2비트는 0으로 패딩.
+     * 시각 10자 + 랜덤 16자를 5비트씩 시프트/마스크로 잘라 표에서 바로 찾아 하나의 char 배열에 쓴다.
      *
+     * @param prefix   접두사(무시될 수 있음)
      * @param timeMs   밀리초(하위 48비트 사용)
      * @param randHi16 랜덤 상위 16비트
      * @param randLo64 랜덤 하위 64비트
-     * @return 26자 Base32 문자열
+     * @return {@code "prefix-ULID"} 또는 {@code ULID}
      */
-
-    private static String encode(long timeMs, int randHi16, long randLo64) {
-        // 128bit big-endian buffer: [48b time][16b randHi][64b randLo]
-        byte[] b = new byte[16];
-
-        // time 48-bit
-        b[0] = (byte) ((timeMs >>> 40) & 0xFF);
-        b[1] = (byte) ((timeMs >>> 32) & 0xFF);
-        b[2] = (byte) ((timeMs >>> 24) & 0xFF);
-        b[3] = (byte) ((timeMs >>> 16) & 0xFF);
-        b[4] = (byte) ((timeMs >>>  8) & 0xFF);
-        b[5] = (byte) ( timeMs         & 0xFF);
-
-        // randHi 16-bit
-        b[6] = (byte) ((randHi16 >>> 8) & 0xFF);
-        b[7] = (byte) ( randHi16        & 0xFF);
-
-        // randLo 64-bit
-        b[8]  = (byte) ((randLo64 >>> 56) & 0xFF);
-        b[9]  = (byte) ((randLo64 >>> 48) & 0xFF);
-        b[10] = (byte) ((randLo64 >>> 40) & 0xFF);
-        b[11] = (byte) ((randLo64 >>> 32) & 0xFF);
-        b[12] = (byte) ((randLo64 >>> 24) & 0xFF);
-        b[13] = (byte) ((randLo64 >>> 16) & 0xFF);
-        b[14] = (byte) ((randLo64 >>>  8) & 0xFF);
-        b[15] = (byte) ( randLo64         & 0xFF);
-
-        final char[] ALPH = ALPHABET; // "0123456789ABCDEFGHJKMNPQRSTVWXYZ"
-        char[] out = new char[26];
-
-        // 상위 2비트 0-padding을 반영하기 위해 bitPos = -2 에서 시작
-        int bitPos = -2; // 0이면 b[0]의 MSB. -2는 그보다 2비트 앞(가상의 0비트)
-        for (int i = 0; i < 26; i++) {
-            int v = 0;
-            for (int k = 0; k < 5; k++) {
-                int idx = bitPos + k;
-                int bit;
-                if (idx < 0) {
-                    // padding 0
-                    bit = 0;
-                } else {
-                    int byteIdx = idx / 8;
-                    int bitInByte = 7 - (idx % 8);
-                    bit = (b[byteIdx] >>> bitInByte) & 0x01;
-                }
-                v = (v << 1) | bit;
-            }
-            out[i] = ALPH[v & 0x1F];
-            bitPos += 5;
+    private static String encode(String prefix, long timeMs, int randHi16, long randLo64) {
+        boolean decorated = prefix != null && !prefix.isBlank();
+        int off = decorated ? prefix.length() + 1 : 0;
+        char[] out = new char[off + LENGTH];
+        if (decorated) {
+            prefix.getChars(0, prefix.length(), out, 0);
+            out[off - 1] = '-';
         }
-        return new String(out);
-    }
 
+        final char[] a = ALPHABET;
+
+        // time 48-bit (+2 padding) → 10자
+        out[off]     = a[(int) (timeMs >>> 45) & 0x1F];
+        out[off + 1] = a[(int) (timeMs >>> 40) & 0x1F];
+        out[off + 2] = a[(int) (timeMs >>> 35) & 0x1F];
+        out[off + 3] = a[(int) (timeMs >>> 30) & 0x1F];
+        out[off + 4] = a[(int) (timeMs >>> 25) & 0x1F];
+        out[off + 5] = a[(int) (timeMs >>> 20) & 0x1F];
+        out[off + 6] = a[(int) (timeMs >>> 15) & 0x1F];
+        out[off + 7] = a[(int) (timeMs >>> 10) & 0x1F];
+        out[off + 8] = a[(int) (timeMs >>> 5) & 0x1F];
+        out[off + 9] = a[(int) timeMs & 0x1F];
+
+        // randHi 16-bit + randLo 64-bit → 16자 (randHi 하위 1비트와 randLo 상위 4비트가 한 글자)
+        out[off + 10] = a[(randHi16 >>> 11) & 0x1F];
+        out[off + 11] = a[(randHi16 >>> 6) & 0x1F];
+        out[off + 12] = a[(randHi16 >>> 1) & 0x1F];
+        out[off + 13] = a[((randHi16 & 0x1) << 4) | (int) (randLo64 >>> 60)];
+        out[off + 14] = a[(int) (randLo64 >>> 55) & 0x1F];
+        out[off + 15] = a[(int) (randLo64 >>> 50) & 0x1F];
+        out[off + 16] = a[(int) (randLo64 >>> 45) & 0x1F];
+        out[off + 17] = a[(int) (randLo64 >>> 40) & 0x1F];
+        out[off + 18] = a[(int) (randLo64 >>> 35) & 0x1F];
+        out[off + 19] = a[(int) (randLo64 >>> 30) & 0x1F];
+        out[off + 20] = a[(int) (randLo64 >>> 25) & 0x1F];
+        out[off + 21] = a[(int) (randLo64 >>> 20) & 0x1F];
+        out[off + 22] = a[(int) (randLo64 >>> 15) & 0x1F];
+        out[off + 23] = a[(int) (randLo64 >>> 10) & 0x1F];
+        out[off + 24] = a[(int) (randLo64 >>> 5) & 0x1F];
+        out[off + 25] = a[(int) randLo64 & 0x1F];
 
-    /**
-     * 접두사를 적용해 최종 문자열을 구성한다.
-     *
-     * @param prefix 접두사(무시될 수 있음)
-     * @param ulid   26자 ULID
-     * @return {@code "prefix-ULID"} 또는 {@code ULID}
-     */
-    private static String decorate(String prefix, String ulid) {
-        return (prefix == null || prefix.isBlank()) ? ulid : prefix + "-" + ulid;
+        return new String(out);
     }
 
     /**
@@ -0,0 +1,63 @@
+package db.migration;
+
+import com.app.codemasterpiecebackend.global.util.FileTokenScanner;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 본문을 토큰 그대로 저장하기 이전에 작성된 게시글의 CDN 이미지 URL을 파일 토큰으로 되돌린다.
+ *
+ * <p>이전에는 저장 시점에 토큰을 CDN URL로 치환해 저장했기 때문에, 그 글들은 조회 시점의 반응형
+ * {@code <picture>} 치환을 받지 못한다. 치환 규칙은 {@link FileTokenScanner#retokenize}를 따르며,
+ * 파일 참조(tbl_file_ref)는 URL 속 파일 ID로 이미 연결되어 있어 바뀌지 않는다.</p>
+ */
+public class V12__retokenize_post_images extends BaseJavaMigration {
+
+    private static final int BATCH = 100;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conn = context.getConnection();
+        try (PreparedStatement select = conn.prepareStatement(
+                "SELECT post_id, main_content FROM tbl_post WHERE main_content LIKE '%](http%'");
+             PreparedStatement known = conn.prepareStatement(
+                     "SELECT file_id FROM tbl_file WHERE file_id = ANY (?)");
+             PreparedStatement update = conn.prepareStatement(
+                     "UPDATE tbl_post SET main_content = ? WHERE post_id = ?")) {
+
+            int pending = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String body = rs.getString(2);
+                    List<String> ids = FileTokenScanner.scan(body).referencedIds();
+                    if (ids.isEmpty()) continue;
+
+                    Set<String> existing = new HashSet<>();
+                    known.setArray(1, conn.createArrayOf("varchar", ids.toArray()));
+                    try (ResultSet k = known.executeQuery()) {
+                        while (k.next()) existing.add(k.getString(1));
+                    }
+
+                    String rewritten = FileTokenScanner.retokenize(body, existing::contains);
+                    if (rewritten.equals(body)) continue;
+
+                    update.setString(1, rewritten);
+                    update.setString(2, rs.getString(1));
+                    update.addBatch();
+                    if (++pending == BATCH) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) update.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- 게시글별 일간 롤업을 마친 일자 표시 (게시글 조회가 없던 날도 기록해 백필이 매번 다시 훑지 않도록 한다)
+CREATE TABLE tbl_pv_post_rollup_day
+(
+    key_date  date                        NOT NULL,
+    rolled_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_pv_post_rollup_day PRIMARY KEY (key_date)
+);
+
+-- 이미 게시글 롤업이 있는 일자는 완료로 본다
+INSERT INTO tbl_pv_post_rollup_day (key_date, rolled_at)
+SELECT DISTINCT key_date, now()
+FROM tbl_pv_post_daily;
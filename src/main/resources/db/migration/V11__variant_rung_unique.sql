@@ -0,0 +1,20 @@
+-- 같은 (file_id, kind, width)가 동시 생성 경합으로 여러 번 기록된 행 정리
+-- ACTIVE 행을 우선, 그다음 먼저 기록된 행 하나만 남긴다. (저장소 키는 폭까지 결정적이라 남는 행이 같은 객체를 가리킨다)
+DELETE FROM tbl_file_variant
+WHERE variant_id IN (
+    SELECT d.variant_id
+    FROM (
+        SELECT variant_id,
+               row_number() OVER (
+                   PARTITION BY file_id, kind, width
+                   ORDER BY (status = 'ACTIVE') DESC, created_at, variant_id
+               ) AS rn
+        FROM tbl_file_variant
+        WHERE width IS NOT NULL
+    ) d
+    WHERE d.rn > 1
+);
+
+-- 사다리 단 조회 인덱스를 유니크로 교체 (동시 생성의 최종 방어선, INSERT ... ON CONFLICT 대상)
+DROP INDEX idx_variant_file_kind_width;
+CREATE UNIQUE INDEX uq_variant_file_kind_width ON tbl_file_variant (file_id, kind, width);
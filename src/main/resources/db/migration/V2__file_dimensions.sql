@@ -0,0 +1,4 @@
+-- 원본 이미지의 실제 픽셀 크기 (업로드 시 헤더 판별 결과, 판별 불가 시 NULL)
+ALTER TABLE tbl_file
+    ADD COLUMN width  INTEGER,
+    ADD COLUMN height INTEGER;
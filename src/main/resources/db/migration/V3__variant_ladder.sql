@@ -0,0 +1,15 @@
+-- 반응형 사다리 단 조회용 (file_id, kind, width)
+CREATE INDEX idx_variant_file_kind_width ON tbl_file_variant (file_id, kind, width);
+
+-- 지연 생성 단에 대한 요청 수요 누적
+CREATE TABLE tbl_file_variant_demand
+(
+    file_id            VARCHAR(29) NOT NULL,
+    kind               VARCHAR(32) NOT NULL,
+    width              INTEGER     NOT NULL,
+    hits               BIGINT      NOT NULL,
+    first_requested_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_requested_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_file_variant_demand PRIMARY KEY (file_id, kind, width),
+    CONSTRAINT fk_variant_demand_file FOREIGN KEY (file_id) REFERENCES tbl_file (file_id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+-- 물리 삭제(Purge) 배치의 재개용 체크포인트
+CREATE TABLE tbl_file_purge_checkpoint
+(
+    job_name        VARCHAR(64) NOT NULL,
+    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    cutoff          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_file_id    VARCHAR(29),
+    purged_files    BIGINT      NOT NULL,
+    failed_files    BIGINT      NOT NULL,
+    deleted_objects BIGINT      NOT NULL,
+    started_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    finished_at     TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_tbl_file_purge_checkpoint PRIMARY KEY (job_name)
+);
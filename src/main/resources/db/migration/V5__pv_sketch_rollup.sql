@@ -0,0 +1,20 @@
+-- 일간 롤업에 고유값(cid/sid) HyperLogLog 스케치 보관: 주/월은 스케치 병합으로 산출
+ALTER TABLE tbl_pv_daily
+    ADD COLUMN cid_hll BYTEA,
+    ADD COLUMN sid_hll BYTEA;
+
+-- 시간 버킷(UTC) 단위 증분 롤업
+CREATE TABLE tbl_pv_hourly
+(
+    key_date    date     NOT NULL,
+    hour_bucket SMALLINT NOT NULL,
+    views       BIGINT   NOT NULL,
+    cid_hll     BYTEA    NOT NULL,
+    sid_hll     BYTEA    NOT NULL,
+    created_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_pv_hourly PRIMARY KEY (key_date, hour_bucket)
+);
+
+-- 최근 적재분(지연 도착/스풀 재생 포함)이 닿은 시간 버킷 탐색용
+CREATE INDEX idx_pv_created ON tbl_page_view (created_at);
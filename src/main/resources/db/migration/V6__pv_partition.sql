@@ -0,0 +1,146 @@
+-- tbl_page_view를 occurred_at(UTC) 기준 일 단위 RANGE 파티션으로 전환
+-- - 보존 기간 정리는 대량 DELETE 대신 파티션 DETACH + DROP
+-- - 범위 조회(occurred_at)는 해당 파티션만 스캔
+-- - 범위를 벗어난 행(미리 만들지 않은 먼 미래/과거)은 기본 파티션이 받는다
+
+ALTER TABLE tbl_page_view RENAME TO tbl_page_view_legacy;
+ALTER TABLE tbl_page_view_legacy DROP CONSTRAINT pk_tbl_page_view;
+
+DROP INDEX idx_pv_bot_day;
+DROP INDEX idx_pv_cid_day;
+DROP INDEX idx_pv_day;
+DROP INDEX idx_pv_device_day;
+DROP INDEX idx_pv_host_day;
+DROP INDEX idx_pv_path_day;
+DROP INDEX idx_pv_received;
+DROP INDEX idx_pv_created;
+DROP INDEX idx_pv_ref_host_day;
+DROP INDEX idx_pv_sid_day;
+DROP INDEX idx_pv_utm_day;
+
+CREATE TABLE tbl_page_view
+(
+    page_view_id    VARCHAR(29) NOT NULL,
+    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    occurred_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    received_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    day             VARCHAR(10) NOT NULL,
+    hour_bucket     SMALLINT    NOT NULL,
+    cid             VARCHAR(40),
+    sid             VARCHAR(40),
+    url             VARCHAR(1024),
+    url_host        VARCHAR(255),
+    url_path        VARCHAR(1024),
+    url_query       VARCHAR(1024),
+    ref             VARCHAR(1024),
+    ref_host        VARCHAR(255),
+    ref_path        VARCHAR(1024),
+    is_external_ref BOOLEAN     NOT NULL,
+    title           VARCHAR(255),
+    lang            VARCHAR(16),
+    device          VARCHAR(32),
+    browser         VARCHAR(64),
+    os              VARCHAR(64),
+    vp_w            INTEGER,
+    vp_h            INTEGER,
+    ip_masked       VARCHAR(64),
+    country         VARCHAR(2),
+    city            VARCHAR(64),
+    is_bot          BOOLEAN     NOT NULL,
+    utm_source      VARCHAR(80),
+    utm_medium      VARCHAR(80),
+    utm_campaign    VARCHAR(120),
+    utm_term        VARCHAR(120),
+    utm_content     VARCHAR(120),
+    -- 파티션 키는 PK에 포함되어야 한다
+    CONSTRAINT pk_tbl_page_view PRIMARY KEY (page_view_id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE tbl_page_view_default PARTITION OF tbl_page_view DEFAULT;
+
+-- 부모에 만든 인덱스는 모든 파티션(이후 붙는 파티션 포함)에 전파된다
+CREATE INDEX idx_pv_bot_day ON tbl_page_view (is_bot, day);
+CREATE INDEX idx_pv_cid_day ON tbl_page_view (cid, day);
+CREATE INDEX idx_pv_day ON tbl_page_view (day);
+CREATE INDEX idx_pv_device_day ON tbl_page_view (device, day);
+CREATE INDEX idx_pv_host_day ON tbl_page_view (url_host, day);
+CREATE INDEX idx_pv_path_day ON tbl_page_view (url_path, day);
+CREATE INDEX idx_pv_received ON tbl_page_view (received_at);
+CREATE INDEX idx_pv_created ON tbl_page_view (created_at);
+CREATE INDEX idx_pv_ref_host_day ON tbl_page_view (ref_host, day);
+CREATE INDEX idx_pv_sid_day ON tbl_page_view (sid, day);
+CREATE INDEX idx_pv_utm_day ON tbl_page_view (utm_source, utm_campaign, day);
+
+-- 일자 파티션 생성 (이미 있으면 false)
+-- 기본 파티션에 먼저 들어와 있던 해당 일자 행을 새 파티션으로 옮긴 뒤 붙인다
+CREATE OR REPLACE FUNCTION pv_ensure_partition(d date) RETURNS boolean
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    part text      := 'tbl_page_view_p' || to_char(d, 'YYYYMMDD');
+    lo   timestamp := d::timestamp;
+    hi   timestamp := (d + 1)::timestamp;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('tbl_page_view.partition'));
+    IF to_regclass(part) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE tbl_page_view INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part);
+    EXECUTE format('WITH moved AS (DELETE FROM tbl_page_view_default WHERE occurred_at >= $1 AND occurred_at < $2 RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', part) USING lo, hi;
+    EXECUTE format('ALTER TABLE tbl_page_view ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', part, lo, hi);
+    RETURN true;
+END
+$$;
+
+-- cutoff 이전 일자 파티션을 분리 후 삭제하고, 삭제한 파티션 수를 반환
+CREATE OR REPLACE FUNCTION pv_drop_partitions_before(cutoff date) RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    r record;
+    n integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('tbl_page_view.partition'));
+    FOR r IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'tbl_page_view'::regclass
+          AND c.relname ~ '^tbl_page_view_p[0-9]{8}$'
+          AND to_date(substr(c.relname, 16), 'YYYYMMDD') < cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE tbl_page_view DETACH PARTITION %I', r.relname);
+            EXECUTE format('DROP TABLE %I', r.relname);
+            n := n + 1;
+        END LOOP;
+    RETURN n;
+END
+$$;
+
+-- 보존 기간(60일)부터 7일 뒤까지 파티션을 만든 뒤 기존 데이터 이관
+DO
+$$
+DECLARE
+    today date := (now() AT TIME ZONE 'UTC')::date;
+    d     date;
+BEGIN
+    FOR d IN
+        SELECT generate_series(
+                       GREATEST(COALESCE((SELECT min(occurred_at)::date FROM tbl_page_view_legacy), today), today - 60),
+                       today + 7,
+                       interval '1 day')::date
+        LOOP
+            PERFORM pv_ensure_partition(d);
+        END LOOP;
+END
+$$;
+
+INSERT INTO tbl_page_view
+SELECT *
+FROM tbl_page_view_legacy;
+
+DROP TABLE tbl_page_view_legacy;
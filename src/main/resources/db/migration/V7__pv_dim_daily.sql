@@ -0,0 +1,15 @@
+-- 일간 차원별 롤업 (경로/외부 리퍼러/UTM/디바이스/브라우저/OS)
+-- Top-N 조회는 원본 대신 이 테이블만 읽는다
+CREATE TABLE tbl_pv_dim_daily
+(
+    key_date   date          NOT NULL,
+    dim        VARCHAR(16)   NOT NULL,
+    dim_value  VARCHAR(1024) NOT NULL,
+    views      BIGINT        NOT NULL,
+    sessions   BIGINT        NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_pv_dim_daily PRIMARY KEY (key_date, dim, dim_value)
+);
+
+CREATE INDEX idx_pv_dim_daily_dim_date ON tbl_pv_dim_daily (dim, key_date);
@@ -0,0 +1,17 @@
+-- 과거 구간 롤업 재구성 배치의 진행 체크포인트 (재개용)
+CREATE TABLE tbl_pv_rebuild_checkpoint
+(
+    job_name     VARCHAR(64) NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    from_date    date        NOT NULL,
+    to_date      date        NOT NULL,
+    next_date    date        NOT NULL,
+    total_days   INTEGER     NOT NULL,
+    done_days    INTEGER     NOT NULL,
+    failed_days  INTEGER     NOT NULL,
+    failed_dates TEXT,
+    started_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    finished_at  TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_tbl_pv_rebuild_checkpoint PRIMARY KEY (job_name)
+);
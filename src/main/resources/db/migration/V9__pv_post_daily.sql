@@ -0,0 +1,29 @@
+-- 게시글별 일간 롤업 (UTC 기준)
+-- cid_hll: 고유 방문자 HyperLogLog 스케치 (p=10) — 기간 고유 방문자는 스케치 병합으로 산출
+CREATE TABLE tbl_pv_post_daily
+(
+    key_date   date        NOT NULL,
+    post_id    VARCHAR(29) NOT NULL,
+    views      BIGINT      NOT NULL,
+    uv         BIGINT      NOT NULL,
+    cid_hll    bytea       NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_pv_post_daily PRIMARY KEY (key_date, post_id)
+);
+
+CREATE INDEX idx_pv_post_daily_post_date ON tbl_pv_post_daily (post_id, key_date);
+
+-- 게시글별 일간 외부 리퍼러 호스트 (일자·게시글당 상위 N개만 보관)
+CREATE TABLE tbl_pv_post_ref_daily
+(
+    key_date   date         NOT NULL,
+    post_id    VARCHAR(29)  NOT NULL,
+    ref_host   VARCHAR(255) NOT NULL,
+    views      BIGINT       NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_tbl_pv_post_ref_daily PRIMARY KEY (key_date, post_id, ref_host)
+);
+
+CREATE INDEX idx_pv_post_ref_daily_post_date ON tbl_pv_post_ref_daily (post_id, key_date);
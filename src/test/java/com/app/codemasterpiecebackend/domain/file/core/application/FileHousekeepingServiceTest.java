@@ -0,0 +1,223 @@
+package com.app.codemasterpiecebackend.domain.file.core.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.dto.FileObjectMetadata;
+import com.app.codemasterpiecebackend.domain.file.core.dto.FilePurgeRow;
+import com.app.codemasterpiecebackend.domain.file.core.entity.FilePurgeCheckpoint;
+import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.repository.FilePurgeCheckpointRepository;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.IoManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FileHousekeepingService 클래스의 물리 삭제(purge) 페이지 처리 — 1000개 단위 키 묶음, 실패 키의 파일 귀속,
+ * 체크포인트 재개 — 를 가짜 IoManager로 검증하는 테스트 클래스입니다.
+ */
+class FileHousekeepingServiceTest {
+
+    private final StoredFileRepository storedFiles = mock(StoredFileRepository.class);
+    private final FilePurgeCheckpointRepository checkpoints = mock(FilePurgeCheckpointRepository.class);
+    private final FakeIo io = new FakeIo();
+    private final FileHousekeepingService service =
+            new FileHousekeepingService(storedFiles, checkpoints, io, new SimpleMeterRegistry());
+
+    FileHousekeepingServiceTest() {
+        ReflectionTestUtils.setField(service, "purgeBatch", 300);
+        ReflectionTestUtils.setField(service, "purgeParallelism", 4);
+        when(checkpoints.findById("PURGE_DELETABLE")).thenReturn(Optional.empty());
+        when(checkpoints.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(storedFiles.bulkMarkDeleted(any(), any(), any(), anyCollection()))
+                .thenAnswer(inv -> ((Collection<?>) inv.getArgument(3)).size());
+    }
+
+    /**
+     * 접두어별 키 목록을 들고, 일괄 삭제 요청을 기록하는 저장소 대역.
+     */
+    private static final class FakeIo implements IoManager {
+        final Map<String, List<String>> keysByPrefix = new LinkedHashMap<>();
+        final Set<String> failingPrefixes = new HashSet<>();
+        final Set<String> failingKeys = new HashSet<>();
+        /** 이 키가 포함된 요청은 통째로 실패한다 */
+        final Set<String> failingRequestKeys = new HashSet<>();
+        final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+
+        FilePurgeRow file(String id, int keys) {
+            String path = "2026/10/19/" + id;
+            keysByPrefix.put(path + "/", IntStream.range(0, keys).mapToObj(i -> path + "/k" + i).toList());
+            return new FilePurgeRow(id, path);
+        }
+
+        @Override
+        public List<String> listKeys(String prefix) throws IOException {
+            if (failingPrefixes.contains(prefix)) throw new IOException("list failed: " + prefix);
+            return keysByPrefix.getOrDefault(prefix, List.of());
+        }
+
+        @Override
+        public BulkDeleteResult deleteKeys(Collection<String> keys) throws IOException {
+            List<String> pack = List.copyOf(keys);
+            requests.add(pack);
+            if (pack.stream().anyMatch(failingRequestKeys::contains)) throw new IOException("request failed");
+            List<String> failed = pack.stream().filter(failingKeys::contains).toList();
+            return new BulkDeleteResult(pack.size() - failed.size(), failed, 1);
+        }
+
+        @Override
+        public FileObjectMetadata put(String key, InputStream in, long contentLength, String contentType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileObjectMetadata move(String srcKey, String dstKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean delete(String key) {
+            throw new UnsupportedOperationException("purge must use deleteKeys");
+        }
+
+        @Override
+        public Optional<FileObjectMetadata> head(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream openStream(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String presignRead(String key, Duration ttl) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PresignWriteResult presignWrite(String key, Duration ttl, String contentType, long maxSize) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int deletePrefix(String prefix) {
+            throw new UnsupportedOperationException("purge must not delete per prefix");
+        }
+    }
+
+    private void candidates(List<FilePurgeRow> rows) {
+        when(storedFiles.findPurgeCandidatesAfter(eq(FileStatus.DELETABLE), any(), eq(""), any())).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("키 묶음 - 파일 경계와 무관하게 꽉 찬 1000개 단위로 일괄 삭제 요청을 보내야 합니다.")
+    void keysPackedIntoThousands() {
+        // given
+        candidates(List.of(io.file("FL-A", 700), io.file("FL-B", 700), io.file("FL-C", 100)));
+
+        // when
+        var report = service.purgeExpiredDeletables(Duration.ofDays(7));
+
+        // then
+        assertThat(io.requests.stream().map(List::size).toList()).containsExactlyInAnyOrder(1000, 500);
+        assertThat(report.deleteRequests()).isEqualTo(2);
+        assertThat(report.deletedObjects()).isEqualTo(1500);
+        assertThat(report.purgedFiles()).isEqualTo(3);
+        assertThat(report.failedFiles()).isZero();
+        verify(storedFiles).bulkMarkDeleted(eq(FileStatus.DELETABLE), eq(FileStatus.DELETED), any(),
+                eq(List.of("FL-A", "FL-B", "FL-C")));
+    }
+
+    @Test
+    @DisplayName("실패 귀속 - 실패한 키와 나열 실패는 그 키를 가진 파일만 실패로 남겨야 합니다.")
+    void perKeyFailuresMappedToOwner() {
+        // given
+        var a = io.file("FL-A", 3);
+        var b = io.file("FL-B", 2);
+        var c = io.file("FL-C", 1);
+        io.failingKeys.add("2026/10/19/FL-B/k1");
+        io.failingPrefixes.add("2026/10/19/FL-C/");
+        candidates(List.of(a, b, c));
+
+        // when
+        var report = service.purgeExpiredDeletables(Duration.ofDays(7));
+
+        // then
+        assertThat(report.purgedFiles()).isEqualTo(1);
+        assertThat(report.failedFiles()).isEqualTo(2);
+        assertThat(report.deletedObjects()).isEqualTo(4);
+        verify(storedFiles).bulkMarkDeleted(eq(FileStatus.DELETABLE), eq(FileStatus.DELETED), any(),
+                eq(List.of("FL-A")));
+    }
+
+    @Test
+    @DisplayName("실패 귀속 - 요청 자체가 실패하면 그 묶음에 키가 있는 파일만 실패로 남겨야 합니다.")
+    void failedRequestMappedToOwners() {
+        // given: 묶음 1 = A 600 + B 400, 묶음 2 = B 200 + C 300
+        var a = io.file("FL-A", 600);
+        var b = io.file("FL-B", 600);
+        var c = io.file("FL-C", 300);
+        io.failingRequestKeys.add("2026/10/19/FL-C/k0");
+        candidates(List.of(a, b, c));
+
+        // when
+        var report = service.purgeExpiredDeletables(Duration.ofDays(7));
+
+        // then
+        assertThat(report.purgedFiles()).isEqualTo(1);
+        assertThat(report.failedFiles()).isEqualTo(2);
+        verify(storedFiles).bulkMarkDeleted(eq(FileStatus.DELETABLE), eq(FileStatus.DELETED), any(),
+                eq(List.of("FL-A")));
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 미완료 실행은 같은 cutoff와 커서 이후부터 이어가고, 페이지마다 커서를 전진시켜야 합니다.")
+    void resumesFromCheckpoint() {
+        // given: 이전 실행이 FL-B까지 처리하고 중단됨
+        ReflectionTestUtils.setField(service, "purgeBatch", 2);
+        Instant cutoff = Instant.parse("2026-10-12T00:00:00Z");
+        var cp = FilePurgeCheckpoint.start("PURGE_DELETABLE", cutoff, cutoff.plus(Duration.ofDays(7)));
+        cp.advance("FL-B", 2, 0, 10);
+        when(checkpoints.findById("PURGE_DELETABLE")).thenReturn(Optional.of(cp));
+
+        var c = io.file("FL-C", 1);
+        var d = io.file("FL-D", 1);
+        var e = io.file("FL-E", 1);
+        when(storedFiles.findPurgeCandidatesAfter(eq(FileStatus.DELETABLE), eq(cutoff), eq("FL-B"), any()))
+                .thenReturn(List.of(c, d));
+        when(storedFiles.findPurgeCandidatesAfter(eq(FileStatus.DELETABLE), eq(cutoff), eq("FL-D"), any()))
+                .thenReturn(List.of(e));
+
+        // when
+        var report = service.purgeExpiredDeletables(Duration.ofDays(7));
+
+        // then
+        assertThat(report.resumed()).isTrue();
+        assertThat(report.purgedFiles()).isEqualTo(3);
+        assertThat(cp.getCutoff()).isEqualTo(cutoff);
+        assertThat(cp.getLastFileId()).isEqualTo("FL-E");
+        assertThat(cp.getPurgedFiles()).isEqualTo(5);
+        assertThat(cp.isInProgress()).isFalse();
+        verify(storedFiles, never()).findPurgeCandidatesAfter(any(), any(), eq(""), any());
+    }
+}
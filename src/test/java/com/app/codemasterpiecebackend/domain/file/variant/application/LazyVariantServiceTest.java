@@ -0,0 +1,154 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StorageType;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariant;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.global.config.image.ImageLadderProperties;
+import com.app.codemasterpiecebackend.global.support.exception.AppException;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LazyVariantService 클래스의 지연 생성 단 해석과 동시 요청 시 중복 예약 방지를 검증하는 테스트 클래스입니다.
+ */
+class LazyVariantServiceTest {
+
+    private static final String FILE_ID = "FL-00000000000000000000000001";
+
+    private final StoredFileRepository files = mock(StoredFileRepository.class);
+    private final FileVariantRepository variants = mock(FileVariantRepository.class);
+    private final VariantDispatcher dispatcher = mock(VariantDispatcher.class);
+    private final VariantDemandBuffer demand = mock(VariantDemandBuffer.class);
+    private final LazyVariantService service;
+
+    LazyVariantServiceTest() {
+        var ladder = new ImageLadderProperties.Ladder();
+        ladder.setWidths(List.of(320, 640, 960));
+        ladder.setFormats(List.of("WEBP", "AVIF"));
+        var props = new ImageLadderProperties();
+        props.getPresets().put("BLOG_DEFAULT", ladder);
+        props.setLazyRequeueInterval(Duration.ofMinutes(1));
+
+        var cdn = new CdnProperties();
+        cdn.setBaseUrl("https://cdn.example.com");
+        cdn.setKeyPrefix("blog");
+
+        service = new LazyVariantService(files, variants, dispatcher, demand, new ResponsiveLadder(props), props, cdn);
+
+        StoredFile file = StoredFile.builder()
+                .id(FILE_ID)
+                .status(FileStatus.ACTIVE)
+                .storageType(StorageType.S3)
+                .storagePath("2026/10/19/" + FILE_ID + "/")
+                .storageKey("2026/10/19/" + FILE_ID + "/original")
+                .contentType("image/jpeg")
+                .width(1600)
+                .height(900)
+                .build();
+        when(files.findById(FILE_ID)).thenReturn(Optional.of(file));
+    }
+
+    @Test
+    @DisplayName("동시 요청 - 같은 미생성 단을 여러 스레드가 동시에 요청해도 변환 작업은 한 번만 예약되어야 합니다.")
+    void concurrentResolve_DispatchesOnce() throws Exception {
+        // given
+        when(variants.findActiveRung(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, 640)).thenReturn(Optional.empty());
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<LazyVariantService.Resolution>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return service.resolve(FILE_ID, "webp", 640);
+            }));
+        }
+        start.countDown();
+        List<LazyVariantService.Resolution> resolved = new ArrayList<>();
+        for (var f : results) resolved.add(f.get());
+        pool.shutdown();
+
+        // then
+        verify(dispatcher, times(1)).dispatch(eq(FILE_ID), anyList());
+        verify(demand, times(threads)).record(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, 640);
+        assertThat(resolved).allSatisfy(r -> {
+            assertThat(r.ready()).isFalse();
+            assertThat(r.url()).endsWith("/original");
+        });
+    }
+
+    @Test
+    @DisplayName("조회 - 이미 생성된 단은 예약 없이 CDN URL을 반환해야 합니다.")
+    void existingRung_ReturnsCdnUrl() {
+        // given
+        FileVariant rung = FileVariant.builder()
+                .kind(FileVariantKind.RESPONSIVE_AVIF)
+                .storageKey("2026/10/19/" + FILE_ID + "/variants/photo.w320.avif")
+                .width(320)
+                .build();
+        when(variants.findActiveRung(FILE_ID, FileVariantKind.RESPONSIVE_AVIF, 320)).thenReturn(Optional.of(rung));
+
+        // when
+        var r = service.resolve(FILE_ID, "avif", 320);
+
+        // then
+        assertThat(r.ready()).isTrue();
+        assertThat(r.url()).isEqualTo("https://cdn.example.com/blog/2026/10/19/" + FILE_ID + "/variants/photo.w320.avif");
+        verifyNoInteractions(dispatcher, demand);
+    }
+
+    @Test
+    @DisplayName("조회 - 원본보다 크거나 같은 폭은 원본 URL로 바로 응답해야 합니다.")
+    void widerThanOriginal_ReturnsOriginal() {
+        // given
+        StoredFile small = StoredFile.builder()
+                .id(FILE_ID)
+                .status(FileStatus.ACTIVE)
+                .storageType(StorageType.S3)
+                .storagePath("2026/10/19/" + FILE_ID + "/")
+                .storageKey("2026/10/19/" + FILE_ID + "/original")
+                .contentType("image/jpeg")
+                .width(800)
+                .height(600)
+                .build();
+        when(files.findById(FILE_ID)).thenReturn(Optional.of(small));
+
+        // when
+        var r = service.resolve(FILE_ID, "webp", 960);
+
+        // then
+        assertThat(r.ready()).isTrue();
+        assertThat(r.url()).endsWith("/original");
+        verifyNoInteractions(variants, dispatcher, demand);
+    }
+
+    @Test
+    @DisplayName("검증 - 사다리에 없는 폭이나 포맷은 거부되어야 합니다.")
+    void disallowedRung_Rejected() {
+        // when & then
+        assertThatThrownBy(() -> service.resolve(FILE_ID, "webp", 500)).isInstanceOf(AppException.class);
+        assertThatThrownBy(() -> service.resolve(FILE_ID, "png", 640)).isInstanceOf(AppException.class);
+        verifyNoInteractions(files, dispatcher);
+    }
+}
@@ -0,0 +1,92 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantPreset;
+import com.app.codemasterpiecebackend.domain.file.variant.dto.VariantProcessCmd.Target;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.global.config.image.ImageLadderProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResponsiveLadder 클래스의 사다리 단 산출, eager 타겟, 지연 생성 허용 판정을 검증하는 테스트 클래스입니다.
+ */
+class ResponsiveLadderTest {
+
+    private final ResponsiveLadder ladder;
+
+    ResponsiveLadderTest() {
+        var blog = new ImageLadderProperties.Ladder();
+        blog.setWidths(List.of(960, 320, 640, 1280));
+        blog.setEager(List.of(640, 1280, 777)); // 777은 widths에 없으므로 무시
+        blog.setFormats(List.of("webp", "AVIF"));
+
+        var banner = new ImageLadderProperties.Ladder();
+        banner.setWidths(List.of(1600));
+        banner.setFormats(List.of("WEBP"));
+
+        var props = new ImageLadderProperties();
+        props.getPresets().put("BLOG_DEFAULT", blog);
+        props.getPresets().put("BANNER", banner);
+        ladder = new ResponsiveLadder(props);
+    }
+
+    @Test
+    @DisplayName("사다리 단 - AVIF가 먼저, 폭은 오름차순이며 원본 이상의 폭은 제외되어야 합니다.")
+    void rungs_OrderedAndCapped() {
+        // when
+        var rungs = ladder.rungs(VariantPreset.BLOG_DEFAULT, 1000);
+
+        // then
+        assertThat(rungs).containsExactly(
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_AVIF, 320),
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_AVIF, 640),
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_AVIF, 960),
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_WEBP, 320),
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_WEBP, 640),
+                new ResponsiveLadder.Rung(FileVariantKind.RESPONSIVE_WEBP, 960)
+        );
+        assertThat(ladder.rungs(VariantPreset.BLOG_DEFAULT, null)).hasSize(8);
+        assertThat(ladder.rungs(VariantPreset.ICON, 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("eager 타겟 - 래스터 이미지에만, widths에 포함된 eager 폭만 만들어야 합니다.")
+    void eagerTargets_RasterOnly() {
+        // when
+        var targets = ladder.eagerTargets(VariantPreset.BLOG_DEFAULT, "image/jpeg");
+
+        // then
+        assertThat(targets).containsExactly(
+                Target.RESPONSIVE(FileVariantKind.RESPONSIVE_AVIF, 640),
+                Target.RESPONSIVE(FileVariantKind.RESPONSIVE_AVIF, 1280),
+                Target.RESPONSIVE(FileVariantKind.RESPONSIVE_WEBP, 640),
+                Target.RESPONSIVE(FileVariantKind.RESPONSIVE_WEBP, 1280)
+        );
+        assertThat(ladder.eagerTargets(VariantPreset.BLOG_DEFAULT, "image/svg+xml")).isEmpty();
+        assertThat(ladder.eagerTargets(VariantPreset.BLOG_DEFAULT, "video/mp4")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허용 판정 - 어느 프리셋이든 해당 포맷으로 설정된 폭만 지연 생성을 허용해야 합니다.")
+    void isAllowed_UnionOfPresets() {
+        // when & then
+        assertThat(ladder.isAllowed(FileVariantKind.RESPONSIVE_AVIF, 640)).isTrue();
+        assertThat(ladder.isAllowed(FileVariantKind.RESPONSIVE_WEBP, 1600)).isTrue();  // BANNER
+        assertThat(ladder.isAllowed(FileVariantKind.RESPONSIVE_AVIF, 1600)).isFalse(); // BANNER는 WEBP만
+        assertThat(ladder.isAllowed(FileVariantKind.RESPONSIVE_WEBP, 777)).isFalse();
+    }
+
+    @Test
+    @DisplayName("포맷 변환 - 경로의 포맷 문자열은 대소문자와 공백에 관계없이 사다리 kind로 바뀌어야 합니다.")
+    void kindOf() {
+        // when & then
+        assertThat(ResponsiveLadder.kindOf(" WebP ")).isEqualTo(FileVariantKind.RESPONSIVE_WEBP);
+        assertThat(ResponsiveLadder.kindOf("avif")).isEqualTo(FileVariantKind.RESPONSIVE_AVIF);
+        assertThat(ResponsiveLadder.kindOf("png")).isNull();
+        assertThat(ResponsiveLadder.kindOf(null)).isNull();
+    }
+}
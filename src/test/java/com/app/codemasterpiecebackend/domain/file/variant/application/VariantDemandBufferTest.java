@@ -0,0 +1,80 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VariantDemandBuffer 클래스의 디바운스, 상한, 일괄 반영 동작을 검증하는 테스트 클래스입니다.
+ */
+class VariantDemandBufferTest {
+
+    private static final String FILE_ID = "FL-00000000000000000000000001";
+
+    private final FileVariantRepository repo = mock(FileVariantRepository.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private final VariantDemandBuffer buffer = new VariantDemandBuffer(repo, txManager);
+
+    @Test
+    @DisplayName("디바운스 - 한 주기 안에서 같은 단은 한 번만 반영되어야 합니다.")
+    void sameKeyCountedOncePerFlush() {
+        // given
+        for (int i = 0; i < 5; i++) buffer.record(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, 640);
+        buffer.record(FILE_ID, FileVariantKind.RESPONSIVE_AVIF, 640);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(repo, times(1)).recordDemand(FILE_ID, "RESPONSIVE_WEBP", 640);
+        verify(repo, times(1)).recordDemand(FILE_ID, "RESPONSIVE_AVIF", 640);
+        verify(txManager, times(1)).getTransaction(any());
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("비어 있음 - 모인 수요가 없으면 트랜잭션을 열지 않아야 합니다.")
+    void emptyFlush_NoTransaction() {
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(repo, txManager);
+    }
+
+    @Test
+    @DisplayName("상한 - 대기 키가 상한에 이르면 새 키는 버려져야 합니다.")
+    void boundedKeys() {
+        // given
+        for (int w = 0; w < 10_050; w++) buffer.record(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, w);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("실패 - 반영이 실패해도 예외를 던지지 않고 0을 반환해야 합니다.")
+    void failedFlush_Swallowed() {
+        // given
+        doThrow(new IllegalStateException("db down")).when(repo).recordDemand(anyString(), anyString(), anyInt());
+        buffer.record(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, 640);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(txManager).rollback(any());
+    }
+}
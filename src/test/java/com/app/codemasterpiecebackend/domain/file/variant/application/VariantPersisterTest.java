@@ -0,0 +1,68 @@
+package com.app.codemasterpiecebackend.domain.file.variant.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StorageType;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VariantPersister 클래스가 동시 생성 경합을 예외 없이 한 행으로 수렴시키는지 검증하는 테스트 클래스입니다.
+ */
+class VariantPersisterTest {
+
+    private static final String FILE_ID = "FL-00000000000000000000000001";
+
+    private final FileVariantRepository repo = mock(FileVariantRepository.class);
+    private final VariantPersister persister = new VariantPersister(repo);
+
+    private final StoredFile original = StoredFile.builder()
+            .id(FILE_ID)
+            .status(FileStatus.ACTIVE)
+            .storageType(StorageType.S3)
+            .storagePath("2026/10/19/" + FILE_ID + "/")
+            .storageKey("2026/10/19/" + FILE_ID + "/original")
+            .contentType("image/jpeg")
+            .build();
+
+    @Test
+    @DisplayName("경합 - 두 워커가 중복 검사를 함께 통과해도 두 번째 기록은 충돌 무시로 끝나야 합니다.")
+    void racingWorkers_SecondInsertIsNoop() {
+        // given: 두 워커 모두 exists=false를 보았고, DB는 첫 INSERT만 받아들인다
+        when(repo.existsByOriginal_idAndKindAndWidth(FILE_ID, FileVariantKind.RESPONSIVE_WEBP, 640)).thenReturn(false);
+        when(repo.insertIfAbsent(anyString(), eq(FILE_ID), eq("RESPONSIVE_WEBP"), eq("S3"), anyString(),
+                eq("image/webp"), eq(640), anyInt(), anyLong()))
+                .thenReturn(1, 0);
+
+        // when
+        boolean first = persister.saveInNewTx(original, FileVariantKind.RESPONSIVE_WEBP, "image/webp",
+                "2026/10/19/" + FILE_ID + "/variants/photo.w640.webp", 640, 360, 1234);
+        boolean second = persister.saveInNewTx(original, FileVariantKind.RESPONSIVE_WEBP, "image/webp",
+                "2026/10/19/" + FILE_ID + "/variants/photo.w640.webp", 640, 360, 1234);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복 검사 - 이미 기록된 단은 INSERT를 시도하지 않아야 합니다.")
+    void existingRung_SkipsInsert() {
+        // given
+        when(repo.existsByOriginal_idAndKindAndWidth(FILE_ID, FileVariantKind.RESPONSIVE_AVIF, 320)).thenReturn(true);
+
+        // when
+        boolean saved = persister.saveInNewTx(original, FileVariantKind.RESPONSIVE_AVIF, "image/avif",
+                "k", 320, 180, 10);
+
+        // then
+        assertThat(saved).isFalse();
+        verify(repo, never()).insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), any(), anyLong());
+    }
+}
@@ -0,0 +1,283 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewEvent;
+import com.app.codemasterpiecebackend.domain.pageView.dto.PageViewHit;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PageView;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import com.app.codemasterpiecebackend.global.config.analytics.BotProps;
+import com.app.codemasterpiecebackend.global.infra.spool.MappedSpool;
+import com.app.codemasterpiecebackend.global.support.net.BotClassifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PageViewIngestPipeline 클래스의 버퍼 포화 드롭, 배치 절단(건수/시간), 종료 시 소진, 스풀 전환 및
+ * 불량 행 격리(bisect)를 가짜 저장소로 검증하는 테스트 클래스입니다.
+ */
+class PageViewIngestPipelineTest {
+
+    /**
+     * 빠른 경로에서 봇으로 확정되는 UA. 보강 단계에서 yauaa를 거치지 않도록 모든 이벤트에 사용한다.
+     */
+    private static final String BOT_UA = "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)";
+
+    @TempDir
+    Path tmp;
+
+    private final FakeRows rows = new FakeRows();
+    private final PageViewRepository repo = mock(PageViewRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<PageViewIngestPipeline> started = new ArrayList<>();
+    private MappedSpool spool;
+
+    PageViewIngestPipelineTest() {
+        when(repo.saveAll(anyList())).thenAnswer(inv -> rows.saveAll(inv.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rows.before = batch -> null;
+        started.forEach(PageViewIngestPipeline::stop);
+        if (spool != null) spool.close();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되는 saveAll을 흉내 내는 가짜 저장소. 적재된 배치의 URL을 순서대로 기록한다.
+     */
+    private static final class FakeRows {
+        final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+        /** 배치마다 먼저 호출된다. 예외를 반환하면 그 배치는 실패한다. */
+        volatile Function<List<PageView>, RuntimeException> before = batch -> null;
+
+        List<PageView> saveAll(List<PageView> batch) {
+            RuntimeException err = before.apply(batch);
+            if (err != null) throw err;
+            batches.add(batch.stream().map(PageView::getUrl).toList());
+            return batch;
+        }
+
+        List<String> next() throws InterruptedException {
+            return batches.poll(5, TimeUnit.SECONDS);
+        }
+
+        List<String> saved() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PageViewIngestPipeline pipeline(int capacity, int batchSize, Duration flushInterval) {
+        ObjectProvider<MappedSpool> spoolProvider = mock(ObjectProvider.class);
+        when(spoolProvider.getIfAvailable()).thenReturn(spool);
+        // 모든 이벤트가 빠른 경로에서 봇으로 확정되므로 UserAgentAnalyzer는 쓰이지 않는다
+        return new PageViewIngestPipeline(repo, null, new BotClassifier(new BotProps()),
+                mock(PlatformTransactionManager.class), spoolProvider, registry,
+                capacity, 1, batchSize, flushInterval);
+    }
+
+    private PageViewIngestPipeline start(PageViewIngestPipeline p) {
+        p.start();
+        started.add(p);
+        return p;
+    }
+
+    private static PageViewHit hit(String url) {
+        var e = new PageViewEvent("page_view", 1_760_000_000_000L, "c1", "s1", url, null, null, "ko",
+                null, null, BOT_UA);
+        return new PageViewHit(e, "203.0.113.0", Instant.now());
+    }
+
+    private double count(String name) {
+        return registry.counter("analytics.ingest." + name).count();
+    }
+
+    private void awaitCount(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(name) < expected && System.nanoTime() < deadline) Thread.sleep(10);
+        assertThat(count(name)).isEqualTo(expected);
+    }
+
+    private static Function<List<PageView>, RuntimeException> blockUntil(CountDownLatch entered, CountDownLatch release) {
+        return batch -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+    }
+
+    @Test
+    @DisplayName("버퍼 포화 - 스풀이 없으면 가득 찬 버퍼에 들어오지 못한 이벤트는 기다리지 않고 버려지고 집계되어야 합니다.")
+    void overflow_DroppedAndCounted() throws Exception {
+        // given: 워커가 첫 배치 적재 중에 멈춰 있고, 버퍼(2)에는 2건만 들어갈 수 있다
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        rows.before = blockUntil(entered, release);
+        var p = start(pipeline(2, 1, Duration.ofMillis(50)));
+        p.offer(hit("/a"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean b = p.offer(hit("/b"));
+        int rest = p.offerAll(List.of(hit("/c"), hit("/d"), hit("/e")));
+
+        // then
+        assertThat(b).isTrue();
+        assertThat(rest).isEqualTo(1);
+        assertThat(count("accepted")).isEqualTo(3);
+        assertThat(count("dropped")).isEqualTo(2);
+
+        release.countDown();
+        p.stop();
+        assertThat(rows.saved()).containsExactly("/a", "/b", "/c");
+    }
+
+    @Test
+    @DisplayName("배치 절단 - batch-size에 도달하면 flush-interval을 기다리지 않고 배치를 끊어야 합니다.")
+    void batch_CutBySize() throws Exception {
+        // given
+        var p = start(pipeline(100, 3, Duration.ofSeconds(1)));
+
+        // when
+        for (int i = 0; i < 6; i++) p.offer(hit("/p" + i));
+
+        // then
+        assertThat(rows.next()).containsExactly("/p0", "/p1", "/p2");
+        assertThat(rows.next()).containsExactly("/p3", "/p4", "/p5");
+    }
+
+    @Test
+    @DisplayName("배치 절단 - batch-size에 못 미쳐도 첫 이벤트 이후 flush-interval이 지나면 배치를 끊어야 합니다.")
+    void batch_CutByTime() throws Exception {
+        // given
+        var p = start(pipeline(100, 100, Duration.ofMillis(100)));
+
+        // when
+        p.offer(hit("/x"));
+        p.offer(hit("/y"));
+        var batch = rows.next();
+
+        // then
+        assertThat(batch).containsExactly("/x", "/y");
+        assertThat(p.isRunning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 - stop()은 신규 수신을 막고 버퍼에 남은 이벤트를 모두 적재한 뒤 반환해야 합니다.")
+    void stop_DrainsBuffer() throws Exception {
+        // given: 워커가 첫 배치에서 멈춘 동안 버퍼에 이벤트가 쌓여 있다
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        rows.before = blockUntil(entered, release);
+        var p = start(pipeline(100, 2, Duration.ofMillis(50)));
+        p.offer(hit("/1"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 2; i <= 5; i++) p.offer(hit("/" + i));
+
+        // when
+        var stopping = CompletableFuture.runAsync(p::stop);
+        while (p.isRunning()) Thread.onSpinWait();
+        boolean late = p.offer(hit("/late"));
+        release.countDown();
+        stopping.get(15, TimeUnit.SECONDS);
+
+        // then
+        assertThat(late).isFalse();
+        assertThat(rows.saved()).containsExactly("/1", "/2", "/3", "/4", "/5");
+        assertThat(count("persisted")).isEqualTo(5);
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스풀 - 수신 불가 상태의 이벤트는 버리지 않고 스풀에 기록해야 합니다.")
+    void notRunning_SpilledToSpool() throws Exception {
+        // given
+        spool = new MappedSpool(tmp, 64 * 1024, 4);
+        var p = pipeline(100, 100, Duration.ofMillis(50));
+
+        // when
+        boolean ok = p.offer(hit("/s"));
+
+        // then
+        assertThat(ok).isTrue();
+        assertThat(count("spooled")).isEqualTo(1);
+        assertThat(count("dropped")).isZero();
+        assertThat(spool.pendingBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("스풀 - DB 가용성 오류로 적재하지 못한 배치는 스풀로 넘기고, 회복 후 재적재해야 합니다.")
+    void dbOutage_SpilledThenReplayed() throws Exception {
+        // given
+        spool = new MappedSpool(tmp, 64 * 1024, 4);
+        rows.before = batch -> new QueryTimeoutException("db down");
+        var p = start(pipeline(100, 100, Duration.ofMillis(50)));
+
+        // when: 장애 중 수신
+        p.offerAll(List.of(hit("/r1"), hit("/r2"), hit("/r3")));
+        awaitCount("spooled", 3);
+
+        // then
+        assertThat(rows.saved()).isEmpty();
+        assertThat(count("failed")).isZero();
+
+        // when: 회복 후 재적재
+        rows.before = batch -> null;
+        int replayed = p.replaySpool();
+
+        // then
+        assertThat(replayed).isEqualTo(3);
+        assertThat(rows.saved()).containsExactly("/r1", "/r2", "/r3");
+        assertThat(spool.pendingBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("불량 행 격리 - 행 오류로 실패한 배치는 반씩 나눠 다시 적재하고, 단건으로도 실패하는 행만 버려야 합니다.")
+    void poisonRow_IsolatedByBisect() throws Exception {
+        // given: 수신 전 스풀에 쌓인 8건 중 1건이 제약 위반
+        spool = new MappedSpool(tmp, 64 * 1024, 4);
+        var p = pipeline(100, 100, Duration.ofMillis(50));
+        for (int i = 0; i < 8; i++) p.offer(hit(i == 5 ? "/poison" : "/ok" + i));
+        rows.before = batch -> batch.stream().anyMatch(r -> r.getUrl().equals("/poison"))
+                ? new DataIntegrityViolationException("bad row")
+                : null;
+        start(p);
+
+        // when
+        int replayed = p.replaySpool();
+
+        // then: [0,8) 실패 → [0,4) 성공, [4,8) 실패 → [4,6) 실패 → [4,5) 성공, [5,6) 폐기 → [6,8) 성공 (INSERT 7회)
+        assertThat(replayed).isEqualTo(8);
+        assertThat(rows.saved()).containsExactly("/ok0", "/ok1", "/ok2", "/ok3", "/ok4", "/ok6", "/ok7");
+        assertThat(count("persisted")).isEqualTo(7);
+        assertThat(count("failed")).isEqualTo(1);
+        verify(repo, times(7)).saveAll(anyList());
+        assertThat(spool.pendingBytes()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.app.codemasterpiecebackend.domain.pageView.application;
+
+import com.app.codemasterpiecebackend.domain.pageView.dto.PvPostRow;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostDaily;
+import com.app.codemasterpiecebackend.domain.pageView.entity.PvPostRefDaily;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PageViewRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvDimDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvHourlyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvMonthlyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvPostRefDailyRepository;
+import com.app.codemasterpiecebackend.domain.pageView.repository.PvWeeklyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RollupService 클래스의 게시글별 일간 롤업 — 묶인 원본 행의 조회수 합산, 롤업 완료 표시에 따른 백필 대상 제외 — 을
+ * 검증하는 테스트 클래스입니다.
+ */
+class RollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 18);
+
+    private final PvDailyRepository dailyRepo = mock(PvDailyRepository.class);
+    private final PvPostDailyRepository postRepo = mock(PvPostDailyRepository.class);
+    private final PvPostRefDailyRepository postRefRepo = mock(PvPostRefDailyRepository.class);
+    private final RollupService service = new RollupService(
+            mock(PageViewRepository.class), mock(PvHourlyRepository.class), dailyRepo,
+            mock(PvDimDailyRepository.class), mock(PvWeeklyRepository.class), mock(PvMonthlyRepository.class),
+            postRepo, postRefRepo);
+
+    /** 저장된 게시글/리퍼러 행 */
+    private final List<PvPostDaily> savedPosts = new ArrayList<>();
+    private final List<PvPostRefDaily> savedRefs = new ArrayList<>();
+
+    RollupServiceTest() {
+        ReflectionTestUtils.setField(service, "postPathPrefix", "/posts/");
+        when(postRepo.saveAll(anyList())).thenAnswer(inv -> {
+            savedPosts.addAll(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(postRefRepo.saveAll(anyList())).thenAnswer(inv -> {
+            savedRefs.addAll(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+    }
+
+    @Test
+    @DisplayName("게시글 롤업 - (게시글, 방문자, 리퍼러)로 묶인 행은 행 수가 아닌 조회수로 합산되어야 합니다.")
+    void rollupPosts_SumsGroupedViews() {
+        // given
+        when(postRepo.findPostRows(eq("/posts/"), any(), any())).thenReturn(List.of(
+                new PvPostRow("PO-1", "c1", null, 3),
+                new PvPostRow("PO-1", "c2", "google.com", 2),
+                new PvPostRow("PO-1", "c1", "google.com", 1),
+                new PvPostRow("PO-2", "c3", null, 1)));
+
+        // when
+        int posts = service.rollupPosts(DAY);
+
+        // then
+        assertThat(posts).isEqualTo(2);
+        Map<String, PvPostDaily> byPost = savedPosts.stream()
+                .collect(Collectors.toMap(p -> p.getId().getPostId(), p -> p));
+        assertThat(byPost.get("PO-1").getViews()).isEqualTo(6);
+        assertThat(byPost.get("PO-1").getUv()).isEqualTo(2);
+        assertThat(byPost.get("PO-2").getViews()).isEqualTo(1);
+        assertThat(savedRefs).singleElement().satisfies(r -> {
+            assertThat(r.getId().getPostId()).isEqualTo("PO-1");
+            assertThat(r.getId().getRefHost()).isEqualTo("google.com");
+            assertThat(r.getViews()).isEqualTo(3);
+        });
+        verify(postRepo).markRolledUp(DAY);
+    }
+
+    @Test
+    @DisplayName("백필 - 게시글 조회가 없던 날도 한 번 롤업하면 표시가 남아 다시 백필 대상이 되지 않아야 합니다.")
+    void backfillPosts_ZeroPostDayNotReturnedAgain() {
+        // given: 방문은 있었으나 게시글 조회는 없던 날. findDaysWithoutPosts는 롤업 표시가 없는 방문일만 돌려준다
+        Set<LocalDate> visited = new TreeSet<>(List.of(DAY.minusDays(1), DAY));
+        Set<LocalDate> marked = new HashSet<>();
+        when(postRepo.markRolledUp(any())).thenAnswer(inv -> {
+            marked.add(inv.getArgument(0));
+            return 1;
+        });
+        when(postRepo.findDaysWithoutPosts(any())).thenAnswer(inv -> visited.stream()
+                .filter(d -> !d.isBefore(inv.getArgument(0)) && !marked.contains(d))
+                .toList());
+        when(postRepo.findPostRows(any(), any(), any())).thenReturn(List.of());
+
+        // when
+        int first = service.backfillPosts(DAY.minusDays(7));
+        int second = service.backfillPosts(DAY.minusDays(7));
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(marked).containsExactlyInAnyOrderElementsOf(visited);
+        verify(postRepo, never()).saveAll(anyList());
+        verify(postRepo, times(2)).markRolledUp(any());
+    }
+}
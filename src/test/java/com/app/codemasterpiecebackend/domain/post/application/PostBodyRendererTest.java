@@ -0,0 +1,168 @@
+package com.app.codemasterpiecebackend.domain.post.application;
+
+import com.app.codemasterpiecebackend.domain.file.core.entity.FileStatus;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StorageType;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.variant.application.ResponsiveLadder;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariant;
+import com.app.codemasterpiecebackend.domain.file.variant.entity.FileVariantKind;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.global.config.image.ImageLadderProperties;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostBodyRenderer 클래스의 토큰 치환({@code <picture>} 출력 포함)과 렌더링 캐시 무효화를 검증하는 테스트 클래스입니다.
+ */
+class PostBodyRendererTest {
+
+    private static final String FILE_ID = "FL-00000000000000000000000001";
+    private static final String DIR = "2026/10/19/" + FILE_ID + "/";
+    private static final String CDN = "https://cdn.example.com/blog/" + DIR;
+
+    private final StoredFileRepository files = mock(StoredFileRepository.class);
+    private final FileVariantRepository variants = mock(FileVariantRepository.class);
+    private final ImageLadderProperties ladderProps = new ImageLadderProperties();
+    private final PostBodyRenderer renderer;
+
+    private final StoredFile file = StoredFile.builder()
+            .id(FILE_ID)
+            .status(FileStatus.ACTIVE)
+            .storageType(StorageType.S3)
+            .storagePath(DIR)
+            .storageKey(DIR + "original")
+            .contentType("image/jpeg")
+            .width(1000)
+            .height(500)
+            .build();
+
+    PostBodyRendererTest() {
+        var ladder = new ImageLadderProperties.Ladder();
+        ladder.setWidths(List.of(320, 640));
+        ladder.setFormats(List.of("WEBP"));
+        ladderProps.getPresets().put("BLOG_DEFAULT", ladder);
+        ladderProps.setLazyBaseUrl("https://api.example.com/");
+
+        var cdn = new CdnProperties();
+        cdn.setBaseUrl("https://cdn.example.com");
+        cdn.setKeyPrefix("blog");
+
+        renderer = new PostBodyRenderer(files, variants, cdn, new ResponsiveLadder(ladderProps),
+                Duration.ofMinutes(10), 16);
+
+        when(files.findAllById(any())).thenReturn(List.of(file));
+        when(variants.findActiveByFileIdIn(anyList())).thenReturn(List.of(
+                variant(FileVariantKind.RESPONSIVE_WEBP, DIR + "variants/photo.w320.webp", 320),
+                variant(FileVariantKind.WEBP, DIR + "variants/photo.webp", 1000),
+                variant(FileVariantKind.THUMB_512, DIR + "variants/photo.thumb512.webp", 512)
+        ));
+    }
+
+    private FileVariant variant(FileVariantKind kind, String key, int width) {
+        return FileVariant.builder()
+                .original(file)
+                .kind(kind)
+                .status(FileStatus.ACTIVE)
+                .storageKey(key)
+                .width(width)
+                .build();
+    }
+
+    @Test
+    @DisplayName("picture 출력 - 생성된 단은 CDN, 미생성 단은 지연 생성 URL, 원본 크기 변환본은 최상단 후보로 나와야 합니다.")
+    void renderFileTokens_Picture() {
+        // given
+        String md = "앞 ![고양이 \"나비\"](image-token://" + FILE_ID + ") 뒤";
+
+        // when
+        String out = renderer.renderFileTokens(md);
+
+        // then
+        assertThat(out).isEqualTo("앞 <picture>"
+                + "<source type=\"image/webp\" srcset=\""
+                + CDN + "variants/photo.w320.webp 320w, "
+                + "https://api.example.com/api/v1/images/" + FILE_ID + "/variants/webp/640 640w, "
+                + CDN + "variants/photo.webp 1000w\" "
+                + "sizes=\"(max-width: 768px) 100vw, 768px\">"
+                + "<img src=\"" + CDN + "variants/photo.webp\" alt=\"고양이 &quot;나비&quot;\""
+                + " width=\"1000\" height=\"500\" loading=\"lazy\" decoding=\"async\"></picture> 뒤");
+    }
+
+    @Test
+    @DisplayName("폴백 - 지연 생성 URL이 없고 생성된 단도 없으면 마크다운 이미지로 남아야 합니다.")
+    void renderFileTokens_FallbackWithoutRungs() {
+        // given
+        ladderProps.setLazyBaseUrl("");
+        when(variants.findActiveByFileIdIn(anyList())).thenReturn(List.of(
+                variant(FileVariantKind.AVIF, DIR + "variants/photo.avif", 1000)
+        ));
+
+        // when
+        String out = renderer.renderFileTokens("![a](image-token://" + FILE_ID + ")");
+
+        // then
+        assertThat(out).isEqualTo("![a](" + CDN + "variants/photo.avif)");
+    }
+
+    @Test
+    @DisplayName("명시적 kind - ?t=로 지정한 변환본은 picture 없이 해당 URL로 치환되어야 합니다.")
+    void renderFileTokens_ExplicitKind() {
+        // when
+        String out = renderer.renderFileTokens("![a](image-token://" + FILE_ID + "?t=thumb-512)");
+
+        // then
+        assertThat(out).isEqualTo("![a](" + CDN + "variants/photo.thumb512.webp)");
+    }
+
+    @Test
+    @DisplayName("미존재 파일 - 찾을 수 없는 파일의 토큰은 원문 그대로 남아야 합니다.")
+    void renderFileTokens_UnknownFileKept() {
+        // given
+        when(files.findAllById(any())).thenReturn(List.of());
+        String md = "![a](image-token://FL-00000000000000000000000009)";
+
+        // when & then
+        assertThat(renderer.renderFileTokens(md)).isEqualTo(md);
+    }
+
+    @Test
+    @DisplayName("캐시 - 같은 원문은 다시 조회하지 않고, 원문이 바뀌거나 evict되면 다시 렌더링해야 합니다.")
+    void render_CachedUntilSourceChangesOrEvicted() {
+        // given
+        String v1 = "# 제목\n\n![a](image-token://" + FILE_ID + ")";
+        String v2 = v1 + "\n\n## 추가";
+
+        // when
+        var first = renderer.render("PO-1", v1);
+        var second = renderer.render("PO-1", v1);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.html()).contains("<picture>");
+        verify(files, times(1)).findAllById(any());
+
+        // when: 원문 변경 (다른 노드에서의 수정 포함)
+        var changed = renderer.render("PO-1", v2);
+
+        // then
+        assertThat(changed).isNotSameAs(first);
+        assertThat(changed.toc()).hasSize(2);
+        verify(files, times(2)).findAllById(any());
+
+        // when: 수정/삭제에 의한 evict
+        renderer.evict("PO-1");
+        renderer.render("PO-1", v2);
+
+        // then
+        verify(files, times(3)).findAllById(any());
+    }
+}
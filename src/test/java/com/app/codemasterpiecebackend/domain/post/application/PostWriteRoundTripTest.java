@@ -0,0 +1,155 @@
+package com.app.codemasterpiecebackend.domain.post.application;
+
+import com.app.codemasterpiecebackend.domain.category.entity.Category;
+import com.app.codemasterpiecebackend.domain.category.repository.CategoryRepository;
+import com.app.codemasterpiecebackend.domain.file.core.application.FileService;
+import com.app.codemasterpiecebackend.domain.file.core.entity.StoredFile;
+import com.app.codemasterpiecebackend.domain.file.core.repository.StoredFileRepository;
+import com.app.codemasterpiecebackend.domain.file.ref.application.FileRefServiceImpl;
+import com.app.codemasterpiecebackend.domain.file.ref.dto.FileAttachState;
+import com.app.codemasterpiecebackend.domain.file.ref.repository.FileRefRepository;
+import com.app.codemasterpiecebackend.domain.file.variant.repository.FileVariantRepository;
+import com.app.codemasterpiecebackend.domain.post.entity.Post;
+import com.app.codemasterpiecebackend.domain.post.entity.Tag;
+import com.app.codemasterpiecebackend.domain.post.repository.PostLikeRepository;
+import com.app.codemasterpiecebackend.domain.post.repository.PostRepository;
+import com.app.codemasterpiecebackend.domain.post.repository.TagRepository;
+import com.app.codemasterpiecebackend.global.util.CdnProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시글 생성/수정 시 저장소 메서드 호출 수가 태그·이미지 개수와 무관하게 일정한지 검증하는 회귀 테스트입니다.
+ *
+ * <p>저장소를 목(mock)으로 대체하고 호출 수를 셉니다. 태그/이미지마다 저장소를 부르는 루프(서비스 계층의 N+1)는
+ * 잡아내지만, 실제 SQL 구문 수는 아닙니다. 지연 로딩이나 flush로 생기는 추가 구문은 이 테스트의 범위 밖입니다.</p>
+ */
+class PostWriteRoundTripTest {
+
+    private static final String HEAD_ID = "FL-00000000000000000000000000";
+
+    @Test
+    @DisplayName("생성 - 태그/본문 이미지가 늘어나도 저장소 호출 수가 같아야 합니다.")
+    void create_ConstantRoundTrips() {
+        // given
+        Fixture small = new Fixture();
+        Fixture large = new Fixture();
+
+        // when
+        small.service.create(createCmd(3, 3));
+        large.service.create(createCmd(40, 60));
+
+        // then
+        assertThat(large.roundTrips()).isEqualTo(small.roundTrips());
+        verify(large.tagRepository, times(1)).saveAll(anyList());
+        verify(large.refRepo, times(1)).saveAll(anyList());
+        verify(large.fileRepo, times(1)).incRefAll(anyCollection());
+        verify(large.fileRepo, times(1)).incRef(anyString()); // 대표 이미지 단건
+    }
+
+    @Test
+    @DisplayName("수정 - 태그/본문 이미지가 늘어나도 저장소 호출 수가 같아야 합니다.")
+    void update_ConstantRoundTrips() {
+        // given
+        Fixture small = new Fixture();
+        Fixture large = new Fixture();
+
+        // when
+        small.service.update(updateCmd(3, 3));
+        large.service.update(updateCmd(40, 60));
+
+        // then
+        assertThat(large.roundTrips()).isEqualTo(small.roundTrips());
+        verify(large.tagRepository, never()).save(any());
+        verify(large.fileRepo, never()).incRef(anyString());
+        verify(large.fileRepo, times(1)).incRefAll(anyCollection());
+    }
+
+    private static PostCommand.Create createCmd(int tags, int images) {
+        return new PostCommand.Create("제목", HEAD_ID, null, tags(tags), "CT-1", body(images), true);
+    }
+
+    private static PostCommand.Update updateCmd(int tags, int images) {
+        return new PostCommand.Update("PO-1", "제목", HEAD_ID, null, tags(tags), "CT-1", body(images), true);
+    }
+
+    private static List<String> tags(int n) {
+        return IntStream.range(0, n).mapToObj(i -> "tag" + i).toList();
+    }
+
+    /**
+     * 파일 토큰과 CDN URL을 번갈아 담은 본문.
+     */
+    private static String body(int images) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= images; i++) {
+            String id = String.format("FL-%026d", i);
+            if (i % 2 == 0) sb.append("![").append(i).append("](image-token://").append(id).append(")\n");
+            else sb.append("![").append(i).append("](https://cdn.example.com/cmp/").append(id).append("/original)\n");
+        }
+        return sb.toString();
+    }
+
+    private static final class Fixture {
+        final PostRepository postRepository = mock(PostRepository.class);
+        final PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+        final TagRepository tagRepository = mock(TagRepository.class);
+        final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        final StoredFileRepository fileRepo = mock(StoredFileRepository.class);
+        final FileVariantRepository fileVariantRepository = mock(FileVariantRepository.class);
+        final FileRefRepository refRepo = mock(FileRefRepository.class);
+        final PostServiceImpl service;
+
+        Fixture() {
+            Category category = Category.builder().id("CT-1").name("dev").link("dev").build();
+            StoredFile head = StoredFile.builder().id(HEAD_ID).build();
+            Post post = Post.builder().id("PO-1").title("제목").slug("제목").category(category).build();
+
+            when(categoryRepository.findById(anyString())).thenReturn(Optional.of(category));
+            when(postRepository.findById(anyString())).thenReturn(Optional.of(post));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(fileRepo.findById(anyString())).thenReturn(Optional.of(head));
+            when(tagRepository.saveAll(anyList())).thenAnswer(inv -> {
+                List<Tag> saved = new ArrayList<>();
+                for (Tag t : inv.<Iterable<Tag>>getArgument(0)) {
+                    ReflectionTestUtils.setField(t, "id", "TG-" + t.getName());
+                    saved.add(t);
+                }
+                return saved;
+            });
+            when(refRepo.findAttachStates(anyCollection(), any(), any(), any())).thenAnswer(inv ->
+                    inv.<Collection<String>>getArgument(0).stream().map(id -> new FileAttachState(id, 0L)).toList());
+
+            FileRefServiceImpl fileRefService = new FileRefServiceImpl(refRepo, fileRepo);
+            service = new PostServiceImpl(fileRefService, mock(FileService.class),
+                    postRepository, postLikeRepository, tagRepository, categoryRepository,
+                    fileRepo, mock(CdnProperties.class), mock(PostBodyRenderer.class));
+        }
+
+        int roundTrips() {
+            return count(postRepository) + count(postLikeRepository) + count(tagRepository)
+                    + count(categoryRepository) + count(fileRepo) + count(fileVariantRepository) + count(refRepo);
+        }
+
+        /**
+         * 구문을 내보내지 않는 프록시 조회(getReferenceById)는 제외하고 센다.
+         */
+        private static int count(Object mock) {
+            return (int) Mockito.mockingDetails(mock).getInvocations().stream()
+                    .filter(inv -> !"getReferenceById".equals(inv.getMethod().getName()))
+                    .count();
+        }
+    }
+}
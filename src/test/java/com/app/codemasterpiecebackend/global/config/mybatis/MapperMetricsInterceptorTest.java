@@ -0,0 +1,125 @@
+package com.app.codemasterpiecebackend.global.config.mybatis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MapperMetricsInterceptor 클래스의 SQL 리터럴 가림과 구문별 행 수 기록을 검증하는 테스트 클래스입니다.
+ */
+class MapperMetricsInterceptorTest {
+
+    @Test
+    @DisplayName("리터럴 가림 - 작은따옴표 리터럴은 '?'로 바뀌고 공백은 한 칸으로 줄어야 합니다.")
+    void redact_QuotedLiterals() {
+        // given
+        String sql = "SELECT *\n  FROM tbl_post\n WHERE slug = 'my-secret-post'\n   AND status IN ('PUBLISHED', 'HIDDEN')";
+
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact(sql))
+                .isEqualTo("SELECT * FROM tbl_post WHERE slug = '?' AND status IN ('?', '?')");
+    }
+
+    @Test
+    @DisplayName("리터럴 가림 - '' 이스케이프는 리터럴 안으로 보고 뒤쪽 내용이 새어 나오지 않아야 합니다.")
+    void redact_DoubledQuoteEscape() {
+        // given
+        String sql = "UPDATE tbl_user SET bio = 'it''s my '' secret' WHERE id = 1";
+
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact(sql))
+                .isEqualTo("UPDATE tbl_user SET bio = '?' WHERE id = 1");
+    }
+
+    @Test
+    @DisplayName("리터럴 가림 - E'...' 리터럴의 백슬래시 이스케이프(\\')는 리터럴을 끝내지 않아야 합니다.")
+    void redact_EscapeStringLiteral() {
+        // given
+        String sql = "SELECT 1 WHERE a = E'it\\'s secret\\\\' AND b = e'x' AND name = 'c:\\' AND type = 'y'";
+
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact(sql))
+                .isEqualTo("SELECT 1 WHERE a = E'?' AND b = e'?' AND name = '?' AND type = '?'");
+    }
+
+    @Test
+    @DisplayName("리터럴 가림 - 식별자 끝의 e 뒤 따옴표는 E 리터럴로 보지 않아야 합니다.")
+    void redact_IdentifierEndingWithE() {
+        // given: 일반 리터럴 안의 백슬래시는 이스케이프가 아니다
+        String sql = "SELECT * FROM t WHERE type='a\\' AND name = 'z'";
+
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact(sql))
+                .isEqualTo("SELECT * FROM t WHERE type='?' AND name = '?'");
+    }
+
+    @Test
+    @DisplayName("리터럴 가림 - ${} 치환으로 SQL에 들어간 값도 리터럴로 가려져야 합니다.")
+    void redact_SubstitutedValues() {
+        // given: ORDER BY ${sort}, LIKE '%${keyword}%' 치환 후의 SQL
+        String sql = "SELECT post_id FROM tbl_post WHERE title LIKE '%kim''s diary%' ORDER BY created_at DESC LIMIT 10";
+
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact(sql))
+                .isEqualTo("SELECT post_id FROM tbl_post WHERE title LIKE '?' ORDER BY created_at DESC LIMIT 10");
+    }
+
+    @Test
+    @DisplayName("리터럴 가림 - 닫히지 않은 리터럴도 끝까지 가려져야 합니다.")
+    void redact_Unterminated() {
+        // when & then
+        assertThat(MapperMetricsInterceptor.redact("SELECT 'abc")).isEqualTo("SELECT '?'");
+    }
+
+    @Test
+    @DisplayName("행 수 - ResultHandler로 스트리밍하는 조회는 행 수를 기록하지 않고, 일반 조회는 결과 크기를 기록해야 합니다.")
+    void rows_SkippedForStreamingQueries() throws Throwable {
+        // given
+        var registry = new SimpleMeterRegistry();
+        var interceptor = new MapperMetricsInterceptor(registry, 60_000);
+        var config = new Configuration();
+        MappedStatement streamed = statement(config, "com.app.repo.PostMapper.streamAll");
+        MappedStatement listed = statement(config, "com.app.repo.PostMapper.findAll");
+
+        Executor executor = mock(Executor.class);
+        when(executor.query(any(), any(), any(), any())).thenReturn(List.of("a", "b", "c"));
+        Method query = Executor.class.getMethod("query",
+                MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        ResultHandler<Object> handler = ctx -> {
+        };
+
+        // when
+        interceptor.intercept(new Invocation(executor, query,
+                new Object[]{streamed, null, RowBounds.DEFAULT, handler}));
+        interceptor.intercept(new Invocation(executor, query,
+                new Object[]{listed, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER}));
+
+        // then
+        assertThat(registry.find("db.mapper.rows").tag("statement", "PostMapper.streamAll").summary()).isNull();
+        var rows = registry.get("db.mapper.rows").tag("statement", "PostMapper.findAll").summary();
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(3);
+        assertThat(registry.get("db.mapper.statement").tag("statement", "PostMapper.streamAll").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static MappedStatement statement(Configuration config, String id) {
+        return new MappedStatement.Builder(config, id, new StaticSqlSource(config, "SELECT 1"), SqlCommandType.SELECT)
+                .build();
+    }
+}
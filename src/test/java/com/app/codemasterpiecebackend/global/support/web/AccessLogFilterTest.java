@@ -0,0 +1,107 @@
+package com.app.codemasterpiecebackend.global.support.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AccessLogFilter 클래스의 제외 경로 판별, 로그 레벨 정책, 예외 전파 시 메트릭 기록을 검증하는 테스트 클래스입니다.
+ */
+class AccessLogFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private AccessLogFilter filter(double sampleRate) {
+        return new AccessLogFilter(new RouteMetrics(registry), 1000, sampleRate);
+    }
+
+    @Test
+    @DisplayName("제외 경로 - 정적 리소스 접두사와 확장자, actuator는 제외되고 API 경로는 포함되어야 합니다.")
+    void isExcluded() {
+        // when & then
+        assertThat(AccessLogFilter.isExcluded("/actuator/health")).isTrue();
+        assertThat(AccessLogFilter.isExcluded("/css/app.css")).isTrue();
+        assertThat(AccessLogFilter.isExcluded("/favicon.ico")).isTrue();
+        assertThat(AccessLogFilter.isExcluded("/assets/logo.PNG")).isTrue();
+        assertThat(AccessLogFilter.isExcluded("/bundle.js.map")).isTrue();
+
+        assertThat(AccessLogFilter.isExcluded("/api/v1/posts")).isFalse();
+        assertThat(AccessLogFilter.isExcluded("/api/v1/posts/my.post/detail")).isFalse(); // 점이 마지막 세그먼트에 없음
+        assertThat(AccessLogFilter.isExcluded("/api/v1/files/report.pdf")).isFalse();
+        assertThat(AccessLogFilter.isExcluded("/api/v1/tags/node.jsx")).isFalse();     // 확장자는 정확히 일치해야 함
+        assertThat(AccessLogFilter.isExcluded("/")).isFalse();
+    }
+
+    @Test
+    @DisplayName("제외 경로 - OPTIONS 요청은 필터를 적용하지 않아야 합니다.")
+    void shouldNotFilter_Options() {
+        // given
+        var preflight = new MockHttpServletRequest("OPTIONS", "/api/v1/posts");
+        var get = new MockHttpServletRequest("GET", "/api/v1/posts");
+
+        // when & then
+        assertThat(filter(0).shouldNotFilter(preflight)).isTrue();
+        assertThat(filter(0).shouldNotFilter(get)).isFalse();
+    }
+
+    @Test
+    @DisplayName("레벨 정책 - 5xx와 느린 요청은 WARN, 빠른 4xx는 INFO, 나머지는 샘플링분만 INFO여야 합니다.")
+    void levelPolicy() {
+        // given
+        var unsampled = filter(0.0);
+        var sampled = filter(1.0);
+
+        // when & then
+        assertThat(unsampled.level(500, 5)).isEqualTo(Level.WARN);
+        assertThat(unsampled.level(503, 5000)).isEqualTo(Level.WARN);
+        assertThat(unsampled.level(200, 1000)).isEqualTo(Level.WARN);   // 느린 요청은 상태 무관
+        assertThat(unsampled.level(404, 1500)).isEqualTo(Level.WARN);   // 느린 4xx도 WARN
+        assertThat(unsampled.level(404, 5)).isEqualTo(Level.INFO);
+        assertThat(unsampled.level(200, 5)).isEqualTo(Level.DEBUG);
+        assertThat(unsampled.level(302, 5)).isEqualTo(Level.DEBUG);
+        assertThat(sampled.level(200, 5)).isEqualTo(Level.INFO);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 핸들러 매핑 후 라우트 템플릿과 상태 계열로 기록되어야 합니다.")
+    void doFilter_RecordsRoute() throws Exception {
+        // given
+        var req = new MockHttpServletRequest("GET", "/api/v1/posts/PO-1");
+        var res = new MockHttpServletResponse();
+
+        // when
+        filter(0).doFilter(req, res, (rq, rs) -> {
+            rq.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/posts/{postId}");
+            ((MockHttpServletResponse) rs).setStatus(200);
+        });
+
+        // then
+        assertThat(registry.get(RouteMetrics.METRIC)
+                .tags("method", "GET", "route", "/api/v1/posts/{postId}", "status", "2xx")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 체인에서 예외가 전파되면 5xx로 기록되어야 합니다.")
+    void doFilter_ExceptionRecordedAs5xx() {
+        // given
+        var req = new MockHttpServletRequest("POST", "/api/v1/posts");
+        var res = new MockHttpServletResponse();
+
+        // when & then
+        assertThatThrownBy(() -> filter(0).doFilter(req, res, (rq, rs) -> {
+            throw new ServletException("boom");
+        })).isInstanceOf(ServletException.class);
+        assertThat(registry.get(RouteMetrics.METRIC)
+                .tags("method", "POST", "route", "UNKNOWN", "status", "5xx")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.app.codemasterpiecebackend.global.support.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RouteMetrics 클래스의 라우트 템플릿 태그, 미매핑 요청 묶음, 상태 계열 및 타이머 재사용을 검증하는 테스트 클래스입니다.
+ */
+class RouteMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RouteMetrics metrics = new RouteMetrics(registry);
+
+    private static MockHttpServletRequest request(String method, String uri, String pattern) {
+        var req = new MockHttpServletRequest(method, uri);
+        if (pattern != null) req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return req;
+    }
+
+    private long count(String method, String route, String status) {
+        var timer = registry.find(RouteMetrics.METRIC)
+                .tags("method", method, "route", route, "status", status)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    @DisplayName("라우트 - 매핑된 요청은 실제 경로가 아닌 템플릿으로 묶여야 합니다.")
+    void mappedRequest_UsesTemplate() {
+        // when
+        metrics.record(request("GET", "/api/v1/posts/PO-1", "/api/v1/posts/{postId}"), 200, 1_000_000);
+        metrics.record(request("GET", "/api/v1/posts/PO-2", "/api/v1/posts/{postId}"), 200, 1_000_000);
+
+        // then
+        assertThat(count("GET", "/api/v1/posts/{postId}", "2xx")).isEqualTo(2);
+        assertThat(registry.find(RouteMetrics.METRIC).tag("route", "/api/v1/posts/PO-1").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("라우트 - 매핑되지 않은 요청은 NOT_FOUND/REDIRECTION/UNKNOWN으로 묶여야 합니다.")
+    void unmappedRequest_Collapsed() {
+        // when
+        metrics.record(request("GET", "/wp-admin/a.php", null), 404, 1);
+        metrics.record(request("GET", "/.env", null), 404, 1);
+        metrics.record(request("GET", "/old-path", null), 301, 1);
+        metrics.record(request("POST", "/boom", null), 500, 1);
+        metrics.record(request("GET", "/forbidden", null), 403, 1);
+
+        // then
+        assertThat(count("GET", "NOT_FOUND", "4xx")).isEqualTo(2);
+        assertThat(count("GET", "REDIRECTION", "3xx")).isEqualTo(1);
+        assertThat(count("POST", "UNKNOWN", "5xx")).isEqualTo(1);
+        assertThat(count("GET", "UNKNOWN", "4xx")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 계열 - 상태 코드는 1xx~5xx로, 비표준 메서드는 OTHER로 묶여야 합니다.")
+    void statusClassAndMethod() {
+        // given
+        String route = "/api/v1/ping";
+
+        // when
+        metrics.record(request("GET", route, route), 101, 1);
+        metrics.record(request("GET", route, route), 204, 1);
+        metrics.record(request("GET", route, route), 304, 1);
+        metrics.record(request("GET", route, route), 429, 1);
+        metrics.record(request("GET", route, route), 599, 1);
+        metrics.record(request("PROPFIND", route, route), 200, 1);
+
+        // then
+        assertThat(count("GET", route, "1xx")).isEqualTo(1);
+        assertThat(count("GET", route, "2xx")).isEqualTo(1);
+        assertThat(count("GET", route, "3xx")).isEqualTo(1);
+        assertThat(count("GET", route, "4xx")).isEqualTo(1);
+        assertThat(count("GET", route, "5xx")).isEqualTo(1);
+        assertThat(count("OTHER", route, "2xx")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타이머 재사용 - 같은 태그 조합은 처음 등록한 타이머 하나에 누적되어야 합니다.")
+    void timerCached() {
+        // given
+        var req = request("GET", "/api/v1/posts", "/api/v1/posts");
+        metrics.record(req, 200, TimeUnit.MILLISECONDS.toNanos(10));
+        var first = registry.get(RouteMetrics.METRIC).timer();
+        int meters = registry.getMeters().size();
+
+        // when
+        for (int i = 0; i < 100; i++) metrics.record(req, 201, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // then
+        assertThat(registry.getMeters()).hasSize(meters);
+        assertThat(registry.get(RouteMetrics.METRIC).timer()).isSameAs(first);
+        assertThat(first.count()).isEqualTo(101);
+        assertThat(first.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1010);
+    }
+}
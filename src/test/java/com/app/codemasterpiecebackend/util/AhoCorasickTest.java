@@ -0,0 +1,51 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.AhoCorasick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AhoCorasick 클래스의 대소문자 무시 다중 패턴 검색 기능을 검증하는 테스트 클래스입니다.
+ */
+class AhoCorasickTest {
+
+    private final AhoCorasick ac = AhoCorasick.of(List.of("bot", "crawl", "headless", "python-requests"));
+
+    @Test
+    @DisplayName("검색 - 대소문자와 위치에 관계없이 포함된 패턴을 찾아야 합니다.")
+    void findsPatterns() {
+        // given
+        String google = "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)";
+        String chrome = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 HeadlessChrome/120.0";
+        String py = "Python-Requests/2.31";
+
+        // when & then
+        assertThat(ac.firstMatch(google)).isEqualTo("bot");
+        assertThat(ac.firstMatch(chrome)).isEqualTo("headless");
+        assertThat(ac.containsAny(py)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 링크 - 다른 패턴 안에 겹쳐 끝나는 패턴도 찾아야 합니다.")
+    void overlappingPatterns() {
+        // given
+        var classic = AhoCorasick.of(List.of("he", "she", "his", "hers"));
+
+        // when & then: "hi"를 따라가다 실패해도 접미사 "he"로 이어진다
+        assertThat(classic.firstMatch("ushers")).isEqualTo("she");
+        assertThat(classic.firstMatch("xhihex")).isEqualTo("he");
+    }
+
+    @Test
+    @DisplayName("불일치 - 패턴이 없거나 비ASCII 문자로 끊긴 경우 null을 반환해야 합니다.")
+    void noMatch() {
+        // when & then
+        assertThat(ac.firstMatch("Mozilla/5.0 (Macintosh) Safari/605.1.15")).isNull();
+        assertThat(ac.firstMatch("b한ot")).isNull();
+        assertThat(ac.firstMatch(null)).isNull();
+    }
+}
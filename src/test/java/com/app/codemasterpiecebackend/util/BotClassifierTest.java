@@ -0,0 +1,48 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.config.analytics.BotProps;
+import com.app.codemasterpiecebackend.global.support.net.BotClassifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BotClassifier 클래스의 빠른 경로 봇 판별을 검증하는 테스트 클래스입니다.
+ */
+class BotClassifierTest {
+
+    private final BotClassifier classifier = new BotClassifier(new BotProps());
+
+    @Test
+    @DisplayName("빠른 경로 - 경계 문자가 붙은 bot 토큰은 봇으로 확정되어야 합니다.")
+    void boundaryBotTokens() {
+        // given
+        String google = "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)";
+        String ads = "AdsBot-Google (+http://www.google.com/adsbot.html)";
+        String mj12 = "Mozilla/5.0 (compatible; MJ12bot; http://mj12bot.com/)";
+
+        // when & then
+        assertThat(classifier.fastCheck(google, null)).isEqualTo(BotClassifier.Reason.UA_TOKEN);
+        assertThat(classifier.fastCheck(ads, null)).isEqualTo(BotClassifier.Reason.UA_TOKEN);
+        assertThat(classifier.fastCheck(mj12, null)).isEqualTo(BotClassifier.Reason.UA_TOKEN);
+    }
+
+    @Test
+    @DisplayName("빠른 경로 - 기기명 안의 bot은 봇으로 확정하지 않고 느린 경로로 넘겨야 합니다.")
+    void deviceNameIsNotBot() {
+        // given
+        String cubot = "Mozilla/5.0 (Linux; Android 9; CUBOT X19 Build/PPR1.180610.011) "
+                + "AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Mobile Safari/537.36";
+
+        // when & then
+        assertThat(classifier.fastCheck(cubot, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("빠른 경로 - 빈 User-Agent는 봇으로 확정되어야 합니다.")
+    void emptyUa() {
+        // when & then
+        assertThat(classifier.fastCheck(" ", null)).isEqualTo(BotClassifier.Reason.EMPTY_UA);
+    }
+}
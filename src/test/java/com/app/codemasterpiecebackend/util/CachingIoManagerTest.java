@@ -0,0 +1,318 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.domain.file.core.dto.FileObjectMetadata;
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.CachingIoManager;
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.IoManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CachingIoManager 클래스의 read-through / write-through / LRU 축출 / 무효화 동작을 검증하는 테스트 클래스입니다.
+ * 원격 저장소 대신 로컬 디렉터리 기반의 대역(stand-in)을 사용합니다.
+ */
+class CachingIoManagerTest {
+
+    @TempDir
+    Path tmp;
+
+    private DirIoManager remote;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        remote = new DirIoManager(Files.createDirectories(tmp.resolve("remote")));
+    }
+
+    @Test
+    @DisplayName("Read-through - 첫 읽기만 원본에 접근하고 이후 읽기는 캐시에서 응답해야 합니다.")
+    void openStream_ReadThrough() throws IOException {
+        // given
+        remote.seed("a/b.bin", bytes(1000, 1));
+        var cache = newCache(10_000, 10_000);
+
+        // when
+        byte[] first = readAll(cache.openStream("a/b.bin"));
+        byte[] second = readAll(cache.openStream("/a//b.bin"));
+
+        // then
+        assertThat(first).isEqualTo(bytes(1000, 1));
+        assertThat(second).isEqualTo(first);
+        assertThat(remote.reads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Write-through - put 이후 원본에 저장되고, 다음 읽기는 원본 접근 없이 캐시에서 응답해야 합니다.")
+    void put_WriteThrough() throws IOException {
+        // given
+        var cache = newCache(10_000, 10_000);
+        byte[] data = bytes(2048, 7);
+
+        // when
+        cache.put("w/x.bin", new ByteArrayInputStream(data), data.length, "application/octet-stream");
+        byte[] read = readAll(cache.openStream("w/x.bin"));
+
+        // then
+        assertThat(Files.readAllBytes(remote.root.resolve("w/x.bin"))).isEqualTo(data);
+        assertThat(read).isEqualTo(data);
+        assertThat(remote.reads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("범위 읽기와 zero-copy 전송 - 캐시 파일의 지정 구간이 정확히 전달되어야 합니다.")
+    void openRange_AndTransferTo() throws IOException {
+        // given
+        byte[] data = bytes(5000, 3);
+        remote.seed("r.bin", data);
+        var cache = newCache(10_000, 10_000);
+        Path out = tmp.resolve("out.bin");
+
+        // when
+        byte[] range = readAll(cache.openRange("r.bin", 100, 200));
+        try (InputStream in = cache.openStream("r.bin"); var os = new FileOutputStream(out.toFile())) {
+            in.transferTo(os);
+        }
+
+        // then
+        assertThat(range).isEqualTo(Arrays.copyOfRange(data, 100, 200));
+        assertThat(Files.readAllBytes(out)).isEqualTo(data);
+        assertThat(remote.reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("LRU 축출 - 용량을 넘으면 가장 오래 사용되지 않은 항목부터 축출되어야 합니다.")
+    void lruEviction() throws IOException {
+        // given
+        remote.seed("k1", bytes(400, 1));
+        remote.seed("k2", bytes(400, 2));
+        remote.seed("k3", bytes(400, 3));
+        var cache = newCache(1000, 1000);
+
+        // when
+        readAll(cache.openStream("k1"));
+        readAll(cache.openStream("k2"));
+        readAll(cache.openStream("k1")); // k1 최근 사용 → k2가 가장 오래됨
+        readAll(cache.openStream("k3")); // 1200 > 1000 → k2 축출
+        int before = remote.reads.get();
+        readAll(cache.openStream("k1"));
+        readAll(cache.openStream("k2"));
+
+        // then
+        assertThat(cache.stats().usedBytes()).isLessThanOrEqualTo(1000);
+        assertThat(cache.stats().evictions()).isGreaterThanOrEqualTo(1);
+        assertThat(remote.reads.get() - before).isEqualTo(1); // k1은 적중, k2만 재다운로드
+    }
+
+    @Test
+    @DisplayName("무효화 - delete/deletePrefix/move 이후에는 캐시가 아닌 원본 상태가 반영되어야 합니다.")
+    void invalidation() throws IOException {
+        // given
+        remote.seed("p/1", bytes(10, 1));
+        remote.seed("p/2", bytes(10, 2));
+        remote.seed("m/src", bytes(10, 3));
+        var cache = newCache(10_000, 10_000);
+        readAll(cache.openStream("p/1"));
+        readAll(cache.openStream("p/2"));
+        readAll(cache.openStream("m/src"));
+
+        // when
+        cache.deletePrefix("p");
+        cache.move("m/src", "m/dst");
+
+        // then
+        assertThat(cache.stats().entries()).isZero();
+        assertThat(cache.stats().usedBytes()).isZero();
+        assertThat(readAll(cache.openStream("m/dst"))).isEqualTo(bytes(10, 3));
+    }
+
+    @Test
+    @DisplayName("상한 초과 객체 - 단일 객체 상한을 넘는 객체는 캐시하지 않고 원본으로 위임해야 합니다.")
+    void oversizedEntry_Bypass() throws IOException {
+        // given
+        remote.seed("big", bytes(3000, 9));
+        var cache = newCache(10_000, 1000);
+
+        // when
+        byte[] first = readAll(cache.openStream("big"));
+        byte[] second = readAll(cache.openStream("big"));
+
+        // then
+        assertThat(first).isEqualTo(bytes(3000, 9));
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 경합 - 내려받는 도중 무효화된 키는 캐시에 등록되지 않아야 합니다.")
+    void fillRacingInvalidate_NotCommitted() throws IOException {
+        // given
+        remote.seed("race", bytes(500, 4));
+        var cache = newCache(10_000, 10_000);
+        remote.onOpen = () -> cache.invalidate("race"); // 채우기가 원본을 연 직후 put/delete가 끼어든 상황
+
+        // when
+        byte[] read = readAll(cache.openStream("race"));
+        remote.onOpen = null;
+        readAll(cache.openStream("race"));
+
+        // then
+        assertThat(read).isEqualTo(bytes(500, 4));
+        assertThat(remote.reads.get()).isEqualTo(3); // 버린 채우기 + 원본 위임 + 다음 미스
+        assertThat(cache.stats().entries()).isEqualTo(1);
+        assertThat(cache.stats().usedBytes()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("캐시 파일 유실 - 인덱스에서 빠질 때 사용 용량도 함께 줄어야 합니다.")
+    void missingCacheFile_ReleasesBudget() throws IOException {
+        // given
+        remote.seed("gone", bytes(300, 5));
+        var cache = newCache(10_000, 10_000);
+        readAll(cache.openStream("gone"));
+        try (Stream<Path> walk = Files.walk(tmp.resolve("cache"))) {
+            for (Path f : walk.filter(Files::isRegularFile).toList()) Files.delete(f);
+        }
+
+        // when
+        byte[] read = readAll(cache.openStream("gone"));
+
+        // then
+        assertThat(read).isEqualTo(bytes(300, 5));
+        assertThat(cache.stats().entries()).isEqualTo(1);
+        assertThat(cache.stats().usedBytes()).isEqualTo(300);
+    }
+
+    private CachingIoManager newCache(long maxBytes, long maxEntryBytes) throws IOException {
+        return new CachingIoManager(remote, tmp.resolve("cache"), maxBytes, maxEntryBytes);
+    }
+
+    private static byte[] bytes(int n, int seed) {
+        byte[] b = new byte[n];
+        for (int i = 0; i < n; i++) b[i] = (byte) (i * 31 + seed);
+        return b;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 원격 저장소 대역: 디렉터리 트리에 객체를 저장하고 원본 읽기 횟수를 센다.
+     */
+    private static final class DirIoManager implements IoManager {
+        final Path root;
+        final AtomicInteger reads = new AtomicInteger();
+        volatile Runnable onOpen;
+
+        DirIoManager(Path root) {
+            this.root = root;
+        }
+
+        void seed(String key, byte[] data) throws IOException {
+            Path p = resolve(key);
+            Files.createDirectories(p.getParent());
+            Files.write(p, data);
+        }
+
+        @Override
+        public FileObjectMetadata put(String key, InputStream in, long contentLength, String contentType) throws IOException {
+            try (in) {
+                seed(key, in.readAllBytes());
+            }
+            return meta(key, contentLength);
+        }
+
+        @Override
+        public FileObjectMetadata move(String srcKey, String dstKey) throws IOException {
+            Files.createDirectories(resolve(dstKey).getParent());
+            Files.move(resolve(srcKey), resolve(dstKey));
+            return meta(dstKey, Files.size(resolve(dstKey)));
+        }
+
+        @Override
+        public boolean delete(String key) throws IOException {
+            Files.deleteIfExists(resolve(key));
+            return true;
+        }
+
+        @Override
+        public Optional<FileObjectMetadata> head(String key) throws IOException {
+            Path p = resolve(key);
+            return Files.exists(p) ? Optional.of(meta(key, Files.size(p))) : Optional.empty();
+        }
+
+        @Override
+        public InputStream openStream(String key) throws IOException {
+            Path p = resolve(key);
+            if (!Files.exists(p)) throw new FileNotFoundException(key);
+            reads.incrementAndGet();
+            InputStream in = Files.newInputStream(p);
+            Runnable hook = onOpen;
+            if (hook != null) hook.run();
+            return in;
+        }
+
+        @Override
+        public String presignRead(String key, Duration ttl) {
+            return "file://" + resolve(key);
+        }
+
+        @Override
+        public PresignWriteResult presignWrite(String key, Duration ttl, String contentType, long maxSize) {
+            return new PresignWriteResult("file://" + resolve(key), Map.of());
+        }
+
+        @Override
+        public int deletePrefix(String prefix) throws IOException {
+            Path dir = resolve(prefix);
+            if (!Files.exists(dir)) return 0;
+            try (Stream<Path> walk = Files.walk(dir)) {
+                var files = walk.filter(Files::isRegularFile).toList();
+                for (Path f : files) Files.delete(f);
+                return files.size();
+            }
+        }
+
+        @Override
+        public List<String> listKeys(String prefix) throws IOException {
+            Path dir = resolve(prefix);
+            if (!Files.exists(dir)) return List.of();
+            try (Stream<Path> walk = Files.walk(dir)) {
+                return walk.filter(Files::isRegularFile)
+                        .map(f -> root.relativize(f).toString().replace('\\', '/'))
+                        .toList();
+            }
+        }
+
+        private Path resolve(String key) {
+            String k = key.replace('\\', '/').replaceAll("/{2,}", "/");
+            while (k.startsWith("/")) k = k.substring(1);
+            return root.resolve(k);
+        }
+
+        private static FileObjectMetadata meta(String key, long size) {
+            return FileObjectMetadata.builder().key(key).size(size).storageType("LOCAL").build();
+        }
+    }
+}
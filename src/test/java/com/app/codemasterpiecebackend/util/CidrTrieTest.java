@@ -0,0 +1,66 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.support.net.Cidr;
+import com.app.codemasterpiecebackend.global.support.net.CidrTrie;
+import com.app.codemasterpiecebackend.global.support.net.IpLiterals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CidrTrie 클래스의 CIDR 집합 포함 판정 기능을 검증하는 테스트 클래스입니다.
+ */
+class CidrTrieTest {
+
+    private static final List<String> RANGES = List.of(
+            "127.0.0.1/32", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "10.1.0.0/16",
+            "203.0.113.128/25", "::1/128", "fc00::/7", "2001:db8:abcd::/48"
+    );
+
+    @Test
+    @DisplayName("포함 판정 - 임의 주소에 대해 Cidr 선형 검사와 같은 결과를 내야 합니다.")
+    void matchesLinearScan() throws Exception {
+        // given
+        var trie = CidrTrie.of(RANGES);
+        List<Predicate<InetAddress>> linear = RANGES.stream().map(Cidr::of).toList();
+        var rnd = new Random(42);
+
+        // when / then
+        for (int i = 0; i < 50_000; i++) {
+            byte[] a = new byte[i % 2 == 0 ? 4 : 16];
+            rnd.nextBytes(a);
+            if (i % 5 == 0) a[0] = a.length == 4 ? (byte) 10 : (byte) 0xFD;  // 범위 안쪽도 충분히 섞기
+            if (i % 7 == 0 && a.length == 4) { a[0] = (byte) 172; }
+            if (a.length == 16 && a[0] == 0) a[0] = 1;                      // IPv4-mapped 회피
+            InetAddress addr = InetAddress.getByAddress(a);
+            boolean expected = linear.stream().anyMatch(m -> m.test(addr));
+            assertThat(trie.contains(a)).isEqualTo(expected);
+        }
+        assertThat(trie.contains(IpLiterals.parse("203.0.113.200"))).isTrue();
+        assertThat(trie.contains(IpLiterals.parse("203.0.113.127"))).isFalse();
+        assertThat(trie.contains(IpLiterals.parse("2001:db8:abcd:ffff::9"))).isTrue();
+        assertThat(trie.contains(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구성 - 0비트 프리픽스는 모든 주소를 포함하고, 잘못된 CIDR은 거부되어야 합니다.")
+    void build() {
+        // given
+        var any = CidrTrie.of(List.of("0.0.0.0/0"));
+
+        // when / then
+        assertThat(any.contains(IpLiterals.parse("8.8.8.8"))).isTrue();
+        assertThat(any.contains(IpLiterals.parse("::8"))).isFalse();
+        assertThat(CidrTrie.of(List.of()).isEmpty()).isTrue();
+        assertThatThrownBy(() -> CidrTrie.of(List.of("10.0.0.0"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrTrie.of(List.of("10.0.0.0/33"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrTrie.of(List.of("example.com/8"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
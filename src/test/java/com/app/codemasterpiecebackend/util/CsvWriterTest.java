@@ -0,0 +1,47 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.CsvWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CsvWriter 클래스의 필드 인용 및 행 구분 기능을 검증하는 테스트 클래스입니다.
+ */
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("일반 값 - 인용 없이 쉼표로 구분되고, null은 빈 칸으로 쓰여야 합니다.")
+    void plainValues() throws IOException {
+        // given
+        var out = new StringWriter();
+        var csv = new CsvWriter(out);
+
+        // when
+        csv.writeRow(Arrays.asList("PV-1", 42, null, true));
+        csv.writeRow(List.of("/posts/hello"));
+
+        // then
+        assertThat(out.toString()).isEqualTo("PV-1,42,,true\r\n/posts/hello\r\n");
+    }
+
+    @Test
+    @DisplayName("특수 문자 - 쉼표/따옴표/줄바꿈이 든 값은 큰따옴표로 감싸고 내부 따옴표는 두 번 써야 합니다.")
+    void quoting() throws IOException {
+        // given
+        var out = new StringWriter();
+        var csv = new CsvWriter(out);
+
+        // when
+        csv.writeRow(List.of("a,b", "say \"hi\"", "line1\nline2", "안녕"));
+
+        // then
+        assertThat(out.toString()).isEqualTo("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",안녕\r\n");
+    }
+}
@@ -0,0 +1,107 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.FileTokenScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FileTokenScanner 클래스의 단일 순회 토큰/파일 ID 추출 기능을 검증하는 테스트 클래스입니다.
+ */
+class FileTokenScannerTest {
+
+    private static final String ID1 = "FL-01HZX5V8Q9M3K7T2R4W6Y8A0BC";
+    private static final String ID2 = "FL-01HZX5V8Q9M3K7T2R4W6Y8A0BD";
+    private static final String ID3 = "FL-01HZX5V8Q9M3K7T2R4W6Y8A0BE";
+
+    @Test
+    @DisplayName("토큰 파싱 - alt, 파일 ID, kind와 위치 정보가 정확히 추출되어야 합니다.")
+    void scan_Tokens() {
+        // given
+        String md = "intro ![고양이](image-token://" + ID1 + ") mid ![](image-token://" + ID2 + "?t=thumb-512) end";
+
+        // when
+        var scan = FileTokenScanner.scan(md);
+
+        // then
+        assertThat(scan.tokens()).hasSize(2);
+        var t1 = scan.tokens().get(0);
+        assertThat(t1.alt()).isEqualTo("고양이");
+        assertThat(t1.fileId()).isEqualTo(ID1);
+        assertThat(t1.kind()).isNull();
+        assertThat(md.substring(t1.start(), t1.end())).isEqualTo("![고양이](image-token://" + ID1 + ")");
+
+        var t2 = scan.tokens().get(1);
+        assertThat(t2.alt()).isEmpty();
+        assertThat(t2.kind()).isEqualTo("thumb-512");
+        assertThat(md.substring(t2.end())).isEqualTo(" end");
+    }
+
+    @Test
+    @DisplayName("CDN URL - URL 구간의 파일 ID가 토큰 ID와 함께 등장 순서대로 중복 없이 수집되어야 합니다.")
+    void scan_CdnUrlsAndDedup() {
+        // given
+        String md = "![a](https://cdn.example.com/cmp/2025/01/02/" + ID2 + "/w640.webp)\n"
+                + "![b](image-token://" + ID1 + ")\n"
+                + "see https://cdn.example.com/cmp/" + ID3 + "/original and "
+                + "![c](image-token://" + ID1 + "?t=avif)";
+
+        // when
+        var scan = FileTokenScanner.scan(md);
+
+        // then
+        assertThat(scan.tokenFileIds()).containsExactly(ID1);
+        assertThat(scan.referencedIds()).containsExactly(ID2, ID1, ID3);
+    }
+
+    @Test
+    @DisplayName("형식 불일치 - 깨진 토큰이나 ID 형식이 다른 경우는 무시되어야 합니다.")
+    void scan_IgnoresMalformed() {
+        // given
+        String md = "![x](image-token://FL-short) ![y](image-token://" + ID1 + "?t=) "
+                + "![z](image-token://" + ID1 + " ![w](http://host/fl-lowercase/) http:/broken";
+
+        // when
+        var scan = FileTokenScanner.scan(md);
+
+        // then
+        assertThat(scan.tokens()).isEmpty();
+        assertThat(scan.referencedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재토큰화 - 굳어진 CDN 이미지 URL은 파일 토큰으로, 썸네일 변환본은 ?t= 지정 토큰으로 되돌려야 합니다.")
+    void retokenize_BakedUrls() {
+        // given
+        String base = "https://cdn.example.com/cmp/2025/01/02/";
+        String md = "a ![고양이](" + base + ID1 + "/original) b "
+                + "![](" + base + ID2 + "/variants/cat.webp)\n"
+                + "![t](" + base + ID3 + "/variants/cat.thumb-512.webp) c";
+
+        // when
+        String out = FileTokenScanner.retokenize(md, id -> true);
+
+        // then
+        assertThat(out).isEqualTo("a ![고양이](image-token://" + ID1 + ") b "
+                + "![](image-token://" + ID2 + ")\n"
+                + "![t](image-token://" + ID3 + "?t=thumb-512) c");
+        assertThat(FileTokenScanner.scan(out).tokenFileIds()).containsExactly(ID1, ID2, ID3);
+    }
+
+    @Test
+    @DisplayName("재토큰화 - 모르는 파일, 우리가 만들지 않은 경로, 제목이 붙은 이미지와 기존 토큰은 그대로 두어야 합니다.")
+    void retokenize_LeavesOthers() {
+        // given
+        String md = "![x](https://cdn.example.com/" + ID1 + "/original) "
+                + "![y](https://other.example.com/" + ID2 + "/photo.png) "
+                + "![z](https://cdn.example.com/" + ID2 + "/original \"title\") "
+                + "![w](image-token://" + ID2 + ") ![v](https://example.com/a.png)";
+
+        // when
+        String out = FileTokenScanner.retokenize(md, ID2::equals);
+
+        // then
+        assertThat(out).isSameAs(md);
+    }
+}
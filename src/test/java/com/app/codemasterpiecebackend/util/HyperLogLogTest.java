@@ -0,0 +1,64 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HyperLogLog 클래스의 고유 개수 추정, 병합 및 직렬화 기능을 검증하는 테스트 클래스입니다.
+ */
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("추정 - 작은 구간은 거의 정확하고, 큰 구간은 표준 오차(약 1.6%)의 3배 이내여야 합니다.")
+    void estimate() {
+        // given
+        var small = new HyperLogLog();
+        var large = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            small.add("CL-" + i);
+            small.add("CL-" + i); // 중복은 무시
+        }
+        for (int i = 0; i < 200_000; i++) large.add("CL-" + i);
+
+        // then
+        assertThat(Math.abs(small.estimate() - 100)).isLessThanOrEqualTo(2L);
+        assertThat(Math.abs(large.estimate() - 200_000)).isLessThanOrEqualTo(200_000L * 5 / 100);
+    }
+
+    @Test
+    @DisplayName("병합 - 겹치는 두 스케치의 병합 결과는 합집합 크기를 추정해야 합니다.")
+    void merge() {
+        // given
+        var mon = new HyperLogLog();
+        var tue = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) mon.add("CL-" + i);
+        for (int i = 20_000; i < 50_000; i++) tue.add("CL-" + i);
+
+        // when
+        long union = new HyperLogLog().merge(mon).merge(tue).estimate();
+
+        // then
+        assertThat(Math.abs(union - 50_000)).isLessThanOrEqualTo(50_000L * 5 / 100);
+    }
+
+    @Test
+    @DisplayName("직렬화 - 바이트로 저장 후 복원한 스케치는 같은 추정값을 내야 합니다.")
+    void roundTrip() {
+        // given
+        var hll = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) hll.add("SE-" + i);
+
+        // when
+        var restored = HyperLogLog.fromBytes(hll.toBytes());
+
+        // then
+        assertThat(restored.precision()).isEqualTo(HyperLogLog.DEFAULT_PRECISION);
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+}
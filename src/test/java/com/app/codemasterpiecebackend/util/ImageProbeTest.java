@@ -0,0 +1,134 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.ImageProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageProbe 클래스의 헤더 기반 크기 판별 기능을 검증하는 테스트 클래스입니다.
+ */
+class ImageProbeTest {
+
+    @Test
+    @DisplayName("PNG/JPEG/GIF - ImageIO로 생성한 이미지의 가로/세로가 헤더만으로 판별되어야 합니다.")
+    void probe_ImageIoFormats() throws IOException {
+        for (String format : new String[]{"png", "jpeg", "gif"}) {
+            // given
+            byte[] bytes = encode(format, 321, 123);
+
+            // when
+            var size = ImageProbe.probe(bytes);
+
+            // then
+            assertThat(size).as(format).isPresent();
+            assertThat(size.get().width()).isEqualTo(321);
+            assertThat(size.get().height()).isEqualTo(123);
+            assertThat(size.get().format()).isEqualTo(format);
+        }
+    }
+
+    @Test
+    @DisplayName("WebP - VP8/VP8L/VP8X 청크 헤더에서 크기가 판별되어야 합니다.")
+    void probe_WebpChunks() {
+        // given
+        byte[] lossy = riff("VP8 ", le(new byte[]{0, 0, 0, (byte) 0x9D, 0x01, 0x2A}, 640, 16), 4);
+        long bits = (long) (800 - 1) | ((long) (600 - 1) << 14);
+        byte[] lossless = riff("VP8L", new byte[]{0x2F,
+                (byte) bits, (byte) (bits >> 8), (byte) (bits >> 16), (byte) (bits >> 24)}, 0);
+        byte[] extended = riff("VP8X", new byte[]{0, 0, 0, 0,
+                (byte) 1279, (byte) (1279 >> 8), 0,
+                (byte) 719, (byte) (719 >> 8), 0}, 0);
+
+        // when & then
+        assertThat(ImageProbe.probe(lossy)).get()
+                .extracting(ImageProbe.ImageSize::width, ImageProbe.ImageSize::height)
+                .containsExactly(640, 16);
+        assertThat(ImageProbe.probe(lossless)).get()
+                .extracting(ImageProbe.ImageSize::width, ImageProbe.ImageSize::height)
+                .containsExactly(800, 600);
+        assertThat(ImageProbe.probe(extended)).get()
+                .extracting(ImageProbe.ImageSize::width, ImageProbe.ImageSize::height)
+                .containsExactly(1280, 720);
+    }
+
+    @Test
+    @DisplayName("AVIF - meta/iprp/ipco 하위의 ispe 박스 중 가장 큰 크기가 주 이미지로 판별되어야 합니다.")
+    void probe_AvifIspe() {
+        // given
+        byte[] ftyp = box("ftyp", concat(ascii("avif"), new byte[4], ascii("mif1")));
+        byte[] thumb = box("ispe", concat(new byte[4], be(160), be(90)));
+        byte[] main = box("ispe", concat(new byte[4], be(1920), be(1080)));
+        byte[] ipco = box("ipco", concat(thumb, main));
+        byte[] iprp = box("iprp", ipco);
+        byte[] meta = box("meta", concat(new byte[4], box("hdlr", new byte[20]), iprp));
+        byte[] avif = concat(ftyp, meta, box("mdat", new byte[32]));
+
+        // when
+        var size = ImageProbe.probe(avif);
+
+        // then
+        assertThat(size).get()
+                .extracting(ImageProbe.ImageSize::width, ImageProbe.ImageSize::height, ImageProbe.ImageSize::format)
+                .containsExactly(1920, 1080, "avif");
+    }
+
+    @Test
+    @DisplayName("판별 불가 - 알 수 없는 포맷이나 잘린 헤더는 예외 없이 빈 값을 반환해야 합니다.")
+    void probe_UnknownOrTruncated() throws IOException {
+        // given
+        byte[] text = "hello world".getBytes(StandardCharsets.UTF_8);
+        byte[] png = encode("png", 10, 10);
+        byte[] truncated = java.util.Arrays.copyOf(png, 12);
+
+        // when & then
+        assertThat(ImageProbe.probe(text)).isEmpty();
+        assertThat(ImageProbe.probe(truncated)).isEmpty();
+        assertThat(ImageProbe.probe(new byte[0])).isEmpty();
+    }
+
+    private static byte[] encode(String format, int w, int h) throws IOException {
+        var img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(img, format, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] riff(String chunk, byte[] payload, int pad) {
+        byte[] body = concat(ascii(chunk), ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(payload.length + pad).array(), payload, new byte[pad]);
+        byte[] size = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(body.length + 4).array();
+        return concat(ascii("RIFF"), size, ascii("WEBP"), body);
+    }
+
+    private static byte[] le(byte[] prefix, int w, int h) {
+        return concat(prefix, new byte[]{(byte) w, (byte) (w >> 8), (byte) h, (byte) (h >> 8)});
+    }
+
+    private static byte[] box(String type, byte[] body) {
+        return concat(be(body.length + 8), ascii(type), body);
+    }
+
+    private static byte[] be(int v) {
+        return ByteBuffer.allocate(4).putInt(v).array();
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        var out = new ByteArrayOutputStream();
+        for (byte[] p : parts) out.writeBytes(p);
+        return out.toByteArray();
+    }
+}
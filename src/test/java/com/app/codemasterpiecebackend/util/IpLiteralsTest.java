@@ -0,0 +1,70 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.support.net.IpLiterals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IpLiterals 클래스의 IPv4/IPv6 리터럴 파싱, 문자열 변환 및 마스킹 기능을 검증하는 테스트 클래스입니다.
+ */
+class IpLiteralsTest {
+
+    @Test
+    @DisplayName("파싱 - 축약/IPv4 꼬리 표기를 해석하고, IPv4-mapped 주소는 4바이트로 돌려주어야 합니다.")
+    void parse() throws Exception {
+        // given
+        String[] literals = {
+                "203.0.113.25", "0.0.0.0", "255.255.255.255",
+                "::", "::1", "1::", "2001:db8::1", "2001:DB8:0:0:8:800:200C:417A",
+                "fe80::1:2", "::ffff:192.0.2.1", "64:ff9b::192.0.2.33"
+        };
+
+        // when / then
+        for (String s : literals) {
+            assertThat(IpLiterals.parse(s)).as(s).isEqualTo(InetAddress.getByName(s).getAddress());
+        }
+        assertThat(IpLiterals.parse("::ffff:192.0.2.1")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("거부 - 호스트 이름, 레거시 IPv4 표기, 잘못된 IPv6는 null이어야 합니다.")
+    void reject() {
+        // given
+        String[] invalid = {
+                "", "unknown", "localhost", "example.com", "1.2.3", "1.2.3.4.5", "256.1.1.1", "1234.1.1.1",
+                "1.2.3.4:80", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3", ":1::", "1:", "12345::",
+                "::1.2.3.4.5", "fe80::1%eth0", "[::1]", "::g"
+        };
+
+        // when / then
+        for (String s : invalid) {
+            assertThat(IpLiterals.parse(s)).as(s).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("문자열 변환 - InetAddress.getHostAddress()와 같은 형식이고, 마스킹은 /24, /48이어야 합니다.")
+    void formatAndMask() throws Exception {
+        // given
+        var rnd = new Random(7);
+
+        // when / then
+        for (int i = 0; i < 10_000; i++) {
+            byte[] a = new byte[i % 2 == 0 ? 4 : 16];
+            rnd.nextBytes(a);
+            if (a.length == 16 && i % 3 == 0) a[4] = a[5] = a[6] = a[7] = 0; // 0 그룹 섞기
+            if (a.length == 16) a[0] = 0x20; // IPv4-mapped 회피
+            assertThat(IpLiterals.format(a)).isEqualTo(InetAddress.getByAddress(a).getHostAddress());
+        }
+        assertThat(IpLiterals.mask(IpLiterals.parse("203.0.113.25"))).isEqualTo("203.0.113.0");
+        assertThat(IpLiterals.mask(IpLiterals.parse("2001:db8:abcd:1234::1"))).isEqualTo("2001:db8:abcd::");
+        assertThat(IpLiterals.isPrivate(IpLiterals.parse("172.20.1.1"))).isTrue();
+        assertThat(IpLiterals.isPrivate(IpLiterals.parse("fe80::1"))).isTrue();
+        assertThat(IpLiterals.isPrivate(IpLiterals.parse("8.8.8.8"))).isFalse();
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.infra.filesystem.io.LocalIoManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LocalIoManager 클래스의 NIO 기반 저장/이동/삭제 및 HMAC 서명 URL 기능을 검증하는 테스트 클래스입니다.
+ */
+class LocalIoManagerTest {
+
+    @TempDir
+    Path tmp;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    private LocalIoManager io;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        io = new LocalIoManager(tmp.resolve("store"), "http://localhost/api/v1/storage/local/", "secret",
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("put/head/openRange - 저장한 객체의 메타데이터와 지정 범위가 정확히 조회되어야 합니다.")
+    void putHeadRange() throws IOException {
+        // given
+        byte[] data = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        io.put("2025/01/FL-1/original", new ByteArrayInputStream(data), data.length, "image/png");
+
+        // then
+        var head = io.head("/2025//01/FL-1/original").orElseThrow();
+        assertThat(head.size()).isEqualTo(16);
+        assertThat(head.storageType()).isEqualTo("LOCAL");
+        assertThat(read(io.openRange("2025/01/FL-1/original", 4, 8))).isEqualTo("4567");
+        assertThat(read(io.openStream("2025/01/FL-1/original"))).isEqualTo("0123456789abcdef");
+    }
+
+    @Test
+    @DisplayName("move/deletePrefix/listKeys - 원자적 이동 후 접두어 단위로 나열 및 삭제되어야 합니다.")
+    void moveListDeletePrefix() throws IOException {
+        // given
+        put("tmp/a.bin", "a");
+        put("p/FL-1/original", "o");
+        put("p/FL-1/w640.webp", "w");
+
+        // when
+        io.move("tmp/a.bin", "p/FL-1/moved.bin");
+        var keys = io.listKeys("p/FL-1");
+        int deleted = io.deletePrefix("p/FL-1/");
+
+        // then
+        assertThat(keys).containsExactlyInAnyOrder("p/FL-1/original", "p/FL-1/w640.webp", "p/FL-1/moved.bin");
+        assertThat(deleted).isEqualTo(3);
+        assertThat(io.head("p/FL-1/original")).isEmpty();
+        assertThat(Files.exists(tmp.resolve("store/tmp"))).isFalse(); // 빈 상위 디렉터리 정리
+        assertThat(io.delete("p/FL-1/original")).isTrue(); // 멱등
+    }
+
+    @Test
+    @DisplayName("presign - 서명 URL은 같은 키/만료 시각에서만 검증을 통과해야 합니다.")
+    void presignVerify() {
+        // given
+        String url = io.presignRead("p/FL 1/original", Duration.ofMinutes(5));
+        Map<String, String> q = query(url);
+        long exp = Long.parseLong(q.get("exp"));
+
+        // when & then
+        assertThat(url).startsWith("http://localhost/api/v1/storage/local/p/FL%201/original?");
+        assertThat(io.verifyRead("p/FL 1/original", exp, q.get("sig"))).isTrue();
+        assertThat(io.verifyRead("p/FL 1/other", exp, q.get("sig"))).isFalse();
+        assertThat(io.verifyRead("p/FL 1/original", exp + 1, q.get("sig"))).isFalse();
+
+        var write = io.presignWrite("p/x.png", Duration.ofMinutes(5), "image/png", 1024);
+        Map<String, String> wq = query(write.url());
+        assertThat(io.verifyWrite("p/x.png", Long.parseLong(wq.get("exp")), "image/png", 1024, wq.get("sig"))).isTrue();
+        assertThat(io.verifyWrite("p/x.png", Long.parseLong(wq.get("exp")), "image/png", 4096, wq.get("sig"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("presign 만료 - 만료 시각이 지난 서명은 거부되어야 합니다.")
+    void presignExpired() {
+        // given
+        long expired = now.minusSeconds(1).getEpochSecond();
+        String url = io.presignRead("k", Duration.ofSeconds(-1));
+
+        // when & then
+        assertThat(io.verifyRead("k", expired, query(url).get("sig"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("경로 이탈 - 루트 밖을 가리키는 키는 저장소 밖에 기록되지 않아야 합니다.")
+    void pathTraversal() throws IOException {
+        // given
+        put("../../escape.txt", "x");
+
+        // when & then
+        assertThat(Files.exists(tmp.resolve("escape.txt"))).isFalse();
+        assertThat(io.head("escape.txt")).isPresent();
+        assertThatThrownBy(() -> io.head("..")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void put(String key, String content) throws IOException {
+        byte[] b = content.getBytes(StandardCharsets.UTF_8);
+        io.put(key, new ByteArrayInputStream(b), b.length, "application/octet-stream");
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static Map<String, String> query(String url) {
+        Map<String, String> out = new HashMap<>();
+        for (String kv : URI.create(url).getRawQuery().split("&")) {
+            int i = kv.indexOf('=');
+            out.put(kv.substring(0, i), kv.substring(i + 1));
+        }
+        return out;
+    }
+}
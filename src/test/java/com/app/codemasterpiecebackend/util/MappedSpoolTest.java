@@ -0,0 +1,118 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.infra.spool.MappedSpool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MappedSpool 클래스의 CRC 프레임 기록, 세그먼트 롤오버/삭제 및 재기동 복구 기능을 검증하는 테스트 클래스입니다.
+ */
+class MappedSpoolTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    @DisplayName("append/poll/commit - 기록 순서대로 읽히고, 확정 전 재조회 시 같은 레코드가 반환되어야 합니다.")
+    void appendPollCommit() throws IOException {
+        // given
+        var spool = new MappedSpool(tmp, 4096, 4);
+        for (int i = 0; i < 5; i++) spool.append(bytes("r" + i));
+
+        // when
+        var first = spool.poll(3);
+        var again = spool.poll(3);
+        spool.commit(first);
+        var rest = spool.poll(10);
+        spool.commit(rest);
+
+        // then
+        assertThat(strings(first.records())).containsExactly("r0", "r1", "r2");
+        assertThat(strings(again.records())).containsExactly("r0", "r1", "r2");
+        assertThat(strings(rest.records())).containsExactly("r3", "r4");
+        assertThat(spool.poll(10).isEmpty()).isTrue();
+        assertThat(spool.pendingBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤오버 - 세그먼트가 차면 새 세그먼트로 넘어가고, 다 읽힌 세그먼트는 삭제되며, 상한에 도달하면 거부되어야 합니다.")
+    void rollAndDelete() throws IOException {
+        // given: 헤더 16 + (프레임 8 + 100) * 2 = 232 → 세그먼트당 2건
+        var spool = new MappedSpool(tmp, 240, 2);
+        byte[] rec = new byte[100];
+
+        // when
+        boolean a = spool.append(rec);
+        boolean b = spool.append(rec);
+        boolean c = spool.append(rec);
+        boolean d = spool.append(rec);
+        boolean full = spool.append(rec);
+
+        // then
+        assertThat(a && b && c && d).isTrue();
+        assertThat(full).isFalse();
+        assertThat(segmentFiles()).isEqualTo(2L);
+
+        spool.commit(spool.poll(10)); // 다 읽힌 봉인 세그먼트는 즉시 삭제
+        assertThat(segmentFiles()).isEqualTo(1L);
+        assertThat(spool.append(rec)).isTrue();
+    }
+
+    @Test
+    @DisplayName("복구 - 재기동 시 확정된 위치 이후부터 읽히고, 손상된 꼬리 프레임은 버려져야 합니다.")
+    void recoverAfterRestart() throws IOException {
+        // given
+        var spool = new MappedSpool(tmp, 4096, 4);
+        for (int i = 0; i < 4; i++) spool.append(bytes("r" + i));
+        spool.commit(spool.poll(1));
+        spool.close();
+
+        // 마지막 레코드(r3)의 payload를 훼손
+        Path seg;
+        try (Stream<Path> s = Files.list(tmp)) {
+            seg = s.findFirst().orElseThrow();
+        }
+        try (var raf = new RandomAccessFile(seg.toFile(), "rw")) {
+            raf.seek(16 + 3 * (8 + 2) + 8);
+            raf.write('X');
+        }
+
+        // when
+        var reopened = new MappedSpool(tmp, 4096, 4);
+        var batch = reopened.poll(10);
+
+        // then
+        assertThat(strings(batch.records())).containsExactly("r1", "r2");
+        reopened.commit(batch);
+        assertThat(reopened.poll(10).isEmpty()).isTrue();
+        assertThat(segmentFiles()).isZero();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> s = Files.list(tmp)) {
+            return s.count();
+        }
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(List<byte[]> records) {
+        List<String> out = new ArrayList<>();
+        for (byte[] r : records) out.add(new String(r, StandardCharsets.UTF_8));
+        return out;
+    }
+}
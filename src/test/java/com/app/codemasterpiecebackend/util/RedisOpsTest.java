@@ -0,0 +1,72 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.infra.redis.RedisOps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisOps 클래스의 작업별 성공/오류 시간 기록과 커넥션 반납을 검증하는 테스트 클래스입니다.
+ */
+class RedisOpsTest {
+
+    private final JedisPool pool = mock(JedisPool.class);
+    private final Jedis jedis = mock(Jedis.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RedisOps ops;
+
+    RedisOpsTest() {
+        when(pool.getResource()).thenReturn(jedis);
+        ops = new RedisOps(pool, registry);
+    }
+
+    @Test
+    @DisplayName("성공 - 결과를 반환하고 outcome=success로 기록되어야 합니다.")
+    void execute_RecordsSuccess() {
+        // given
+        when(jedis.get("k")).thenReturn("v");
+
+        // when
+        String v = ops.execute("view.get", j -> j.get("k"));
+
+        // then
+        assertThat(v).isEqualTo("v");
+        assertThat(registry.get("redis.command").tags("op", "view.get", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("redis.pool.borrow").timer().count()).isEqualTo(1);
+        verify(jedis).close();
+    }
+
+    @Test
+    @DisplayName("오류 - 예외는 그대로 전파되고 outcome=error로 기록되며 커넥션은 반납되어야 합니다.")
+    void execute_RecordsError() {
+        // given
+        when(jedis.incr("k")).thenThrow(new JedisConnectionException("reset"));
+
+        // when & then
+        assertThatThrownBy(() -> ops.run("view.mark", j -> j.incr("k")))
+                .isInstanceOf(JedisConnectionException.class);
+        assertThat(registry.get("redis.command").tags("op", "view.mark", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.find("redis.command").tags("op", "view.mark", "outcome", "success").timer()).isNull();
+        verify(jedis).close();
+    }
+
+    @Test
+    @DisplayName("대여 실패 - 커넥션을 빌리지 못해도 outcome=error로 기록되어야 합니다.")
+    void execute_BorrowFailureRecordedAsError() {
+        // given
+        when(pool.getResource()).thenThrow(new JedisConnectionException("pool exhausted"));
+
+        // when & then
+        assertThatThrownBy(() -> ops.execute("live.publish", j -> j.ping()))
+                .isInstanceOf(JedisConnectionException.class);
+        assertThat(registry.get("redis.command").tags("op", "live.publish", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("redis.pool.borrow").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.SlidingDistinctWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlidingDistinctWindow 클래스의 버킷 만료 및 동시 추가 기능을 검증하는 테스트 클래스입니다.
+ */
+class SlidingDistinctWindowTest {
+
+    @Test
+    @DisplayName("윈도우 - 윈도우를 벗어난 버킷의 값은 집계에서 빠져야 합니다.")
+    void expiresOldBuckets() {
+        // given: 10초 버킷 x 30 = 5분
+        var window = new SlidingDistinctWindow(10, 10_000, 30);
+        long t0 = 1_000_000_000L;
+        for (int i = 0; i < 50; i++) window.add("SE-a" + i, t0);
+        for (int i = 0; i < 30; i++) window.add("SE-b" + i, t0 + 200_000);
+
+        // when
+        long both = window.snapshot(t0 + 200_000).estimate();
+        long onlyLater = window.snapshot(t0 + 310_000).estimate();
+        boolean idle = window.isIdle(t0 + 600_000);
+
+        // then
+        assertThat(Math.abs(both - 80)).isLessThanOrEqualTo(2L);
+        assertThat(Math.abs(onlyLater - 30)).isLessThanOrEqualTo(1L);
+        assertThat(idle).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시성 - 여러 스레드가 같은 버킷에 추가해도 유실 없이 합집합을 추정해야 합니다.")
+    void concurrentAdds() throws InterruptedException {
+        // given
+        var window = new SlidingDistinctWindow(12, 10_000, 30);
+        long now = 1_000_000_000L;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 5_000;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) window.add("SE-" + (offset + i), now);
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread th : threads) th.join();
+        long estimate = window.snapshot(now).estimate();
+
+        // then
+        assertThat(Math.abs(estimate - 20_000)).isLessThanOrEqualTo(20_000L * 5 / 100);
+    }
+}
@@ -0,0 +1,86 @@
+package com.app.codemasterpiecebackend.util;
+
+import com.app.codemasterpiecebackend.global.util.ULIDs;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ULIDs 클래스의 Base32 인코딩 및 다중 스레드 단조 증가 발급 기능을 검증하는 테스트 클래스입니다.
+ */
+class ULIDsTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Test
+    @DisplayName("인코딩 - 26자 Crockford Base32이고, 앞 10자는 발급 시각(ms)으로 복원되어야 합니다.")
+    void encoding() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        String plain = ULIDs.newUlid();
+        String prefixed = ULIDs.newMonotonicUlid("PV");
+        long after = System.currentTimeMillis();
+
+        // then
+        assertThat(plain).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        assertThat(prefixed).startsWith("PV-").hasSize(29);
+        assertThat(decodeTime(plain)).isBetween(before, after);
+        assertThat(decodeTime(prefixed.substring(3))).isBetween(before, after);
+        assertThat(ULIDs.newUlid("  ")).hasSize(26);
+    }
+
+    @Test
+    @DisplayName("단조 증가 - 여러 스레드가 동시에 발급해도 중복이 없고, 각 스레드의 발급 순서가 사전식 순서와 같아야 합니다.")
+    void monotonicAcrossThreads() throws InterruptedException {
+        // given
+        int threads = 16;
+        int perThread = 20_000;
+        List<List<String>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) results.add(new ArrayList<>(perThread));
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            List<String> out = results.get(t);
+            Thread w = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) out.add(ULIDs.newMonotonicUlid());
+            });
+            w.start();
+            workers.add(w);
+        }
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        // then
+        Set<String> all = new HashSet<>();
+        for (List<String> ids : results) {
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            }
+            all.addAll(ids);
+        }
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    private static long decodeTime(String ulid) {
+        long t = 0;
+        for (int i = 0; i < 10; i++) t = (t << 5) | ALPHABET.indexOf(ulid.charAt(i));
+        return t;
+    }
+}